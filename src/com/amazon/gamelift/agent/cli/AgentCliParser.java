@@ -7,6 +7,7 @@ import com.amazon.gamelift.agent.model.AgentArgs;
 import com.amazon.gamelift.agent.model.RuntimeConfiguration;
 import com.amazon.gamelift.agent.model.constants.GameLiftCredentials;
 import com.amazon.gamelift.agent.model.constants.LogCredentials;
+import com.amazon.gamelift.agent.process.CpuPlacementPlanner;
 import com.amazon.gamelift.agent.utils.RealSystemEnvironmentProvider;
 import com.amazon.gamelift.agent.utils.SystemEnvironmentProvider;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -24,6 +25,8 @@ import javax.inject.Inject;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Class to provide command line parsing specific to the GameLift agent.
@@ -59,9 +62,33 @@ public class AgentCliParser {
     private static final String GAMELIFT_AGENT_LOG_PATH_SHORT = "galp";
     private static final String LOG_CREDENTIALS = "log-credentials";
     private static final String LOG_CREDENTIALS_SHORT = "lc";
+    private static final String PROCESS_LAUNCH_PARALLELISM = "process-launch-parallelism";
+    private static final String PROCESS_LAUNCH_PARALLELISM_SHORT = "plp";
     private static final String REGION = "region";
     private static final String REGION_SHORT = "r";
     private static final String RUNTIME_CONFIGURATION_SHORT = "rc";
+    private static final String BUILD_PREWARM_GLOBS = "build-prewarm-globs";
+    private static final String BUILD_PREWARM_GLOBS_SHORT = "bpg";
+    private static final String FORK_SERVER_LAUNCH = "fork-server-launch";
+    private static final String FORK_SERVER_LAUNCH_SHORT = "fsl";
+    private static final String CGROUP_ROOT = "cgroup-root";
+    private static final String CGROUP_ROOT_SHORT = "cgr";
+    private static final String HOUSEKEEPING_CPUS = "housekeeping-cpus";
+    private static final String HOUSEKEEPING_CPUS_SHORT = "hkc";
+    private static final String CPUS_PER_PROCESS = "cpus-per-process";
+    private static final String CPUS_PER_PROCESS_SHORT = "cpp";
+    private static final String RESOURCE_SAMPLE_INTERVAL_SECONDS = "resource-sample-interval-seconds";
+    private static final String RESOURCE_SAMPLE_INTERVAL_SECONDS_SHORT = "rsis";
+    private static final String PROCESS_OUTPUT_TAIL_KILOBYTES = "process-output-tail-kilobytes";
+    private static final String PROCESS_OUTPUT_TAIL_KILOBYTES_SHORT = "potk";
+    private static final String PROCESS_JOURNAL_PATH = "process-journal-path";
+    private static final String PROCESS_JOURNAL_PATH_SHORT = "pjp";
+    private static final String REAP_LEAKED_PROCESSES = "reap-leaked-processes";
+    private static final String REAP_LEAKED_PROCESSES_SHORT = "rlp";
+    private static final String HOST_LOAD_ADMISSION = "host-load-admission";
+    private static final String HOST_LOAD_ADMISSION_SHORT = "hla";
+    private static final String MIN_INITIALIZATION_TIMEOUT_SECONDS = "min-initialization-timeout-seconds";
+    private static final String MIN_INITIALIZATION_TIMEOUT_SECONDS_SHORT = "mits";
 
     private final CommandLineParser parser;
     private final HelpFormatter formatter;
@@ -263,6 +290,32 @@ public class AgentCliParser {
 
         final String gameliftAgentLogPath = getOptionValueOrNull(commandLine, GAMELIFT_AGENT_LOG_PATH);
 
+        final Integer processLaunchParallelism = getPositiveIntegerOptionValueOrNull(commandLine,
+                PROCESS_LAUNCH_PARALLELISM);
+
+        final List<String> buildPrewarmGlobs = getListOptionValueOrNull(commandLine, BUILD_PREWARM_GLOBS);
+
+        final Boolean forkServerLaunch = commandLine.hasOption(FORK_SERVER_LAUNCH);
+
+        final String cgroupRoot = getOptionValueOrNull(commandLine, CGROUP_ROOT);
+
+        final String housekeepingCpus = getCpuListOptionValueOrNull(commandLine, HOUSEKEEPING_CPUS);
+
+        final Integer cpusPerProcess = getPositiveIntegerOptionValueOrNull(commandLine, CPUS_PER_PROCESS);
+
+        final Integer resourceSampleIntervalSeconds =
+                getPositiveIntegerOptionValueOrNull(commandLine, RESOURCE_SAMPLE_INTERVAL_SECONDS);
+
+        final Integer processOutputTailKilobytes =
+                getPositiveIntegerOptionValueOrNull(commandLine, PROCESS_OUTPUT_TAIL_KILOBYTES);
+
+        final String processJournalPath = getOptionValueOrNull(commandLine, PROCESS_JOURNAL_PATH);
+
+        final Boolean reapLeakedProcesses = commandLine.hasOption(REAP_LEAKED_PROCESSES);
+        final Boolean hostLoadAdmission = commandLine.hasOption(HOST_LOAD_ADMISSION);
+        final Integer minInitializationTimeoutSeconds =
+                getPositiveIntegerOptionValueOrNull(commandLine, MIN_INITIALIZATION_TIMEOUT_SECONDS);
+
         final Boolean enabledComputeRegistrationViaAgent;
         final String gameLiftAgentWebsocketEndpoint;
         final String gameLiftSdkWebsocketEndpoint;
@@ -308,6 +361,18 @@ public class AgentCliParser {
                 .isContainerFleet(isContainerFleet)
                 .enableComputeRegistrationViaAgent(enabledComputeRegistrationViaAgent)
                 .heartbeatTimeoutTime(heartbeatTimeoutTime)
+                .processLaunchParallelism(processLaunchParallelism)
+                .buildPrewarmGlobs(buildPrewarmGlobs)
+                .forkServerLaunch(forkServerLaunch)
+                .cgroupRoot(cgroupRoot)
+                .housekeepingCpus(housekeepingCpus)
+                .cpusPerProcess(cpusPerProcess)
+                .resourceSampleIntervalSeconds(resourceSampleIntervalSeconds)
+                .processOutputTailKilobytes(processOutputTailKilobytes)
+                .processJournalPath(processJournalPath)
+                .reapLeakedProcesses(reapLeakedProcesses)
+                .hostLoadAdmission(hostLoadAdmission)
+                .minInitializationTimeoutSeconds(minInitializationTimeoutSeconds)
                 .build();
     }
 
@@ -408,6 +473,87 @@ public class AgentCliParser {
                 .longOpt(LOG_CREDENTIALS)
                 .build());
 
+        options.addOption(Option.builder(PROCESS_LAUNCH_PARALLELISM_SHORT)
+                .desc("Maximum number of game server processes launched concurrently.")
+                .hasArg()
+                .longOpt(PROCESS_LAUNCH_PARALLELISM)
+                .build());
+
+        options.addOption(Option.builder(BUILD_PREWARM_GLOBS_SHORT)
+                .desc("Comma-separated globs of game build files, relative to the launch executable's directory, "
+                        + "to load into the page cache before processes are launched.")
+                .hasArg()
+                .longOpt(BUILD_PREWARM_GLOBS)
+                .build());
+
+        options.addOption(Option.builder(FORK_SERVER_LAUNCH_SHORT)
+                .desc("Launch Linux game server processes through a persistent fork server process instead of "
+                        + "forking the GameLiftAgent for every launch.")
+                .longOpt(FORK_SERVER_LAUNCH)
+                .build());
+
+        options.addOption(Option.builder(CGROUP_ROOT_SHORT)
+                .desc("cgroup v2 directory under which each Linux game server process is placed in its own cgroup "
+                        + "with the ResourceLimits of its ServerProcess.")
+                .hasArg()
+                .longOpt(CGROUP_ROOT)
+                .build());
+
+        options.addOption(Option.builder(HOUSEKEEPING_CPUS_SHORT)
+                .desc("CPU list (e.g. 0-1) reserved for the GameLiftAgent. Linux game server processes are pinned to "
+                        + "the other CPUs.")
+                .hasArg()
+                .longOpt(HOUSEKEEPING_CPUS)
+                .build());
+
+        options.addOption(Option.builder(CPUS_PER_PROCESS_SHORT)
+                .desc("Number of CPUs each Linux game server process is pinned to when housekeeping CPUs are set.")
+                .hasArg()
+                .longOpt(CPUS_PER_PROCESS)
+                .build());
+
+        options.addOption(Option.builder(RESOURCE_SAMPLE_INTERVAL_SECONDS_SHORT)
+                .desc("Seconds between samples of the CPU, memory and IO usage of Linux game server processes. "
+                        + "Sampling is disabled by default.")
+                .hasArg()
+                .longOpt(RESOURCE_SAMPLE_INTERVAL_SECONDS)
+                .build());
+
+        options.addOption(Option.builder(PROCESS_OUTPUT_TAIL_KILOBYTES_SHORT)
+                .desc("Kilobytes of stdout and stderr kept per Linux game server process and added to the game "
+                        + "session logs when the process exits with an error. Output is discarded by default.")
+                .hasArg()
+                .longOpt(PROCESS_OUTPUT_TAIL_KILOBYTES)
+                .build());
+
+        options.addOption(Option.builder(PROCESS_JOURNAL_PATH_SHORT)
+                .desc("File in which running game server processes are journaled, so that they are re-adopted "
+                        + "rather than replaced when the GameLiftAgent restarts. Processes are not journaled by "
+                        + "default.")
+                .hasArg()
+                .longOpt(PROCESS_JOURNAL_PATH)
+                .build());
+
+        options.addOption(Option.builder(REAP_LEAKED_PROCESSES_SHORT)
+                .desc("Kill the processes a Linux game server process leaves running when it exits, and report the "
+                        + "processes and memory reclaimed.")
+                .longOpt(REAP_LEAKED_PROCESSES)
+                .build());
+
+        options.addOption(Option.builder(HOST_LOAD_ADMISSION_SHORT)
+                .desc("Defer or slow down game server process launches while the Linux host is under CPU or memory "
+                        + "pressure.")
+                .longOpt(HOST_LOAD_ADMISSION)
+                .build());
+
+        options.addOption(Option.builder(MIN_INITIALIZATION_TIMEOUT_SECONDS_SHORT)
+                .desc("Enables SDK initialization timeouts learned from the registration times of each process "
+                        + "configuration, and sets the shortest timeout in seconds. The configured "
+                        + "InitializationTimeoutSeconds is used by default.")
+                .hasArg()
+                .longOpt(MIN_INITIALIZATION_TIMEOUT_SECONDS)
+                .build());
+
         return options;
     }
 
@@ -498,4 +644,53 @@ public class AgentCliParser {
         String optionValue = commandLine.getOptionValue(optionValueKey);
         return StringUtils.isBlank(optionValue) ? null : optionValue;
     }
+
+    private static Integer getPositiveIntegerOptionValueOrNull(final CommandLine commandLine,
+                                                               final String optionValueKey) {
+        final String optionValue = getOptionValueOrNull(commandLine, optionValueKey);
+        if (optionValue == null) {
+            return null;
+        }
+        final int parsedValue;
+        try {
+            parsedValue = Integer.parseInt(optionValue.trim());
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException(
+                    String.format("%s must be a positive integer but was: %s", optionValueKey, optionValue));
+        }
+        if (parsedValue < 1) {
+            throw new IllegalArgumentException(
+                    String.format("%s must be a positive integer but was: %s", optionValueKey, optionValue));
+        }
+        return parsedValue;
+    }
+
+    private static String getCpuListOptionValueOrNull(final CommandLine commandLine, final String optionValueKey) {
+        final String optionValue = getOptionValueOrNull(commandLine, optionValueKey);
+        if (optionValue == null) {
+            return null;
+        }
+        try {
+            CpuPlacementPlanner.parseCpuList(optionValue);
+        } catch (final IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                    String.format("%s must be a CPU list such as 0-1,4 but was: %s", optionValueKey, optionValue));
+        }
+        return optionValue;
+    }
+
+    private static List<String> getListOptionValueOrNull(final CommandLine commandLine,
+                                                         final String optionValueKey) {
+        final String optionValue = getOptionValueOrNull(commandLine, optionValueKey);
+        if (optionValue == null) {
+            return null;
+        }
+        final List<String> values = new ArrayList<>();
+        for (final String value : optionValue.split(",")) {
+            if (StringUtils.isNotBlank(value)) {
+                values.add(value.trim());
+            }
+        }
+        return values;
+    }
 }
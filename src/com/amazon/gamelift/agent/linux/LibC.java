@@ -0,0 +1,82 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.linux;
+
+import com.sun.jna.LastErrorException;
+import com.sun.jna.Library;
+import com.sun.jna.Native;
+
+public interface LibC extends Library {
+    LibC INSTANCE = Native.load("c", LibC.class);
+
+    int SIGKILL = 9;
+    int SIGTERM = 15;
+
+    // errno value returned when no process or process group matches the given ID
+    int ESRCH = 3;
+
+    // prctl option making the calling process the parent of its orphaned descendants
+    int PR_SET_CHILD_SUBREAPER = 36;
+
+    // waitpid option to return immediately if the child has not exited
+    int WNOHANG = 1;
+
+    /**
+     * Sends a signal to a process or a group of processes.
+     *
+     * @param pid If pid is positive, the signal is sent to the process with that ID. If pid is less than -1, the signal
+     *            is sent to every process in the process group whose ID is -pid.
+     * @param sig The signal to send.
+     * @return 0 on success.
+     * @throws LastErrorException with the errno value if the signal could not be sent
+     * @see <a href="https://man7.org/linux/man-pages/man2/kill.2.html">kill(2)</a>
+     */
+    int kill(int pid, int sig) throws LastErrorException;
+
+    /**
+     * Sets the CPU affinity mask of a thread.
+     *
+     * @param pid ID of the thread; the thread group leader's ID is the process ID. 0 means the calling thread.
+     * @param cpusetsize Size of the mask in bytes, as a size_t.
+     * @param mask cpu_set_t bit mask, where bit (n % 64) of word (n / 64) allows the thread to run on CPU n.
+     * @return 0 on success.
+     * @throws LastErrorException with the errno value if the affinity could not be set
+     * @see <a href="https://man7.org/linux/man-pages/man2/sched_setaffinity.2.html">sched_setaffinity(2)</a>
+     */
+    int sched_setaffinity(int pid, long cpusetsize, long[] mask) throws LastErrorException;
+
+    /**
+     * Returns the size of a memory page, the unit of the memory sizes reported by procfs.
+     *
+     * @return the page size in bytes.
+     * @see <a href="https://man7.org/linux/man-pages/man2/getpagesize.2.html">getpagesize(2)</a>
+     */
+    int getpagesize();
+
+    /**
+     * Performs an operation on the calling process.
+     *
+     * @param option The operation, e.g. PR_SET_CHILD_SUBREAPER.
+     * @param arg2 The first argument of the operation; unused arguments must be 0.
+     * @param arg3 The second argument of the operation.
+     * @param arg4 The third argument of the operation.
+     * @param arg5 The fourth argument of the operation.
+     * @return 0 on success for PR_SET_CHILD_SUBREAPER.
+     * @throws LastErrorException with the errno value if the operation failed
+     * @see <a href="https://man7.org/linux/man-pages/man2/prctl.2.html">prctl(2)</a>
+     */
+    int prctl(int option, long arg2, long arg3, long arg4, long arg5) throws LastErrorException;
+
+    /**
+     * Waits for a child process to change state, and reaps it if it has exited.
+     *
+     * @param pid ID of the child process to wait for.
+     * @param status Receives the wait status of the child, or null to discard it.
+     * @param options 0 or a combination of flags, e.g. WNOHANG.
+     * @return the ID of the reaped child, or 0 if WNOHANG was given and the child has not exited.
+     * @throws LastErrorException with the errno value if the process is not a child of the calling process
+     * @see <a href="https://man7.org/linux/man-pages/man2/waitpid.2.html">waitpid(2)</a>
+     */
+    int waitpid(int pid, int[] status, int options) throws LastErrorException;
+}
@@ -14,6 +14,7 @@ import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.SystemUtils;
 
+import javax.annotation.Nullable;
 import javax.inject.Named;
 import java.io.File;
 import java.io.FileInputStream;
@@ -23,6 +24,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.AclEntry;
 import java.nio.file.attribute.AclEntryPermission;
 import java.nio.file.attribute.AclEntryType;
@@ -45,8 +47,11 @@ public class GameSessionLogsCollector {
     private final String processUUID;
     private final String launchPath;
     private final GameSessionLogFileHelper gameSessionLogFileHelper;
+    // Tail of the game server process's stdout and stderr, captured by the GameLiftAgent
+    @Nullable private final byte[] processOutputTail;
 
     private static final String LOG_ERROR_README_FILENAME = "ReadMe.txt";
+    private static final String PROCESS_OUTPUT_TAIL_FILENAME = "GameLiftAgentProcessOutputTail.log";
 
     /**
      * Creates zipped log file based on log paths and game session ID
@@ -99,6 +104,7 @@ public class GameSessionLogsCollector {
         gameSessionLogPaths.addAll(expandWildcardLogPathsToFileLogPaths(gameSessionLogPaths, errorReadMeFile));
         copyLogFilesToTempDirectory(tempLogsDirectory, gameSessionLogPaths, errorReadMeFile);
         recordInvalidLogPaths(errorReadMeFile, invalidLogPaths);
+        writeProcessOutputTail(tempLogsDirectory, errorReadMeFile);
         errorReadMeFile.close();
         writeZipFile(tempLogsDirectory);
 
@@ -250,6 +256,23 @@ public class GameSessionLogsCollector {
         }
     }
 
+    private void writeProcessOutputTail(final File tempLogsDirectory,
+                                        final GameSessionLogsErrorReadMeFile readMeFile) {
+        if (processOutputTail == null) {
+            return;
+        }
+        final File processOutputTailFile = new File(tempLogsDirectory, PROCESS_OUTPUT_TAIL_FILENAME);
+        try {
+            // Never overwrites a collected log file with the same name
+            Files.write(processOutputTailFile.toPath(), processOutputTail, StandardOpenOption.CREATE_NEW);
+            readMeFile.writeLine("Process Output Tail Collected\t\t" + PROCESS_OUTPUT_TAIL_FILENAME);
+            log.debug("Collected {} bytes of process output", processOutputTail.length);
+        } catch (final IOException e) {
+            readMeFile.writeLine("Error: Internal Error\t" + PROCESS_OUTPUT_TAIL_FILENAME);
+            log.error("Error writing process output tail for processUUID {}", processUUID, e);
+        }
+    }
+
     private List<File> copyDirectory(final File srcDir,
                                      final File destDir,
                                      final List<String> alreadyCopiedPaths) throws IOException {
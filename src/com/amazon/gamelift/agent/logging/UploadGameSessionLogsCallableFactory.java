@@ -5,6 +5,7 @@ package com.amazon.gamelift.agent.logging;
 
 import com.amazon.gamelift.agent.module.ConfigModule;
 
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Named;
 import java.util.List;
@@ -40,15 +41,20 @@ public class UploadGameSessionLogsCallableFactory {
      * Creates and returns a UploadGameSessionLogsCallable
      * @param processUUID
      * @param launchPath
+     * @param logPaths
+     * @param gameSessionId
+     * @param processOutputTail tail of the process's output to add to the logs, or null
      * @return
      */
     public UploadGameSessionLogsCallable newUploadGameSessionLogsCallable(final String processUUID,
                                                                           final String launchPath,
                                                                           final List<String> logPaths,
-                                                                          final String gameSessionId) {
+                                                                          final String gameSessionId,
+                                                                          @Nullable final byte[] processOutputTail) {
         // Collect the game session logs
         final GameSessionLogsCollector gameSessionLogsCollector =
-                new GameSessionLogsCollector(fleetId, computeName, processUUID, launchPath, gameSessionLogFileHelper);
+                new GameSessionLogsCollector(fleetId, computeName, processUUID, launchPath, gameSessionLogFileHelper,
+                        processOutputTail);
         // Create a Callable to attempt uploading GameSession logs to S3
         return new UploadGameSessionLogsCallable(gameSessionLogBucket, fleetId, computeName, processUUID, logPaths,
                 gameSessionId, s3FileUploader, gameSessionLogsCollector);
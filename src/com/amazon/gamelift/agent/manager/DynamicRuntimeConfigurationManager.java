@@ -5,19 +5,28 @@ package com.amazon.gamelift.agent.manager;
 
 import com.amazon.gamelift.agent.cache.RuntimeConfigCacheLoader;
 import com.amazon.gamelift.agent.model.RuntimeConfiguration;
+import com.amazon.gamelift.agent.utils.ExecutorServiceSafeRunnable;
 import com.amazon.gamelift.agent.websocket.WebSocketConnectionProvider;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.LoadingCache;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * This instance of the RuntimeConfigurationManager obtains runtime config from Amazon GameLift over the
  * websocket connection.  It is periodically refreshed in the background to be able to pick
  * up changes to process count, etc. on the fly.
+ *
+ * Once started, the cached configuration is reloaded each time it would expire and change listeners are notified as
+ * soon as a reload returns a different configuration, rather than when a caller next reads it.
  */
 @Slf4j
 public class DynamicRuntimeConfigurationManager implements RuntimeConfigurationManager {
@@ -26,11 +35,18 @@ public class DynamicRuntimeConfigurationManager implements RuntimeConfigurationM
     private static final int MAX_CACHE_ENTRIES = 1;
     private static final Duration CACHE_EXPIRATION_TIME = Duration.ofMinutes(5);
 
+    private final ScheduledExecutorService executorService;
+    private final List<Consumer<RuntimeConfiguration>> changeListeners = new CopyOnWriteArrayList<>();
+    private RuntimeConfiguration lastRuntimeConfiguration;
+
     /**
      * Constructor for DynamicRuntimeConfigurationManager
      * @param webSocketConnectionProvider
+     * @param executorService
      */
-    public DynamicRuntimeConfigurationManager(final WebSocketConnectionProvider webSocketConnectionProvider) {
+    public DynamicRuntimeConfigurationManager(final WebSocketConnectionProvider webSocketConnectionProvider,
+                                              final ScheduledExecutorService executorService) {
+        this.executorService = executorService;
         this.runtimeConfigCache = CacheBuilder.newBuilder()
                 .maximumSize(MAX_CACHE_ENTRIES)
                 .expireAfterWrite(CACHE_EXPIRATION_TIME.toMillis(), TimeUnit.MILLISECONDS)
@@ -40,11 +56,40 @@ public class DynamicRuntimeConfigurationManager implements RuntimeConfigurationM
 
     @Override
     public synchronized RuntimeConfiguration getRuntimeConfiguration() {
+        final RuntimeConfiguration runtimeConfiguration;
         try {
-            return runtimeConfigCache.get(RUNTIME_CONFIG_CACHE_KEY);
+            runtimeConfiguration = runtimeConfigCache.get(RUNTIME_CONFIG_CACHE_KEY);
         } catch (final ExecutionException e) {
             log.error("Caught an exception while loading runtimeConfiguration from cache", e);
             throw new RuntimeException("Caught an exception while loading runtimeConfiguration from cache", e);
         }
+
+        // The initial load is not a change; listeners only care about configuration updates picked up on refresh
+        if (lastRuntimeConfiguration != null && !Objects.equals(lastRuntimeConfiguration, runtimeConfiguration)) {
+            log.info("Detected a RuntimeConfiguration change: {}", runtimeConfiguration);
+            changeListeners.forEach(listener -> listener.accept(runtimeConfiguration));
+        }
+        lastRuntimeConfiguration = runtimeConfiguration;
+        return runtimeConfiguration;
+    }
+
+    @Override
+    public void start() {
+        executorService.scheduleWithFixedDelay(new ExecutorServiceSafeRunnable(this::refreshRuntimeConfiguration),
+                CACHE_EXPIRATION_TIME.toMillis(), CACHE_EXPIRATION_TIME.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Reloads the RuntimeConfiguration from Amazon GameLift, notifying listeners if it changed. If the reload fails
+     * the previously cached configuration is kept until the next refresh.
+     */
+    void refreshRuntimeConfiguration() {
+        runtimeConfigCache.refresh(RUNTIME_CONFIG_CACHE_KEY);
+        getRuntimeConfiguration();
+    }
+
+    @Override
+    public void addRuntimeConfigurationChangeListener(final Consumer<RuntimeConfiguration> listener) {
+        changeListeners.add(listener);
     }
 }
@@ -20,11 +20,14 @@ public class ProcessEnvironmentManager {
     @VisibleForTesting static final String ENV_VAR_FLEET_ID = "GAMELIFT_SDK_FLEET_ID";
     @VisibleForTesting static final String ENV_VAR_HOST_ID = "GAMELIFT_SDK_HOST_ID";
     @VisibleForTesting static final String ENV_VAR_PROCESS_ID = "GAMELIFT_SDK_PROCESS_ID";
+    private static final int ENV_VAR_COUNT = 5;
 
     private final String fleetId;
     private final String computeName;
     private final ComputeAuthTokenManager computeAuthTokenManager;
     private final SdkWebsocketEndpointProvider sdkWebsocketEndpointProvider;
+    // Environment variables shared by every process, rebuilt only if the SDK Websocket endpoint changes
+    private volatile BaseEnvironment baseEnvironment;
 
     /**
      * Constructor for ProcessEnvironmentManager
@@ -54,22 +57,46 @@ public class ProcessEnvironmentManager {
      * @returns map containing all the necessary environment variables for the process with the given UUID
      */
     public Map<String, String> getProcessEnvironmentVariables(final String processUUID) {
-        return new ImmutableMap.Builder<String, String>()
-                .put(ENV_VAR_WEBSOCKET_URL, Strings.nullToEmpty(sdkWebsocketEndpointProvider.getSdkWebsocketEndpoint()))
+        return ImmutableMap.<String, String>builderWithExpectedSize(ENV_VAR_COUNT)
+                .putAll(getBaseEnvironmentVariables())
                 .put(ENV_VAR_COMPUTE_AUTH_TOKEN, Strings.nullToEmpty(computeAuthTokenManager.getComputeAuthToken()))
-                .put(ENV_VAR_FLEET_ID, Strings.nullToEmpty(fleetId))
-                .put(ENV_VAR_HOST_ID, Strings.nullToEmpty(computeName))
                 .put(ENV_VAR_PROCESS_ID, Strings.nullToEmpty(processUUID))
                 .build();
     }
 
+    /**
+     * Returns the environment variables which are the same for every process: the SDK Websocket URL, the fleet ID and
+     * the host ID. They are resolved once and reused until the SDK Websocket endpoint changes.
+     */
+    private Map<String, String> getBaseEnvironmentVariables() {
+        final String sdkWebsocketEndpoint = Strings.nullToEmpty(sdkWebsocketEndpointProvider.getSdkWebsocketEndpoint());
+        BaseEnvironment currentBaseEnvironment = baseEnvironment;
+        if (currentBaseEnvironment == null
+                || !currentBaseEnvironment.sdkWebsocketEndpoint.equals(sdkWebsocketEndpoint)) {
+            currentBaseEnvironment = new BaseEnvironment(sdkWebsocketEndpoint, ImmutableMap.of(
+                    ENV_VAR_WEBSOCKET_URL, sdkWebsocketEndpoint,
+                    ENV_VAR_FLEET_ID, Strings.nullToEmpty(fleetId),
+                    ENV_VAR_HOST_ID, Strings.nullToEmpty(computeName)));
+            baseEnvironment = currentBaseEnvironment;
+        }
+        return currentBaseEnvironment.environmentVariables;
+    }
+
     /**
      * Helper method to print out specific environment variables.
      */
     public String getPrintableEnvironmentVariables(final String processUUID) {
+        return getPrintableEnvironmentVariables(getProcessEnvironmentVariables(processUUID));
+    }
+
+    /**
+     * Helper method to print out environment variables which were already resolved for a process, without the compute
+     * auth token.
+     * @param environmentVariables environment variables returned by getProcessEnvironmentVariables
+     */
+    public String getPrintableEnvironmentVariables(final Map<String, String> environmentVariables) {
         final StringBuilder sb = new StringBuilder();
-        final Iterator<Map.Entry<String, String>> iterator = getProcessEnvironmentVariables(processUUID)
-                .entrySet().iterator();
+        final Iterator<Map.Entry<String, String>> iterator = environmentVariables.entrySet().iterator();
         while (iterator.hasNext()) {
             final Map.Entry<String, String> entry = iterator.next();
             if (!entry.getKey().contains(ENV_VAR_COMPUTE_AUTH_TOKEN)) {
@@ -81,4 +108,14 @@ public class ProcessEnvironmentManager {
         }
         return sb.toString();
     }
+
+    private static final class BaseEnvironment {
+        private final String sdkWebsocketEndpoint;
+        private final Map<String, String> environmentVariables;
+
+        private BaseEnvironment(final String sdkWebsocketEndpoint, final Map<String, String> environmentVariables) {
+            this.sdkWebsocketEndpoint = sdkWebsocketEndpoint;
+            this.environmentVariables = environmentVariables;
+        }
+    }
 }
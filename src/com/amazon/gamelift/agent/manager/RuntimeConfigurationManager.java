@@ -5,10 +5,27 @@ package com.amazon.gamelift.agent.manager;
 
 import com.amazon.gamelift.agent.model.RuntimeConfiguration;
 
+import java.util.function.Consumer;
+
 public interface RuntimeConfigurationManager {
     /**
      * Get RuntimeConfiguration
      * @return
      */
     RuntimeConfiguration getRuntimeConfiguration();
+
+    /**
+     * Start watching for RuntimeConfiguration changes, so listeners are notified without waiting for the next
+     * getRuntimeConfiguration call. Implementations whose configuration can never change need not do anything.
+     */
+    default void start() {
+    }
+
+    /**
+     * Register a listener which is notified with the new RuntimeConfiguration whenever a change is detected.
+     * Implementations whose configuration can never change may ignore the listener.
+     * @param listener
+     */
+    default void addRuntimeConfigurationChangeListener(final Consumer<RuntimeConfiguration> listener) {
+    }
 }
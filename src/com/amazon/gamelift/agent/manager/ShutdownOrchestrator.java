@@ -13,6 +13,7 @@ import com.amazon.gamelift.agent.model.exception.NotFoundException;
 import com.amazon.gamelift.agent.model.exception.UnauthorizedException;
 import com.amazon.gamelift.agent.process.GameProcessManager;
 import com.amazon.gamelift.agent.process.GameProcessMonitor;
+import com.amazon.gamelift.agent.process.ProcessTerminationReporter;
 import com.amazon.gamelift.agent.utils.ExecutorServiceSafeRunnable;
 import com.amazon.gamelift.agent.websocket.WebSocketConnectionProvider;
 import com.amazon.gamelift.agent.module.ThreadingModule;
@@ -33,6 +34,7 @@ import java.util.concurrent.TimeUnit;
 import static com.amazon.gamelift.agent.module.ConfigModule.COMPUTE_NAME;
 import static com.amazon.gamelift.agent.module.ConfigModule.FLEET_ID;
 import static com.amazon.gamelift.agent.module.ConfigModule.ENABLED_COMPUTE_REGISTRATION_VIA_AGENT;
+import static com.amazon.gamelift.agent.module.ThreadingModule.GAME_PROCESS_TERMINATION_REPORT_EXECUTOR;
 import static com.amazon.gamelift.agent.module.ThreadingModule.GAME_SESSION_LOGS_UPLOAD_EXECUTOR;
 import static com.amazon.gamelift.agent.module.ThreadingModule.SHUTDOWN_ORCHESTRATOR_EXECUTOR;
 import static com.amazon.gamelift.agent.module.ConfigModule.IS_CONTAINER_FLEET;
@@ -45,12 +47,13 @@ public class ShutdownOrchestrator {
     private static final long CLEAN_SHUTDOWN_INITIAL_DELAY_SECONDS = 0L;
     private static final long CLEAN_SHUTDOWN_DELAY_AFTER_EXECUTE_SECONDS = 5L;
     private static final Long TOTAL_PROCESS_TERMINATION_WAIT_TIME_MS = 10000L;
-    private static final Long PROCESS_TERMINATION_POLL_TIME_MS = 1000L;
     public static final Duration DEFAULT_TERMINATION_DEADLINE = Duration.ofMinutes(6);
 
     // Log upload occurs as processes terminate. In some cases, such as Spot interruption or slow process termination,
     // the full wait time configured below may not be available prior to instance termination.
     private static final Long LOG_UPLOAD_WAIT_TIME_MILLIS = 60000L;
+    // Process termination reports are queued as processes exit and retried with backoff until acknowledged
+    private static final Long TERMINATION_REPORT_WAIT_TIME_MILLIS = 30000L;
     private static final String DEREGISTER_COMPUTE_SUCCESS_MESSAGE =
             "Compute Deregistered - DeregisterCompute Completed Successfully: {}";
 
@@ -58,6 +61,7 @@ public class ShutdownOrchestrator {
     private final HeartbeatSender heartbeatSender;
     private final GameProcessManager gameProcessManager;
     private final GameProcessMonitor gameProcessMonitor;
+    private final ProcessTerminationReporter processTerminationReporter;
     private final WebSocketConnectionProvider webSocketConnectionProvider;
     private final GameLiftAgentLogUploader gameLiftAgentLogUploader;
     private final AmazonGameLiftClientWrapper amazonGameLift;
@@ -74,6 +78,7 @@ public class ShutdownOrchestrator {
      * @param heartbeatSender
      * @param gameProcessManager
      * @param gameProcessMonitor
+     * @param processTerminationReporter
      * @param webSocketConnectionProvider
      * @param gameLiftAgentLogUploader
      * @param amazonGameLift
@@ -89,6 +94,7 @@ public class ShutdownOrchestrator {
             final HeartbeatSender heartbeatSender,
             final GameProcessManager gameProcessManager,
             final GameProcessMonitor gameProcessMonitor,
+            final ProcessTerminationReporter processTerminationReporter,
             final WebSocketConnectionProvider webSocketConnectionProvider,
             final GameLiftAgentLogUploader gameLiftAgentLogUploader,
             final AmazonGameLiftClientWrapper amazonGameLift,
@@ -102,6 +108,7 @@ public class ShutdownOrchestrator {
         this.heartbeatSender = heartbeatSender;
         this.gameProcessManager = gameProcessManager;
         this.gameProcessMonitor = gameProcessMonitor;
+        this.processTerminationReporter = processTerminationReporter;
         this.webSocketConnectionProvider = webSocketConnectionProvider;
         this.gameLiftAgentLogUploader = gameLiftAgentLogUploader;
         this.amazonGameLift = amazonGameLift;
@@ -188,8 +195,7 @@ public class ShutdownOrchestrator {
         stateManager.reportComputeTerminated();
 
         try {
-            gameProcessManager.terminateAllProcessesForShutdown(
-                    TOTAL_PROCESS_TERMINATION_WAIT_TIME_MS, PROCESS_TERMINATION_POLL_TIME_MS);
+            gameProcessManager.terminateAllProcessesForShutdown(TOTAL_PROCESS_TERMINATION_WAIT_TIME_MS);
         } catch (final NotFinishedException e) {
             log.warn("Some processes didn't complete termination after waiting; continuing with instance shutdown", e);
         }
@@ -197,6 +203,12 @@ public class ShutdownOrchestrator {
         // Force send one last heartbeat with status=TERMINATED
         heartbeatSender.sendHeartbeat();
 
+        // Wait for queued process termination reports to be acknowledged prior to closing web socket connection.
+        // Reports waiting to be retried are still pending, so the executor is only shut down once they are done.
+        awaitPendingTerminationReports();
+        executorServiceManager.shutdownScheduledThreadPoolExecutorServiceByName(
+                GAME_PROCESS_TERMINATION_REPORT_EXECUTOR);
+
         // Wait for game session log upload to complete prior to closing web socket connection
         executorServiceManager.shutdownScheduledThreadPoolExecutorServiceByName(GAME_SESSION_LOGS_UPLOAD_EXECUTOR,
                 LOG_UPLOAD_WAIT_TIME_MILLIS);
@@ -210,6 +222,19 @@ public class ShutdownOrchestrator {
         executorServiceManager.shutdownExecutorServices();
     }
 
+    private void awaitPendingTerminationReports() {
+        try {
+            if (!processTerminationReporter.awaitPendingReports(
+                    Duration.ofMillis(TERMINATION_REPORT_WAIT_TIME_MILLIS))) {
+                log.warn("{} process termination reports were not acknowledged within {} millis; continuing with "
+                        + "shutdown", processTerminationReporter.getPendingReportCount(),
+                        TERMINATION_REPORT_WAIT_TIME_MILLIS);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     private synchronized void deregisterCompute() {
         final DeregisterComputeRequest deregisterComputeRequest = new DeregisterComputeRequest()
                 .withFleetId(fleetId)
@@ -13,6 +13,9 @@ import lombok.Synchronized;
 import javax.annotation.concurrent.GuardedBy;
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 /**
  *  This class should be either injected as a singleton or plumbed through calls as necessary from the injected
@@ -31,6 +34,8 @@ public class StateManager {
     @Setter(value = AccessLevel.PACKAGE, onMethod = @__(@Synchronized("statusLock")))
     private ComputeStatus computeStatus = ComputeStatus.Initializing;
 
+    private final List<Consumer<ComputeStatus>> computeStatusChangeListeners = new CopyOnWriteArrayList<>();
+
     /**
      * Constructor for StateManager
      */
@@ -39,6 +44,15 @@ public class StateManager {
 
     }
 
+    /**
+     * Register a listener which is notified with the new ComputeStatus whenever the status changes. Listeners are
+     * invoked while holding statusLock, so they must be non-blocking (e.g. hand off work to an executor).
+     * @param listener
+     */
+    public void addComputeStatusChangeListener(final Consumer<ComputeStatus> listener) {
+        computeStatusChangeListeners.add(listener);
+    }
+
     /**
      * Get Compute status (locks on statusLock)
      * @return
@@ -54,7 +68,7 @@ public class StateManager {
     @Synchronized("statusLock")
     public void reportComputeActivating() {
         if (computeStatus == ComputeStatus.Initializing) {
-            computeStatus = ComputeStatus.Activating;
+            transitionTo(ComputeStatus.Activating);
         }
     }
 
@@ -64,7 +78,7 @@ public class StateManager {
     @Synchronized("statusLock")
     public void reportComputeActive() {
         if (computeStatus == ComputeStatus.Activating || computeStatus == ComputeStatus.Initializing) {
-            computeStatus = ComputeStatus.Active;
+            transitionTo(ComputeStatus.Active);
         }
     }
 
@@ -74,7 +88,7 @@ public class StateManager {
     @Synchronized("statusLock")
     public void reportComputeTerminating() {
         if (!isComputeTerminatingOrTerminated()) {
-            computeStatus = ComputeStatus.Terminating;
+            transitionTo(ComputeStatus.Terminating);
         }
     }
 
@@ -84,7 +98,7 @@ public class StateManager {
     @Synchronized("statusLock")
     public void reportComputeInterrupted() {
         if (computeStatus != ComputeStatus.Terminated && computeStatus != ComputeStatus.Interrupted) {
-            computeStatus = ComputeStatus.Interrupted;
+            transitionTo(ComputeStatus.Interrupted);
         }
     }
 
@@ -93,7 +107,7 @@ public class StateManager {
      */
     @Synchronized("statusLock")
     public void reportComputeTerminated() {
-        computeStatus = ComputeStatus.Terminated;
+        transitionTo(ComputeStatus.Terminated);
     }
 
     /**
@@ -124,4 +138,13 @@ public class StateManager {
     public boolean isComputeInitializing() {
         return computeStatus == ComputeStatus.Initializing;
     }
+
+    @GuardedBy("statusLock")
+    private void transitionTo(final ComputeStatus newStatus) {
+        if (computeStatus == newStatus) {
+            return;
+        }
+        computeStatus = newStatus;
+        computeStatusChangeListeners.forEach(listener -> listener.accept(newStatus));
+    }
 }
@@ -11,6 +11,7 @@ import lombok.NonNull;
 import lombok.Value;
 
 import java.time.Instant;
+import java.util.List;
 
 /**
  * Class to encapsulate the commandline arguments for the GameLift agent.
@@ -38,4 +39,16 @@ public class AgentArgs {
     private Boolean isContainerFleet;
     private Boolean enableComputeRegistrationViaAgent;
     private Instant heartbeatTimeoutTime;
+    private Integer processLaunchParallelism;
+    private List<String> buildPrewarmGlobs;
+    private Boolean forkServerLaunch;
+    private String cgroupRoot;
+    private String housekeepingCpus;
+    private Integer cpusPerProcess;
+    private Integer resourceSampleIntervalSeconds;
+    private Integer processOutputTailKilobytes;
+    private String processJournalPath;
+    private Boolean reapLeakedProcesses;
+    private Boolean hostLoadAdmission;
+    private Integer minInitializationTimeoutSeconds;
 }
@@ -5,6 +5,7 @@ package com.amazon.gamelift.agent.model;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.NonNull;
 import lombok.Value;
 import lombok.extern.jackson.Jacksonized;
@@ -16,12 +17,18 @@ import java.util.Objects;
 
 /**
  *  Model that represents the ServerProcess field in the Amazon GameLift RuntimeConfiguration
+ *
+ *  Configurations are used as map keys on the process monitoring path, so equality compares the raw fields rather
+ *  than the derived getters (which allocate) and the hash code is computed once.
  */
 @Builder
 @Jacksonized
 @Value
+@EqualsAndHashCode(doNotUseGetters = true, cacheStrategy = EqualsAndHashCode.CacheStrategy.LAZY)
 public class GameProcessConfiguration {
     private static final int DEFAULT_CONCURRENT_EXECUTIONS = 1;
+    private static final int DEFAULT_INITIALIZATION_TIMEOUT_SECONDS = 300;
+    private static final int DEFAULT_TERMINATION_GRACE_PERIOD_SECONDS = 0;
 
     @NonNull
     @JsonProperty("ConcurrentExecutions")
@@ -31,6 +38,16 @@ public class GameProcessConfiguration {
     private final String launchPath;
     @JsonProperty("Parameters")
     private final String parameters;
+    // Time a process is given to connect using the GameLift SDK before it is terminated
+    @JsonProperty("InitializationTimeoutSeconds")
+    private final Integer initializationTimeoutSeconds;
+    // Time a process is given to exit after SIGTERM before it is killed; by default processes are killed immediately
+    @JsonProperty("TerminationGracePeriodSeconds")
+    private final Integer terminationGracePeriodSeconds;
+    // cgroup limits applied to each process when cgroup isolation is enabled; null to only isolate the processes
+    @JsonProperty("ResourceLimits")
+    private final ResourceLimits resourceLimits;
+
     public Integer getConcurrentExecutions() {
         return Objects.isNull(concurrentExecutions) ? DEFAULT_CONCURRENT_EXECUTIONS : concurrentExecutions;
     }
@@ -38,4 +55,14 @@ public class GameProcessConfiguration {
     public List<String> getParameters() {
         return (parameters == null) ? new ArrayList<>() : Arrays.asList(parameters.split(" "));
     }
+
+    public Integer getInitializationTimeoutSeconds() {
+        return (initializationTimeoutSeconds == null || initializationTimeoutSeconds < 1)
+                ? DEFAULT_INITIALIZATION_TIMEOUT_SECONDS : initializationTimeoutSeconds;
+    }
+
+    public Integer getTerminationGracePeriodSeconds() {
+        return (terminationGracePeriodSeconds == null || terminationGracePeriodSeconds < 0)
+                ? DEFAULT_TERMINATION_GRACE_PERIOD_SECONDS : terminationGracePeriodSeconds;
+    }
 }
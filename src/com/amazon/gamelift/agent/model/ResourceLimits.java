@@ -0,0 +1,31 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * Model for the optional ResourceLimits field of a ServerProcess, applied to each of its processes when cgroup
+ * isolation is enabled. Every limit is optional; unset limits are left at the cgroup defaults.
+ */
+@Builder
+@Jacksonized
+@Value
+public class ResourceLimits {
+    // Relative share of CPU time under contention, written to cpu.weight (1-10000, cgroup default 100)
+    @JsonProperty("CpuWeight")
+    private final Integer cpuWeight;
+    // Maximum CPU time in cores, e.g. 1.5 for one and a half cores, written to cpu.max
+    @JsonProperty("CpuMaxCores")
+    private final Double cpuMaxCores;
+    // Memory limit in bytes above which the process group is OOM-killed, written to memory.max
+    @JsonProperty("MemoryMaxBytes")
+    private final Long memoryMaxBytes;
+    // Relative share of block IO under contention, written to io.weight (1-10000, cgroup default 100)
+    @JsonProperty("IoWeight")
+    private final Integer ioWeight;
+}
@@ -27,6 +27,8 @@ import lombok.extern.slf4j.Slf4j;
 import java.io.File;
 import java.net.http.HttpClient;
 import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
 
 @Slf4j
 @Module
@@ -51,6 +53,24 @@ public class ConfigModule {
     public static final String GAMELIFT_AGENT_LOGS_DIRECTORY = "gameliftAgentLogDirectory";
     public static final String ENABLED_COMPUTE_REGISTRATION_VIA_AGENT = "enableComputeRegistrationViaAgent";
     public static final String HEARTBEAT_TIMEOUT_TIME = "heartbeatTimeoutTime";
+    public static final String PROCESS_LAUNCH_PARALLELISM = "processLaunchParallelism";
+    public static final String BUILD_PREWARM_GLOBS = "buildPrewarmGlobs";
+    public static final String FORK_SERVER_LAUNCH = "forkServerLaunch";
+    public static final String CGROUP_ROOT = "cgroupRoot";
+    public static final String HOUSEKEEPING_CPUS = "housekeepingCpus";
+    public static final String CPUS_PER_PROCESS = "cpusPerProcess";
+    public static final String RESOURCE_SAMPLE_INTERVAL_SECONDS = "resourceSampleIntervalSeconds";
+    public static final String PROCESS_OUTPUT_TAIL_KILOBYTES = "processOutputTailKilobytes";
+    public static final String PROCESS_JOURNAL_PATH = "processJournalPath";
+    public static final String REAP_LEAKED_PROCESSES = "reapLeakedProcesses";
+    public static final String HOST_LOAD_ADMISSION = "hostLoadAdmission";
+    public static final String MIN_INITIALIZATION_TIMEOUT_SECONDS = "minInitializationTimeoutSeconds";
+
+    public static final int DEFAULT_PROCESS_LAUNCH_PARALLELISM = 4;
+    public static final int DEFAULT_CPUS_PER_PROCESS = 1;
+    public static final int DEFAULT_RESOURCE_SAMPLE_INTERVAL_SECONDS = 0;
+    public static final int DEFAULT_PROCESS_OUTPUT_TAIL_KILOBYTES = 0;
+    public static final int DEFAULT_MIN_INITIALIZATION_TIMEOUT_SECONDS = 0;
 
     private final String fleetId;
     private final String computeName;
@@ -73,6 +93,18 @@ public class ConfigModule {
     private final boolean isContainerFleet;
     private final boolean enableComputeRegistrationViaAgent;
     private final Instant heartbeatTimeoutTime;
+    private final int processLaunchParallelism;
+    private final List<String> buildPrewarmGlobs;
+    private final boolean forkServerLaunch;
+    private final String cgroupRoot;
+    private final String housekeepingCpus;
+    private final int cpusPerProcess;
+    private final int resourceSampleIntervalSeconds;
+    private final int processOutputTailKilobytes;
+    private final String processJournalPath;
+    private final boolean reapLeakedProcesses;
+    private final boolean hostLoadAdmission;
+    private final int minInitializationTimeoutSeconds;
 
     private final EcsMetadataReader ecsMetadataReader;
 
@@ -106,6 +138,24 @@ public class ConfigModule {
         this.isContainerFleet = args.getIsContainerFleet();
         this.enableComputeRegistrationViaAgent = args.getEnableComputeRegistrationViaAgent();
         this.heartbeatTimeoutTime = args.getHeartbeatTimeoutTime();
+        this.processLaunchParallelism = args.getProcessLaunchParallelism() == null
+                ? DEFAULT_PROCESS_LAUNCH_PARALLELISM : args.getProcessLaunchParallelism();
+        this.buildPrewarmGlobs = args.getBuildPrewarmGlobs() == null
+                ? Collections.emptyList() : args.getBuildPrewarmGlobs();
+        this.forkServerLaunch = Boolean.TRUE.equals(args.getForkServerLaunch());
+        this.cgroupRoot = args.getCgroupRoot();
+        this.housekeepingCpus = args.getHousekeepingCpus();
+        this.cpusPerProcess = args.getCpusPerProcess() == null
+                ? DEFAULT_CPUS_PER_PROCESS : args.getCpusPerProcess();
+        this.resourceSampleIntervalSeconds = args.getResourceSampleIntervalSeconds() == null
+                ? DEFAULT_RESOURCE_SAMPLE_INTERVAL_SECONDS : args.getResourceSampleIntervalSeconds();
+        this.processOutputTailKilobytes = args.getProcessOutputTailKilobytes() == null
+                ? DEFAULT_PROCESS_OUTPUT_TAIL_KILOBYTES : args.getProcessOutputTailKilobytes();
+        this.processJournalPath = args.getProcessJournalPath();
+        this.reapLeakedProcesses = Boolean.TRUE.equals(args.getReapLeakedProcesses());
+        this.hostLoadAdmission = Boolean.TRUE.equals(args.getHostLoadAdmission());
+        this.minInitializationTimeoutSeconds = args.getMinInitializationTimeoutSeconds() == null
+                ? DEFAULT_MIN_INITIALIZATION_TIMEOUT_SECONDS : args.getMinInitializationTimeoutSeconds();
     }
 
     /**
@@ -363,4 +413,126 @@ public class ConfigModule {
         return heartbeatTimeoutTime;
     }
 
+    /**
+     * Provides the maximum number of game server processes which may be launched concurrently
+     * @return int
+     */
+    @Provides
+    @Named(PROCESS_LAUNCH_PARALLELISM)
+    public int provideProcessLaunchParallelism() {
+        return processLaunchParallelism;
+    }
+
+    /**
+     * Provides the globs of the game build files to load into the page cache before processes are launched
+     * @return List of globs, empty if build prewarming is disabled
+     */
+    @Provides
+    @Named(BUILD_PREWARM_GLOBS)
+    public List<String> provideBuildPrewarmGlobs() {
+        return buildPrewarmGlobs;
+    }
+
+    /**
+     * Provides whether Linux game server processes are launched through the fork server
+     * @return boolean
+     */
+    @Provides
+    @Named(FORK_SERVER_LAUNCH)
+    public boolean provideForkServerLaunch() {
+        return forkServerLaunch;
+    }
+
+    /**
+     * Provides the cgroup v2 directory under which game server processes are isolated in their own cgroups
+     * @return String | Null if cgroup isolation is disabled
+     */
+    @Provides
+    @Nullable
+    @Named(CGROUP_ROOT)
+    public String provideCgroupRoot() {
+        return cgroupRoot;
+    }
+
+    /**
+     * Provides the CPU list reserved for the agent, outside of which game server processes are pinned
+     * @return String | Null if CPU placement is disabled
+     */
+    @Provides
+    @Nullable
+    @Named(HOUSEKEEPING_CPUS)
+    public String provideHousekeepingCpus() {
+        return housekeepingCpus;
+    }
+
+    /**
+     * Provides the number of CPUs each game server process is pinned to
+     * @return int
+     */
+    @Provides
+    @Named(CPUS_PER_PROCESS)
+    public int provideCpusPerProcess() {
+        return cpusPerProcess;
+    }
+
+    /**
+     * Provides the time between samples of game server process resource usage, or 0 if sampling is disabled
+     * @return int
+     */
+    @Provides
+    @Named(RESOURCE_SAMPLE_INTERVAL_SECONDS)
+    public int provideResourceSampleIntervalSeconds() {
+        return resourceSampleIntervalSeconds;
+    }
+
+    /**
+     * Provides the amount of output kept per game server process, or 0 if process output is discarded
+     * @return int
+     */
+    @Provides
+    @Named(PROCESS_OUTPUT_TAIL_KILOBYTES)
+    public int provideProcessOutputTailKilobytes() {
+        return processOutputTailKilobytes;
+    }
+
+    /**
+     * Provides the file in which game server processes are journaled to be re-adopted after an agent restart
+     * @return String | Null if processes are not journaled
+     */
+    @Provides
+    @Nullable
+    @Named(PROCESS_JOURNAL_PATH)
+    public String provideProcessJournalPath() {
+        return processJournalPath;
+    }
+
+    /**
+     * Provides whether the processes left behind by exited game server processes are killed and reaped
+     * @return boolean
+     */
+    @Provides
+    @Named(REAP_LEAKED_PROCESSES)
+    public boolean provideReapLeakedProcesses() {
+        return reapLeakedProcesses;
+    }
+
+    /**
+     * Provides whether game server process launches are held back while the host is overloaded
+     * @return boolean
+     */
+    @Provides
+    @Named(HOST_LOAD_ADMISSION)
+    public boolean provideHostLoadAdmission() {
+        return hostLoadAdmission;
+    }
+
+    /**
+     * Provides the shortest SDK initialization timeout learned from registration times, or 0 if they are not learned
+     * @return int
+     */
+    @Provides
+    @Named(MIN_INITIALIZATION_TIMEOUT_SECONDS)
+    public int provideMinInitializationTimeoutSeconds() {
+        return minInitializationTimeoutSeconds;
+    }
 }
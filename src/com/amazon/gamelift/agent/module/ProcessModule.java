@@ -47,6 +47,7 @@ import javax.inject.Named;
 import javax.inject.Singleton;
 import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -118,19 +119,22 @@ public class ProcessModule {
      * Provide RuntimeConfigurationManager
      * @param webSocketConnectionProvider
      * @param defaultConfigFromCli
+     * @param refreshExecutorService
      * @return
      */
     @Provides
     @Singleton
     public RuntimeConfigurationManager provideRuntimeConfigurationManager(
             final WebSocketConnectionProvider webSocketConnectionProvider,
-            @Nullable final RuntimeConfiguration defaultConfigFromCli) {
+            @Nullable final RuntimeConfiguration defaultConfigFromCli,
+            @Named(ThreadingModule.RUNTIME_CONFIGURATION_REFRESH_EXECUTOR)
+            final ScheduledExecutorService refreshExecutorService) {
         // If RuntimeConfiguration is provided via CLI it will be used instead of getting the Fleet RuntimeConfiguration
         if (defaultConfigFromCli != null) {
             log.info("Overriding Fleet RuntimeConfiguration with value provided via command line arguments");
             return new StaticRuntimeConfigurationManager(defaultConfigFromCli);
         } else {
-            return new DynamicRuntimeConfigurationManager(webSocketConnectionProvider);
+            return new DynamicRuntimeConfigurationManager(webSocketConnectionProvider, refreshExecutorService);
         }
     }
 
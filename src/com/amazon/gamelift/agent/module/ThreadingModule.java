@@ -7,13 +7,23 @@ import com.amazon.gamelift.agent.logging.GameLiftAgentLogUploader;
 import com.amazon.gamelift.agent.manager.ExecutorServiceManager;
 import com.amazon.gamelift.agent.manager.HeartbeatSender;
 import com.amazon.gamelift.agent.manager.InstanceTerminationMonitor;
+import com.amazon.gamelift.agent.manager.RuntimeConfigurationManager;
 import com.amazon.gamelift.agent.manager.ShutdownOrchestrator;
+import com.amazon.gamelift.agent.process.BuildPrewarmer;
+import com.amazon.gamelift.agent.process.CgroupManager;
 import com.amazon.gamelift.agent.process.GameProcessMonitor;
+import com.amazon.gamelift.agent.process.InitializationTimeoutTracker;
+import com.amazon.gamelift.agent.process.ProcessGroupReaper;
+import com.amazon.gamelift.agent.process.ProcessLaunchPipeline;
+import com.amazon.gamelift.agent.process.ProcessResourceSampler;
+import com.amazon.gamelift.agent.process.builder.ProcessOutputCapture;
 import com.amazon.gamelift.agent.websocket.WebSocketConnectionProvider;
 import dagger.Module;
 import dagger.Provides;
 
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 
 import javax.inject.Named;
 import javax.inject.Singleton;
@@ -29,12 +39,31 @@ public class ThreadingModule {
     public static final String INSTANCE_TERMINATION_EXECUTOR = "InstanceTerminationMonitorExecutorService";
     public static final String SHUTDOWN_ORCHESTRATOR_EXECUTOR = "ShutdownOrchestratorExecutorService";
     public static final String GAME_PROCESS_MONITOR_EXECUTOR = "GameProcessMonitorExecutorService";
+    public static final String GAME_PROCESS_LAUNCH_EXECUTOR = "GameProcessLaunchExecutorService";
+    public static final String GAME_PROCESS_INITIALIZATION_TIMEOUT_EXECUTOR =
+            "GameProcessInitializationTimeoutExecutorService";
     public static final String WEBSOCKET_CONNECTION_PROVIDER_EXECUTOR = "WebSocketConnectionProviderExecutorService";
     public static final String GAMELIFT_AGENT_LOG_UPLOADER_EXECUTOR = "GameLiftAgentLogUploaderExecutorService";
     public static final String GAME_SESSION_LOGS_UPLOAD_EXECUTOR = "GameSessionLogsUploadExecutorService";
+    public static final String GAME_PROCESS_TERMINATION_REPORT_EXECUTOR =
+            "GameProcessTerminationReportExecutorService";
+    public static final String RUNTIME_CONFIGURATION_REFRESH_EXECUTOR =
+            "RuntimeConfigurationRefreshExecutorService";
+    public static final String BUILD_PREWARM_EXECUTOR = "BuildPrewarmExecutorService";
+    public static final String PROCESS_RESOURCE_SAMPLER_EXECUTOR = "ProcessResourceSamplerExecutorService";
+    public static final String PROCESS_OUTPUT_CAPTURE_EXECUTOR = "ProcessOutputCaptureExecutorService";
+    public static final String PROCESS_GROUP_REAPER_EXECUTOR = "ProcessGroupReaperExecutorService";
+    public static final String CGROUP_MANAGER_EXECUTOR = "CgroupManagerExecutorService";
+    public static final String PROCESS_TERMINATION_ESCALATION_EXECUTOR =
+            "ProcessTerminationEscalationExecutorService";
+    public static final String GAME_PROCESS_SHUTDOWN_TERMINATION_EXECUTOR =
+            "GameProcessShutdownTerminationExecutorService";
 
     private static final int DEFAULT_THREAD_COUNT = 1;
     private static final int GAME_SESSION_LOGS_THREAD_COUNT = 5;
+    private static final int GAME_PROCESS_SHUTDOWN_TERMINATION_THREAD_COUNT = 4;
+    // Each termination report attempt waits on its thread for GameLift's response
+    private static final int GAME_PROCESS_TERMINATION_REPORT_THREAD_COUNT = 4;
 
     /**
      * Provides ExecutorServiceManager
@@ -107,6 +136,170 @@ public class ThreadingModule {
                 GameProcessMonitor.class.getSimpleName(), setDaemon);
     }
 
+    /**
+     * Provides GameProcess launch ExecutorService, with one thread per concurrent process launch
+     * @param executorServiceManager
+     * @param processLaunchParallelism
+     * @return
+     */
+    @Provides
+    @Singleton
+    @Named(GAME_PROCESS_LAUNCH_EXECUTOR)
+    public ScheduledExecutorService provideGameProcessLaunchExecutorService(
+            @Named(ThreadingModule.EXECUTOR_SERVICE_MANAGER) final ExecutorServiceManager executorServiceManager,
+            @Named(ConfigModule.PROCESS_LAUNCH_PARALLELISM) final int processLaunchParallelism) {
+        final boolean setDaemon = false;
+        return executorServiceManager.getOrCreateScheduledThreadPoolExecutorService(processLaunchParallelism,
+                ProcessLaunchPipeline.class.getSimpleName(), setDaemon);
+    }
+
+    /**
+     * Provides build prewarm ExecutorService. Builds are prewarmed one at a time, since prewarming is bound by disk
+     * throughput, and its thread does not hold up agent exit.
+     * @param executorServiceManager
+     * @return
+     */
+    @Provides
+    @Singleton
+    @Named(BUILD_PREWARM_EXECUTOR)
+    public ExecutorService provideBuildPrewarmExecutorService(
+            @Named(ThreadingModule.EXECUTOR_SERVICE_MANAGER) final ExecutorServiceManager executorServiceManager) {
+        final boolean setDaemon = true;
+        return executorServiceManager.getOrCreateFixedThreadPoolExecutorService(DEFAULT_THREAD_COUNT,
+                BuildPrewarmer.class.getSimpleName(), setDaemon);
+    }
+
+    /**
+     * Provides RuntimeConfiguration refresh ScheduledExecutorService
+     * @param executorServiceManager
+     * @return
+     */
+    @Provides
+    @Singleton
+    @Named(RUNTIME_CONFIGURATION_REFRESH_EXECUTOR)
+    public ScheduledExecutorService provideRuntimeConfigurationRefreshExecutorService(
+            @Named(ThreadingModule.EXECUTOR_SERVICE_MANAGER) final ExecutorServiceManager executorServiceManager) {
+        final boolean setDaemon = true;
+        return executorServiceManager.getOrCreateScheduledThreadPoolExecutorService(DEFAULT_THREAD_COUNT,
+                RuntimeConfigurationManager.class.getSimpleName(), setDaemon);
+    }
+
+    /**
+     * Provides process resource sampler ScheduledExecutorService
+     * @param executorServiceManager
+     * @return
+     */
+    @Provides
+    @Singleton
+    @Named(PROCESS_RESOURCE_SAMPLER_EXECUTOR)
+    public ScheduledExecutorService provideProcessResourceSamplerExecutorService(
+            @Named(ThreadingModule.EXECUTOR_SERVICE_MANAGER) final ExecutorServiceManager executorServiceManager) {
+        final boolean setDaemon = true;
+        return executorServiceManager.getOrCreateScheduledThreadPoolExecutorService(DEFAULT_THREAD_COUNT,
+                ProcessResourceSampler.class.getSimpleName(), setDaemon);
+    }
+
+    /**
+     * Provides process output capture ScheduledExecutorService. A single thread keeps the output files of every game
+     * server process within their size limit.
+     * @param executorServiceManager
+     * @return
+     */
+    @Provides
+    @Singleton
+    @Named(PROCESS_OUTPUT_CAPTURE_EXECUTOR)
+    public ScheduledExecutorService provideProcessOutputCaptureExecutorService(
+            @Named(ThreadingModule.EXECUTOR_SERVICE_MANAGER) final ExecutorServiceManager executorServiceManager) {
+        final boolean setDaemon = true;
+        return executorServiceManager.getOrCreateScheduledThreadPoolExecutorService(DEFAULT_THREAD_COUNT,
+                ProcessOutputCapture.class.getSimpleName(), setDaemon);
+    }
+
+    /**
+     * Provides process group reaper ScheduledExecutorService. A single thread tracks and sweeps the descendants of
+     * every game server process.
+     * @param executorServiceManager
+     * @return
+     */
+    @Provides
+    @Singleton
+    @Named(PROCESS_GROUP_REAPER_EXECUTOR)
+    public ScheduledExecutorService provideProcessGroupReaperExecutorService(
+            @Named(ThreadingModule.EXECUTOR_SERVICE_MANAGER) final ExecutorServiceManager executorServiceManager) {
+        final boolean setDaemon = true;
+        return executorServiceManager.getOrCreateScheduledThreadPoolExecutorService(DEFAULT_THREAD_COUNT,
+                ProcessGroupReaper.class.getSimpleName(), setDaemon);
+    }
+
+    /**
+     * Provides cgroup manager ScheduledExecutorService. A single thread retries the removal of cgroups which still
+     * held processes when their game server exited.
+     * @param executorServiceManager
+     * @return
+     */
+    @Provides
+    @Singleton
+    @Named(CGROUP_MANAGER_EXECUTOR)
+    public ScheduledExecutorService provideCgroupManagerExecutorService(
+            @Named(ThreadingModule.EXECUTOR_SERVICE_MANAGER) final ExecutorServiceManager executorServiceManager) {
+        final boolean setDaemon = true;
+        return executorServiceManager.getOrCreateScheduledThreadPoolExecutorService(DEFAULT_THREAD_COUNT,
+                CgroupManager.class.getSimpleName(), setDaemon);
+    }
+
+    /**
+     * Provides process termination escalation ScheduledExecutorService. A single thread sends SIGKILL to the Linux
+     * process groups which are still running once their termination grace period has passed.
+     * @param executorServiceManager
+     * @return
+     */
+    @Provides
+    @Singleton
+    @Named(PROCESS_TERMINATION_ESCALATION_EXECUTOR)
+    public ScheduledExecutorService provideProcessTerminationEscalationExecutorService(
+            @Named(ThreadingModule.EXECUTOR_SERVICE_MANAGER) final ExecutorServiceManager executorServiceManager) {
+        final boolean setDaemon = true;
+        return executorServiceManager.getOrCreateScheduledThreadPoolExecutorService(DEFAULT_THREAD_COUNT,
+                PROCESS_TERMINATION_ESCALATION_EXECUTOR, setDaemon);
+    }
+
+    /**
+     * Provides the ExecutorService issuing process kills in parallel when the compute shuts down. Its threads do not
+     * hold up agent exit.
+     * @param executorServiceManager
+     * @return
+     */
+    @Provides
+    @Singleton
+    @Named(GAME_PROCESS_SHUTDOWN_TERMINATION_EXECUTOR)
+    public ExecutorService provideGameProcessShutdownTerminationExecutorService(
+            @Named(ThreadingModule.EXECUTOR_SERVICE_MANAGER) final ExecutorServiceManager executorServiceManager) {
+        final boolean setDaemon = true;
+        return executorServiceManager.getOrCreateFixedThreadPoolExecutorService(
+                GAME_PROCESS_SHUTDOWN_TERMINATION_THREAD_COUNT, GAME_PROCESS_SHUTDOWN_TERMINATION_EXECUTOR, setDaemon);
+    }
+
+    /**
+     * Provides GameProcess initialization timeout ExecutorService. Cancelled deadlines are removed from the work queue
+     * immediately, since most processes register well before their deadline.
+     * @param executorServiceManager
+     * @return
+     */
+    @Provides
+    @Singleton
+    @Named(GAME_PROCESS_INITIALIZATION_TIMEOUT_EXECUTOR)
+    public ScheduledExecutorService provideGameProcessInitializationTimeoutExecutorService(
+            @Named(ThreadingModule.EXECUTOR_SERVICE_MANAGER) final ExecutorServiceManager executorServiceManager) {
+        final boolean setDaemon = true;
+        final ScheduledExecutorService executorService =
+                executorServiceManager.getOrCreateScheduledThreadPoolExecutorService(DEFAULT_THREAD_COUNT,
+                        InitializationTimeoutTracker.class.getSimpleName(), setDaemon);
+        if (executorService instanceof ScheduledThreadPoolExecutor) {
+            ((ScheduledThreadPoolExecutor) executorService).setRemoveOnCancelPolicy(true);
+        }
+        return executorService;
+    }
+
     /**
      * Provides WebsocketConnection ExecutorService
      * @param executorServiceManager
@@ -151,4 +344,19 @@ public class ThreadingModule {
         return executorServiceManager.getOrCreateScheduledThreadPoolExecutorService(GAME_SESSION_LOGS_THREAD_COUNT,
                 GAME_SESSION_LOGS_UPLOAD_EXECUTOR, setDaemon);
     }
+
+    /**
+     * Provide Game Process Termination Report ExecutorService
+     * @param executorServiceManager
+     * @return
+     */
+    @Provides
+    @Singleton
+    @Named(GAME_PROCESS_TERMINATION_REPORT_EXECUTOR)
+    public ScheduledExecutorService provideGameProcessTerminationReportExecutorService(
+            @Named(ThreadingModule.EXECUTOR_SERVICE_MANAGER) final ExecutorServiceManager executorServiceManager) {
+        final boolean setDaemon = false;
+        return executorServiceManager.getOrCreateScheduledThreadPoolExecutorService(
+                GAME_PROCESS_TERMINATION_REPORT_THREAD_COUNT, GAME_PROCESS_TERMINATION_REPORT_EXECUTOR, setDaemon);
+    }
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * AdoptedProcess is a Java Process for a game server started by a previous run of the GameLiftAgent and re-adopted from
+ * the {@link ProcessJournal}. The game server is not a child of the agent JVM, so its exit is observed through its
+ * ProcessHandle and its exit status is unknown.
+ */
+class AdoptedProcess extends Process {
+
+    // Exit status reported for adopted processes, whose exit status cannot be collected
+    static final int UNKNOWN_EXIT_CODE = -1;
+
+    private final ProcessHandle processHandle;
+    private final CompletableFuture<Process> exitFuture;
+
+    AdoptedProcess(final ProcessHandle processHandle) {
+        this.processHandle = processHandle;
+        this.exitFuture = processHandle.onExit().thenApply(exitedHandle -> this);
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+        // The game server's stdin is not connected to the agent
+        return OutputStream.nullOutputStream();
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        // The game server's stdout was connected to the previous agent, if at all
+        return InputStream.nullInputStream();
+    }
+
+    @Override
+    public InputStream getErrorStream() {
+        // The game server's stderr was connected to the previous agent, if at all
+        return InputStream.nullInputStream();
+    }
+
+    @Override
+    public int waitFor() throws InterruptedException {
+        try {
+            exitFuture.get();
+        } catch (final ExecutionException e) {
+            // onExit futures are never completed exceptionally
+        }
+        return UNKNOWN_EXIT_CODE;
+    }
+
+    @Override
+    public boolean waitFor(final long timeout, final TimeUnit unit) throws InterruptedException {
+        try {
+            exitFuture.get(timeout, unit);
+            return true;
+        } catch (final TimeoutException e) {
+            return false;
+        } catch (final ExecutionException e) {
+            return true;
+        }
+    }
+
+    @Override
+    public int exitValue() {
+        if (processHandle.isAlive()) {
+            throw new IllegalThreadStateException("The process has not exited.");
+        }
+        return UNKNOWN_EXIT_CODE;
+    }
+
+    @Override
+    public void destroy() {
+        processHandle.destroy();
+    }
+
+    @Override
+    public Process destroyForcibly() {
+        processHandle.destroyForcibly();
+        return this;
+    }
+
+    @Override
+    public boolean supportsNormalTermination() {
+        return processHandle.supportsNormalTermination();
+    }
+
+    @Override
+    public boolean isAlive() {
+        return processHandle.isAlive();
+    }
+
+    @Override
+    public long pid() {
+        return processHandle.pid();
+    }
+
+    @Override
+    public CompletableFuture<Process> onExit() {
+        return exitFuture;
+    }
+
+    @Override
+    public ProcessHandle toHandle() {
+        return processHandle;
+    }
+}
@@ -0,0 +1,371 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process;
+
+import com.amazon.gamelift.agent.model.GameProcessConfiguration;
+import com.amazon.gamelift.agent.module.ConfigModule;
+import com.amazon.gamelift.agent.module.ThreadingModule;
+import com.amazon.gamelift.agent.utils.ExecutorServiceSafeRunnable;
+import com.google.common.annotations.VisibleForTesting;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Loads the files of a game build into the page cache before its first processes are launched, so that cold starts
+ * after an instance boot do not pay for page faults on the launch executable and its assets.
+ *
+ * Prewarming is enabled by giving at least one build prewarm glob. A build is identified by its launch path and the
+ * file key, size and modification time of its launch executable, so a new build installed at the same launch path is
+ * prewarmed again. The launch executable is always prewarmed, along with every file under the executable's directory
+ * which matches one of the globs. Files are mapped and loaded, which advises the kernel that the whole file will be
+ * needed and then touches every page. Each build is prewarmed once in the background, so a runtime configuration
+ * pointing at a new build prewarms that build while processes of the existing builds keep launching.
+ *
+ * The GameProcessMonitor holds back launches of a build until it has been prewarmed, for at most MAX_PREWARM_WAIT.
+ * To measure the effect of prewarming, the time from launch to registration of each build's processes is measured
+ * whether or not prewarming is enabled, so boots with and without the option can be compared.
+ */
+@Slf4j
+@Singleton
+public class BuildPrewarmer implements GameProcessLifecycleListener {
+    // Launches are held back for at most this long while their build is prewarmed, then start cold
+    @VisibleForTesting static final Duration MAX_PREWARM_WAIT = Duration.ofSeconds(60);
+    // A mapped region is limited to Integer.MAX_VALUE bytes, so larger files are loaded in several regions
+    private static final long MAX_MAPPED_REGION_BYTES = 1L << 30;
+    // Launch-to-registration is only logged for the first processes of a build, which are the ones starting cold
+    private static final int LOGGED_REGISTRATIONS_PER_BUILD = 10;
+
+    /**
+     * Point-in-time view of the prewarm and process registrations of a build, intended for diagnostics.
+     */
+    @Value
+    public static class BuildPrewarmStats {
+        boolean prewarmed;
+        long prewarmedFileCount;
+        long prewarmedBytes;
+        long prewarmMillis;
+        long registeredProcessCount;
+        long averageLaunchToRegistrationMillis;
+        long maxLaunchToRegistrationMillis;
+    }
+
+    private final List<PathMatcher> assetMatchers;
+    private final boolean isEnabled;
+    private final ExecutorService executorService;
+    private final LongSupplier nanoTimeSupplier;
+    private final Map<String, BuildState> buildsByLaunchPath = new ConcurrentHashMap<>();
+    private final Map<String, Long> launchNanosByProcessUUID = new ConcurrentHashMap<>();
+    private final List<Runnable> prewarmCompletedListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Constructor for BuildPrewarmer
+     * @param assetGlobs globs of the asset files to prewarm, relative to the launch executable's directory; prewarming
+     *                   is disabled if empty
+     * @param executorService
+     */
+    @Inject
+    public BuildPrewarmer(@Named(ConfigModule.BUILD_PREWARM_GLOBS) final List<String> assetGlobs,
+                          @Named(ThreadingModule.BUILD_PREWARM_EXECUTOR) final ExecutorService executorService) {
+        this(assetGlobs, executorService, System::nanoTime);
+    }
+
+    @VisibleForTesting
+    BuildPrewarmer(final List<String> assetGlobs,
+                   final ExecutorService executorService,
+                   final LongSupplier nanoTimeSupplier) {
+        this.isEnabled = !assetGlobs.isEmpty();
+        this.assetMatchers = new ArrayList<>();
+        for (final String assetGlob : assetGlobs) {
+            assetMatchers.add(FileSystems.getDefault().getPathMatcher("glob:" + assetGlob));
+        }
+        this.executorService = executorService;
+        this.nanoTimeSupplier = nanoTimeSupplier;
+    }
+
+    /**
+     * Register a listener to be run whenever a build has been prewarmed, so launches held back for it can go ahead.
+     * Listeners run on the prewarm thread and must not block.
+     * @param listener
+     */
+    public void addPrewarmCompletedListener(final Runnable listener) {
+        prewarmCompletedListeners.add(listener);
+    }
+
+    /**
+     * Starts prewarming the build of a configuration in the background, unless it has been prewarmed already or
+     * prewarming is disabled. This method does not block.
+     * @param gameProcessConfiguration
+     */
+    public void startPrewarm(final GameProcessConfiguration gameProcessConfiguration) {
+        if (isEnabled) {
+            getBuildState(gameProcessConfiguration.getLaunchPath()).startPrewarmIfNeeded();
+        }
+    }
+
+    /**
+     * Checks whether launches of a configuration should be held back while its build is prewarmed, starting the
+     * prewarm if needed. This method does not block.
+     * @param gameProcessConfiguration
+     * @return true until the build has been prewarmed, its prewarm failed or MAX_PREWARM_WAIT has passed; always false
+     *         if prewarming is disabled
+     */
+    public boolean isPrewarmPending(final GameProcessConfiguration gameProcessConfiguration) {
+        if (!isEnabled) {
+            return false;
+        }
+        final BuildState buildState = getBuildState(gameProcessConfiguration.getLaunchPath());
+        return !buildState.startPrewarmIfNeeded()
+                && nanoTimeSupplier.getAsLong() - buildState.prewarmStartNanos < MAX_PREWARM_WAIT.toNanos();
+    }
+
+    @Override
+    public void onProcessStarted(final GameProcess gameProcess) {
+        launchNanosByProcessUUID.put(gameProcess.getProcessUUID(), nanoTimeSupplier.getAsLong());
+    }
+
+    @Override
+    public void onProcessRegistered(final GameProcess gameProcess) {
+        final Long launchNanos = launchNanosByProcessUUID.remove(gameProcess.getProcessUUID());
+        if (launchNanos != null) {
+            getBuildState(gameProcess.getProcessConfiguration().getLaunchPath())
+                    .recordRegistration(nanoTimeSupplier.getAsLong() - launchNanos);
+        }
+    }
+
+    @Override
+    public void onProcessExited(final GameProcess gameProcess) {
+        launchNanosByProcessUUID.remove(gameProcess.getProcessUUID());
+    }
+
+    /**
+     * @return a snapshot of the prewarm and process registrations of every build seen so far, by launch path
+     */
+    public Map<String, BuildPrewarmStats> getBuildPrewarmStatsByLaunchPath() {
+        final Map<String, BuildPrewarmStats> buildPrewarmStats = new HashMap<>();
+        buildsByLaunchPath.forEach((launchPath, buildState) ->
+                buildPrewarmStats.put(launchPath, buildState.getBuildPrewarmStats()));
+        return buildPrewarmStats;
+    }
+
+    private BuildState getBuildState(final String launchPath) {
+        final BuildIdentity buildIdentity = readBuildIdentity(launchPath);
+        return buildsByLaunchPath.compute(launchPath, (path, buildState) -> {
+            if (buildState != null && Objects.equals(buildState.buildIdentity, buildIdentity)) {
+                return buildState;
+            }
+            if (buildState != null) {
+                log.info("Build {} has changed since it was last seen; prewarming it again", launchPath);
+            }
+            return new BuildState(launchPath, buildIdentity);
+        });
+    }
+
+    /**
+     * @return the identity of the launch executable of a build, or null if the executable cannot be read
+     */
+    private static BuildIdentity readBuildIdentity(final String launchPath) {
+        try {
+            final BasicFileAttributes attributes =
+                    Files.readAttributes(Paths.get(launchPath).toAbsolutePath(), BasicFileAttributes.class);
+            return new BuildIdentity(attributes.fileKey(), attributes.size(),
+                    attributes.lastModifiedTime().toMillis());
+        } catch (final IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Loads the launch executable and the matching asset files of a build into the page cache.
+     * @param launchPath
+     * @return the files and bytes which were loaded
+     * @throws IOException if the launch executable could not be loaded
+     */
+    @VisibleForTesting
+    PrewarmedFiles prewarmBuild(final String launchPath) throws IOException {
+        final Path executable = Paths.get(launchPath).toAbsolutePath();
+        long fileCount = 1;
+        long byteCount = prewarmFile(executable);
+        for (final Path assetFile : findAssetFiles(executable)) {
+            try {
+                byteCount += prewarmFile(assetFile);
+                fileCount++;
+            } catch (final IOException e) {
+                log.warn("Failed to prewarm asset file {} of build {}", assetFile, launchPath, e);
+            }
+        }
+        return new PrewarmedFiles(fileCount, byteCount);
+    }
+
+    private List<Path> findAssetFiles(final Path executable) throws IOException {
+        final List<Path> assetFiles = new ArrayList<>();
+        final Path buildDirectory = executable.getParent();
+        if (buildDirectory == null) {
+            return assetFiles;
+        }
+        Files.walkFileTree(buildDirectory, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult visitFile(final Path file, final BasicFileAttributes attributes) {
+                final Path relativePath = buildDirectory.relativize(file);
+                if (attributes.isRegularFile() && !file.equals(executable)
+                        && assetMatchers.stream().anyMatch(matcher -> matcher.matches(relativePath))) {
+                    assetFiles.add(file);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(final Path file, final IOException e) {
+                log.warn("Failed to visit {} while looking for asset files to prewarm", file, e);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return assetFiles;
+    }
+
+    /**
+     * Maps a file and loads it, which advises the kernel that the file will be needed and touches every page.
+     * @return the size of the file in bytes
+     */
+    private static long prewarmFile(final Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            for (long position = 0; position < size; position += MAX_MAPPED_REGION_BYTES) {
+                channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAX_MAPPED_REGION_BYTES, size - position))
+                        .load();
+            }
+            return size;
+        }
+    }
+
+    /**
+     * Files and bytes loaded into the page cache by a build prewarm.
+     */
+    @Value
+    static class PrewarmedFiles {
+        long fileCount;
+        long byteCount;
+    }
+
+    /**
+     * Launch executable of a build as found on disk. The file key is the device and inode on Linux.
+     */
+    @Value
+    private static class BuildIdentity {
+        Object fileKey;
+        long size;
+        long lastModifiedMillis;
+    }
+
+    /**
+     * Prewarm progress and process registrations of a single build.
+     */
+    private final class BuildState {
+        private final String launchPath;
+        private final BuildIdentity buildIdentity;
+        private volatile boolean isPrewarmStarted;
+        private volatile boolean isPrewarmCompleted;
+        private volatile long prewarmStartNanos;
+        private long prewarmedFileCount;
+        private long prewarmedBytes;
+        private long prewarmNanos;
+        private long registeredProcessCount;
+        private long totalLaunchToRegistrationNanos;
+        private long maxLaunchToRegistrationNanos;
+
+        private BuildState(final String launchPath, final BuildIdentity buildIdentity) {
+            this.launchPath = launchPath;
+            this.buildIdentity = buildIdentity;
+        }
+
+        /**
+         * @return true if the build's prewarm has completed
+         */
+        private boolean startPrewarmIfNeeded() {
+            if (isPrewarmCompleted) {
+                return true;
+            }
+            synchronized (this) {
+                if (isPrewarmStarted) {
+                    return isPrewarmCompleted;
+                }
+                isPrewarmStarted = true;
+                prewarmStartNanos = nanoTimeSupplier.getAsLong();
+            }
+            try {
+                executorService.execute(new ExecutorServiceSafeRunnable(this::prewarm));
+            } catch (final RejectedExecutionException e) {
+                log.debug("BuildPrewarmer is shut down; launching build {} without prewarming it", launchPath);
+                isPrewarmCompleted = true;
+                return true;
+            }
+            return false;
+        }
+
+        private void prewarm() {
+            log.info("Prewarming build {} into the page cache", launchPath);
+            try {
+                final PrewarmedFiles prewarmedFiles = prewarmBuild(launchPath);
+                final long elapsedNanos = nanoTimeSupplier.getAsLong() - prewarmStartNanos;
+                synchronized (this) {
+                    prewarmedFileCount = prewarmedFiles.getFileCount();
+                    prewarmedBytes = prewarmedFiles.getByteCount();
+                    prewarmNanos = elapsedNanos;
+                }
+                log.info("Prewarmed {} files ({} bytes) of build {} in {} ms", prewarmedFiles.getFileCount(),
+                        prewarmedFiles.getByteCount(), launchPath, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+            } catch (final IOException | RuntimeException e) {
+                log.warn("Failed to prewarm build {}; its processes will start cold", launchPath, e);
+            } finally {
+                isPrewarmCompleted = true;
+                prewarmCompletedListeners.forEach(Runnable::run);
+            }
+        }
+
+        private synchronized void recordRegistration(final long launchToRegistrationNanos) {
+            registeredProcessCount++;
+            totalLaunchToRegistrationNanos += launchToRegistrationNanos;
+            maxLaunchToRegistrationNanos = Math.max(maxLaunchToRegistrationNanos, launchToRegistrationNanos);
+            if (registeredProcessCount <= LOGGED_REGISTRATIONS_PER_BUILD) {
+                log.info("Process of build {} registered {} ms after launch (build prewarmed: {})", launchPath,
+                        TimeUnit.NANOSECONDS.toMillis(launchToRegistrationNanos), prewarmedFileCount > 0);
+            }
+        }
+
+        private synchronized BuildPrewarmStats getBuildPrewarmStats() {
+            final long averageLaunchToRegistrationNanos = registeredProcessCount == 0
+                    ? 0 : totalLaunchToRegistrationNanos / registeredProcessCount;
+            return new BuildPrewarmStats(prewarmedFileCount > 0, prewarmedFileCount,
+                    prewarmedBytes, TimeUnit.NANOSECONDS.toMillis(prewarmNanos), registeredProcessCount,
+                    TimeUnit.NANOSECONDS.toMillis(averageLaunchToRegistrationNanos),
+                    TimeUnit.NANOSECONDS.toMillis(maxLaunchToRegistrationNanos));
+        }
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process;
+
+import com.amazon.gamelift.agent.model.OperatingSystem;
+import com.amazon.gamelift.agent.model.OperatingSystemFamily;
+import com.amazon.gamelift.agent.model.ResourceLimits;
+import com.amazon.gamelift.agent.module.ConfigModule;
+import com.amazon.gamelift.agent.module.ThreadingModule;
+import com.amazon.gamelift.agent.utils.ExecutorServiceSafeRunnable;
+import com.google.common.annotations.VisibleForTesting;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.io.IOException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Isolates game server processes on Linux by placing each process group into its own child cgroup of a cgroup v2
+ * directory, with the CPU, memory and IO limits of its ServerProcess configuration.
+ *
+ * Isolation is enabled by giving a cgroup root, which must be a cgroup v2 directory the agent may write to and which
+ * has no processes of its own (e.g. a delegated /sys/fs/cgroup/gamelift-game-servers). On the first launch the cpu,
+ * memory and io controllers are enabled for the children of the root. Each started process gets a child cgroup named
+ * after its process UUID: the limits are written first, then the process and any children it has already forked are
+ * moved in, and processes forked later inherit the cgroup. Once the process exit is handled, every process left in the
+ * cgroup is killed, with cgroup.kill where the kernel supports it, and the cgroup is removed. Removal is retried
+ * until the killed processes have exited and the cgroup is no longer busy.
+ *
+ * cgroupfs writes are handled by the kernel without blocking on IO, so they are made directly on the lifecycle
+ * listener threads, which places a process as soon as possible after it started.
+ */
+@Slf4j
+@Singleton
+public class CgroupManager implements GameProcessLifecycleListener {
+    @VisibleForTesting static final String CGROUP_NAME_PREFIX = "gamelift-";
+    @VisibleForTesting static final String SUBTREE_CONTROL_FILE = "cgroup.subtree_control";
+    @VisibleForTesting static final String PROCS_FILE = "cgroup.procs";
+    @VisibleForTesting static final String KILL_FILE = "cgroup.kill";
+    @VisibleForTesting static final String CPU_WEIGHT_FILE = "cpu.weight";
+    @VisibleForTesting static final String CPU_MAX_FILE = "cpu.max";
+    @VisibleForTesting static final String MEMORY_MAX_FILE = "memory.max";
+    @VisibleForTesting static final String IO_WEIGHT_FILE = "io.weight";
+    @VisibleForTesting static final String ENABLED_CONTROLLERS = "+cpu +memory +io";
+    // cpu.max quotas are given per period; 100ms is the cgroup default period
+    @VisibleForTesting static final long CPU_MAX_PERIOD_MICROS = 100_000;
+    @VisibleForTesting static final long REMOVAL_RETRY_DELAY_MILLIS = 100;
+    // Killed processes normally exit within milliseconds; give up on a cgroup after 5 seconds
+    @VisibleForTesting static final int MAX_REMOVAL_ATTEMPTS = 50;
+    private static final int MIN_WEIGHT = 1;
+    private static final int MAX_WEIGHT = 10_000;
+
+    private final Path cgroupRoot;
+    private final ScheduledExecutorService executorService;
+    private final AtomicBoolean areControllersEnabled = new AtomicBoolean(false);
+    private final Map<String, Path> cgroupsByProcessUUID = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for CgroupManager
+     * @param cgroupRoot cgroup v2 directory under which the processes' cgroups are created, or null to disable
+     * @param operatingSystem
+     * @param executorService
+     */
+    @Inject
+    public CgroupManager(@Nullable @Named(ConfigModule.CGROUP_ROOT) final String cgroupRoot,
+                         @Named(ConfigModule.OPERATING_SYSTEM) final OperatingSystem operatingSystem,
+                         @Named(ThreadingModule.CGROUP_MANAGER_EXECUTOR)
+                         final ScheduledExecutorService executorService) {
+        this.executorService = executorService;
+        if (cgroupRoot != null && !OperatingSystemFamily.LINUX.equals(operatingSystem.getOperatingSystemFamily())) {
+            log.warn("Ignoring cgroup root {}; cgroup isolation is only supported on Linux", cgroupRoot);
+            this.cgroupRoot = null;
+        } else {
+            this.cgroupRoot = cgroupRoot == null ? null : Paths.get(cgroupRoot);
+        }
+    }
+
+    /**
+     * @return true if game server processes are isolated in their own cgroups
+     */
+    public boolean isEnabled() {
+        return cgroupRoot != null;
+    }
+
+    @Override
+    public void onProcessStarted(final GameProcess gameProcess) {
+        if (!isEnabled()) {
+            return;
+        }
+        final OptionalLong pid = gameProcess.getPid();
+        if (pid.isEmpty()) {
+            return;
+        }
+        enableControllers();
+
+        final Path cgroup = cgroupRoot.resolve(CGROUP_NAME_PREFIX + gameProcess.getProcessUUID());
+        try {
+            Files.createDirectories(cgroup);
+            // Limits are written before the process is moved, so it never runs unconstrained in its own cgroup
+            writeResourceLimits(cgroup, gameProcess.getProcessConfiguration().getResourceLimits());
+            moveProcessGroup(cgroup, pid.getAsLong());
+            cgroupsByProcessUUID.put(gameProcess.getProcessUUID(), cgroup);
+            log.info("Placed process {} with PID {} in cgroup {}", gameProcess.getProcessUUID(), pid.getAsLong(),
+                    cgroup);
+        } catch (final IOException e) {
+            log.error("Failed to place process {} with PID {} in cgroup {}; it will run without resource isolation",
+                    gameProcess.getProcessUUID(), pid.getAsLong(), cgroup, e);
+            removeCgroup(cgroup, 1);
+        }
+    }
+
+    @Override
+    public void onProcessExited(final GameProcess gameProcess) {
+        final Path cgroup = cgroupsByProcessUUID.remove(gameProcess.getProcessUUID());
+        if (cgroup != null) {
+            // Children which outlived the game server keep the cgroup busy, so it cannot be removed until they exit
+            killCgroup(cgroup);
+            removeCgroup(cgroup, 1);
+        }
+    }
+
+    private void enableControllers() {
+        if (areControllersEnabled.compareAndSet(false, true)) {
+            try {
+                writeInterfaceFile(cgroupRoot.resolve(SUBTREE_CONTROL_FILE), ENABLED_CONTROLLERS);
+            } catch (final IOException e) {
+                // Limits of controllers which are not available are reported when they are written
+                log.warn("Failed to enable the cgroup controllers [{}] under {}", ENABLED_CONTROLLERS, cgroupRoot, e);
+            }
+        }
+    }
+
+    private void writeResourceLimits(final Path cgroup, final ResourceLimits resourceLimits) throws IOException {
+        if (resourceLimits == null) {
+            return;
+        }
+        if (isValidWeight(resourceLimits.getCpuWeight(), CPU_WEIGHT_FILE)) {
+            writeInterfaceFile(cgroup.resolve(CPU_WEIGHT_FILE), String.valueOf(resourceLimits.getCpuWeight()));
+        }
+        if (resourceLimits.getCpuMaxCores() != null) {
+            final long quotaMicros = Math.round(resourceLimits.getCpuMaxCores() * CPU_MAX_PERIOD_MICROS);
+            if (quotaMicros > 0) {
+                writeInterfaceFile(cgroup.resolve(CPU_MAX_FILE), quotaMicros + " " + CPU_MAX_PERIOD_MICROS);
+            } else {
+                log.warn("Ignoring invalid CpuMaxCores {}", resourceLimits.getCpuMaxCores());
+            }
+        }
+        if (resourceLimits.getMemoryMaxBytes() != null) {
+            if (resourceLimits.getMemoryMaxBytes() > 0) {
+                writeInterfaceFile(cgroup.resolve(MEMORY_MAX_FILE), String.valueOf(resourceLimits.getMemoryMaxBytes()));
+            } else {
+                log.warn("Ignoring invalid MemoryMaxBytes {}", resourceLimits.getMemoryMaxBytes());
+            }
+        }
+        if (isValidWeight(resourceLimits.getIoWeight(), IO_WEIGHT_FILE)) {
+            writeInterfaceFile(cgroup.resolve(IO_WEIGHT_FILE), "default " + resourceLimits.getIoWeight());
+        }
+    }
+
+    private static boolean isValidWeight(final Integer weight, final String interfaceFile) {
+        if (weight == null) {
+            return false;
+        }
+        if (weight < MIN_WEIGHT || weight > MAX_WEIGHT) {
+            log.warn("Ignoring {} {}; weights must be between {} and {}", interfaceFile, weight, MIN_WEIGHT,
+                    MAX_WEIGHT);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Moves the process and the children it has already forked into the cgroup. cgroup.procs takes one PID per write.
+     */
+    private static void moveProcessGroup(final Path cgroup, final long pid) throws IOException {
+        final Path procsFile = cgroup.resolve(PROCS_FILE);
+        writeProcessId(procsFile, pid);
+        final List<Long> childPids = ProcessHandle.of(pid)
+                .map(process -> process.descendants().map(ProcessHandle::pid).collect(Collectors.toList()))
+                .orElse(Collections.emptyList());
+        for (final long childPid : childPids) {
+            try {
+                writeProcessId(procsFile, childPid);
+            } catch (final IOException e) {
+                // The child may have exited since it was listed
+                log.debug("Failed to move PID {} into cgroup {}", childPid, cgroup, e);
+            }
+        }
+    }
+
+    private static void writeProcessId(final Path procsFile, final long pid) throws IOException {
+        Files.writeString(procsFile, pid + "\n", StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    private static void writeInterfaceFile(final Path interfaceFile, final String value) throws IOException {
+        Files.writeString(interfaceFile, value + "\n", StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * Kills every process in the cgroup. cgroup.kill kills them atomically, including processes forking concurrently;
+     * kernels older than 5.14 do not have it, so the processes listed in cgroup.procs are killed one by one instead.
+     */
+    private static void killCgroup(final Path cgroup) {
+        try {
+            Files.writeString(cgroup.resolve(KILL_FILE), "1\n", StandardOpenOption.WRITE);
+            return;
+        } catch (final IOException e) {
+            log.debug("Failed to kill cgroup {} with {}; killing its processes one by one", cgroup, KILL_FILE, e);
+        }
+        try (Stream<String> processIds = Files.lines(cgroup.resolve(PROCS_FILE))) {
+            processIds.map(String::trim)
+                    .filter(processId -> !processId.isEmpty())
+                    .map(processId -> ProcessHandle.of(Long.parseLong(processId)))
+                    .flatMap(Optional::stream)
+                    .forEach(ProcessHandle::destroyForcibly);
+        } catch (final IOException | NumberFormatException e) {
+            log.warn("Failed to kill the processes of cgroup {}", cgroup, e);
+        }
+    }
+
+    /**
+     * Removes the cgroup, retrying on the executor while it still holds processes
+     * @param cgroup
+     * @param attempt number of this removal attempt, starting at 1
+     */
+    private void removeCgroup(final Path cgroup, final int attempt) {
+        try {
+            deleteCgroup(cgroup);
+            if (attempt > 1) {
+                log.info("Removed cgroup {} after {} attempts", cgroup, attempt);
+            }
+        } catch (final IOException e) {
+            // Removal fails while the cgroup still has processes, e.g. killed children which have not exited yet
+            if (attempt < MAX_REMOVAL_ATTEMPTS) {
+                log.debug("Failed to remove cgroup {}; retrying in {} ms", cgroup, REMOVAL_RETRY_DELAY_MILLIS, e);
+                executorService.schedule(new ExecutorServiceSafeRunnable(() -> removeCgroup(cgroup, attempt + 1)),
+                        REMOVAL_RETRY_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+            } else {
+                log.warn("Failed to remove cgroup {} after {} attempts; it may still contain processes", cgroup,
+                        attempt, e);
+            }
+        }
+    }
+
+    private static void deleteCgroup(final Path cgroup) throws IOException {
+        try {
+            Files.deleteIfExists(cgroup);
+        } catch (final DirectoryNotEmptyException e) {
+            // Interface files of a real cgroup go away with the directory; only a plain directory standing in for
+            // cgroupfs has to be emptied first
+            try (DirectoryStream<Path> interfaceFiles = Files.newDirectoryStream(cgroup)) {
+                for (final Path interfaceFile : interfaceFiles) {
+                    Files.delete(interfaceFile);
+                }
+            }
+            Files.delete(cgroup);
+        }
+    }
+}
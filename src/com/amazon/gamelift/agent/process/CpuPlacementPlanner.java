@@ -0,0 +1,337 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process;
+
+import com.amazon.gamelift.agent.linux.LibC;
+import com.amazon.gamelift.agent.model.OperatingSystem;
+import com.amazon.gamelift.agent.model.OperatingSystemFamily;
+import com.amazon.gamelift.agent.module.ConfigModule;
+import com.google.common.annotations.VisibleForTesting;
+import com.sun.jna.LastErrorException;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Pins game server processes on Linux to their own CPUs, and confines the agent's threads to a reserved set of
+ * housekeeping CPUs, so that game servers are neither migrated between cores nor interrupted by the agent.
+ *
+ * Placement is enabled by giving the housekeeping CPUs. Every other online CPU is available to game servers, grouped
+ * by the NUMA node it belongs to. Each started process is assigned CPUS_PER_PROCESS CPUs from the NUMA node with the
+ * lowest average load, so consecutive launches are spread across nodes while each process keeps its memory local to
+ * one node. Within the node the least loaded CPUs are used; once every CPU is in use, CPUs are shared by the fewest
+ * processes possible. A process' CPUs are released for reuse once its exit is handled.
+ *
+ * Affinity is set with sched_setaffinity on every thread of the process and of the children it has already forked;
+ * threads created later inherit it. A process which cannot be pinned is allowed on every game server CPU instead, as it
+ * would otherwise keep the housekeeping CPUs inherited from the agent. The agent's threads are confined when the
+ * process subsystem starts, and threads the agent creates afterwards inherit the housekeeping CPUs from the thread
+ * creating them.
+ */
+@Slf4j
+@Singleton
+public class CpuPlacementPlanner implements GameProcessLifecycleListener {
+    private static final String SYSFS_ROOT = "/sys";
+    private static final String PROCFS_ROOT = "/proc";
+    private static final String NODE_DIRECTORY = "devices/system/node";
+    private static final String NODE_DIRECTORY_PREFIX = "node";
+    private static final String CPU_LIST_FILE = "cpulist";
+    private static final String ONLINE_CPUS_FILE = "devices/system/cpu/online";
+    private static final String SELF_PROCESS = "self";
+    private static final String TASK_DIRECTORY = "task";
+
+    private final boolean isEnabled;
+    private final int cpusPerProcess;
+    private final LibC libC;
+    private final Path procRoot;
+    private final List<Integer> housekeepingCpus;
+    // CPUs available to game servers by NUMA node
+    private final Map<Integer, List<Integer>> gameCpusByNode;
+    // Every CPU available to game servers, in ascending order
+    private final List<Integer> gameCpus;
+
+    // Guarded by this
+    private final Map<Integer, Integer> processCountByCpu = new HashMap<>();
+    private final Map<String, List<Integer>> cpusByProcessUUID = new HashMap<>();
+
+    /**
+     * Constructor for CpuPlacementPlanner
+     * @param housekeepingCpus CPU list of the CPUs reserved for the agent, e.g. "0-1", or null to disable placement
+     * @param cpusPerProcess number of CPUs assigned to each game server process
+     * @param operatingSystem
+     */
+    @Inject
+    public CpuPlacementPlanner(@Nullable @Named(ConfigModule.HOUSEKEEPING_CPUS) final String housekeepingCpus,
+                               @Named(ConfigModule.CPUS_PER_PROCESS) final int cpusPerProcess,
+                               @Named(ConfigModule.OPERATING_SYSTEM) final OperatingSystem operatingSystem) {
+        this(housekeepingCpus, cpusPerProcess, operatingSystem,
+                housekeepingCpus == null ? null : ProcfsParser.loadLibC("game servers will not be pinned to CPUs"),
+                Paths.get(SYSFS_ROOT), Paths.get(PROCFS_ROOT));
+    }
+
+    /**
+     * Test constructor for CpuPlacementPlanner
+     * @param housekeepingCpus
+     * @param cpusPerProcess
+     * @param operatingSystem
+     * @param libC libc bindings, or null if libc is unavailable
+     * @param sysfsRoot directory holding the CPU and NUMA topology, normally /sys
+     * @param procRoot directory holding the threads of each process, normally /proc
+     */
+    @VisibleForTesting
+    CpuPlacementPlanner(final String housekeepingCpus,
+                        final int cpusPerProcess,
+                        final OperatingSystem operatingSystem,
+                        final LibC libC,
+                        final Path sysfsRoot,
+                        final Path procRoot) {
+        this.cpusPerProcess = Math.max(1, cpusPerProcess);
+        this.libC = libC;
+        this.procRoot = procRoot;
+        this.housekeepingCpus = housekeepingCpus == null ? Collections.emptyList() : parseCpuList(housekeepingCpus);
+        this.gameCpusByNode = housekeepingCpus == null
+                ? Collections.emptyMap() : readGameCpusByNode(sysfsRoot, this.housekeepingCpus);
+        this.gameCpus = gameCpusByNode.values().stream().flatMap(List::stream).sorted().collect(Collectors.toList());
+
+        if (housekeepingCpus == null) {
+            this.isEnabled = false;
+        } else if (!OperatingSystemFamily.LINUX.equals(operatingSystem.getOperatingSystemFamily())) {
+            log.warn("Ignoring housekeeping CPUs {}; CPU placement is only supported on Linux", housekeepingCpus);
+            this.isEnabled = false;
+        } else if (libC == null) {
+            this.isEnabled = false;
+        } else if (gameCpusByNode.isEmpty()) {
+            log.warn("Ignoring housekeeping CPUs {}; no online CPUs would be left for game servers", housekeepingCpus);
+            this.isEnabled = false;
+        } else {
+            log.info("Placing game servers on CPUs {} by NUMA node, {} CPUs per process; agent confined to CPUs {}",
+                    gameCpusByNode, this.cpusPerProcess, this.housekeepingCpus);
+            this.isEnabled = true;
+        }
+    }
+
+    /**
+     * @return true if game server processes are pinned to their own CPUs
+     */
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * Confines every thread of the agent to the housekeeping CPUs
+     */
+    public void start() {
+        if (!isEnabled) {
+            return;
+        }
+        final int confinedThreadCount = setAffinity(procRoot.resolve(SELF_PROCESS), housekeepingCpus);
+        log.info("Confined {} agent threads to housekeeping CPUs {}", confinedThreadCount, housekeepingCpus);
+    }
+
+    @Override
+    public void onProcessStarted(final GameProcess gameProcess) {
+        if (!isEnabled) {
+            return;
+        }
+        final OptionalLong pid = gameProcess.getPid();
+        if (pid.isEmpty()) {
+            return;
+        }
+        final List<Integer> cpus = assignCpus(gameProcess.getProcessUUID());
+        final int pinnedThreadCount = setProcessTreeAffinity(pid.getAsLong(), cpus);
+
+        if (pinnedThreadCount == 0) {
+            releaseCpus(gameProcess.getProcessUUID());
+            // The process inherited the housekeeping CPUs from the agent thread which launched it; never leave it there
+            final int resetThreadCount = setProcessTreeAffinity(pid.getAsLong(), gameCpus);
+            log.warn("Failed to pin process {} with PID {} to CPUs {}; allowed {} threads on every game server CPU",
+                    gameProcess.getProcessUUID(), pid.getAsLong(), cpus, resetThreadCount);
+        } else {
+            log.info("Pinned process {} with PID {} to CPUs {}", gameProcess.getProcessUUID(), pid.getAsLong(), cpus);
+        }
+    }
+
+    @Override
+    public void onProcessExited(final GameProcess gameProcess) {
+        if (isEnabled) {
+            releaseCpus(gameProcess.getProcessUUID());
+        }
+    }
+
+    /**
+     * Assigns the least loaded CPUs of the least loaded NUMA node to a process
+     * @param processUUID
+     * @return the assigned CPUs
+     */
+    @VisibleForTesting
+    synchronized List<Integer> assignCpus(final String processUUID) {
+        final List<Integer> nodeCpus = gameCpusByNode.values().stream()
+                .min(Comparator.comparingDouble(this::getAverageLoad))
+                .orElseThrow();
+        // A process needing more CPUs than its node has is spread over the least loaded CPUs of every node
+        final Collection<Integer> candidateCpus = nodeCpus.size() >= cpusPerProcess ? nodeCpus
+                : gameCpusByNode.values().stream().flatMap(List::stream).collect(Collectors.toList());
+        final List<Integer> cpus = candidateCpus.stream()
+                .sorted(Comparator.<Integer>comparingInt(cpu -> processCountByCpu.getOrDefault(cpu, 0))
+                        .thenComparing(Comparator.naturalOrder()))
+                .limit(cpusPerProcess)
+                .sorted()
+                .collect(Collectors.toList());
+        cpus.forEach(cpu -> processCountByCpu.merge(cpu, 1, Integer::sum));
+        cpusByProcessUUID.put(processUUID, cpus);
+        return cpus;
+    }
+
+    private synchronized void releaseCpus(final String processUUID) {
+        final List<Integer> cpus = cpusByProcessUUID.remove(processUUID);
+        if (cpus != null) {
+            cpus.forEach(cpu -> processCountByCpu.merge(cpu, -1, Integer::sum));
+        }
+    }
+
+    private double getAverageLoad(final List<Integer> cpus) {
+        return cpus.stream().mapToInt(cpu -> processCountByCpu.getOrDefault(cpu, 0)).average().orElse(0);
+    }
+
+    /**
+     * Sets the affinity of every thread of a process and of the children it has already forked
+     * @return number of threads whose affinity was set
+     */
+    private int setProcessTreeAffinity(final long pid, final List<Integer> cpus) {
+        int threadCount = setAffinity(procRoot.resolve(String.valueOf(pid)), cpus);
+        final List<Long> childPids = ProcessHandle.of(pid)
+                .map(process -> process.descendants().map(ProcessHandle::pid).collect(Collectors.toList()))
+                .orElse(Collections.emptyList());
+        for (final long childPid : childPids) {
+            threadCount += setAffinity(procRoot.resolve(String.valueOf(childPid)), cpus);
+        }
+        return threadCount;
+    }
+
+    /**
+     * Sets the affinity of every thread of a process
+     * @param processDirectory procfs directory of the process
+     * @return number of threads whose affinity was set
+     */
+    private int setAffinity(final Path processDirectory, final List<Integer> cpus) {
+        final long[] mask = toCpuMask(cpus);
+        int threadCount = 0;
+        try (DirectoryStream<Path> threads = Files.newDirectoryStream(processDirectory.resolve(TASK_DIRECTORY))) {
+            for (final Path thread : threads) {
+                try {
+                    libC.sched_setaffinity(Integer.parseInt(thread.getFileName().toString()),
+                            (long) mask.length * Long.BYTES, mask);
+                    threadCount++;
+                } catch (final LastErrorException e) {
+                    // The thread may have exited since it was listed
+                    log.debug("Failed to set the affinity of thread {} to CPUs {}", thread, cpus, e);
+                }
+            }
+        } catch (final IOException e) {
+            log.debug("Failed to list the threads of {}", processDirectory, e);
+        }
+        return threadCount;
+    }
+
+    @VisibleForTesting
+    static long[] toCpuMask(final List<Integer> cpus) {
+        final long[] mask = new long[Collections.max(cpus) / Long.SIZE + 1];
+        for (final int cpu : cpus) {
+            mask[cpu / Long.SIZE] |= 1L << (cpu % Long.SIZE);
+        }
+        return mask;
+    }
+
+    /**
+     * Parses a Linux CPU list such as "0-3,8,10-11"
+     * @param cpuList
+     * @return the CPUs in ascending order
+     * @throws IllegalArgumentException if the CPU list is malformed
+     */
+    public static List<Integer> parseCpuList(final String cpuList) {
+        final TreeSet<Integer> cpus = new TreeSet<>();
+        try {
+            for (final String range : cpuList.trim().split(",")) {
+                if (range.isBlank()) {
+                    continue;
+                }
+                final String[] bounds = range.trim().split("-");
+                final int first = Integer.parseInt(bounds[0].trim());
+                final int last = bounds.length > 1 ? Integer.parseInt(bounds[1].trim()) : first;
+                if (bounds.length > 2 || first < 0 || last < first) {
+                    throw new IllegalArgumentException("Invalid CPU range " + range + " in CPU list " + cpuList);
+                }
+                for (int cpu = first; cpu <= last; cpu++) {
+                    cpus.add(cpu);
+                }
+            }
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid CPU list " + cpuList, e);
+        }
+        return new ArrayList<>(cpus);
+    }
+
+    /**
+     * Reads the online CPUs of each NUMA node, leaving out the housekeeping CPUs and nodes without other CPUs. Hosts
+     * without NUMA information are treated as a single node.
+     */
+    private static Map<Integer, List<Integer>> readGameCpusByNode(final Path sysfsRoot,
+                                                                  final List<Integer> housekeepingCpus) {
+        final Map<Integer, List<Integer>> cpusByNode = new TreeMap<>();
+        try (DirectoryStream<Path> nodes = Files.newDirectoryStream(sysfsRoot.resolve(NODE_DIRECTORY),
+                NODE_DIRECTORY_PREFIX + "[0-9]*")) {
+            for (final Path node : nodes) {
+                final int nodeId =
+                        Integer.parseInt(node.getFileName().toString().substring(NODE_DIRECTORY_PREFIX.length()));
+                cpusByNode.put(nodeId, parseCpuList(Files.readString(node.resolve(CPU_LIST_FILE))));
+            }
+        } catch (final IOException | IllegalArgumentException e) {
+            log.debug("Failed to read the NUMA topology; treating the host as a single NUMA node", e);
+            cpusByNode.clear();
+        }
+        if (cpusByNode.isEmpty()) {
+            cpusByNode.put(0, readOnlineCpus(sysfsRoot));
+        }
+
+        final Map<Integer, List<Integer>> gameCpusByNode = new TreeMap<>();
+        cpusByNode.forEach((nodeId, cpus) -> {
+            final List<Integer> gameCpus = cpus.stream()
+                    .filter(cpu -> !housekeepingCpus.contains(cpu))
+                    .collect(Collectors.toList());
+            if (!gameCpus.isEmpty()) {
+                gameCpusByNode.put(nodeId, Collections.unmodifiableList(gameCpus));
+            }
+        });
+        return Collections.unmodifiableMap(gameCpusByNode);
+    }
+
+    private static List<Integer> readOnlineCpus(final Path sysfsRoot) {
+        try {
+            return parseCpuList(Files.readString(sysfsRoot.resolve(ONLINE_CPUS_FILE)));
+        } catch (final IOException | IllegalArgumentException e) {
+            log.debug("Failed to read the online CPUs; assuming CPUs 0 to {} are online",
+                    Runtime.getRuntime().availableProcessors() - 1, e);
+            return parseCpuList("0-" + (Runtime.getRuntime().availableProcessors() - 1));
+        }
+    }
+}
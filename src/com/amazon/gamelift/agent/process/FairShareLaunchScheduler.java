@@ -0,0 +1,107 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process;
+
+import com.amazon.gamelift.agent.model.GameProcessConfiguration;
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Orders process launches across configurations so that every configuration converges to its concurrent execution
+ * count at the same rate, instead of handing all vacancies to whichever configuration is listed first.
+ *
+ * Each configuration is weighted by its concurrent execution count. Launches are handed out one at a time to the
+ * configuration which is currently the least filled relative to its weight, counting both running processes and
+ * launches already queued. This is weighted fair queueing with the fill level as virtual time: it interleaves launches
+ * in proportion to the weights, and a configuration which fell behind (for example after a crash) is caught up first.
+ * Because the fill level is recomputed from the current process counts, no scheduling state is carried between runs.
+ */
+final class FairShareLaunchScheduler {
+
+    private FairShareLaunchScheduler() {
+    }
+
+    /**
+     * Launch demand of a single process configuration.
+     */
+    @Value
+    static class LaunchDemand {
+        GameProcessConfiguration gameProcessConfiguration;
+        // Running processes plus launches which are already queued for the configuration
+        int currentProcessCount;
+        // Maximum number of new launches which may be scheduled for the configuration in this run
+        int maxLaunchCount;
+    }
+
+    /**
+     * Distributes a launch budget across process configurations.
+     * @param launchDemands launch demand per configuration, in runtime configuration order
+     * @param launchBudget total number of launches which may be scheduled
+     * @return configurations to launch, one entry per launch, in the order the launches should be queued
+     */
+    static List<GameProcessConfiguration> schedule(final List<LaunchDemand> launchDemands, final int launchBudget) {
+        if (launchBudget <= 0 || launchDemands.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final PriorityQueue<ScheduledDemand> demandsByFillLevel = new PriorityQueue<>(launchDemands.size());
+        for (int i = 0; i < launchDemands.size(); i++) {
+            final LaunchDemand launchDemand = launchDemands.get(i);
+            if (launchDemand.getMaxLaunchCount() > 0
+                    && launchDemand.getGameProcessConfiguration().getConcurrentExecutions() > 0) {
+                demandsByFillLevel.add(new ScheduledDemand(launchDemand, i));
+            }
+        }
+
+        final List<GameProcessConfiguration> launchOrder = new ArrayList<>(launchBudget);
+        while (launchOrder.size() < launchBudget && !demandsByFillLevel.isEmpty()) {
+            final ScheduledDemand leastFilledDemand = demandsByFillLevel.poll();
+            launchOrder.add(leastFilledDemand.getGameProcessConfiguration());
+            leastFilledDemand.scheduledLaunchCount++;
+            if (leastFilledDemand.scheduledLaunchCount < leastFilledDemand.launchDemand.getMaxLaunchCount()) {
+                demandsByFillLevel.add(leastFilledDemand);
+            }
+        }
+        return launchOrder;
+    }
+
+    /**
+     * Scheduling progress of a single configuration, ordered by fill level. Ties go to the configuration listed first
+     * in the runtime configuration, which keeps the launch order deterministic.
+     */
+    private static final class ScheduledDemand implements Comparable<ScheduledDemand> {
+        private final LaunchDemand launchDemand;
+        private final int configurationIndex;
+        private int scheduledLaunchCount;
+
+        private ScheduledDemand(final LaunchDemand launchDemand, final int configurationIndex) {
+            this.launchDemand = launchDemand;
+            this.configurationIndex = configurationIndex;
+        }
+
+        private GameProcessConfiguration getGameProcessConfiguration() {
+            return launchDemand.getGameProcessConfiguration();
+        }
+
+        private long getFilledCount() {
+            return (long) launchDemand.getCurrentProcessCount() + scheduledLaunchCount;
+        }
+
+        private long getWeight() {
+            return getGameProcessConfiguration().getConcurrentExecutions();
+        }
+
+        @Override
+        public int compareTo(final ScheduledDemand other) {
+            // Compare filled / weight without division: a / b < c / d <=> a * d < c * b for positive weights
+            final int byFillLevel = Long.compare(getFilledCount() * other.getWeight(),
+                    other.getFilledCount() * getWeight());
+            return byFillLevel != 0 ? byFillLevel : Integer.compare(configurationIndex, other.configurationIndex);
+        }
+    }
+}
@@ -8,8 +8,11 @@ import com.amazon.gamelift.agent.model.OperatingSystem;
 import com.amazon.gamelift.agent.model.ProcessStatus;
 import com.amazon.gamelift.agent.model.ProcessTerminationReason;
 import com.amazon.gamelift.agent.model.exception.BadExecutablePathException;
+import com.amazon.gamelift.agent.process.builder.ForkServer;
+import com.amazon.gamelift.agent.process.builder.LaunchTemplateCache;
 import com.amazon.gamelift.agent.process.builder.ProcessBuilderFactory;
 import com.amazon.gamelift.agent.process.builder.ProcessBuilderWrapper;
+import com.amazon.gamelift.agent.process.builder.ProcessOutputCapture;
 import com.amazon.gamelift.agent.manager.ProcessEnvironmentManager;
 import com.amazon.gamelift.agent.process.destroyer.ProcessDestroyer;
 import com.amazon.gamelift.agent.process.destroyer.ProcessDestroyerFactory;
@@ -23,8 +26,11 @@ import java.time.Instant;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.BiConsumer;
 
 /**
@@ -35,9 +41,6 @@ import java.util.function.BiConsumer;
 @Slf4j
 public class GameProcess {
 
-    // Default timeout value to wait for a process to go from Initializing -> Active before it gets force terminated
-    private static final Duration DEFAULT_INITIALIZATION_TIMEOUT = Duration.ofMinutes(5);
-
     // This is a unique identifier for the process, generated by the GameLiftAgent and shared with
     // the build and with Amazon GameLift services. This is not the PID from the Compute System -
     // that can be accessed from internalProcess.pid()
@@ -46,10 +49,14 @@ public class GameProcess {
     private final ProcessBuilderWrapper processBuilderWrapper;
     private final ProcessDestroyer processDestroyer;
     private final ProcessEnvironmentManager processEnvironmentManager;
-    private final Instant initializationTimeoutDeadline;
+    @Getter private final Instant launchTime;
+    @Getter private final Instant initializationTimeoutDeadline;
 
     private Process internalProcess;
 
+    // Completed by the GameProcessManager once it has handled the process exit and released the process' slot
+    @Getter private final CompletableFuture<GameProcess> exitHandledFuture = new CompletableFuture<>();
+
     // Reason field which may be set before the process is terminated to indicate why the termination occurred
     @Getter @Setter private ProcessTerminationReason terminationReason;
 
@@ -62,22 +69,39 @@ public class GameProcess {
     // This field is set in response to a NotifyGameSessionActivatedMessage message sent by Amazon GameLift when a game
     // session is activated on a server process
     @Getter @Setter private String gameSessionId;
+    // Set before the process is started when it is the probe launch of a half-open ProcessLaunchCircuitBreaker, so that
+    // only its outcome decides whether launches of its configuration resume
+    @Getter @Setter private boolean launchProbe;
 
     /**
      * Constructor for GameProcess
      * @param processConfiguration
      * @param processEnvironmentManager
      * @param operatingSystem
+     * @param forkServer
+     * @param processOutputCapture
+     * @param launchTemplateCache
+     * @param initializationTimeout time the process has to register with the GameLift SDK after it is launched
+     * @param terminationEscalationExecutorService executor which kills the process once its termination grace period
+     *                                             has passed
      */
     public GameProcess(final GameProcessConfiguration processConfiguration,
                        final ProcessEnvironmentManager processEnvironmentManager,
-                       final OperatingSystem operatingSystem) {
+                       final OperatingSystem operatingSystem,
+                       final ForkServer forkServer,
+                       final ProcessOutputCapture processOutputCapture,
+                       final LaunchTemplateCache launchTemplateCache,
+                       final Duration initializationTimeout,
+                       final ScheduledExecutorService terminationEscalationExecutorService) {
         this(processConfiguration,
-             ProcessBuilderFactory.getProcessBuilder(processConfiguration, operatingSystem),
-             ProcessDestroyerFactory.getProcessDestroyer(operatingSystem),
+             ProcessBuilderFactory.getProcessBuilder(processConfiguration, operatingSystem, forkServer,
+                     processOutputCapture, launchTemplateCache),
+             ProcessDestroyerFactory.getProcessDestroyer(operatingSystem,
+                     Duration.ofSeconds(processConfiguration.getTerminationGracePeriodSeconds()),
+                     terminationEscalationExecutorService),
              processEnvironmentManager,
              operatingSystem,
-             DEFAULT_INITIALIZATION_TIMEOUT);
+             initializationTimeout);
     }
 
     @VisibleForTesting GameProcess(final GameProcessConfiguration processConfiguration,
@@ -93,7 +117,40 @@ public class GameProcess {
         this.processUUID = UUID.randomUUID().toString();
         this.logPaths = new HashSet<String>();
         this.processStatus = ProcessStatus.Initializing;
-        this.initializationTimeoutDeadline = Instant.now().plus(initializationTimeout);
+        this.launchTime = Instant.now();
+        this.initializationTimeoutDeadline = launchTime.plus(initializationTimeout);
+    }
+
+    /**
+     * Constructor for a GameProcess started by a previous run of the GameLiftAgent, which is re-adopted rather than
+     * started
+     * @param processConfiguration
+     * @param processUUID
+     * @param internalProcess
+     * @param processDestroyer
+     * @param processStatus
+     * @param launchTime
+     * @param initializationTimeoutDeadline
+     * @param logPaths
+     */
+    GameProcess(final GameProcessConfiguration processConfiguration,
+                final String processUUID,
+                final Process internalProcess,
+                final ProcessDestroyer processDestroyer,
+                final ProcessStatus processStatus,
+                final Instant launchTime,
+                final Instant initializationTimeoutDeadline,
+                final List<String> logPaths) {
+        this.processConfiguration = processConfiguration;
+        this.processBuilderWrapper = null;
+        this.processDestroyer = processDestroyer;
+        this.processEnvironmentManager = null;
+        this.processUUID = processUUID;
+        this.internalProcess = internalProcess;
+        this.processStatus = processStatus;
+        this.launchTime = launchTime;
+        this.initializationTimeoutDeadline = initializationTimeoutDeadline;
+        setLogPaths(logPaths);
     }
 
     /**
@@ -114,11 +171,18 @@ public class GameProcess {
         final Map<String, String> environmentVariables = processEnvironmentManager
                 .getProcessEnvironmentVariables(processUUID);
         log.info("Starting process from configuration [{}] with env vars [{}]", processConfiguration,
-                processEnvironmentManager.getPrintableEnvironmentVariables(processUUID));
+                processEnvironmentManager.getPrintableEnvironmentVariables(environmentVariables));
         this.internalProcess = processBuilderWrapper.buildProcess(environmentVariables);
         return processUUID;
     }
 
+    /**
+     * @return the operating system PID of the game process, or empty if it has not been started
+     */
+    public OptionalLong getPid() {
+        return internalProcess == null ? OptionalLong.empty() : OptionalLong.of(internalProcess.pid());
+    }
+
     /**
      * Forcibly terminates the game process. Process should normally tear down on their own,
      * so the GameLiftAgent should only need to call this to force the termination.
@@ -140,15 +204,6 @@ public class GameProcess {
         return internalProcess != null && internalProcess.isAlive();
     }
 
-    /**
-     * Helper method to check if the process is still in the Initializing state after the timeout has passed
-     * @return true if the process is Initializing and the timeout value has passed
-     */
-    public boolean hasTimedOutForInitialization() {
-        return ProcessStatus.Initializing.equals(processStatus)
-                && Instant.now().isAfter(initializationTimeoutDeadline);
-    }
-
     /**
      * Attaches a method to the internal process' onExit() future so that the cleanup/reporting tasks can be performed
      * when the process exits.
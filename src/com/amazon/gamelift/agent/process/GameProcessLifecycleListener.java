@@ -0,0 +1,32 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process;
+
+/**
+ * Listener for GameProcess lifecycle events published by {@link GameProcessManager}.
+ * Callbacks run on the thread which started the process or observed its exit, so implementations must be
+ * non-blocking and hand off any real work to an executor.
+ */
+public interface GameProcessLifecycleListener {
+    /**
+     * Invoked after a process has been started and is tracked by GameProcessManager
+     * @param gameProcess
+     */
+    default void onProcessStarted(final GameProcess gameProcess) {
+    }
+
+    /**
+     * Invoked after a process has registered with GameLift through the GameLift SDK
+     * @param gameProcess
+     */
+    default void onProcessRegistered(final GameProcess gameProcess) {
+    }
+
+    /**
+     * Invoked after an exited process has been removed from GameProcessManager
+     * @param gameProcess
+     */
+    default void onProcessExited(final GameProcess gameProcess) {
+    }
+}
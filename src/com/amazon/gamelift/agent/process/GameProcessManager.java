@@ -15,22 +15,36 @@ import com.amazon.gamelift.agent.model.exception.AgentException;
 import com.amazon.gamelift.agent.logging.UploadGameSessionLogsCallable;
 import com.amazon.gamelift.agent.manager.ProcessEnvironmentManager;
 import com.amazon.gamelift.agent.model.constants.ProcessConstants;
+import com.amazon.gamelift.agent.process.builder.ForkServer;
+import com.amazon.gamelift.agent.process.builder.LaunchTemplateCache;
+import com.amazon.gamelift.agent.process.builder.ProcessOutputCapture;
+import com.amazon.gamelift.agent.process.destroyer.ProcessDestroyerFactory;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 
 import static com.amazon.gamelift.agent.module.ConfigModule.OPERATING_SYSTEM;
+import static com.amazon.gamelift.agent.module.ThreadingModule.GAME_PROCESS_SHUTDOWN_TERMINATION_EXECUTOR;
 import static com.amazon.gamelift.agent.module.ThreadingModule.GAME_SESSION_LOGS_UPLOAD_EXECUTOR;
+import static com.amazon.gamelift.agent.module.ThreadingModule.PROCESS_TERMINATION_ESCALATION_EXECUTOR;
 
 /**
  * Singleton class for maintaining the list of active game server processes on the Compute.
@@ -44,96 +58,227 @@ import static com.amazon.gamelift.agent.module.ThreadingModule.GAME_SESSION_LOGS
 public class GameProcessManager {
 
     private final ProcessEnvironmentManager processEnvironmentManager;
-    private final ProcessTerminationEventManager processTerminationEventManager;
+    private final ProcessTerminationReporter processTerminationReporter;
     private final OperatingSystem operatingSystem;
     private final UploadGameSessionLogsCallableFactory uploadGameSessionLogsCallableFactory;
     private final ScheduledExecutorService executorService;
+    private final InitializationTimeoutTracker initializationTimeoutTracker;
+    private final ForkServer forkServer;
+    private final ProcessOutputCapture processOutputCapture;
+    private final LaunchTemplateCache launchTemplateCache;
+    private final InitializationTimeoutEstimator initializationTimeoutEstimator;
+    private final ExecutorService shutdownTerminationExecutorService;
+    private final ScheduledExecutorService terminationEscalationExecutorService;
 
-    private final Map<String, GameProcess> gameProcessByUUID = new ConcurrentHashMap<>();
+    private final GameProcessRegistry gameProcessRegistry = new GameProcessRegistry();
+    private final List<GameProcessLifecycleListener> lifecycleListeners = new CopyOnWriteArrayList<>();
 
     /**
      * Constructor for GameProcessManager
      * @param processEnvironmentManager
-     * @param processTerminationEventManager
+     * @param processTerminationReporter
      * @param operatingSystem
      * @param uploadGameSessionLogsCallableFactory
      * @param executorService
+     * @param initializationTimeoutTracker
+     * @param forkServer
+     * @param processOutputCapture
+     * @param launchTemplateCache
+     * @param initializationTimeoutEstimator
+     * @param shutdownTerminationExecutorService
+     * @param terminationEscalationExecutorService
      */
     @Inject
     public GameProcessManager(final ProcessEnvironmentManager processEnvironmentManager,
-                          final ProcessTerminationEventManager processTerminationEventManager,
+                          final ProcessTerminationReporter processTerminationReporter,
                           @Named(OPERATING_SYSTEM) final OperatingSystem operatingSystem,
                           final UploadGameSessionLogsCallableFactory uploadGameSessionLogsCallableFactory,
-                          @Named(GAME_SESSION_LOGS_UPLOAD_EXECUTOR) final ScheduledExecutorService executorService) {
+                          @Named(GAME_SESSION_LOGS_UPLOAD_EXECUTOR) final ScheduledExecutorService executorService,
+                          final InitializationTimeoutTracker initializationTimeoutTracker,
+                          final ForkServer forkServer,
+                          final ProcessOutputCapture processOutputCapture,
+                          final LaunchTemplateCache launchTemplateCache,
+                          final InitializationTimeoutEstimator initializationTimeoutEstimator,
+                          @Named(GAME_PROCESS_SHUTDOWN_TERMINATION_EXECUTOR)
+                          final ExecutorService shutdownTerminationExecutorService,
+                          @Named(PROCESS_TERMINATION_ESCALATION_EXECUTOR)
+                          final ScheduledExecutorService terminationEscalationExecutorService) {
         this.processEnvironmentManager = processEnvironmentManager;
-        this.processTerminationEventManager = processTerminationEventManager;
+        this.processTerminationReporter = processTerminationReporter;
         this.operatingSystem = operatingSystem;
         this.uploadGameSessionLogsCallableFactory = uploadGameSessionLogsCallableFactory;
         this.executorService = executorService;
+        this.initializationTimeoutTracker = initializationTimeoutTracker;
+        this.forkServer = forkServer;
+        this.processOutputCapture = processOutputCapture;
+        this.launchTemplateCache = launchTemplateCache;
+        this.initializationTimeoutEstimator = initializationTimeoutEstimator;
+        this.shutdownTerminationExecutorService = shutdownTerminationExecutorService;
+        this.terminationEscalationExecutorService = terminationEscalationExecutorService;
+    }
+
+    /**
+     * Register a listener to be notified when managed processes start and exit
+     * @param listener
+     */
+    public void addLifecycleListener(final GameProcessLifecycleListener listener) {
+        lifecycleListeners.add(listener);
     }
 
     /**
      * Starts one GameProcess and adds the process UUID and GameProcess to the ServerState mapping
      * @param gameProcessConfiguration
+     * @param isLaunchProbe true if the launch is the probe launch of a half-open ProcessLaunchCircuitBreaker
      * @return UUID of the newly started process
      * @throws AgentException
      */
-    public String startProcessFromConfiguration(final GameProcessConfiguration gameProcessConfiguration)
+    public String startProcessFromConfiguration(final GameProcessConfiguration gameProcessConfiguration,
+                                                final boolean isLaunchProbe)
             throws AgentException {
         GameProcess gameProcess = new GameProcess(gameProcessConfiguration, processEnvironmentManager,
-                operatingSystem);
+                operatingSystem, forkServer, processOutputCapture, launchTemplateCache,
+                initializationTimeoutEstimator.getInitializationTimeout(gameProcessConfiguration),
+                terminationEscalationExecutorService);
+        gameProcess.setLaunchProbe(isLaunchProbe);
         final String processUuid;
         try {
             processUuid = gameProcess.start();
         } catch (final BadExecutablePathException e) {
             // Note: Since the process was not started, the process UUID will not be registered with GameLift.
             // The notify call is still made to report the launch failure here as a Fleet event.
-            processTerminationEventManager.notifyServerProcessTermination(
+            processTerminationReporter.reportProcessTermination(
                     gameProcess.getProcessUUID(),
                     ProcessConstants.INVALID_LAUNCH_PATH_PROCESS_EXIT_CODE,
                     ProcessTerminationReason.SERVER_PROCESS_INVALID_PATH);
             throw e;
         }
 
-        gameProcessByUUID.put(processUuid, gameProcess);
+        gameProcessRegistry.add(gameProcess);
+        initializationTimeoutTracker.scheduleDeadline(processUuid, gameProcess.getInitializationTimeoutDeadline(),
+                () -> handleInitializationTimeout(gameProcess));
+        notifyLifecycleListeners(listener -> listener.onProcessStarted(gameProcess));
 
         // Schedule to run handleProcessExit when the process terminates
         gameProcess.handleProcessExit(this::handleProcessExit);
         return processUuid;
     }
 
+    /**
+     * Re-adopts a game server process started by a previous run of the GameLiftAgent, so that it is managed as if it
+     * had been started by this GameLiftAgent. The process is only adopted if its PID is still running and was started
+     * at the journaled start time, so that an unrelated process reusing the PID is never adopted. Processes which
+     * exited while the GameLiftAgent was down are reported as terminated. The output of an adopted process is captured
+     * again if it was captured when the process was launched.
+     * @param journalEntry last journal record of the process
+     * @return true if the process was adopted
+     */
+    public boolean adoptProcess(final ProcessJournal.ProcessJournalEntry journalEntry) {
+        final String processUuid = journalEntry.getProcessUUID();
+        final ProcessHandle processHandle = ProcessHandle.of(journalEntry.getProcessId())
+                .filter(ProcessHandle::isAlive)
+                .orElse(null);
+        if (processHandle == null || journalEntry.getProcessStartMillis() == null
+                || !journalEntry.getProcessStartMillis().equals(
+                        ProcessJournal.getProcessStartMillis(journalEntry.getProcessId()))) {
+            log.warn("Process {} with PID {} exited while the GameLift agent was not running; it will not be "
+                    + "re-adopted", processUuid, journalEntry.getProcessId());
+            processTerminationReporter.reportProcessTermination(processUuid, AdoptedProcess.UNKNOWN_EXIT_CODE, null);
+            return false;
+        }
+
+        final GameProcessConfiguration processConfiguration = journalEntry.getProcessConfiguration();
+        final AdoptedProcess adoptedProcess = new AdoptedProcess(processHandle);
+        final GameProcess gameProcess = new GameProcess(processConfiguration,
+                processUuid,
+                adoptedProcess,
+                ProcessDestroyerFactory.getProcessDestroyer(operatingSystem,
+                        Duration.ofSeconds(processConfiguration.getTerminationGracePeriodSeconds()),
+                        terminationEscalationExecutorService),
+                journalEntry.getProcessStatus() == null ? ProcessStatus.Initializing : journalEntry.getProcessStatus(),
+                Instant.ofEpochMilli(journalEntry.getProcessStartMillis()),
+                Instant.ofEpochMilli(journalEntry.getInitializationTimeoutDeadlineMillis()),
+                journalEntry.getLogPaths());
+        log.info("Re-adopting process {} with PID {} from configuration [{}]", processUuid,
+                journalEntry.getProcessId(), processConfiguration);
+
+        processOutputCapture.adopt(adoptedProcess);
+        gameProcessRegistry.add(gameProcess);
+        if (gameProcess.getProcessStatus() == ProcessStatus.Initializing) {
+            initializationTimeoutTracker.scheduleDeadline(processUuid, gameProcess.getInitializationTimeoutDeadline(),
+                    () -> handleInitializationTimeout(gameProcess));
+        }
+        notifyLifecycleListeners(listener -> listener.onProcessStarted(gameProcess));
+        gameProcess.handleProcessExit(this::handleProcessExit);
+        return true;
+    }
+
     /**
      * A BiConsumer method which will get invoked when a process exits by applying it after the internal Java process'
-     * onExit() method gets invoked. This is primarily for reporting the process exit over the websocket, and removing
-     * the process from GameProcessManager's set of managed processes.
+     * onExit() method gets invoked. This removes the process from GameProcessManager's set of managed processes, then
+     * hands off reporting the process exit over the websocket and uploading the game session logs. The tail of the
+     * process's output is added to the game session logs if it was captured and the process exited with an error.
+     *
+     * The process slot is released first so that the vacancy is visible to the GameProcessMonitor immediately; the
+     * termination report and the log upload run independently on their own executors and never delay each other.
      *
      * See {@link GameProcess#handleProcessExit} for more details
      */
     private void handleProcessExit(final Process internalProcess, final GameProcess gameProcess) {
+        initializationTimeoutTracker.cancelDeadline(gameProcess.getProcessUUID());
+        gameProcessRegistry.remove(gameProcess.getProcessUUID());
+        notifyLifecycleListeners(listener -> listener.onProcessExited(gameProcess));
+        gameProcess.getExitHandledFuture().complete(gameProcess);
+
         try {
-            try {
-                processTerminationEventManager.notifyServerProcessTermination(
-                        gameProcess.getProcessUUID(),
-                        internalProcess.exitValue(),
-                        gameProcess.getTerminationReason());
-            } catch (final Exception e) {
-                log.error("Encountered exception reporting process exit for process UUID {}",
-                        gameProcess.getProcessUUID(), e);
-            }
+            processTerminationReporter.reportProcessTermination(
+                    gameProcess.getProcessUUID(),
+                    internalProcess.exitValue(),
+                    gameProcess.getTerminationReason());
+        } catch (final Exception e) {
+            log.error("Encountered exception reporting process exit for process UUID {}",
+                    gameProcess.getProcessUUID(), e);
+        }
+
+        try {
+            final byte[] processOutputTail = processOutputCapture.release(internalProcess)
+                    .filter(outputTail -> internalProcess.exitValue() != 0)
+                    .orElse(null);
+            final UploadGameSessionLogsCallable callable = uploadGameSessionLogsCallableFactory
+                    .newUploadGameSessionLogsCallable(gameProcess.getProcessUUID(),
+                            gameProcess.getProcessConfiguration().getLaunchPath(),
+                            new ArrayList<String>(gameProcess.getLogPaths()),
+                            gameProcess.getGameSessionId(),
+                            processOutputTail);
+            executorService.submit(callable);
+        } catch (final Exception e) {
+            log.error("Encountered exception during game session log upload for process UUID {}",
+                    gameProcess.getProcessUUID(), e);
+        }
+    }
 
+    /**
+     * Invoked by the InitializationTimeoutTracker once the SDK initialization deadline of a process has passed.
+     * Processes which registered or exited in the meantime are left alone.
+     */
+    private void handleInitializationTimeout(final GameProcess gameProcess) {
+        if (gameProcessRegistry.get(gameProcess.getProcessUUID()) != gameProcess
+                || gameProcess.getProcessStatus() != ProcessStatus.Initializing) {
+            return;
+        }
+        log.info("Terminating process {} due to reaching the SDK Initialization timeout of {} seconds",
+                gameProcess.getProcessUUID(), Duration.between(gameProcess.getLaunchTime(),
+                        gameProcess.getInitializationTimeoutDeadline()).toSeconds());
+        terminateProcessByUUID(gameProcess.getProcessUUID(),
+                ProcessTerminationReason.SERVER_PROCESS_SDK_INITIALIZATION_TIMEOUT);
+    }
+
+    private void notifyLifecycleListeners(final Consumer<GameProcessLifecycleListener> event) {
+        for (final GameProcessLifecycleListener listener : lifecycleListeners) {
             try {
-                final UploadGameSessionLogsCallable callable = uploadGameSessionLogsCallableFactory
-                        .newUploadGameSessionLogsCallable(gameProcess.getProcessUUID(),
-                                gameProcess.getProcessConfiguration().getLaunchPath(),
-                                new ArrayList<String>(gameProcess.getLogPaths()),
-                                gameProcess.getGameSessionId());
-                executorService.submit(callable);
+                event.accept(listener);
             } catch (final Exception e) {
-                log.error("Encountered exception during game session log upload for process UUID {}",
-                        gameProcess.getProcessUUID(), e);
+                log.error("Encountered exception notifying GameProcess lifecycle listener", e);
             }
-        } finally {
-            gameProcessByUUID.remove(gameProcess.getProcessUUID());
         }
     }
 
@@ -142,19 +287,32 @@ public class GameProcessManager {
      * @return set of all process UUIDs for managed processes
      */
     public Set<String> getAllProcessUUIDs() {
-        return gameProcessByUUID.keySet();
+        return gameProcessRegistry.getProcessUUIDs();
+    }
+
+    /**
+     * Gets all processes currently managed by the GameLift agent
+     * @return live view of the managed processes
+     */
+    public Collection<GameProcess> getProcesses() {
+        return gameProcessRegistry.getProcesses();
     }
 
     /**
-     * Gets the set of UUIDs for processes that have stayed in the Initializing state too long
-     * and surpassed their timeout
-     * @return set of timed out process UUIDs
+     * Gets the number of processes currently managed by the GameLift agent
+     * @return total number of managed processes
      */
-    public Set<String> getInitializationTimedOutProcessUUIDs() {
-        return gameProcessByUUID.entrySet().stream()
-                .filter(entry -> entry.getValue().hasTimedOutForInitialization())
-                .map(entry -> entry.getKey())
-                .collect(Collectors.toSet());
+    public int getProcessCount() {
+        return gameProcessRegistry.getProcessCount();
+    }
+
+    /**
+     * Gets the number of processes currently managed by the GameLift agent for a process configuration
+     * @param processConfiguration
+     * @return number of managed processes launched from the configuration
+     */
+    public int getProcessCount(final GameProcessConfiguration processConfiguration) {
+        return gameProcessRegistry.getProcessCount(processConfiguration);
     }
 
     /**
@@ -162,8 +320,7 @@ public class GameProcessManager {
      * @return a map of all process configurations to the number of active processes for that configuration
      */
     public Map<GameProcessConfiguration, Long> getProcessCountsByConfiguration() {
-        return gameProcessByUUID.values().stream()
-                .collect(Collectors.groupingBy(GameProcess::getProcessConfiguration, Collectors.counting()));
+        return gameProcessRegistry.getProcessCountsByConfiguration();
     }
 
     /**
@@ -174,11 +331,11 @@ public class GameProcessManager {
         if (processUuid == null) {
             throw new NotFoundException("ProcessUUID provided is null");
         }
-        if (!gameProcessByUUID.containsKey(processUuid)) {
+        if (!gameProcessRegistry.contains(processUuid)) {
             throw new NotFoundException(String.format("No Process found with UUID: %s", processUuid));
         }
 
-        GameProcess processToCheck = gameProcessByUUID.get(processUuid);
+        GameProcess processToCheck = gameProcessRegistry.get(processUuid);
         return processToCheck != null && processToCheck.isAlive();
     }
 
@@ -188,7 +345,7 @@ public class GameProcessManager {
      * @param processUuid UUID of the process to terminate
      */
     public void terminateProcessByUUID(final String processUuid, final ProcessTerminationReason terminationReason) {
-        final GameProcess processToTerminate = gameProcessByUUID.get(processUuid);
+        final GameProcess processToTerminate = gameProcessRegistry.get(processUuid);
 
         if (processToTerminate != null) {
             if (terminationReason != null) {
@@ -213,41 +370,58 @@ public class GameProcessManager {
 
     /**
      * Terminates all processes forcibly on the Compute. Should only be used when the Compute is terminating.
-     * @throws NotFinishedException
+     *
+     * Kills are issued for all processes in parallel, and the method returns as soon as every process has exited and
+     * been released by the GameLift agent, or once the wait time has passed.
+     *
+     * @param totalWaitTimeMillis maximum time to wait for all processes to exit
+     * @return the time taken by each process to complete termination, keyed by process UUID
+     * @throws NotFinishedException if any process had not exited after waiting
      */
-    public void terminateAllProcessesForShutdown(
-            final long totalWaitTimeMillis, final long pollWaitTimeMillis) throws NotFinishedException {
-        for (final String processUuid : gameProcessByUUID.keySet()) {
-            try {
-                terminateProcessByUUID(processUuid, ProcessTerminationReason.COMPUTE_SHUTTING_DOWN);
-            } catch (final Exception e) {
-                log.warn("Ignoring exception caught while terminating process UUID {} for instance shut down",
-                        processUuid, e);
-            }
+    public Map<String, Duration> terminateAllProcessesForShutdown(final long totalWaitTimeMillis)
+            throws NotFinishedException {
+        final Instant terminationStart = Instant.now();
+        final Map<String, Duration> terminationLatencyByProcessUUID = new ConcurrentHashMap<>();
+        final List<CompletableFuture<Void>> processExits = new ArrayList<>();
+        for (final GameProcess gameProcess : gameProcessRegistry.getProcesses()) {
+            final String processUuid = gameProcess.getProcessUUID();
+            processExits.add(gameProcess.getExitHandledFuture().thenRun(() -> {
+                final Duration terminationLatency = Duration.between(terminationStart, Instant.now());
+                terminationLatencyByProcessUUID.put(processUuid, terminationLatency);
+                log.info("Process UUID {} completed termination for instance shut down in {} ms",
+                        processUuid, terminationLatency.toMillis());
+            }));
+            CompletableFuture.runAsync(() -> {
+                try {
+                    terminateProcessByUUID(processUuid, ProcessTerminationReason.COMPUTE_SHUTTING_DOWN);
+                } catch (final Exception e) {
+                    log.warn("Ignoring exception caught while terminating process UUID {} for instance shut down",
+                            processUuid, e);
+                }
+            }, shutdownTerminationExecutorService);
         }
 
-        // Poll the GameProcessManager until all processes have been removed from the GameLift agent websocket connection.
-        // This allows processes to exit using their normal termination hook and send their exit information via the GameLiftAgent Websocket connection
-        final Instant processWaitTimeStart = Instant.now();
-        final Instant processWaitTimeEnd = processWaitTimeStart.plusMillis(totalWaitTimeMillis);
-        int processesLeft = gameProcessByUUID.keySet().size();
-        while (processesLeft > 0 && processWaitTimeEnd.isAfter(Instant.now())) {
-            log.info("GameLift agent still waiting for {} more processes to complete termination",
-                    processesLeft);
-
-            try {
-                Thread.sleep(pollWaitTimeMillis);
-            } catch (final InterruptedException e) {
-                log.warn("Interrupted while waiting for processes to spin down");
-            }
-
-            processesLeft = gameProcessByUUID.keySet().size();
+        // Wait for all processes to exit using their normal termination hook, so that their exit information is
+        // reported via the GameLiftAgent Websocket connection
+        log.info("GameLift agent waiting for {} processes to complete termination", processExits.size());
+        try {
+            CompletableFuture.allOf(processExits.toArray(new CompletableFuture<?>[0]))
+                    .get(totalWaitTimeMillis, TimeUnit.MILLISECONDS);
+        } catch (final TimeoutException e) {
+            // Reported below
+        } catch (final InterruptedException e) {
+            log.warn("Interrupted while waiting for processes to spin down");
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException e) {
+            log.warn("Encountered exception while waiting for processes to spin down", e);
         }
 
+        final int processesLeft = processExits.size() - terminationLatencyByProcessUUID.size();
         if (processesLeft > 0) {
             throw new NotFinishedException(String.format("After waiting %d milliseconds, there were %d"
                     + " processes that had not terminated cleanly", totalWaitTimeMillis, processesLeft));
         }
+        return terminationLatencyByProcessUUID;
     }
 
     /**
@@ -260,10 +434,12 @@ public class GameProcessManager {
      */
     public void updateProcessOnRegistration(final String processUuid, final List<String> logPaths)
             throws NotFoundException {
-        final GameProcess gameProcess = gameProcessByUUID.get(processUuid);
+        final GameProcess gameProcess = gameProcessRegistry.get(processUuid);
         if (gameProcess != null) {
+            initializationTimeoutTracker.cancelDeadline(processUuid);
             gameProcess.setProcessStatus(ProcessStatus.Active);
             gameProcess.setLogPaths(logPaths);
+            notifyLifecycleListeners(listener -> listener.onProcessRegistered(gameProcess));
         } else {
             throw new NotFoundException(String.format("Attempted to save log paths for process with UUID [%s],"
                     + " but no such process exists", processUuid));
@@ -280,7 +456,7 @@ public class GameProcessManager {
      */
     public void updateProcessOnGameSessionActivation(final String processUuid, final String gameSessionId)
             throws NotFoundException {
-        final GameProcess gameProcess = gameProcessByUUID.get(processUuid);
+        final GameProcess gameProcess = gameProcessRegistry.get(processUuid);
         if (gameProcess != null) {
             gameProcess.setGameSessionId(gameSessionId);
         } else {
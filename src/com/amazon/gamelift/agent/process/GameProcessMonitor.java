@@ -4,57 +4,114 @@
 package com.amazon.gamelift.agent.process;
 
 import com.amazon.gamelift.agent.model.GameProcessConfiguration;
-import com.amazon.gamelift.agent.model.ProcessTerminationReason;
 import com.amazon.gamelift.agent.model.RuntimeConfiguration;
-import com.amazon.gamelift.agent.model.exception.BadExecutablePathException;
-import com.amazon.gamelift.agent.model.exception.NotFoundException;
 import com.amazon.gamelift.agent.utils.ExecutorServiceSafeRunnable;
 import com.amazon.gamelift.agent.manager.ExecutorServiceManager;
 import com.amazon.gamelift.agent.manager.RuntimeConfigurationManager;
 import com.amazon.gamelift.agent.manager.StateManager;
 import com.amazon.gamelift.agent.module.ThreadingModule;
-import com.google.common.annotations.VisibleForTesting;
-import lombok.Getter;
+import com.amazon.gamelift.agent.websocket.WebSocketConnectionProvider;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.inject.Inject;
 import javax.inject.Named;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.OptionalLong;
 import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.amazon.gamelift.agent.module.ThreadingModule.GAME_PROCESS_MONITOR_EXECUTOR;
 
 /**
- * The asynchronous task which continuously runs and monitors the runtime configuration for the compute,
- * scaling up new processes as needed to match what is currently configured.
+ * The asynchronous task which monitors the runtime configuration for the compute, scaling up new processes as needed
+ * to match what is currently configured.
+ *
+ * The monitor runs when something which can create a vacancy happens: a process exits (including processes terminated
+ * for missing their SDK initialization deadline), a launch fails, the runtime configuration changes, or the compute
+ * status changes. Run requests are coalesced, so a burst of events results in a single run. A slow fallback poll
+ * remains as a safety net for anything not covered by an event.
+ *
+ * Each process configuration's launches are also gated by the ProcessLaunchCircuitBreaker, so a crash-looping
+ * configuration is throttled on its own while every other configuration keeps launching. When a configuration is
+ * cooling down, the monitor schedules a run for the moment its probe launch becomes available.
+ *
+ * Every run asks the BuildPrewarmer to prewarm the builds of the current runtime configuration, and launches of a build
+ * are held back while it is being prewarmed; the monitor runs again as soon as the prewarm completes.
+ *
+ * When the ProcessJournal is enabled, the processes left running by a previous run of the GameLiftAgent are re-adopted
+ * before the first run, so they count towards the runtime configuration instead of being launched again.
+ *
+ * Every run also asks the RuntimeConfigurationReconciler to drain the processes of configurations which were removed
+ * from the runtime configuration. Draining processes it has stopped no longer count towards the total, so their
+ * replacements are launched in the same run.
+ *
+ * Finally, launches are admitted by the HostLoadAdmissionController: while the host is under CPU or memory pressure,
+ * launches are slowed down or deferred, and the monitor runs again once the host load is due to be checked again.
+ *
+ * Launches are also paused while the GameLiftAgent WebSocket connection is lost, since processes launched while it
+ * is being re-established could not register before their SDK initialization timeout. The monitor runs again as soon
+ * as the connection is restored. The pause is capped, so launches resume even if the connection is never restored.
  */
 @Slf4j
-public class GameProcessMonitor {
-    // This constant is the maximum delay between process launches. Process launch delays will decrease from this value
-    // as processes are launched without error, and they will reset to this value if there are errors.
-    public static final long MAX_SECONDS_BETWEEN_PROCESS_LAUNCHES = 3L;
-    // This is the lower bound for how long a process delay can be reduced to.
-    public static final long MIN_SECONDS_BETWEEN_PROCESS_LAUNCHES = 1L; // 1 second
+public class GameProcessMonitor implements GameProcessLifecycleListener {
     // Time to delay the first execution.
     public static final long EXECUTOR_INITIAL_DELAY_SECONDS = 0;
-    // Determines how much the next process delay is reduced upon a successful process launch.
-    public static final long SUCCESSFUL_LAUNCH_DELAY_REDUCTION_SECONDS = 1;
+    // Time between consecutive fallback runs of the process monitor when no events arrive.
+    public static final long PROCESS_MONITOR_FALLBACK_INTERVAL_SECONDS = 30;
+    // Longest time launches are paused for a lost WebSocket connection before they resume without it.
+    public static final long MAX_LOST_CONNECTION_LAUNCH_PAUSE_SECONDS = 300;
 
     private final StateManager stateManager;
     private final RuntimeConfigurationManager runtimeConfigurationManager;
     private final GameProcessManager gameProcessManager;
+    private final ProcessLaunchPipeline processLaunchPipeline;
+    private final ProcessLaunchCircuitBreaker processLaunchCircuitBreaker;
+    private final BuildPrewarmer buildPrewarmer;
+    private final CgroupManager cgroupManager;
+    private final CpuPlacementPlanner cpuPlacementPlanner;
+    private final ProcessResourceSampler processResourceSampler;
+    private final ProcessJournal processJournal;
+    private final ProcessGroupReaper processGroupReaper;
+    private final RuntimeConfigurationReconciler runtimeConfigurationReconciler;
+    private final HostLoadAdmissionController hostLoadAdmissionController;
+    private final InitializationTimeoutEstimator initializationTimeoutEstimator;
+    private final WebSocketConnectionProvider webSocketConnectionProvider;
     private final ScheduledExecutorService executorService;
     private final ExecutorServiceManager executorServiceManager;
-    @Getter
-    private long processStartDelay;
+    private final AtomicBoolean isRunRequested = new AtomicBoolean(false);
+    private final AtomicBoolean isProbeRunScheduled = new AtomicBoolean(false);
+    private final AtomicBoolean isAdmissionRecheckRunScheduled = new AtomicBoolean(false);
+    private final AtomicBoolean isLostConnectionPauseEndRunScheduled = new AtomicBoolean(false);
+    private final AtomicLong launchesHeldBackForLostConnectionCount = new AtomicLong();
+    // Vacancies already counted as held back during the current loss of the WebSocket connection
+    private final AtomicInteger vacanciesHeldBackForLostConnection = new AtomicInteger();
 
     /**
      * Constructor for GameProcessMonitor
      * @param stateManager
      * @param runtimeConfigurationManager
      * @param gameProcessManager
+     * @param processLaunchPipeline
+     * @param processLaunchCircuitBreaker
+     * @param buildPrewarmer
+     * @param cgroupManager
+     * @param cpuPlacementPlanner
+     * @param processResourceSampler
+     * @param processJournal
+     * @param processGroupReaper
+     * @param runtimeConfigurationReconciler
+     * @param hostLoadAdmissionController
+     * @param initializationTimeoutEstimator
+     * @param webSocketConnectionProvider
      * @param executorService
      * @param executorServiceManager
      */
@@ -63,22 +120,122 @@ public class GameProcessMonitor {
             final StateManager stateManager,
             final RuntimeConfigurationManager runtimeConfigurationManager,
             final GameProcessManager gameProcessManager,
+            final ProcessLaunchPipeline processLaunchPipeline,
+            final ProcessLaunchCircuitBreaker processLaunchCircuitBreaker,
+            final BuildPrewarmer buildPrewarmer,
+            final CgroupManager cgroupManager,
+            final CpuPlacementPlanner cpuPlacementPlanner,
+            final ProcessResourceSampler processResourceSampler,
+            final ProcessJournal processJournal,
+            final ProcessGroupReaper processGroupReaper,
+            final RuntimeConfigurationReconciler runtimeConfigurationReconciler,
+            final HostLoadAdmissionController hostLoadAdmissionController,
+            final InitializationTimeoutEstimator initializationTimeoutEstimator,
+            final WebSocketConnectionProvider webSocketConnectionProvider,
             @Named(GAME_PROCESS_MONITOR_EXECUTOR) final ScheduledExecutorService executorService,
             @Named(ThreadingModule.EXECUTOR_SERVICE_MANAGER) final ExecutorServiceManager executorServiceManager) {
         this.stateManager = stateManager;
         this.runtimeConfigurationManager = runtimeConfigurationManager;
         this.gameProcessManager = gameProcessManager;
+        this.processLaunchPipeline = processLaunchPipeline;
+        this.processLaunchCircuitBreaker = processLaunchCircuitBreaker;
+        this.buildPrewarmer = buildPrewarmer;
+        this.cgroupManager = cgroupManager;
+        this.cpuPlacementPlanner = cpuPlacementPlanner;
+        this.processResourceSampler = processResourceSampler;
+        this.processJournal = processJournal;
+        this.processGroupReaper = processGroupReaper;
+        this.runtimeConfigurationReconciler = runtimeConfigurationReconciler;
+        this.hostLoadAdmissionController = hostLoadAdmissionController;
+        this.initializationTimeoutEstimator = initializationTimeoutEstimator;
+        this.webSocketConnectionProvider = webSocketConnectionProvider;
         this.executorService = executorService;
         this.executorServiceManager = executorServiceManager;
-        processStartDelay = MAX_SECONDS_BETWEEN_PROCESS_LAUNCHES;
     }
 
     /**
-     * Start GameProcess monitoring with delay
+     * Start GameProcess monitoring: subscribe to the events which can create vacancies and schedule the fallback poll
      */
     public void start() {
+        // Registered first, so that processes are placed in their cgroups and on their CPUs as soon as possible after
+        // they start
+        gameProcessManager.addLifecycleListener(cgroupManager);
+        gameProcessManager.addLifecycleListener(cpuPlacementPlanner);
+        cpuPlacementPlanner.start();
+        gameProcessManager.addLifecycleListener(processLaunchCircuitBreaker);
+        gameProcessManager.addLifecycleListener(buildPrewarmer);
+        gameProcessManager.addLifecycleListener(initializationTimeoutEstimator);
+        gameProcessManager.addLifecycleListener(processResourceSampler);
+        processResourceSampler.start();
+        gameProcessManager.addLifecycleListener(processGroupReaper);
+        processGroupReaper.start();
+        gameProcessManager.addLifecycleListener(processJournal);
+        gameProcessManager.addLifecycleListener(runtimeConfigurationReconciler);
+        gameProcessManager.addLifecycleListener(this);
+        adoptJournaledProcesses();
+        processLaunchPipeline.addLaunchFailureListener((processConfig, isLaunchProbe) -> {
+            processLaunchCircuitBreaker.recordLaunchFailure(processConfig, isLaunchProbe);
+            requestProcessMonitorRun();
+        });
+        buildPrewarmer.addPrewarmCompletedListener(this::requestProcessMonitorRun);
+        stateManager.addComputeStatusChangeListener(computeStatus -> requestProcessMonitorRun());
+        runtimeConfigurationManager.addRuntimeConfigurationChangeListener(config -> requestProcessMonitorRun());
+        runtimeConfigurationManager.start();
+        webSocketConnectionProvider.addConnectionStateChangeListener(isConnectionHealthy -> {
+            if (isConnectionHealthy) {
+                requestProcessMonitorRun();
+            }
+        });
         executorService.scheduleWithFixedDelay(new ExecutorServiceSafeRunnable(this::runProcessMonitor),
-                EXECUTOR_INITIAL_DELAY_SECONDS, SUCCESSFUL_LAUNCH_DELAY_REDUCTION_SECONDS, TimeUnit.SECONDS);
+                EXECUTOR_INITIAL_DELAY_SECONDS, PROCESS_MONITOR_FALLBACK_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Re-adopt the processes journaled by a previous run of the GameLiftAgent which are still running, then compact the
+     * journal to the adopted processes
+     */
+    private void adoptJournaledProcesses() {
+        if (!processJournal.isEnabled()) {
+            return;
+        }
+        final List<ProcessJournal.ProcessJournalEntry> journalEntries = processJournal.replay();
+        int adoptedProcessCount = 0;
+        for (final ProcessJournal.ProcessJournalEntry journalEntry : journalEntries) {
+            try {
+                if (gameProcessManager.adoptProcess(journalEntry)) {
+                    adoptedProcessCount++;
+                }
+            } catch (final Exception e) {
+                log.error("Failed to re-adopt process {}", journalEntry.getProcessUUID(), e);
+            }
+        }
+        log.info("Re-adopted {} of {} journaled processes", adoptedProcessCount, journalEntries.size());
+        processJournal.compact();
+    }
+
+    /**
+     * Request a run of the process monitor as soon as possible. Requests made while a run is already queued are
+     * coalesced into that run. This method does not block and is safe to call from any thread.
+     */
+    public void requestProcessMonitorRun() {
+        if (!isRunRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executorService.execute(new ExecutorServiceSafeRunnable(() -> {
+                // Clear the flag before running so that events arriving mid-run trigger another run
+                isRunRequested.set(false);
+                runProcessMonitor();
+            }));
+        } catch (final RejectedExecutionException e) {
+            isRunRequested.set(false);
+            log.debug("GameProcessMonitor is shut down; ignoring process monitor run request");
+        }
+    }
+
+    @Override
+    public void onProcessExited(final GameProcess gameProcess) {
+        requestProcessMonitorRun();
     }
 
     /**
@@ -87,6 +244,7 @@ public class GameProcessMonitor {
     public void shutdown() {
         log.info("Shutting down GameProcessMonitor; no new processes will be spun up");
         executorServiceManager.shutdownScheduledThreadPoolExecutorServiceByName(GameProcessMonitor.class.getSimpleName());
+        processLaunchPipeline.shutdown();
     }
 
     /**
@@ -104,26 +262,17 @@ public class GameProcessMonitor {
             return;
         }
 
-        // 1. Check if any processes have timed out while waiting for the process to register through the GameLift SDK.
-        //    Any timed out processes will be terminated forcefully to make room for new processes.
-        final Set<String> processesToTerminate = gameProcessManager.getInitializationTimedOutProcessUUIDs();
-        if (!processesToTerminate.isEmpty()) {
-            log.info("Terminating processes due to reaching the SDK Initialization timeout: {}", processesToTerminate);
-
-            for (final String processUUID : processesToTerminate) {
-                gameProcessManager.terminateProcessByUUID(processUUID,
-                        ProcessTerminationReason.SERVER_PROCESS_SDK_INITIALIZATION_TIMEOUT);
-            }
-        }
-
         final RuntimeConfiguration config = runtimeConfigurationManager.getRuntimeConfiguration();
-        final Map<GameProcessConfiguration, Long> activeProcessesByConfig =
-                gameProcessManager.getProcessCountsByConfiguration();
+        // Prewarm new builds even when there are no vacancies yet, so they are warm by the time slots free up
+        config.getServerProcesses().forEach(buildPrewarmer::startPrewarm);
+        // Drain the processes of removed configurations, so their stopped processes can be replaced in this run
+        runtimeConfigurationReconciler.reconcile(config);
 
-        // 2. Calculate the number of new processes to spin up.
+        // 1. Calculate the number of new processes to spin up.
         //    Don't allow more processes to spin up on the Compute than the total number defined by the current runtime
         //    config. This ensures that changes to the configuration do not overwhelm the compute by spinning up more
-        //    processes than configured due to pre-existing processes.
+        //    processes than configured due to pre-existing processes. Draining processes which have been stopped do
+        //    not count towards the total.
         final int currentConfigTotalProcessCount = config.getServerProcesses().stream()
                 .mapToInt(GameProcessConfiguration::getConcurrentExecutions).sum();
         if (currentConfigTotalProcessCount < 1) {
@@ -131,104 +280,156 @@ public class GameProcessMonitor {
             return;
         }
 
-        final int currentRunningProcessCount = activeProcessesByConfig.values().stream()
-                .mapToInt(Long::intValue).sum();
-        int totalProcessVacancies = currentConfigTotalProcessCount - currentRunningProcessCount;
+        // Pending launches are read before running processes: a launch moves from pending to running once started,
+        // so reading in this order may briefly count a process twice but can never miss it and over-launch. Likewise
+        // stopping processes are read after running processes, so a process exiting in between is never discounted
+        // twice.
+        final int currentPendingLaunchCount = processLaunchPipeline.getPendingLaunchCount();
+        final int currentRunningProcessCount = gameProcessManager.getProcessCount()
+                - runtimeConfigurationReconciler.getStoppingProcessCount();
+        final int totalProcessVacancies = currentConfigTotalProcessCount - currentRunningProcessCount
+                - currentPendingLaunchCount;
+        if (totalProcessVacancies <= 0) {
+            log.debug("Active process count is greater or equal to total number of processes "
+                    + "defined in Runtime Config - not launching any more processes");
+            return;
+        }
 
-        // 3. For each process configuration, spin up new processes to match the concurrent execution count in the config
-        for (final GameProcessConfiguration processConfig : config.getServerProcesses()) {
-            if (totalProcessVacancies <= 0) {
-                log.debug("Active process count is greater or equal to total number of processes "
-                        + "defined in Runtime Config - not launching any more processes");
+        // Pause launches while the WebSocket connection is lost, so they do not time out before they can register
+        if (!webSocketConnectionProvider.isConnectionHealthy()) {
+            final long connectionLostSeconds = webSocketConnectionProvider.getConnectionLostDuration().toSeconds();
+            if (connectionLostSeconds < MAX_LOST_CONNECTION_LAUNCH_PAUSE_SECONDS) {
+                // Each run sees the same vacancies again, so only count the ones which opened up since the last run
+                final int newlyHeldBackLaunchCount =
+                        totalProcessVacancies - vacanciesHeldBackForLostConnection.getAndSet(totalProcessVacancies);
+                if (newlyHeldBackLaunchCount > 0) {
+                    final long heldBackLaunchCount =
+                            launchesHeldBackForLostConnectionCount.addAndGet(newlyHeldBackLaunchCount);
+                    log.info("Holding back {} process launches: the WebSocket connection was lost {} seconds ago "
+                            + "({} launches held back for a lost connection so far)", newlyHeldBackLaunchCount,
+                            connectionLostSeconds, heldBackLaunchCount);
+                }
+                // Reconnecting may give up, so run again once the pause runs out rather than wait for a restore
+                scheduleDelayedRun(isLostConnectionPauseEndRunScheduled,
+                        TimeUnit.SECONDS.toMillis(MAX_LOST_CONNECTION_LAUNCH_PAUSE_SECONDS - connectionLostSeconds));
+                return;
+            }
+            if (vacanciesHeldBackForLostConnection.get() > 0) {
+                log.warn("WebSocket connection has been lost for {} seconds; resuming process launches without it",
+                        connectionLostSeconds);
+            }
+        }
+        vacanciesHeldBackForLostConnection.set(0);
+
+        // Hold back launches while the host is overloaded, so they do not thrash or OOM-kill running game sessions
+        final HostLoadAdmissionController.AdmissionDecision admissionDecision = hostLoadAdmissionController.evaluate();
+        int permittedLaunchCount = totalProcessVacancies;
+        switch (admissionDecision.getAdmission()) {
+            case DEFER:
+                permittedLaunchCount = 0;
+                break;
+            case THROTTLE:
+                permittedLaunchCount = Math.min(totalProcessVacancies,
+                        HostLoadAdmissionController.MAX_THROTTLED_LAUNCHES);
+                break;
+            default:
                 break;
+        }
+        if (permittedLaunchCount < totalProcessVacancies) {
+            hostLoadAdmissionController.recordHeldBackLaunches(admissionDecision,
+                    totalProcessVacancies - permittedLaunchCount);
+            scheduleDelayedRun(isAdmissionRecheckRunScheduled, HostLoadAdmissionController.RECHECK_INTERVAL_MILLIS);
+            if (permittedLaunchCount == 0) {
+                return;
             }
+        }
 
-            final int maxNumberProcessesToLaunch =
-                    processConfig.getConcurrentExecutions() - activeProcessesByConfig.getOrDefault(processConfig, 0L).intValue();
+        // 2. Work out how many processes each configuration is missing, limited by its crash-loop circuit breaker.
+        boolean isAnyConfigurationCoolingDown = false;
+        final List<FairShareLaunchScheduler.LaunchDemand> launchDemands = new ArrayList<>();
+        for (final GameProcessConfiguration processConfig : config.getServerProcesses()) {
+            final int pendingLaunchCount = processLaunchPipeline.getPendingLaunchCount(processConfig);
+            final int currentProcessCount = pendingLaunchCount + gameProcessManager.getProcessCount(processConfig);
+            final int maxNumberProcessesToLaunch = processConfig.getConcurrentExecutions() - currentProcessCount;
             if (maxNumberProcessesToLaunch <= 0) {
                 log.debug("No additional processes needed for configuration: {}", processConfig);
                 continue;
             }
 
-            final int numberOfProcessesToLaunch = Math.min(totalProcessVacancies, maxNumberProcessesToLaunch);
-            for (int i = 0; i < numberOfProcessesToLaunch; i++) {
-                // A process start delay is introduced here to ensure processes do not crash before they are managed.
-                // If successive processes start nominally, the delay will be reduced. Otherwise, the delay will be reset.
-                try {
-                    final String launchedProcessUuid = startProcessWithDelay(processConfig, processStartDelay);
-                    processStartDelay = getNextDelay(processStartDelay, isProcessAlive(launchedProcessUuid));
-                } catch (final RuntimeException e) {
-                    processStartDelay = MAX_SECONDS_BETWEEN_PROCESS_LAUNCHES;
-                    log.error("Failed to launch game server process; "
-                            + "resetting delay between process launches to {} seconds", processStartDelay, e);
-                }
+            if (buildPrewarmer.isPrewarmPending(processConfig)) {
+                log.debug("Launches are held back while the build is prewarmed for configuration: {}", processConfig);
+                continue;
             }
 
-            log.info("Launched {} new processes for configuration: {}", numberOfProcessesToLaunch, processConfig);
-            totalProcessVacancies -= numberOfProcessesToLaunch;
+            final int maxPermittedLaunches = Math.min(maxNumberProcessesToLaunch,
+                    processLaunchCircuitBreaker.getAvailableLaunchPermits(processConfig));
+            if (maxPermittedLaunches <= 0) {
+                log.debug("Launches are suspended for crash-looping configuration: {}", processConfig);
+                isAnyConfigurationCoolingDown = true;
+                continue;
+            }
+            launchDemands.add(new FairShareLaunchScheduler.LaunchDemand(processConfig, currentProcessCount,
+                    maxPermittedLaunches));
         }
-    }
 
-    /**
-     * Return boolean indicating whether a process is active or not.
-     */
-    private boolean isProcessAlive(final String launchedProcessUuid) {
-        try {
-            return gameProcessManager.isProcessAlive(launchedProcessUuid);
-        } catch (final NotFoundException e) {
-            // process is no longer alive
-            return false;
+        // 3. Share the vacancies between the configurations in proportion to their concurrent execution counts and
+        //    queue the launches interleaved, so every configuration converges to its target at the same rate.
+        //    Launches are started concurrently by the ProcessLaunchPipeline, which also paces them.
+        final List<GameProcessConfiguration> launchOrder =
+                FairShareLaunchScheduler.schedule(launchDemands, permittedLaunchCount);
+        final Map<GameProcessConfiguration, Integer> remainingLaunchPermits = new HashMap<>();
+        for (final GameProcessConfiguration processConfig : launchOrder) {
+            remainingLaunchPermits.merge(processConfig, 1, Integer::sum);
         }
-    }
-
-    /**
-     * For each task that this method executes, it makes sure a time delay has passed since the launch of the last task.
-     * The intent here is to make sure processes do not abruptly crash before they are managed.
-     * If a process exists before the delay has passed, this class will throw a RuntimeException giving
-     * the system an opportunity to properly handle errors.
-     */
-    @VisibleForTesting
-    protected String startProcessWithDelay(final GameProcessConfiguration gameProcessConfiguration,
-                                 final long processLaunchDelaySeconds) {
-        String processUuid = null;
-        Exception exceptionReceivedDuringCall = null;
-        final long startTime = System.currentTimeMillis();
-        try {
-            processUuid = gameProcessManager.startProcessFromConfiguration(gameProcessConfiguration);
-        } catch (final BadExecutablePathException e) {
-            log.error("Caught exception attempting to run {}", gameProcessConfiguration, e);
-            exceptionReceivedDuringCall = e;
-        } catch (final Exception e) {
-            log.error("Unexpected error starting process", e);
-            exceptionReceivedDuringCall = new RuntimeException(e);
+        // A half-open breaker only permits a single launch, which is tagged as its probe
+        final Set<GameProcessConfiguration> probeConfigurations = new HashSet<>();
+        remainingLaunchPermits.replaceAll((processConfig, numberOfProcessesToLaunch) -> {
+            log.info("Queueing {} new process launches for configuration: {}", numberOfProcessesToLaunch,
+                    processConfig);
+            final int launchPermits =
+                    processLaunchCircuitBreaker.acquireLaunchPermits(processConfig, numberOfProcessesToLaunch);
+            if (launchPermits > 0 && ProcessLaunchCircuitBreaker.State.HALF_OPEN.equals(
+                    processLaunchCircuitBreaker.getState(processConfig))) {
+                probeConfigurations.add(processConfig);
+            }
+            return launchPermits;
+        });
+        for (final GameProcessConfiguration processConfig : launchOrder) {
+            if (remainingLaunchPermits.merge(processConfig, -1, Integer::sum) >= 0) {
+                processLaunchPipeline.submit(processConfig, probeConfigurations.contains(processConfig));
+            }
         }
 
-        try {
-            Thread.sleep(Math.max(0, TimeUnit.SECONDS.toMillis(processLaunchDelaySeconds)
-                    - (System.currentTimeMillis() - startTime)));
-        } catch (final InterruptedException e) {
-            log.error("Process launch job interrupted");
-            Thread.currentThread().interrupt();
-            throw new RuntimeException(e);
+        if (isAnyConfigurationCoolingDown) {
+            scheduleProbeRun();
         }
+    }
 
-        // Throw caught exceptions if any are received.
-        if (exceptionReceivedDuringCall != null) {
-            throw new RuntimeException(exceptionReceivedDuringCall);
+    /**
+     * Schedules a single process monitor run for when the earliest cooling down configuration may launch a probe.
+     */
+    private void scheduleProbeRun() {
+        final OptionalLong millisUntilNextProbe = processLaunchCircuitBreaker.getMillisUntilNextProbe();
+        if (millisUntilNextProbe.isPresent()) {
+            scheduleDelayedRun(isProbeRunScheduled, millisUntilNextProbe.getAsLong());
         }
-        return processUuid;
     }
 
     /**
-     * If the process is alive, reduce the next delay until the min delay is reached.
-     * If the process is not alive, reset the delay back to the max delay.
+     * Schedules a single process monitor run after a delay, unless a run guarded by the same flag is already scheduled.
      */
-    @VisibleForTesting
-    long getNextDelay(long delay, final boolean isProcessAlive) {
-        if (isProcessAlive) {
-            return Math.max(delay - SUCCESSFUL_LAUNCH_DELAY_REDUCTION_SECONDS, MIN_SECONDS_BETWEEN_PROCESS_LAUNCHES);
-        } else {
-            return MAX_SECONDS_BETWEEN_PROCESS_LAUNCHES;
+    private void scheduleDelayedRun(final AtomicBoolean isRunScheduled, final long delayMillis) {
+        if (!isRunScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executorService.schedule(new ExecutorServiceSafeRunnable(() -> {
+                isRunScheduled.set(false);
+                requestProcessMonitorRun();
+            }), delayMillis, TimeUnit.MILLISECONDS);
+        } catch (final RejectedExecutionException e) {
+            isRunScheduled.set(false);
+            log.debug("GameProcessMonitor is shut down; not scheduling a delayed process monitor run");
         }
     }
 }
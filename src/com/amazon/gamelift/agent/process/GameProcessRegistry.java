@@ -0,0 +1,106 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process;
+
+import com.amazon.gamelift.agent.model.GameProcessConfiguration;
+import com.google.common.collect.Maps;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Indexed registry of the GameProcesses managed by {@link GameProcessManager}.
+ *
+ * Alongside the process lookup by UUID, the registry keeps per-configuration counters which are updated as processes
+ * are added and removed. Count queries are therefore O(1) and do not allocate, which keeps the process monitor cheap
+ * regardless of how many processes are running.
+ *
+ * Mutations are serialized on a single lock so that the lookup and the counters always move together; mutations only
+ * happen on process start and exit. Reads do not take the lock.
+ */
+class GameProcessRegistry {
+
+    private final Object writeLock = new Object();
+
+    private final Map<String, GameProcess> gameProcessByUUID = new ConcurrentHashMap<>();
+    private final Map<GameProcessConfiguration, AtomicInteger> processCountsByConfiguration =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Start tracking a process
+     * @param gameProcess
+     */
+    void add(final GameProcess gameProcess) {
+        synchronized (writeLock) {
+            if (gameProcessByUUID.putIfAbsent(gameProcess.getProcessUUID(), gameProcess) != null) {
+                return;
+            }
+            processCountsByConfiguration.computeIfAbsent(gameProcess.getProcessConfiguration(),
+                    processConfiguration -> new AtomicInteger()).incrementAndGet();
+        }
+    }
+
+    /**
+     * Stop tracking a process
+     * @param processUuid
+     * @return the removed process, or null if no process was tracked with the UUID
+     */
+    GameProcess remove(final String processUuid) {
+        synchronized (writeLock) {
+            final GameProcess gameProcess = gameProcessByUUID.remove(processUuid);
+            if (gameProcess == null) {
+                return null;
+            }
+            final GameProcessConfiguration processConfiguration = gameProcess.getProcessConfiguration();
+            if (processCountsByConfiguration.get(processConfiguration).decrementAndGet() == 0) {
+                // Drop the entry so configurations removed from the runtime configuration are not retained forever
+                processCountsByConfiguration.remove(processConfiguration);
+            }
+            return gameProcess;
+        }
+    }
+
+    GameProcess get(final String processUuid) {
+        return gameProcessByUUID.get(processUuid);
+    }
+
+    boolean contains(final String processUuid) {
+        return gameProcessByUUID.containsKey(processUuid);
+    }
+
+    Set<String> getProcessUUIDs() {
+        return gameProcessByUUID.keySet();
+    }
+
+    Collection<GameProcess> getProcesses() {
+        return gameProcessByUUID.values();
+    }
+
+    int getProcessCount() {
+        return gameProcessByUUID.size();
+    }
+
+    int getProcessCount(final GameProcessConfiguration processConfiguration) {
+        final AtomicInteger processCount = processCountsByConfiguration.get(processConfiguration);
+        return processCount == null ? 0 : processCount.get();
+    }
+
+    /**
+     * @return a snapshot of the non-zero per-configuration process counts
+     */
+    Map<GameProcessConfiguration, Long> getProcessCountsByConfiguration() {
+        final Map<GameProcessConfiguration, Long> processCounts =
+                Maps.newHashMapWithExpectedSize(processCountsByConfiguration.size());
+        processCountsByConfiguration.forEach((processConfiguration, processCount) -> {
+            final int count = processCount.get();
+            if (count > 0) {
+                processCounts.put(processConfiguration, (long) count);
+            }
+        });
+        return processCounts;
+    }
+}
@@ -0,0 +1,334 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process;
+
+import com.amazon.gamelift.agent.model.OperatingSystem;
+import com.amazon.gamelift.agent.model.OperatingSystemFamily;
+import com.amazon.gamelift.agent.module.ConfigModule;
+import com.google.common.annotations.VisibleForTesting;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Admission control for game server process launches based on the load of the host, so that new processes are not
+ * launched into a host which is already CPU-saturated or short of memory, where they would cause thrashing and
+ * out-of-memory kills of the processes hosting game sessions.
+ *
+ * Every check reads the pressure stall information (PSI) of the CPU and memory from /proc/pressure, MemAvailable from
+ * /proc/meminfo and the one minute load average from /proc/loadavg. Each reading is compared against an elevated and a
+ * critical threshold: launches are throttled while any reading is elevated, and deferred while any reading is critical.
+ * Readings which are not available, such as PSI on kernels built without it, are ignored.
+ *
+ * Launches which are held back are counted per host load signal, and the reason for holding them back is logged.
+ */
+@Slf4j
+@Singleton
+public class HostLoadAdmissionController {
+    private static final String PROCFS_ROOT = "/proc";
+    private static final String CPU_PRESSURE_FILE = "pressure/cpu";
+    private static final String MEMORY_PRESSURE_FILE = "pressure/memory";
+    private static final String MEMINFO_FILE = "meminfo";
+    private static final String LOADAVG_FILE = "loadavg";
+    private static final String STAT_FILE = "stat";
+    private static final String CPU_STAT_PREFIX = "cpu";
+    private static final String MEM_TOTAL_KEY = "MemTotal:";
+    private static final String MEM_AVAILABLE_KEY = "MemAvailable:";
+    private static final String SOME_PRESSURE_PREFIX = "some ";
+    private static final String FULL_PRESSURE_PREFIX = "full ";
+    private static final String AVG10_KEY = "avg10=";
+
+    // Time until the host load is checked again after launches were held back.
+    public static final long RECHECK_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(5);
+    // Number of launches permitted per check while the host load is elevated.
+    public static final int MAX_THROTTLED_LAUNCHES = 1;
+
+    // Percentage of the last 10 seconds in which some runnable task was waiting for a CPU.
+    public static final double ELEVATED_CPU_PRESSURE = 50.0;
+    public static final double CRITICAL_CPU_PRESSURE = 90.0;
+    // Percentage of the last 10 seconds in which some task was stalled on memory, and all tasks were stalled on memory.
+    public static final double ELEVATED_MEMORY_PRESSURE = 20.0;
+    public static final double CRITICAL_MEMORY_PRESSURE = 10.0;
+    // Fraction of MemTotal which is still available without swapping.
+    public static final double ELEVATED_MEMORY_AVAILABLE_RATIO = 0.10;
+    public static final double CRITICAL_MEMORY_AVAILABLE_RATIO = 0.05;
+    // One minute load average per CPU.
+    public static final double ELEVATED_LOAD_PER_CPU = 2.0;
+    public static final double CRITICAL_LOAD_PER_CPU = 4.0;
+
+    /**
+     * Admission of launches under the current host load, ordered by severity
+     */
+    public enum Admission {
+        ADMIT,
+        THROTTLE,
+        DEFER
+    }
+
+    /**
+     * Host load signals which can hold back launches
+     */
+    public enum HostLoadSignal {
+        CPU_PRESSURE,
+        MEMORY_PRESSURE,
+        MEMORY_AVAILABLE,
+        LOAD_AVERAGE
+    }
+
+    /**
+     * Outcome of a host load check. The signal and reason describe the most severe reading, and are null when launches
+     * are admitted.
+     */
+    @Value
+    public static class AdmissionDecision {
+        Admission admission;
+        HostLoadSignal signal;
+        String reason;
+    }
+
+    private static final AdmissionDecision ADMIT = new AdmissionDecision(Admission.ADMIT, null, null);
+
+    private final boolean isEnabled;
+    private final Path procRoot;
+    private final int cpuCount;
+    private final Map<HostLoadSignal, AtomicLong> heldBackLaunchCountsBySignal = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for HostLoadAdmissionController
+     * @param hostLoadAdmission whether launches are held back while the host is overloaded
+     * @param operatingSystem
+     */
+    @Inject
+    public HostLoadAdmissionController(@Named(ConfigModule.HOST_LOAD_ADMISSION) final boolean hostLoadAdmission,
+                                       @Named(ConfigModule.OPERATING_SYSTEM) final OperatingSystem operatingSystem) {
+        this(hostLoadAdmission, operatingSystem, Paths.get(PROCFS_ROOT), readHostCpuCount(Paths.get(PROCFS_ROOT)));
+    }
+
+    /**
+     * Test constructor for HostLoadAdmissionController
+     * @param hostLoadAdmission
+     * @param operatingSystem
+     * @param procRoot directory holding the host-wide procfs files, normally /proc
+     * @param cpuCount number of CPUs the load average is shared between
+     */
+    @VisibleForTesting
+    HostLoadAdmissionController(final boolean hostLoadAdmission,
+                                final OperatingSystem operatingSystem,
+                                final Path procRoot,
+                                final int cpuCount) {
+        if (hostLoadAdmission && !OperatingSystemFamily.LINUX.equals(operatingSystem.getOperatingSystemFamily())) {
+            log.warn("Ignoring host load admission; host load is only read on Linux");
+            this.isEnabled = false;
+        } else {
+            this.isEnabled = hostLoadAdmission;
+        }
+        this.procRoot = procRoot;
+        this.cpuCount = Math.max(1, cpuCount);
+    }
+
+    /**
+     * Reads the current host load and decides whether launches may proceed
+     * @return the admission decision for the current host load
+     */
+    public AdmissionDecision evaluate() {
+        if (!isEnabled) {
+            return ADMIT;
+        }
+        AdmissionDecision decision = ADMIT;
+
+        final OptionalDouble memoryFullPressure = readPressureAvg10(MEMORY_PRESSURE_FILE, FULL_PRESSURE_PREFIX);
+        if (memoryFullPressure.isPresent() && memoryFullPressure.getAsDouble() >= CRITICAL_MEMORY_PRESSURE) {
+            return new AdmissionDecision(Admission.DEFER, HostLoadSignal.MEMORY_PRESSURE, String.format(
+                    "all tasks stalled on memory %.1f%% of the last 10 seconds", memoryFullPressure.getAsDouble()));
+        }
+        final OptionalDouble memorySomePressure = readPressureAvg10(MEMORY_PRESSURE_FILE, SOME_PRESSURE_PREFIX);
+        if (memorySomePressure.isPresent() && memorySomePressure.getAsDouble() >= ELEVATED_MEMORY_PRESSURE) {
+            decision = throttle(decision, HostLoadSignal.MEMORY_PRESSURE, String.format(
+                    "some tasks stalled on memory %.1f%% of the last 10 seconds", memorySomePressure.getAsDouble()));
+        }
+
+        final OptionalDouble memoryAvailableRatio = readMemoryAvailableRatio();
+        if (memoryAvailableRatio.isPresent()) {
+            final String reason = String.format("%.1f%% of memory available", memoryAvailableRatio.getAsDouble() * 100);
+            if (memoryAvailableRatio.getAsDouble() < CRITICAL_MEMORY_AVAILABLE_RATIO) {
+                return new AdmissionDecision(Admission.DEFER, HostLoadSignal.MEMORY_AVAILABLE, reason);
+            }
+            if (memoryAvailableRatio.getAsDouble() < ELEVATED_MEMORY_AVAILABLE_RATIO) {
+                decision = throttle(decision, HostLoadSignal.MEMORY_AVAILABLE, reason);
+            }
+        }
+
+        final OptionalDouble cpuPressure = readPressureAvg10(CPU_PRESSURE_FILE, SOME_PRESSURE_PREFIX);
+        if (cpuPressure.isPresent()) {
+            final String reason = String.format("tasks waited for a CPU %.1f%% of the last 10 seconds",
+                    cpuPressure.getAsDouble());
+            if (cpuPressure.getAsDouble() >= CRITICAL_CPU_PRESSURE) {
+                return new AdmissionDecision(Admission.DEFER, HostLoadSignal.CPU_PRESSURE, reason);
+            }
+            if (cpuPressure.getAsDouble() >= ELEVATED_CPU_PRESSURE) {
+                decision = throttle(decision, HostLoadSignal.CPU_PRESSURE, reason);
+            }
+        }
+
+        final OptionalDouble loadPerCpu = readLoadAveragePerCpu();
+        if (loadPerCpu.isPresent()) {
+            final String reason = String.format("one minute load average of %.2f per CPU", loadPerCpu.getAsDouble());
+            if (loadPerCpu.getAsDouble() >= CRITICAL_LOAD_PER_CPU) {
+                return new AdmissionDecision(Admission.DEFER, HostLoadSignal.LOAD_AVERAGE, reason);
+            }
+            if (loadPerCpu.getAsDouble() >= ELEVATED_LOAD_PER_CPU) {
+                decision = throttle(decision, HostLoadSignal.LOAD_AVERAGE, reason);
+            }
+        }
+        return decision;
+    }
+
+    /**
+     * Records launches which were held back by a decision, and logs why
+     * @param decision the decision which held back the launches
+     * @param heldBackLaunchCount number of launches held back
+     */
+    public void recordHeldBackLaunches(final AdmissionDecision decision, final int heldBackLaunchCount) {
+        if (decision.getSignal() == null || heldBackLaunchCount <= 0) {
+            return;
+        }
+        heldBackLaunchCountsBySignal.computeIfAbsent(decision.getSignal(), signal -> new AtomicLong())
+                .addAndGet(heldBackLaunchCount);
+        log.info("Host load check returned {}; holding back {} process launches because of {}: {}",
+                decision.getAdmission(), heldBackLaunchCount, decision.getSignal(), decision.getReason());
+    }
+
+    /**
+     * @return the total number of launches held back by each host load signal, intended for diagnostics
+     */
+    public Map<HostLoadSignal, Long> getHeldBackLaunchCounts() {
+        final Map<HostLoadSignal, Long> heldBackLaunchCounts = new EnumMap<>(HostLoadSignal.class);
+        heldBackLaunchCountsBySignal.forEach((signal, count) -> heldBackLaunchCounts.put(signal, count.get()));
+        return heldBackLaunchCounts;
+    }
+
+    private static AdmissionDecision throttle(final AdmissionDecision decision,
+                                              final HostLoadSignal signal,
+                                              final String reason) {
+        // Keep the first elevated reading as the reason
+        return decision.getAdmission() == Admission.ADMIT
+                ? new AdmissionDecision(Admission.THROTTLE, signal, reason) : decision;
+    }
+
+    /**
+     * Reads avg10 from a PSI file, for example "some avg10=1.23 avg60=0.50 avg300=0.10 total=12345"
+     */
+    private OptionalDouble readPressureAvg10(final String pressureFile, final String linePrefix) {
+        for (final String line : readLines(pressureFile)) {
+            if (!line.startsWith(linePrefix)) {
+                continue;
+            }
+            for (final String field : line.substring(linePrefix.length()).split(" ")) {
+                if (field.startsWith(AVG10_KEY)) {
+                    return parseDouble(pressureFile, field.substring(AVG10_KEY.length()));
+                }
+            }
+        }
+        return OptionalDouble.empty();
+    }
+
+    private OptionalDouble readMemoryAvailableRatio() {
+        long memTotalKilobytes = -1;
+        long memAvailableKilobytes = -1;
+        for (final String line : readLines(MEMINFO_FILE)) {
+            if (line.startsWith(MEM_TOTAL_KEY)) {
+                memTotalKilobytes = parseMeminfoKilobytes(line.substring(MEM_TOTAL_KEY.length()));
+            } else if (line.startsWith(MEM_AVAILABLE_KEY)) {
+                memAvailableKilobytes = parseMeminfoKilobytes(line.substring(MEM_AVAILABLE_KEY.length()));
+            }
+        }
+        if (memTotalKilobytes <= 0 || memAvailableKilobytes < 0) {
+            return OptionalDouble.empty();
+        }
+        return OptionalDouble.of((double) memAvailableKilobytes / memTotalKilobytes);
+    }
+
+    /**
+     * Reads the one minute load average from a loadavg file, for example "0.52 0.58 0.59 1/1234 5678"
+     */
+    private OptionalDouble readLoadAveragePerCpu() {
+        final List<String> lines = readLines(LOADAVG_FILE);
+        if (lines.isEmpty()) {
+            return OptionalDouble.empty();
+        }
+        final OptionalDouble loadAverage = parseDouble(LOADAVG_FILE, lines.get(0).trim().split(" ")[0]);
+        return loadAverage.isPresent() ? OptionalDouble.of(loadAverage.getAsDouble() / cpuCount) : loadAverage;
+    }
+
+    /**
+     * Counts the CPUs of the host from the per-CPU lines of /proc/stat. The load average is host-wide, so it is shared
+     * between every CPU of the host, while Runtime.availableProcessors only counts the CPUs the agent may run on, which
+     * shrinks once the CpuPlacementPlanner confines the agent to its housekeeping CPUs.
+     * @param procRoot directory holding the host-wide procfs files, normally /proc
+     * @return number of CPUs of the host, or Runtime.availableProcessors if /proc/stat cannot be read
+     */
+    @VisibleForTesting
+    static int readHostCpuCount(final Path procRoot) {
+        try {
+            final long cpuCount = Files.readAllLines(procRoot.resolve(STAT_FILE)).stream()
+                    .filter(line -> line.startsWith(CPU_STAT_PREFIX) && line.length() > CPU_STAT_PREFIX.length()
+                            && Character.isDigit(line.charAt(CPU_STAT_PREFIX.length())))
+                    .count();
+            if (cpuCount > 0) {
+                return (int) cpuCount;
+            }
+        } catch (final IOException e) {
+            log.debug("Failed to read the CPUs of the host from {}", procRoot.resolve(STAT_FILE), e);
+        }
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    private List<String> readLines(final String procFile) {
+        final Path path = procRoot.resolve(procFile);
+        try {
+            return Files.readAllLines(path);
+        } catch (final NoSuchFileException e) {
+            log.debug("{} does not exist; ignoring it for host load admission", path);
+        } catch (final IOException e) {
+            log.warn("Failed to read {}; ignoring it for host load admission", path, e);
+        }
+        return List.of();
+    }
+
+    private static long parseMeminfoKilobytes(final String value) {
+        // Values are formatted as "   16314364 kB"
+        final String trimmedValue = value.trim();
+        final int unitIndex = trimmedValue.indexOf(' ');
+        try {
+            return Long.parseLong(unitIndex < 0 ? trimmedValue : trimmedValue.substring(0, unitIndex));
+        } catch (final NumberFormatException e) {
+            log.warn("Ignoring malformed {} value: {}", MEMINFO_FILE, value);
+            return -1;
+        }
+    }
+
+    private static OptionalDouble parseDouble(final String procFile, final String value) {
+        try {
+            return OptionalDouble.of(Double.parseDouble(value));
+        } catch (final NumberFormatException e) {
+            log.warn("Ignoring malformed {} value: {}", procFile, value);
+            return OptionalDouble.empty();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process;
+
+import com.amazon.gamelift.agent.model.GameProcessConfiguration;
+import com.amazon.gamelift.agent.model.ProcessTerminationReason;
+import com.amazon.gamelift.agent.module.ConfigModule;
+import com.amazon.gamelift.agent.utils.QuantileSketch;
+import com.google.common.annotations.VisibleForTesting;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Learns the SDK initialization timeout of each process configuration from the time its processes take to register
+ * with the GameLift SDK, so that hung processes of builds which register in seconds are reclaimed in seconds too.
+ *
+ * The time from launch to registration of every process is added to a {@link QuantileSketch} of its configuration.
+ * Once enough registrations have been observed, the timeout of new processes is the 99.9th percentile registration
+ * time multiplied by a safety factor, bounded below by the minimum initialization timeout and above by the
+ * configuration's InitializationTimeoutSeconds. Until then, and when adaptive timeouts are disabled, the configured
+ * InitializationTimeoutSeconds is used.
+ *
+ * A build which has become slower to start would otherwise keep timing out without ever registering, so consecutive
+ * initialization timeouts of a configuration discard what was learned and fall back to the configured timeout.
+ */
+@Slf4j
+@Singleton
+public class InitializationTimeoutEstimator implements GameProcessLifecycleListener {
+    // Registration time percentile the timeout is derived from, and the factor applied to it.
+    public static final double REGISTRATION_TIME_QUANTILE = 0.999;
+    public static final double TIMEOUT_FACTOR = 3.0;
+    // Number of registrations observed before the timeout is derived from them.
+    public static final int MIN_REGISTRATIONS_FOR_ADAPTIVE_TIMEOUT = 30;
+    // Number of consecutive initialization timeouts which discard the learned registration times.
+    public static final int MAX_CONSECUTIVE_INITIALIZATION_TIMEOUTS = 2;
+
+    private static final double SKETCH_RELATIVE_ACCURACY = 0.01;
+    private static final double SKETCH_MAX_REGISTRATION_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private final Duration minInitializationTimeout;
+    private final Map<GameProcessConfiguration, RegistrationTimes> registrationTimesByConfiguration =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for InitializationTimeoutEstimator
+     * @param minInitializationTimeoutSeconds lower bound of adaptive timeouts, or 0 to disable adaptive timeouts
+     */
+    @Inject
+    public InitializationTimeoutEstimator(
+            @Named(ConfigModule.MIN_INITIALIZATION_TIMEOUT_SECONDS) final int minInitializationTimeoutSeconds) {
+        this.minInitializationTimeout = Duration.ofSeconds(minInitializationTimeoutSeconds);
+    }
+
+    /**
+     * Gets the SDK initialization timeout for a new process of a configuration
+     * @param processConfiguration
+     * @return the adaptive timeout if enough registrations have been observed, otherwise the configured timeout
+     */
+    public Duration getInitializationTimeout(final GameProcessConfiguration processConfiguration) {
+        final Duration configuredTimeout = Duration.ofSeconds(processConfiguration.getInitializationTimeoutSeconds());
+        final RegistrationTimes registrationTimes = registrationTimesByConfiguration.get(processConfiguration);
+        if (!isEnabled() || registrationTimes == null) {
+            return configuredTimeout;
+        }
+        final Duration adaptiveTimeout = registrationTimes.getAdaptiveTimeout();
+        if (adaptiveTimeout == null) {
+            return configuredTimeout;
+        }
+        final Duration boundedTimeout = adaptiveTimeout.compareTo(minInitializationTimeout) < 0
+                ? minInitializationTimeout : adaptiveTimeout;
+        return boundedTimeout.compareTo(configuredTimeout) > 0 ? configuredTimeout : boundedTimeout;
+    }
+
+    @Override
+    public void onProcessRegistered(final GameProcess gameProcess) {
+        if (!isEnabled()) {
+            return;
+        }
+        final long registrationMillis = Duration.between(gameProcess.getLaunchTime(), Instant.now()).toMillis();
+        if (registrationMillis < 0) {
+            return;
+        }
+        registrationTimesByConfiguration.computeIfAbsent(gameProcess.getProcessConfiguration(),
+                processConfiguration -> new RegistrationTimes()).recordRegistration(registrationMillis);
+    }
+
+    @Override
+    public void onProcessExited(final GameProcess gameProcess) {
+        if (!isEnabled() || gameProcess.getTerminationReason()
+                != ProcessTerminationReason.SERVER_PROCESS_SDK_INITIALIZATION_TIMEOUT) {
+            return;
+        }
+        final RegistrationTimes registrationTimes =
+                registrationTimesByConfiguration.get(gameProcess.getProcessConfiguration());
+        if (registrationTimes != null && registrationTimes.recordInitializationTimeout()) {
+            log.warn("{} consecutive processes timed out for SDK initialization; discarding the learned "
+                    + "registration times and using the configured timeout for configuration: {}",
+                    MAX_CONSECUTIVE_INITIALIZATION_TIMEOUTS, gameProcess.getProcessConfiguration());
+        }
+    }
+
+    @VisibleForTesting
+    long getRegistrationCount(final GameProcessConfiguration processConfiguration) {
+        final RegistrationTimes registrationTimes = registrationTimesByConfiguration.get(processConfiguration);
+        return registrationTimes == null ? 0 : registrationTimes.getRegistrationCount();
+    }
+
+    private boolean isEnabled() {
+        return !minInitializationTimeout.isZero();
+    }
+
+    /**
+     * Registration times observed for a process configuration
+     */
+    private static final class RegistrationTimes {
+        private QuantileSketch sketch = newSketch();
+        private int consecutiveInitializationTimeouts;
+
+        synchronized void recordRegistration(final long registrationMillis) {
+            sketch.add(registrationMillis);
+            consecutiveInitializationTimeouts = 0;
+        }
+
+        /**
+         * @return true if the timeout discarded the registration times
+         */
+        synchronized boolean recordInitializationTimeout() {
+            if (++consecutiveInitializationTimeouts < MAX_CONSECUTIVE_INITIALIZATION_TIMEOUTS) {
+                return false;
+            }
+            sketch = newSketch();
+            consecutiveInitializationTimeouts = 0;
+            return true;
+        }
+
+        synchronized Duration getAdaptiveTimeout() {
+            if (sketch.getCount() < MIN_REGISTRATIONS_FOR_ADAPTIVE_TIMEOUT) {
+                return null;
+            }
+            return Duration.ofMillis((long) Math.ceil(
+                    sketch.getQuantile(REGISTRATION_TIME_QUANTILE) * TIMEOUT_FACTOR));
+        }
+
+        synchronized long getRegistrationCount() {
+            return sketch.getCount();
+        }
+
+        private static QuantileSketch newSketch() {
+            return new QuantileSketch(SKETCH_RELATIVE_ACCURACY, SKETCH_MAX_REGISTRATION_MILLIS);
+        }
+    }
+}
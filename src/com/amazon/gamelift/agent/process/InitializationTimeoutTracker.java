@@ -0,0 +1,98 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process;
+
+import com.amazon.gamelift.agent.utils.ExecutorServiceSafeRunnable;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static com.amazon.gamelift.agent.module.ThreadingModule.GAME_PROCESS_INITIALIZATION_TIMEOUT_EXECUTOR;
+
+/**
+ * Tracks the SDK initialization deadline of each game server process.
+ *
+ * Each deadline is scheduled once, when the process starts, on the delay queue of a dedicated scheduled executor and
+ * cancelled when the process registers with the GameLift SDK or exits. Timeouts therefore fire on time without any
+ * periodic scan over the running processes.
+ */
+@Slf4j
+@Singleton
+public class InitializationTimeoutTracker {
+
+    private final ScheduledExecutorService executorService;
+    private final Map<String, ScheduledFuture<?>> initializationDeadlinesByProcessUUID = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for InitializationTimeoutTracker
+     * @param executorService
+     */
+    @Inject
+    public InitializationTimeoutTracker(
+            @Named(GAME_PROCESS_INITIALIZATION_TIMEOUT_EXECUTOR) final ScheduledExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    /**
+     * Schedules the action to run once the initialization deadline for a process has passed, unless the deadline is
+     * cancelled first. A deadline already scheduled for the process is replaced. The action runs on the tracker's
+     * executor and should hand off any blocking work.
+     * @param processUuid UUID of the process being tracked
+     * @param deadline time after which the process has timed out for initialization
+     * @param onTimeout action to run when the deadline passes
+     */
+    public void scheduleDeadline(final String processUuid, final Instant deadline, final Runnable onTimeout) {
+        final long delayMillis = Math.max(0, Duration.between(Instant.now(), deadline).toMillis());
+        // Completed with the deadline's own future, so that a superseded deadline never removes its replacement
+        final CompletableFuture<ScheduledFuture<?>> scheduledDeadline = new CompletableFuture<>();
+        try {
+            // Scheduled within compute, so the deadline's removal waits for the mapping even if it is already due
+            initializationDeadlinesByProcessUUID.compute(processUuid, (uuid, previousDeadline) -> {
+                if (previousDeadline != null) {
+                    previousDeadline.cancel(false);
+                }
+                final ScheduledFuture<?> initializationDeadline =
+                        executorService.schedule(new ExecutorServiceSafeRunnable(() -> {
+                            if (initializationDeadlinesByProcessUUID.remove(processUuid, scheduledDeadline.join())) {
+                                onTimeout.run();
+                            }
+                        }), delayMillis, TimeUnit.MILLISECONDS);
+                scheduledDeadline.complete(initializationDeadline);
+                return initializationDeadline;
+            });
+        } catch (final RejectedExecutionException e) {
+            log.warn("Initialization timeout executor is shut down; not tracking initialization deadline for {}",
+                    processUuid);
+        }
+    }
+
+    /**
+     * Cancels the initialization deadline for a process, if one is still pending
+     * @param processUuid UUID of the process which no longer needs to be tracked
+     */
+    public void cancelDeadline(final String processUuid) {
+        final ScheduledFuture<?> initializationDeadline = initializationDeadlinesByProcessUUID.remove(processUuid);
+        if (initializationDeadline != null) {
+            initializationDeadline.cancel(false);
+        }
+    }
+
+    /**
+     * @return number of processes with a pending initialization deadline
+     */
+    public int getPendingDeadlineCount() {
+        return initializationDeadlinesByProcessUUID.size();
+    }
+}
@@ -0,0 +1,411 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process;
+
+import com.amazon.gamelift.agent.linux.LibC;
+import com.amazon.gamelift.agent.model.OperatingSystem;
+import com.amazon.gamelift.agent.model.OperatingSystemFamily;
+import com.amazon.gamelift.agent.module.ConfigModule;
+import com.amazon.gamelift.agent.module.ThreadingModule;
+import com.amazon.gamelift.agent.utils.ExecutorServiceSafeRunnable;
+import com.google.common.annotations.VisibleForTesting;
+import com.sun.jna.LastErrorException;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cleans up the processes a Linux game server leaves behind when it exits, such as helper processes it forked which
+ * keep running and holding memory after the game server itself is gone.
+ *
+ * The agent makes itself a child subreaper, so descendants orphaned by a game server are re-parented to the agent
+ * rather than to init and stay visible to it. Every game server is launched with setsid, so it leads its own process
+ * group and session. A periodic scan of /proc tracks, per game server, every process in its process group or session
+ * and every descendant of those processes, including descendants which moved themselves to another group. Once the
+ * game server exits, the tracked processes still running are killed, their memory is reported, and the ones which were
+ * re-parented to the agent are reaped, so they do not linger as zombies. Tracked processes which were re-parented to
+ * the agent and exit on their own while the game server is still running are reaped by the scan as well.
+ *
+ * Tracked processes are identified by their PID and start time, so a process reusing the PID of a tracked process is
+ * never killed. All /proc scans and sweeps run on a single thread.
+ */
+@Slf4j
+@Singleton
+public class ProcessGroupReaper implements GameProcessLifecycleListener {
+    @VisibleForTesting static final long SCAN_INTERVAL_SECONDS = 5;
+    // Time given to killed processes to exit before they are reaped
+    @VisibleForTesting static final long REAP_DELAY_MILLIS = 100;
+    private static final String PROCFS_ROOT = "/proc";
+    private static final String STAT_FILE = "stat";
+    private static final String STATM_FILE = "statm";
+    private static final long BYTES_PER_MEBIBYTE = 1024 * 1024;
+    private static final byte ZOMBIE_STATE = 'Z';
+
+    /**
+     * Identity and lineage of a process, read from /proc/[pid]/stat
+     */
+    private static final class ProcessEntry {
+        private final long pid;
+        private final long parentProcessId;
+        private final long processGroupId;
+        private final long sessionId;
+        private final long startTicks;
+        private final boolean isZombie;
+
+        private ProcessEntry(final long pid, final ProcfsParser.ProcessCounters counters) {
+            this.pid = pid;
+            this.parentProcessId = counters.parentProcessId;
+            this.processGroupId = counters.processGroupId;
+            this.sessionId = counters.sessionId;
+            this.startTicks = counters.startTicks;
+            this.isZombie = counters.state == ZOMBIE_STATE;
+        }
+    }
+
+    private final boolean isEnabled;
+    private final ScheduledExecutorService executorService;
+    private final LibC libC;
+    private final Path procRoot;
+    private final long agentProcessId;
+    private final long pageSize;
+    private final AtomicLong reclaimedProcessCount = new AtomicLong();
+    private final AtomicLong reclaimedResidentSetBytes = new AtomicLong();
+
+    // Only accessed from the reaper thread
+    private final ByteBuffer readBuffer = ByteBuffer.allocate(ProcfsParser.READ_BUFFER_SIZE);
+    private final ProcfsParser.ProcessCounters counters = new ProcfsParser.ProcessCounters();
+    private final Map<String, Long> leaderProcessIdsByProcessUUID = new HashMap<>();
+    // Start time of every tracked process by PID, by the process UUID of the game server it descends from
+    private final Map<String, Map<Long, Long>> trackedProcessesByProcessUUID = new HashMap<>();
+    // Start time by PID of killed processes which may still need to be reaped
+    private final Map<Long, Long> killedProcesses = new HashMap<>();
+
+    /**
+     * Constructor for ProcessGroupReaper
+     * @param reapLeakedProcesses true to track and clean up the processes left behind by game servers
+     * @param operatingSystem
+     * @param executorService
+     */
+    @Inject
+    public ProcessGroupReaper(
+            @Named(ConfigModule.REAP_LEAKED_PROCESSES) final boolean reapLeakedProcesses,
+            @Named(ConfigModule.OPERATING_SYSTEM) final OperatingSystem operatingSystem,
+            @Named(ThreadingModule.PROCESS_GROUP_REAPER_EXECUTOR) final ScheduledExecutorService executorService) {
+        this(reapLeakedProcesses, operatingSystem, executorService,
+                reapLeakedProcesses
+                        ? ProcfsParser.loadLibC("processes left behind by game servers will not be cleaned up")
+                        : null,
+                Paths.get(PROCFS_ROOT), ProcessHandle.current().pid(),
+                reapLeakedProcesses ? ProcfsParser.loadPageSize() : ProcfsParser.DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Test constructor for ProcessGroupReaper
+     * @param reapLeakedProcesses
+     * @param operatingSystem
+     * @param executorService
+     * @param libC libc bindings, or null if libc is unavailable
+     * @param procRoot directory holding the procfs files of each process, normally /proc
+     * @param agentProcessId PID of the agent, which orphaned descendants are re-parented to
+     * @param pageSize
+     */
+    @VisibleForTesting
+    ProcessGroupReaper(final boolean reapLeakedProcesses,
+                       final OperatingSystem operatingSystem,
+                       final ScheduledExecutorService executorService,
+                       final LibC libC,
+                       final Path procRoot,
+                       final long agentProcessId,
+                       final long pageSize) {
+        if (reapLeakedProcesses && !OperatingSystemFamily.LINUX.equals(operatingSystem.getOperatingSystemFamily())) {
+            log.warn("Ignoring leaked process reaping; it is only supported on Linux");
+            this.isEnabled = false;
+        } else {
+            this.isEnabled = reapLeakedProcesses && libC != null;
+        }
+        this.executorService = executorService;
+        this.libC = libC;
+        this.procRoot = procRoot;
+        this.agentProcessId = agentProcessId;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * @return true if the processes left behind by game servers are cleaned up
+     */
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * Makes the agent a child subreaper and schedules the tracking scans, if reaping is enabled
+     */
+    public void start() {
+        if (!isEnabled) {
+            return;
+        }
+        try {
+            libC.prctl(LibC.PR_SET_CHILD_SUBREAPER, 1, 0, 0, 0);
+        } catch (final LastErrorException e) {
+            // Descendants re-parented to init are still killed, but init reaps them
+            log.warn("Failed to make the agent a child subreaper (errno {}); leaked processes will still be killed",
+                    e.getErrorCode());
+        }
+        executorService.scheduleWithFixedDelay(new ExecutorServiceSafeRunnable(this::scan),
+                SCAN_INTERVAL_SECONDS, SCAN_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * @return the number of processes left behind by game servers which were killed
+     */
+    public long getReclaimedProcessCount() {
+        return reclaimedProcessCount.get();
+    }
+
+    /**
+     * @return the resident memory held by the processes left behind by game servers when they were killed
+     */
+    public long getReclaimedResidentSetBytes() {
+        return reclaimedResidentSetBytes.get();
+    }
+
+    @Override
+    public void onProcessStarted(final GameProcess gameProcess) {
+        if (!isEnabled) {
+            return;
+        }
+        final String processUUID = gameProcess.getProcessUUID();
+        final OptionalLong pid = gameProcess.getPid();
+        if (pid.isPresent()) {
+            executorService.execute(new ExecutorServiceSafeRunnable(
+                    () -> trackProcessGroup(processUUID, pid.getAsLong())));
+        }
+    }
+
+    @Override
+    public void onProcessExited(final GameProcess gameProcess) {
+        if (!isEnabled) {
+            return;
+        }
+        final String processUUID = gameProcess.getProcessUUID();
+        executorService.execute(new ExecutorServiceSafeRunnable(() -> sweepProcessGroup(processUUID)));
+    }
+
+    @VisibleForTesting
+    void trackProcessGroup(final String processUUID, final long leaderProcessId) {
+        leaderProcessIdsByProcessUUID.put(processUUID, leaderProcessId);
+        trackedProcessesByProcessUUID.put(processUUID, new HashMap<>());
+    }
+
+    /**
+     * Tracks the descendants of every game server, and reaps the tracked and killed processes which have exited
+     */
+    @VisibleForTesting
+    void scan() {
+        if (leaderProcessIdsByProcessUUID.isEmpty() && killedProcesses.isEmpty()) {
+            return;
+        }
+        final Map<Long, ProcessEntry> processesByPid = readProcesses();
+        if (processesByPid == null) {
+            return;
+        }
+        leaderProcessIdsByProcessUUID.forEach((processUUID, leaderProcessId) -> {
+            final Map<Long, Long> trackedProcesses = trackedProcessesByProcessUUID.get(processUUID);
+            // Forget tracked processes which are gone, so that their PIDs can be reused safely
+            trackedProcesses.entrySet().removeIf(tracked -> !isSameProcess(processesByPid, tracked));
+            for (final ProcessEntry process
+                    : findDescendants(processesByPid, leaderProcessId, trackedProcesses, true)) {
+                if (process.isZombie && process.parentProcessId == agentProcessId) {
+                    // Orphaned by the game server and exited on its own; nothing else will reap it
+                    reapProcess(process);
+                    trackedProcesses.remove(process.pid);
+                } else {
+                    trackedProcesses.put(process.pid, process.startTicks);
+                }
+            }
+        });
+        reapKilledProcesses(processesByPid);
+    }
+
+    /**
+     * Kills the processes left behind by an exited game server
+     */
+    @VisibleForTesting
+    void sweepProcessGroup(final String processUUID) {
+        final Long leaderProcessId = leaderProcessIdsByProcessUUID.remove(processUUID);
+        final Map<Long, Long> trackedProcesses = trackedProcessesByProcessUUID.remove(processUUID);
+        if (leaderProcessId == null) {
+            return;
+        }
+        final Map<Long, ProcessEntry> processesByPid = readProcesses();
+        if (processesByPid == null) {
+            return;
+        }
+
+        int killedProcessCount = 0;
+        long killedResidentSetBytes = 0;
+        // The game server has exited and been reaped, so its PID no longer identifies it
+        for (final ProcessEntry process : findDescendants(processesByPid, leaderProcessId, trackedProcesses, false)) {
+            if (process.isZombie) {
+                // Already exited; only needs to be reaped
+                killedProcesses.put(process.pid, process.startTicks);
+                continue;
+            }
+            final long residentSetBytes = readResidentSetBytes(process.pid);
+            try {
+                libC.kill((int) process.pid, LibC.SIGKILL);
+            } catch (final LastErrorException e) {
+                // The process exited since /proc was read
+                continue;
+            }
+            killedProcesses.put(process.pid, process.startTicks);
+            killedProcessCount++;
+            killedResidentSetBytes += residentSetBytes;
+        }
+
+        if (killedProcessCount > 0) {
+            reclaimedProcessCount.addAndGet(killedProcessCount);
+            reclaimedResidentSetBytes.addAndGet(killedResidentSetBytes);
+            log.info("Killed {} processes left behind by process {} holding {} MiB; {} leaked processes holding {} MiB "
+                            + "reclaimed in total",
+                    killedProcessCount, processUUID, killedResidentSetBytes / BYTES_PER_MEBIBYTE,
+                    reclaimedProcessCount.get(), reclaimedResidentSetBytes.get() / BYTES_PER_MEBIBYTE);
+        }
+        if (!killedProcesses.isEmpty()) {
+            executorService.schedule(new ExecutorServiceSafeRunnable(this::scan), REAP_DELAY_MILLIS,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Finds the processes in the process group or session of a game server, the tracked processes which are still
+     * running, and every descendant of those processes and of the running game server
+     */
+    private List<ProcessEntry> findDescendants(final Map<Long, ProcessEntry> processesByPid,
+                                               final long leaderProcessId,
+                                               final Map<Long, Long> trackedProcesses,
+                                               final boolean isLeaderRunning) {
+        final Map<Long, List<ProcessEntry>> childrenByParentPid = new HashMap<>();
+        final Deque<ProcessEntry> pending = new ArrayDeque<>();
+        for (final ProcessEntry process : processesByPid.values()) {
+            childrenByParentPid.computeIfAbsent(process.parentProcessId, parentPid -> new ArrayList<>()).add(process);
+            if (process.pid != leaderProcessId && (process.processGroupId == leaderProcessId
+                    || process.sessionId == leaderProcessId
+                    || Long.valueOf(process.startTicks).equals(trackedProcesses.get(process.pid)))) {
+                pending.add(process);
+            }
+        }
+        final ProcessEntry leader = processesByPid.get(leaderProcessId);
+        if (isLeaderRunning && leader != null) {
+            pending.add(leader);
+        }
+
+        final Map<Long, ProcessEntry> descendantsByPid = new HashMap<>();
+        while (!pending.isEmpty()) {
+            final ProcessEntry process = pending.poll();
+            if (process.pid != leaderProcessId && descendantsByPid.putIfAbsent(process.pid, process) != null) {
+                continue;
+            }
+            for (final ProcessEntry child : childrenByParentPid.getOrDefault(process.pid, List.of())) {
+                if (child.pid != leaderProcessId && child.pid != agentProcessId
+                        && !descendantsByPid.containsKey(child.pid)) {
+                    pending.add(child);
+                }
+            }
+        }
+        return new ArrayList<>(descendantsByPid.values());
+    }
+
+    /**
+     * Reaps the killed processes which were re-parented to the agent and have exited
+     */
+    private void reapKilledProcesses(final Map<Long, ProcessEntry> processesByPid) {
+        final Iterator<Map.Entry<Long, Long>> killed = killedProcesses.entrySet().iterator();
+        while (killed.hasNext()) {
+            final Map.Entry<Long, Long> killedProcess = killed.next();
+            final ProcessEntry process = processesByPid.get(killedProcess.getKey());
+            if (process == null || process.startTicks != killedProcess.getValue()) {
+                // Already reaped
+                killed.remove();
+            } else if (process.isZombie && process.parentProcessId == agentProcessId) {
+                reapProcess(process);
+                killed.remove();
+            } else if (process.parentProcessId != agentProcessId && !processesByPid.containsKey(
+                    process.parentProcessId)) {
+                // Re-parented to another subreaper or to init, which reaps it
+                killed.remove();
+            }
+        }
+    }
+
+    /**
+     * Reaps an exited process which was re-parented to the agent
+     */
+    private void reapProcess(final ProcessEntry process) {
+        try {
+            libC.waitpid((int) process.pid, null, LibC.WNOHANG);
+        } catch (final LastErrorException e) {
+            log.debug("Failed to reap process {} (errno {})", process.pid, e.getErrorCode());
+        }
+    }
+
+    private static boolean isSameProcess(final Map<Long, ProcessEntry> processesByPid,
+                                         final Map.Entry<Long, Long> trackedProcess) {
+        final ProcessEntry process = processesByPid.get(trackedProcess.getKey());
+        return process != null && process.startTicks == trackedProcess.getValue();
+    }
+
+    /**
+     * Reads the lineage of every process in /proc
+     * @return the processes by PID, or null if /proc could not be listed
+     */
+    private Map<Long, ProcessEntry> readProcesses() {
+        final Map<Long, ProcessEntry> processesByPid = new HashMap<>();
+        try (DirectoryStream<Path> processDirectories = Files.newDirectoryStream(procRoot)) {
+            for (final Path processDirectory : processDirectories) {
+                final long pid = ProcfsParser.parseProcessId(processDirectory.getFileName().toString());
+                if (pid < 0) {
+                    continue;
+                }
+                final int statLength = ProcfsParser.readFile(processDirectory.resolve(STAT_FILE), readBuffer);
+                // The process may have exited since /proc was listed
+                if (statLength >= 0 && ProcfsParser.parseStatLineage(readBuffer.array(), statLength, counters)) {
+                    processesByPid.put(pid, new ProcessEntry(pid, counters));
+                }
+            }
+        } catch (final IOException e) {
+            log.error("Failed to list processes in {}", procRoot, e);
+            return null;
+        }
+        return processesByPid;
+    }
+
+    private long readResidentSetBytes(final long pid) {
+        final int statmLength = ProcfsParser.readFile(procRoot.resolve(String.valueOf(pid)).resolve(STATM_FILE),
+                readBuffer);
+        if (statmLength >= 0 && ProcfsParser.parseStatm(readBuffer.array(), statmLength, counters)) {
+            return counters.residentPages * pageSize;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process;
+
+import com.amazon.gamelift.agent.model.GameProcessConfiguration;
+import com.amazon.gamelift.agent.model.ProcessStatus;
+import com.amazon.gamelift.agent.module.ConfigModule;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.annotations.VisibleForTesting;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * Append-only journal of the game server processes managed by the GameLiftAgent, so that an agent restart re-adopts
+ * the game servers which are still running instead of launching replacements next to them.
+ *
+ * Every lifecycle event appends a JSON line holding a snapshot of the process: its UUID, PID, start time,
+ * configuration, status and log paths. Exits append a record marking the process exited. On startup the journal is
+ * replayed, keeping the last record of every process which has not exited, and compacted to those records. A record
+ * torn by the agent dying mid-write is skipped on replay. The journal is also compacted whenever it grows to several
+ * times the number of live processes, so its size stays proportional to the number of running processes.
+ *
+ * Records are written to the page cache without syncing: they survive the agent being restarted or killed, and a host
+ * crash takes the game servers down with it, so there is nothing to re-adopt afterwards.
+ */
+@Slf4j
+@Singleton
+public class ProcessJournal implements GameProcessLifecycleListener {
+    @VisibleForTesting static final int MIN_RECORDS_BEFORE_COMPACTION = 1024;
+    private static final int COMPACTION_GROWTH_FACTOR = 4;
+    private static final String COMPACTION_FILE_SUFFIX = ".compacting";
+    private static final byte[] LINE_SEPARATOR = "\n".getBytes(StandardCharsets.UTF_8);
+
+    // Configurations are written from their fields, so that they read back equal to the launched configuration
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .setVisibility(PropertyAccessor.GETTER, JsonAutoDetect.Visibility.NONE)
+            .setVisibility(PropertyAccessor.IS_GETTER, JsonAutoDetect.Visibility.NONE)
+            .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    /**
+     * Snapshot of a managed process as recorded in the journal
+     */
+    @Builder
+    @Jacksonized
+    @Value
+    public static class ProcessJournalEntry {
+        @JsonProperty("ProcessUUID")
+        private final String processUUID;
+        @JsonProperty("ProcessId")
+        private final long processId;
+        // Start time reported by the operating system, used to tell the process apart from a later reuse of its PID
+        @JsonProperty("ProcessStartMillis")
+        private final Long processStartMillis;
+        @JsonProperty("ProcessConfiguration")
+        private final GameProcessConfiguration processConfiguration;
+        @JsonProperty("ProcessStatus")
+        private final ProcessStatus processStatus;
+        @JsonProperty("LogPaths")
+        private final List<String> logPaths;
+        @JsonProperty("InitializationTimeoutDeadlineMillis")
+        private final long initializationTimeoutDeadlineMillis;
+        @JsonProperty("Exited")
+        private final boolean exited;
+    }
+
+    private final Path journalPath;
+    // Last record of every live process, in the order the processes were first recorded
+    private final Map<String, ProcessJournalEntry> liveEntriesByProcessUUID = new LinkedHashMap<>();
+    private FileChannel journalChannel;
+    private int recordCount;
+
+    /**
+     * Constructor for ProcessJournal
+     * @param journalPath file the journal is kept in, or null to disable the journal
+     */
+    @Inject
+    public ProcessJournal(@Nullable @Named(ConfigModule.PROCESS_JOURNAL_PATH) final String journalPath) {
+        this.journalPath = journalPath == null ? null : Paths.get(journalPath);
+    }
+
+    /**
+     * @return true if managed processes are journaled and re-adopted on restart
+     */
+    public boolean isEnabled() {
+        return journalPath != null;
+    }
+
+    /**
+     * Reads the journal left by a previous run of the GameLiftAgent
+     * @return the last record of every process which had not exited, in the order the processes were first recorded
+     */
+    public synchronized List<ProcessJournalEntry> replay() {
+        liveEntriesByProcessUUID.clear();
+        if (!isEnabled()) {
+            return new ArrayList<>();
+        }
+        final Map<String, ProcessJournalEntry> entriesByProcessUUID = new LinkedHashMap<>();
+        int skippedRecordCount = 0;
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    final ProcessJournalEntry entry = OBJECT_MAPPER.readValue(line, ProcessJournalEntry.class);
+                    if (entry.isExited()) {
+                        entriesByProcessUUID.remove(entry.getProcessUUID());
+                    } else if (entry.getProcessUUID() != null && entry.getProcessConfiguration() != null) {
+                        entriesByProcessUUID.put(entry.getProcessUUID(), entry);
+                    }
+                } catch (final JsonProcessingException e) {
+                    skippedRecordCount++;
+                }
+            }
+        } catch (final NoSuchFileException e) {
+            log.info("No process journal found at {}; no processes to re-adopt", journalPath);
+        } catch (final IOException e) {
+            log.error("Failed to read process journal {}; no processes will be re-adopted", journalPath, e);
+            return new ArrayList<>();
+        }
+        if (skippedRecordCount > 0) {
+            log.warn("Skipped {} unreadable records in process journal {}", skippedRecordCount, journalPath);
+        }
+        return new ArrayList<>(entriesByProcessUUID.values());
+    }
+
+    /**
+     * Rewrites the journal with only the last record of every live process
+     */
+    public synchronized void compact() {
+        if (!isEnabled()) {
+            return;
+        }
+        final Path compactionPath = journalPath.resolveSibling(journalPath.getFileName() + COMPACTION_FILE_SUFFIX);
+        try {
+            closeJournalChannel();
+            if (journalPath.getParent() != null) {
+                Files.createDirectories(journalPath.getParent());
+            }
+            try (FileChannel compactionChannel = FileChannel.open(compactionPath, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                for (final ProcessJournalEntry entry : liveEntriesByProcessUUID.values()) {
+                    writeRecord(compactionChannel, entry);
+                }
+                // The compacted journal replaces the old one, so it must be on disk before the rename
+                compactionChannel.force(true);
+            }
+            Files.move(compactionPath, journalPath, StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+            recordCount = liveEntriesByProcessUUID.size();
+        } catch (final IOException e) {
+            log.error("Failed to compact process journal {}", journalPath, e);
+        }
+    }
+
+    @Override
+    public void onProcessStarted(final GameProcess gameProcess) {
+        record(gameProcess, false);
+    }
+
+    @Override
+    public void onProcessRegistered(final GameProcess gameProcess) {
+        record(gameProcess, false);
+    }
+
+    @Override
+    public void onProcessExited(final GameProcess gameProcess) {
+        record(gameProcess, true);
+    }
+
+    private synchronized void record(final GameProcess gameProcess, final boolean exited) {
+        if (!isEnabled()) {
+            return;
+        }
+        final OptionalLong pid = gameProcess.getPid();
+        if (pid.isEmpty()) {
+            return;
+        }
+        final ProcessJournalEntry previousEntry = liveEntriesByProcessUUID.get(gameProcess.getProcessUUID());
+        final ProcessJournalEntry entry = ProcessJournalEntry.builder()
+                .processUUID(gameProcess.getProcessUUID())
+                .processId(pid.getAsLong())
+                .processStartMillis(previousEntry != null
+                        ? previousEntry.getProcessStartMillis() : getProcessStartMillis(pid.getAsLong()))
+                .processConfiguration(gameProcess.getProcessConfiguration())
+                .processStatus(gameProcess.getProcessStatus())
+                .logPaths(new ArrayList<>(gameProcess.getLogPaths()))
+                .initializationTimeoutDeadlineMillis(gameProcess.getInitializationTimeoutDeadline().toEpochMilli())
+                .exited(exited)
+                .build();
+        if (exited) {
+            liveEntriesByProcessUUID.remove(entry.getProcessUUID());
+        } else {
+            liveEntriesByProcessUUID.put(entry.getProcessUUID(), entry);
+        }
+
+        try {
+            writeRecord(getJournalChannel(), entry);
+            recordCount++;
+        } catch (final IOException e) {
+            log.error("Failed to journal process {}; it will not be re-adopted if the GameLift agent restarts",
+                    entry.getProcessUUID(), e);
+        }
+
+        if (recordCount > Math.max(MIN_RECORDS_BEFORE_COMPACTION,
+                COMPACTION_GROWTH_FACTOR * liveEntriesByProcessUUID.size())) {
+            compact();
+        }
+    }
+
+    /**
+     * Looks up the start time of a process, which together with its PID identifies it across agent restarts
+     * @param pid
+     * @return the start time in epoch milliseconds, or null if the process has exited or its start time is unknown
+     */
+    @Nullable
+    static Long getProcessStartMillis(final long pid) {
+        return ProcessHandle.of(pid)
+                .flatMap(processHandle -> processHandle.info().startInstant())
+                .map(Instant::toEpochMilli)
+                .orElse(null);
+    }
+
+    private FileChannel getJournalChannel() throws IOException {
+        if (journalChannel == null) {
+            if (journalPath.getParent() != null) {
+                Files.createDirectories(journalPath.getParent());
+            }
+            journalChannel = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+        }
+        return journalChannel;
+    }
+
+    private void closeJournalChannel() throws IOException {
+        if (journalChannel != null) {
+            journalChannel.close();
+            journalChannel = null;
+        }
+    }
+
+    private static void writeRecord(final FileChannel channel, final ProcessJournalEntry entry) throws IOException {
+        final byte[] json = OBJECT_MAPPER.writeValueAsBytes(entry);
+        final ByteBuffer record = ByteBuffer.allocate(json.length + LINE_SEPARATOR.length);
+        record.put(json).put(LINE_SEPARATOR).flip();
+        while (record.hasRemaining()) {
+            channel.write(record);
+        }
+    }
+
+    @VisibleForTesting
+    synchronized int getRecordCount() {
+        return recordCount;
+    }
+}
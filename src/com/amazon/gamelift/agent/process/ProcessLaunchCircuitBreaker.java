@@ -0,0 +1,313 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process;
+
+import com.amazon.gamelift.agent.model.GameProcessConfiguration;
+import com.amazon.gamelift.agent.model.ProcessStatus;
+import com.amazon.gamelift.agent.model.ProcessTerminationReason;
+import com.google.common.annotations.VisibleForTesting;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Tracks the launch health of each process configuration and suspends launches for configurations which are
+ * crash-looping, so that a broken executable only throttles itself while healthy configurations keep launching.
+ *
+ * A launch succeeds when its process registers through the GameLift SDK, and fails when it cannot be started or its
+ * process exits before registering. Each configuration keeps a window of its most recent launch outcomes. Once the
+ * success ratio in a sufficiently full window drops below the threshold, the breaker opens and no launches are
+ * permitted for a cool-down period. The cool-down doubles every time the breaker re-opens, up to a maximum. After the
+ * cool-down the breaker is half-open and permits a single probe launch: a successful probe closes the breaker, a failed
+ * probe opens it again. The probe launch is tagged when it is submitted, and only its outcome is counted while the
+ * breaker is half-open, so launches queued before the breaker opened cannot close or re-open it.
+ */
+@Slf4j
+@Singleton
+public class ProcessLaunchCircuitBreaker implements GameProcessLifecycleListener {
+    // Number of most recent launch outcomes considered per process configuration.
+    public static final int LAUNCH_OUTCOME_WINDOW_SIZE = 10;
+    // Minimum number of outcomes in the window before the breaker can open.
+    public static final int MIN_LAUNCH_OUTCOMES_TO_OPEN = 3;
+    // The breaker opens when the fraction of successful launches in the window drops below this value.
+    public static final double MIN_LAUNCH_SUCCESS_RATIO = 0.5;
+    // Cool-down after the breaker first opens; doubled every time it re-opens without closing in between.
+    public static final long INITIAL_COOL_DOWN_MILLIS = TimeUnit.SECONDS.toMillis(5);
+    public static final long MAX_COOL_DOWN_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    /**
+     * Breaker states. Launches are unrestricted while CLOSED, suspended while OPEN, and limited to a single probe
+     * launch while HALF_OPEN.
+     */
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    /**
+     * Point-in-time view of the launch health of a process configuration, intended for diagnostics.
+     */
+    @Value
+    public static class LaunchHealth {
+        State state;
+        int recentLaunchCount;
+        double recentLaunchSuccessRatio;
+        long coolDownRemainingMillis;
+    }
+
+    private final LongSupplier nanoTimeSupplier;
+    private final Map<GameProcessConfiguration, ConfigurationBreaker> breakersByConfiguration =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for ProcessLaunchCircuitBreaker
+     */
+    @Inject
+    public ProcessLaunchCircuitBreaker() {
+        this(System::nanoTime);
+    }
+
+    @VisibleForTesting
+    ProcessLaunchCircuitBreaker(final LongSupplier nanoTimeSupplier) {
+        this.nanoTimeSupplier = nanoTimeSupplier;
+    }
+
+    /**
+     * Requests permission to launch processes for a configuration.
+     * @param gameProcessConfiguration configuration to launch processes for
+     * @param requestedLaunchCount number of launches wanted
+     * @return number of launches permitted, between 0 and requestedLaunchCount
+     */
+    public int acquireLaunchPermits(final GameProcessConfiguration gameProcessConfiguration,
+                                    final int requestedLaunchCount) {
+        final ConfigurationBreaker breaker = breakersByConfiguration.get(gameProcessConfiguration);
+        return breaker == null ? requestedLaunchCount : breaker.acquireLaunchPermits(requestedLaunchCount);
+    }
+
+    /**
+     * Returns how many launches a configuration may currently start, without acquiring them
+     * @param gameProcessConfiguration
+     * @return Integer.MAX_VALUE while the breaker is closed, 1 while a probe launch is available and 0 otherwise
+     */
+    public int getAvailableLaunchPermits(final GameProcessConfiguration gameProcessConfiguration) {
+        final ConfigurationBreaker breaker = breakersByConfiguration.get(gameProcessConfiguration);
+        return breaker == null ? Integer.MAX_VALUE : breaker.getAvailableLaunchPermits();
+    }
+
+    /**
+     * Records a launch which failed before its process could be started
+     * @param gameProcessConfiguration
+     * @param isLaunchProbe true if the launch was the probe launch permitted while the breaker was half-open
+     */
+    public void recordLaunchFailure(final GameProcessConfiguration gameProcessConfiguration,
+                                    final boolean isLaunchProbe) {
+        recordLaunchOutcome(gameProcessConfiguration, false, isLaunchProbe);
+    }
+
+    @Override
+    public void onProcessRegistered(final GameProcess gameProcess) {
+        recordLaunchOutcome(gameProcess.getProcessConfiguration(), true, gameProcess.isLaunchProbe());
+    }
+
+    @Override
+    public void onProcessExited(final GameProcess gameProcess) {
+        // Processes which registered have already been counted, and processes stopped for shutdown say nothing about
+        // the health of their configuration.
+        if (ProcessStatus.Initializing.equals(gameProcess.getProcessStatus())
+                && !ProcessTerminationReason.COMPUTE_SHUTTING_DOWN.equals(gameProcess.getTerminationReason())) {
+            recordLaunchOutcome(gameProcess.getProcessConfiguration(), false, gameProcess.isLaunchProbe());
+        }
+    }
+
+    /**
+     * @return time until the earliest open breaker permits a probe launch, or empty if no breaker is open
+     */
+    public OptionalLong getMillisUntilNextProbe() {
+        final long nowNanos = nanoTimeSupplier.getAsLong();
+        return breakersByConfiguration.values().stream()
+                .map(breaker -> breaker.getCoolDownRemainingNanos(nowNanos))
+                .filter(OptionalLong::isPresent)
+                .mapToLong(remainingNanos -> TimeUnit.NANOSECONDS.toMillis(remainingNanos.getAsLong()))
+                .min();
+    }
+
+    /**
+     * Returns the breaker state of a process configuration
+     * @param gameProcessConfiguration
+     * @return CLOSED if no launch outcome has been recorded for the configuration
+     */
+    public State getState(final GameProcessConfiguration gameProcessConfiguration) {
+        final ConfigurationBreaker breaker = breakersByConfiguration.get(gameProcessConfiguration);
+        return breaker == null ? State.CLOSED : breaker.getLaunchHealth().getState();
+    }
+
+    /**
+     * Returns a snapshot of the launch health of every process configuration with recorded launch outcomes. Intended
+     * for diagnostics.
+     * @return launch health by configuration
+     */
+    public Map<GameProcessConfiguration, LaunchHealth> getLaunchHealthByConfiguration() {
+        final Map<GameProcessConfiguration, LaunchHealth> launchHealth = new HashMap<>();
+        breakersByConfiguration.forEach((config, breaker) -> launchHealth.put(config, breaker.getLaunchHealth()));
+        return launchHealth;
+    }
+
+    private void recordLaunchOutcome(final GameProcessConfiguration gameProcessConfiguration,
+                                     final boolean isSuccess,
+                                     final boolean isLaunchProbe) {
+        if (gameProcessConfiguration == null) {
+            return;
+        }
+        breakersByConfiguration
+                .computeIfAbsent(gameProcessConfiguration, ConfigurationBreaker::new)
+                .recordLaunchOutcome(isSuccess, isLaunchProbe);
+    }
+
+    /**
+     * Breaker for a single process configuration. Outcomes arrive from launch and process exit threads while permits
+     * are acquired from the process monitor, so all state is guarded by the instance lock.
+     */
+    private final class ConfigurationBreaker {
+        private final GameProcessConfiguration gameProcessConfiguration;
+        private final boolean[] launchOutcomes = new boolean[LAUNCH_OUTCOME_WINDOW_SIZE];
+        private int launchOutcomeCount;
+        private int nextLaunchOutcomeIndex;
+        private int successfulLaunchCount;
+        private State state = State.CLOSED;
+        private int consecutiveOpenCount;
+        private long coolDownEndNanos;
+        private boolean isProbeInFlight;
+
+        private ConfigurationBreaker(final GameProcessConfiguration gameProcessConfiguration) {
+            this.gameProcessConfiguration = gameProcessConfiguration;
+        }
+
+        private synchronized int acquireLaunchPermits(final int requestedLaunchCount) {
+            final int launchPermits = Math.min(requestedLaunchCount, getAvailableLaunchPermits());
+            if (State.HALF_OPEN.equals(state) && launchPermits > 0) {
+                isProbeInFlight = true;
+                log.info("Permitting a probe launch for crash-looping configuration: {}",
+                        gameProcessConfiguration);
+            }
+            return Math.max(0, launchPermits);
+        }
+
+        private synchronized int getAvailableLaunchPermits() {
+            updateCoolDown(nanoTimeSupplier.getAsLong());
+            switch (state) {
+                case CLOSED:
+                    return Integer.MAX_VALUE;
+                case HALF_OPEN:
+                    return isProbeInFlight ? 0 : 1;
+                default:
+                    return 0;
+            }
+        }
+
+        private synchronized void recordLaunchOutcome(final boolean isSuccess, final boolean isLaunchProbe) {
+            updateCoolDown(nanoTimeSupplier.getAsLong());
+            switch (state) {
+                case HALF_OPEN:
+                    if (!isLaunchProbe || !isProbeInFlight) {
+                        // Launches queued before the breaker opened say nothing about whether it can close
+                        return;
+                    }
+                    if (isSuccess) {
+                        close();
+                    } else {
+                        log.warn("Probe launch failed for configuration: {}", gameProcessConfiguration);
+                        open();
+                    }
+                    return;
+                case OPEN:
+                    // Launches started before the breaker opened are still reporting in; they carry no new information
+                    return;
+                default:
+                    addLaunchOutcome(isSuccess);
+                    if (launchOutcomeCount >= MIN_LAUNCH_OUTCOMES_TO_OPEN
+                            && getSuccessRatio() < MIN_LAUNCH_SUCCESS_RATIO) {
+                        log.warn("Launch success ratio for configuration {} dropped to {} over the last {} launches",
+                                gameProcessConfiguration, getSuccessRatio(), launchOutcomeCount);
+                        open();
+                    }
+            }
+        }
+
+        private synchronized OptionalLong getCoolDownRemainingNanos(final long nowNanos) {
+            return State.OPEN.equals(state)
+                    ? OptionalLong.of(Math.max(0, coolDownEndNanos - nowNanos)) : OptionalLong.empty();
+        }
+
+        private synchronized LaunchHealth getLaunchHealth() {
+            final long nowNanos = nanoTimeSupplier.getAsLong();
+            updateCoolDown(nowNanos);
+            return new LaunchHealth(state, launchOutcomeCount, getSuccessRatio(),
+                    TimeUnit.NANOSECONDS.toMillis(getCoolDownRemainingNanos(nowNanos).orElse(0)));
+        }
+
+        private void updateCoolDown(final long nowNanos) {
+            if (State.OPEN.equals(state) && nowNanos - coolDownEndNanos >= 0) {
+                state = State.HALF_OPEN;
+                isProbeInFlight = false;
+            }
+        }
+
+        private void open() {
+            consecutiveOpenCount++;
+            final long coolDownMillis = getCoolDownMillis(consecutiveOpenCount);
+            log.warn("Suspending launches for configuration {} for {} milliseconds", gameProcessConfiguration,
+                    coolDownMillis);
+            state = State.OPEN;
+            coolDownEndNanos = nanoTimeSupplier.getAsLong() + TimeUnit.MILLISECONDS.toNanos(coolDownMillis);
+            clearLaunchOutcomes();
+        }
+
+        private void close() {
+            log.info("Probe launch succeeded; resuming launches for configuration: {}", gameProcessConfiguration);
+            state = State.CLOSED;
+            consecutiveOpenCount = 0;
+            clearLaunchOutcomes();
+        }
+
+        private void addLaunchOutcome(final boolean isSuccess) {
+            if (launchOutcomeCount == LAUNCH_OUTCOME_WINDOW_SIZE) {
+                // Evict the oldest outcome, which is about to be overwritten
+                if (launchOutcomes[nextLaunchOutcomeIndex]) {
+                    successfulLaunchCount--;
+                }
+            } else {
+                launchOutcomeCount++;
+            }
+            launchOutcomes[nextLaunchOutcomeIndex] = isSuccess;
+            if (isSuccess) {
+                successfulLaunchCount++;
+            }
+            nextLaunchOutcomeIndex = (nextLaunchOutcomeIndex + 1) % LAUNCH_OUTCOME_WINDOW_SIZE;
+        }
+
+        private void clearLaunchOutcomes() {
+            launchOutcomeCount = 0;
+            nextLaunchOutcomeIndex = 0;
+            successfulLaunchCount = 0;
+        }
+
+        private double getSuccessRatio() {
+            return launchOutcomeCount == 0 ? 1.0 : (double) successfulLaunchCount / launchOutcomeCount;
+        }
+    }
+
+    @VisibleForTesting
+    static long getCoolDownMillis(final int consecutiveOpenCount) {
+        return Math.min(MAX_COOL_DOWN_MILLIS, INITIAL_COOL_DOWN_MILLIS << Math.min(consecutiveOpenCount - 1, 20));
+    }
+}
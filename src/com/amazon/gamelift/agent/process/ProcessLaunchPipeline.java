@@ -0,0 +1,355 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process;
+
+import com.amazon.gamelift.agent.manager.ExecutorServiceManager;
+import com.amazon.gamelift.agent.model.GameProcessConfiguration;
+import com.amazon.gamelift.agent.model.exception.BadExecutablePathException;
+import com.amazon.gamelift.agent.model.exception.NotFoundException;
+import com.amazon.gamelift.agent.module.ConfigModule;
+import com.amazon.gamelift.agent.module.ThreadingModule;
+import com.amazon.gamelift.agent.utils.ExecutorServiceSafeRunnable;
+import com.google.common.annotations.VisibleForTesting;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import static com.amazon.gamelift.agent.module.ThreadingModule.GAME_PROCESS_LAUNCH_EXECUTOR;
+
+/**
+ * Launches game server processes concurrently on behalf of the GameProcessMonitor.
+ *
+ * Launches are spread across a fixed number of lanes, one per unit of configured parallelism. Each lane keeps its own
+ * adaptive delay between launches: the delay shrinks while processes launched by the lane stay alive and resets to
+ * the maximum when a launch fails or a process dies before the delay has passed. A lane is only handed a new launch
+ * once its delay has elapsed, so a misbehaving executable slows down the lanes it runs on without serializing
+ * every other launch behind a single sleeping thread.
+ */
+@Slf4j
+@Singleton
+public class ProcessLaunchPipeline {
+    // This constant is the maximum delay between process launches on a lane. Lane delays will decrease from this value
+    // as processes are launched without error, and they will reset to this value if there are errors.
+    public static final long MAX_SECONDS_BETWEEN_PROCESS_LAUNCHES = 3L;
+    // This is the lower bound for how long a lane delay can be reduced to.
+    public static final long MIN_SECONDS_BETWEEN_PROCESS_LAUNCHES = 1L;
+    // Determines how much the next lane delay is reduced upon a successful process launch.
+    public static final long SUCCESSFUL_LAUNCH_DELAY_REDUCTION_SECONDS = 1L;
+
+    private final GameProcessManager gameProcessManager;
+    private final ScheduledExecutorService executorService;
+    private final ExecutorServiceManager executorServiceManager;
+    private final long maxLaunchDelayMillis;
+    private final long minLaunchDelayMillis;
+    private final long launchDelayReductionMillis;
+
+    private final List<LaunchLane> lanes;
+    private final Queue<LaunchLane> idleLanes = new ConcurrentLinkedQueue<>();
+    private final Queue<PendingLaunch> pendingLaunches = new ConcurrentLinkedQueue<>();
+    private final Map<GameProcessConfiguration, AtomicInteger> pendingLaunchCountsByConfiguration =
+            new ConcurrentHashMap<>();
+    private final AtomicInteger pendingLaunchCount = new AtomicInteger();
+    private final List<BiConsumer<GameProcessConfiguration, Boolean>> launchFailureListeners =
+            new CopyOnWriteArrayList<>();
+    private volatile boolean isShutdown = false;
+
+    /**
+     * Constructor for ProcessLaunchPipeline
+     * @param gameProcessManager
+     * @param executorService
+     * @param executorServiceManager
+     * @param parallelism
+     */
+    @Inject
+    public ProcessLaunchPipeline(
+            final GameProcessManager gameProcessManager,
+            @Named(GAME_PROCESS_LAUNCH_EXECUTOR) final ScheduledExecutorService executorService,
+            @Named(ThreadingModule.EXECUTOR_SERVICE_MANAGER) final ExecutorServiceManager executorServiceManager,
+            @Named(ConfigModule.PROCESS_LAUNCH_PARALLELISM) final int parallelism) {
+        this(gameProcessManager, executorService, executorServiceManager, parallelism,
+                TimeUnit.SECONDS.toMillis(MAX_SECONDS_BETWEEN_PROCESS_LAUNCHES),
+                TimeUnit.SECONDS.toMillis(MIN_SECONDS_BETWEEN_PROCESS_LAUNCHES),
+                TimeUnit.SECONDS.toMillis(SUCCESSFUL_LAUNCH_DELAY_REDUCTION_SECONDS));
+    }
+
+    @VisibleForTesting
+    ProcessLaunchPipeline(final GameProcessManager gameProcessManager,
+                          final ScheduledExecutorService executorService,
+                          final ExecutorServiceManager executorServiceManager,
+                          final int parallelism,
+                          final long maxLaunchDelayMillis,
+                          final long minLaunchDelayMillis,
+                          final long launchDelayReductionMillis) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Process launch parallelism must be at least 1 but was " + parallelism);
+        }
+        this.gameProcessManager = gameProcessManager;
+        this.executorService = executorService;
+        this.executorServiceManager = executorServiceManager;
+        this.maxLaunchDelayMillis = maxLaunchDelayMillis;
+        this.minLaunchDelayMillis = minLaunchDelayMillis;
+        this.launchDelayReductionMillis = launchDelayReductionMillis;
+
+        final List<LaunchLane> allLanes = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            final LaunchLane lane = new LaunchLane(i, maxLaunchDelayMillis);
+            allLanes.add(lane);
+            idleLanes.add(lane);
+        }
+        this.lanes = Collections.unmodifiableList(allLanes);
+    }
+
+    /**
+     * Queues a new process launch for the given configuration. The launch is started as soon as a lane is available.
+     * @param gameProcessConfiguration configuration of the process to launch
+     * @param isLaunchProbe true if the launch is the probe launch of a half-open ProcessLaunchCircuitBreaker
+     * @return true if the launch was queued, false if the pipeline has been shut down
+     */
+    public boolean submit(final GameProcessConfiguration gameProcessConfiguration, final boolean isLaunchProbe) {
+        if (isShutdown) {
+            log.debug("Process launch pipeline is shut down; ignoring launch request for {}", gameProcessConfiguration);
+            return false;
+        }
+        pendingLaunchCountsByConfiguration
+                .computeIfAbsent(gameProcessConfiguration, key -> new AtomicInteger())
+                .incrementAndGet();
+        pendingLaunchCount.incrementAndGet();
+        pendingLaunches.add(new PendingLaunch(gameProcessConfiguration, isLaunchProbe));
+        dispatch();
+        return true;
+    }
+
+    /**
+     * Returns the number of launches that have been queued or are being started, and therefore are not yet tracked by
+     * the GameProcessManager.
+     * @return total pending launch count
+     */
+    public int getPendingLaunchCount() {
+        return pendingLaunchCount.get();
+    }
+
+    /**
+     * Returns the number of pending launches for the given process configuration.
+     * @param gameProcessConfiguration
+     * @return pending launch count for the configuration
+     */
+    public int getPendingLaunchCount(final GameProcessConfiguration gameProcessConfiguration) {
+        final AtomicInteger pendingCount = pendingLaunchCountsByConfiguration.get(gameProcessConfiguration);
+        return pendingCount == null ? 0 : pendingCount.get();
+    }
+
+    /**
+     * Returns a snapshot of the number of launches that have been queued or are being started, and therefore are not
+     * yet tracked by the GameProcessManager, keyed by process configuration.
+     * @return pending launch counts by configuration
+     */
+    public Map<GameProcessConfiguration, Integer> getPendingLaunchCountsByConfiguration() {
+        final Map<GameProcessConfiguration, Integer> pendingLaunchCounts = new HashMap<>();
+        pendingLaunchCountsByConfiguration.forEach((config, count) -> {
+            final int pendingCount = count.get();
+            if (pendingCount > 0) {
+                pendingLaunchCounts.put(config, pendingCount);
+            }
+        });
+        return pendingLaunchCounts;
+    }
+
+    /**
+     * Returns the current launch delay of every lane, in lane order. Intended for diagnostics.
+     * @return launch delay per lane in milliseconds
+     */
+    public List<Long> getLaneLaunchDelaysMillis() {
+        final List<Long> launchDelays = new ArrayList<>(lanes.size());
+        for (final LaunchLane lane : lanes) {
+            launchDelays.add(lane.launchDelayMillis);
+        }
+        return launchDelays;
+    }
+
+    /**
+     * Register a listener which is invoked when a failed launch releases its lane, i.e. when the vacancy left by
+     * the failure can be retried. Listeners are passed the configuration of the failed launch and whether it was a
+     * probe launch, run on the launch executor and must be non-blocking.
+     * @param listener
+     */
+    public void addLaunchFailureListener(final BiConsumer<GameProcessConfiguration, Boolean> listener) {
+        launchFailureListeners.add(listener);
+    }
+
+    /**
+     * Stops accepting new launches and drops any launches which have not started yet.
+     * Launches which are already in progress are allowed to complete.
+     */
+    public void shutdown() {
+        log.info("Shutting down ProcessLaunchPipeline; no new processes will be launched");
+        isShutdown = true;
+        PendingLaunch droppedLaunch;
+        while ((droppedLaunch = pendingLaunches.poll()) != null) {
+            decrementPendingLaunchCount(droppedLaunch.getGameProcessConfiguration());
+        }
+        executorServiceManager.shutdownScheduledThreadPoolExecutorServiceByName(
+                ProcessLaunchPipeline.class.getSimpleName());
+    }
+
+    /**
+     * Hands pending launches to idle lanes until either runs out. This is called whenever a launch is queued and
+     * whenever a lane becomes idle, so a pending launch can never be stranded while a lane is available.
+     */
+    private void dispatch() {
+        while (!isShutdown && !pendingLaunches.isEmpty()) {
+            final LaunchLane lane = idleLanes.poll();
+            if (lane == null) {
+                // All lanes are busy; the next lane to finish will pick up the remaining launches.
+                return;
+            }
+            final PendingLaunch pendingLaunch = pendingLaunches.poll();
+            if (pendingLaunch == null) {
+                // Another thread took the last pending launch. Return the lane and re-check the queue, since a launch
+                // may have been queued while this lane was held.
+                idleLanes.add(lane);
+                continue;
+            }
+            try {
+                executorService.execute(new ExecutorServiceSafeRunnable(() -> launch(lane, pendingLaunch)));
+            } catch (final RejectedExecutionException e) {
+                log.warn("Process launch executor rejected launch for {}", pendingLaunch.getGameProcessConfiguration());
+                decrementPendingLaunchCount(pendingLaunch.getGameProcessConfiguration());
+                idleLanes.add(lane);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Starts a single process on the given lane. The lane is released once its launch delay has passed since the
+     * start of the launch; the intent is to make sure processes do not abruptly crash before they are managed.
+     */
+    private void launch(final LaunchLane lane, final PendingLaunch pendingLaunch) {
+        final GameProcessConfiguration gameProcessConfiguration = pendingLaunch.getGameProcessConfiguration();
+        String processUuid = null;
+        boolean launchFailed = false;
+        final long startTime = System.currentTimeMillis();
+        try {
+            processUuid = gameProcessManager.startProcessFromConfiguration(gameProcessConfiguration,
+                    pendingLaunch.isLaunchProbe());
+        } catch (final BadExecutablePathException e) {
+            log.error("Caught exception attempting to run {}", gameProcessConfiguration, e);
+            launchFailed = true;
+        } catch (final Exception e) {
+            log.error("Unexpected error starting process", e);
+            launchFailed = true;
+        } finally {
+            // Once started, the process is tracked by the GameProcessManager and no longer pending here.
+            decrementPendingLaunchCount(gameProcessConfiguration);
+        }
+
+        final String launchedProcessUuid = processUuid;
+        final boolean isLaunchFailed = launchFailed;
+        final long remainingDelayMillis =
+                Math.max(0, lane.launchDelayMillis - (System.currentTimeMillis() - startTime));
+        try {
+            executorService.schedule(
+                    new ExecutorServiceSafeRunnable(() -> completeLaunch(lane, pendingLaunch,
+                            launchedProcessUuid, isLaunchFailed)),
+                    remainingDelayMillis, TimeUnit.MILLISECONDS);
+        } catch (final RejectedExecutionException e) {
+            log.debug("Process launch executor is shut down; lane {} will not be released", lane.laneId);
+        }
+    }
+
+    /**
+     * Adjusts the lane delay based on the outcome of its last launch, then returns the lane to the idle pool.
+     */
+    private void completeLaunch(final LaunchLane lane,
+                                final PendingLaunch pendingLaunch,
+                                final String processUuid,
+                                final boolean launchFailed) {
+        if (launchFailed) {
+            lane.launchDelayMillis = maxLaunchDelayMillis;
+            log.error("Failed to launch game server process; resetting delay between process launches "
+                    + "on lane {} to {} milliseconds", lane.laneId, lane.launchDelayMillis);
+        } else {
+            lane.launchDelayMillis = getNextDelay(lane.launchDelayMillis, isProcessAlive(processUuid));
+        }
+        idleLanes.add(lane);
+        dispatch();
+        if (launchFailed) {
+            launchFailureListeners.forEach(listener -> listener.accept(pendingLaunch.getGameProcessConfiguration(),
+                    pendingLaunch.isLaunchProbe()));
+        }
+    }
+
+    /**
+     * Return boolean indicating whether a process is active or not.
+     */
+    private boolean isProcessAlive(final String launchedProcessUuid) {
+        try {
+            return gameProcessManager.isProcessAlive(launchedProcessUuid);
+        } catch (final NotFoundException e) {
+            // process is no longer alive
+            return false;
+        }
+    }
+
+    private void decrementPendingLaunchCount(final GameProcessConfiguration gameProcessConfiguration) {
+        final AtomicInteger pendingCount = pendingLaunchCountsByConfiguration.get(gameProcessConfiguration);
+        if (pendingCount != null) {
+            pendingCount.decrementAndGet();
+            pendingLaunchCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * If the process is alive, reduce the next delay until the min delay is reached.
+     * If the process is not alive, reset the delay back to the max delay.
+     */
+    @VisibleForTesting
+    long getNextDelay(final long delayMillis, final boolean isProcessAlive) {
+        if (isProcessAlive) {
+            return Math.max(delayMillis - launchDelayReductionMillis, minLaunchDelayMillis);
+        } else {
+            return maxLaunchDelayMillis;
+        }
+    }
+
+    /**
+     * A queued launch, and whether it is the probe launch of a half-open ProcessLaunchCircuitBreaker.
+     */
+    @Value
+    private static class PendingLaunch {
+        GameProcessConfiguration gameProcessConfiguration;
+        boolean launchProbe;
+    }
+
+    /**
+     * A single launch lane. A lane is owned by at most one launch at a time; ownership is handed between threads
+     * through the idle lane queue, which also publishes the updated delay.
+     */
+    private static final class LaunchLane {
+        private final int laneId;
+        private volatile long launchDelayMillis;
+
+        private LaunchLane(final int laneId, final long launchDelayMillis) {
+            this.laneId = laneId;
+            this.launchDelayMillis = launchDelayMillis;
+        }
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process;
+
+import com.amazon.gamelift.agent.model.OperatingSystem;
+import com.amazon.gamelift.agent.model.OperatingSystemFamily;
+import com.amazon.gamelift.agent.module.ConfigModule;
+import com.amazon.gamelift.agent.module.ThreadingModule;
+import com.amazon.gamelift.agent.utils.ExecutorServiceSafeRunnable;
+import com.google.common.annotations.VisibleForTesting;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Periodically samples the CPU, memory and IO usage of every game server process on Linux from procfs.
+ *
+ * Sampling is enabled by giving a sample interval. Each sample lists /proc once and reads the stat file of every
+ * process, attributing each process to the game server whose process group it belongs to; game servers are launched
+ * with setsid, so their descendants share their process group unless they move themselves to another one. statm and
+ * io are only read for the processes of game servers. Files are read into one reused buffer and parsed by
+ * {@link ProcfsParser} without decoding them, so the cost of a sample is dominated by the procfs reads themselves.
+ *
+ * CPU and IO rates are computed between consecutive samples of a game server, and are not reported for its first
+ * sample. Time spent by descendants which exited between samples is not counted. The latest samples are available
+ * through {@link #getProcessResourceSamples()}, and each sample is summarized in the agent log.
+ */
+@Slf4j
+@Singleton
+public class ProcessResourceSampler implements GameProcessLifecycleListener {
+    private static final String PROCFS_ROOT = "/proc";
+    private static final String STAT_FILE = "stat";
+    private static final String STATM_FILE = "statm";
+    private static final String IO_FILE = "io";
+    // USER_HZ, the unit of the CPU times in /proc/<pid>/stat, is 100 on every architecture Linux supports
+    @VisibleForTesting static final long CLOCK_TICKS_PER_SECOND = 100;
+    private static final long BYTES_PER_MEBIBYTE = 1024 * 1024;
+
+    /**
+     * Resource usage of a game server process and its descendants
+     */
+    @Value
+    public static class ProcessResourceSample {
+        long processId;
+        // Number of processes in the game server's process group
+        int processCount;
+        // CPU time used since the previous sample, 100 per fully used CPU; -1 for the first sample
+        double cpuPercent;
+        long residentSetBytes;
+        // Bytes read from or written to storage per second since the previous sample; -1 for the first sample
+        long readBytesPerSecond;
+        long writeBytesPerSecond;
+    }
+
+    /**
+     * Running totals of a game server's process group at the time of a sample
+     */
+    private static final class ProcessGroupTotals {
+        private final String processUUID;
+        private int processCount;
+        private long cpuTicks;
+        private long residentPages;
+        private long readBytes;
+        private long writeBytes;
+        private long sampleNanos;
+
+        private ProcessGroupTotals(final String processUUID) {
+            this.processUUID = processUUID;
+        }
+    }
+
+    private final int sampleIntervalSeconds;
+    private final boolean isEnabled;
+    private final ScheduledExecutorService executorService;
+    private final Path procRoot;
+    private final LongSupplier nanoTime;
+    private final long pageSize;
+    private final Map<String, Long> processIdsByProcessUUID = new ConcurrentHashMap<>();
+
+    // Only accessed from the sampling thread
+    private final ByteBuffer readBuffer = ByteBuffer.allocate(ProcfsParser.READ_BUFFER_SIZE);
+    private final ProcfsParser.ProcessCounters counters = new ProcfsParser.ProcessCounters();
+    private Map<String, ProcessGroupTotals> previousTotalsByProcessUUID = Collections.emptyMap();
+
+    private volatile Map<String, ProcessResourceSample> processResourceSamples = Collections.emptyMap();
+
+    /**
+     * Constructor for ProcessResourceSampler
+     * @param sampleIntervalSeconds time between samples, or 0 to disable sampling
+     * @param operatingSystem
+     * @param executorService
+     */
+    @Inject
+    public ProcessResourceSampler(
+            @Named(ConfigModule.RESOURCE_SAMPLE_INTERVAL_SECONDS) final int sampleIntervalSeconds,
+            @Named(ConfigModule.OPERATING_SYSTEM) final OperatingSystem operatingSystem,
+            @Named(ThreadingModule.PROCESS_RESOURCE_SAMPLER_EXECUTOR) final ScheduledExecutorService executorService) {
+        this(sampleIntervalSeconds, operatingSystem, executorService, Paths.get(PROCFS_ROOT), System::nanoTime,
+                sampleIntervalSeconds > 0 ? ProcfsParser.loadPageSize() : ProcfsParser.DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Test constructor for ProcessResourceSampler
+     * @param sampleIntervalSeconds
+     * @param operatingSystem
+     * @param executorService
+     * @param procRoot directory holding the procfs files of each process, normally /proc
+     * @param nanoTime
+     * @param pageSize
+     */
+    @VisibleForTesting
+    ProcessResourceSampler(final int sampleIntervalSeconds,
+                           final OperatingSystem operatingSystem,
+                           final ScheduledExecutorService executorService,
+                           final Path procRoot,
+                           final LongSupplier nanoTime,
+                           final long pageSize) {
+        if (sampleIntervalSeconds > 0
+                && !OperatingSystemFamily.LINUX.equals(operatingSystem.getOperatingSystemFamily())) {
+            log.warn("Ignoring resource sample interval; process resource sampling is only supported on Linux");
+            this.isEnabled = false;
+        } else {
+            this.isEnabled = sampleIntervalSeconds > 0;
+        }
+        this.sampleIntervalSeconds = sampleIntervalSeconds;
+        this.executorService = executorService;
+        this.procRoot = procRoot;
+        this.nanoTime = nanoTime;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Schedules sampling, if it is enabled
+     */
+    public void start() {
+        if (isEnabled) {
+            executorService.scheduleAtFixedRate(new ExecutorServiceSafeRunnable(this::sample),
+                    sampleIntervalSeconds, sampleIntervalSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * @return the latest resource usage of each game server process by process UUID
+     */
+    public Map<String, ProcessResourceSample> getProcessResourceSamples() {
+        return processResourceSamples;
+    }
+
+    @Override
+    public void onProcessStarted(final GameProcess gameProcess) {
+        if (!isEnabled) {
+            return;
+        }
+        final OptionalLong pid = gameProcess.getPid();
+        if (pid.isPresent()) {
+            processIdsByProcessUUID.put(gameProcess.getProcessUUID(), pid.getAsLong());
+        }
+    }
+
+    @Override
+    public void onProcessExited(final GameProcess gameProcess) {
+        processIdsByProcessUUID.remove(gameProcess.getProcessUUID());
+    }
+
+    /**
+     * Samples every game server process once
+     */
+    @VisibleForTesting
+    void sample() {
+        final long sampleStartNanos = nanoTime.getAsLong();
+        final Map<Long, ProcessGroupTotals> totalsByProcessId = new HashMap<>();
+        processIdsByProcessUUID.forEach((processUUID, pid) -> totalsByProcessId.put(pid,
+                new ProcessGroupTotals(processUUID)));
+        if (totalsByProcessId.isEmpty()) {
+            previousTotalsByProcessUUID = Collections.emptyMap();
+            processResourceSamples = Collections.emptyMap();
+            return;
+        }
+
+        try (DirectoryStream<Path> processDirectories = Files.newDirectoryStream(procRoot)) {
+            for (final Path processDirectory : processDirectories) {
+                sampleProcess(processDirectory, totalsByProcessId);
+            }
+        } catch (final IOException e) {
+            log.error("Failed to list processes in {}", procRoot, e);
+            return;
+        }
+
+        final Map<String, ProcessGroupTotals> totalsByProcessUUID = new HashMap<>();
+        final Map<String, ProcessResourceSample> samples = new HashMap<>();
+        totalsByProcessId.forEach((pid, totals) -> {
+            if (totals.processCount > 0) {
+                totalsByProcessUUID.put(totals.processUUID, totals);
+                samples.put(totals.processUUID,
+                        toSample(pid, totals, previousTotalsByProcessUUID.get(totals.processUUID)));
+            }
+        });
+        previousTotalsByProcessUUID = totalsByProcessUUID;
+        processResourceSamples = Collections.unmodifiableMap(samples);
+        logSummary(samples, nanoTime.getAsLong() - sampleStartNanos);
+    }
+
+    private void sampleProcess(final Path processDirectory, final Map<Long, ProcessGroupTotals> totalsByProcessId) {
+        final long pid = ProcfsParser.parseProcessId(processDirectory.getFileName().toString());
+        if (pid < 0) {
+            return;
+        }
+        final int statLength = ProcfsParser.readFile(processDirectory.resolve(STAT_FILE), readBuffer);
+        if (statLength < 0 || !ProcfsParser.parseStat(readBuffer.array(), statLength, counters)) {
+            // The process may have exited since /proc was listed
+            return;
+        }
+        ProcessGroupTotals totals = totalsByProcessId.get(counters.processGroupId);
+        if (totals == null) {
+            // A game server which moved itself to another process group is still sampled on its own
+            totals = totalsByProcessId.get(pid);
+            if (totals == null) {
+                return;
+            }
+        }
+
+        totals.processCount++;
+        totals.cpuTicks += counters.cpuTicks;
+        totals.sampleNanos = nanoTime.getAsLong();
+        final int statmLength = ProcfsParser.readFile(processDirectory.resolve(STATM_FILE), readBuffer);
+        if (statmLength >= 0 && ProcfsParser.parseStatm(readBuffer.array(), statmLength, counters)) {
+            totals.residentPages += counters.residentPages;
+        }
+        // io is only readable by processes allowed to trace the process, so it may be missing
+        final int ioLength = ProcfsParser.readFile(processDirectory.resolve(IO_FILE), readBuffer);
+        if (ioLength >= 0 && ProcfsParser.parseIo(readBuffer.array(), ioLength, counters)) {
+            totals.readBytes += counters.readBytes;
+            totals.writeBytes += counters.writeBytes;
+        }
+    }
+
+    private ProcessResourceSample toSample(final long pid,
+                                           final ProcessGroupTotals totals,
+                                           final ProcessGroupTotals previousTotals) {
+        final long residentSetBytes = totals.residentPages * pageSize;
+        if (previousTotals == null || totals.sampleNanos <= previousTotals.sampleNanos) {
+            return new ProcessResourceSample(pid, totals.processCount, -1, residentSetBytes, -1, -1);
+        }
+        final double elapsedSeconds = (totals.sampleNanos - previousTotals.sampleNanos) / 1e9;
+        // Totals drop when descendants exit, so rates are never reported below zero
+        final double cpuSeconds = Math.max(0, totals.cpuTicks - previousTotals.cpuTicks)
+                / (double) CLOCK_TICKS_PER_SECOND;
+        return new ProcessResourceSample(pid, totals.processCount,
+                cpuSeconds / elapsedSeconds * 100,
+                residentSetBytes,
+                Math.round(Math.max(0, totals.readBytes - previousTotals.readBytes) / elapsedSeconds),
+                Math.round(Math.max(0, totals.writeBytes - previousTotals.writeBytes) / elapsedSeconds));
+    }
+
+    private void logSummary(final Map<String, ProcessResourceSample> samples, final long sampleNanos) {
+        double totalCpuPercent = 0;
+        long totalResidentSetBytes = 0;
+        long totalReadBytesPerSecond = 0;
+        long totalWriteBytesPerSecond = 0;
+        String busiestProcessUUID = null;
+        double busiestCpuPercent = -1;
+        for (final Map.Entry<String, ProcessResourceSample> entry : samples.entrySet()) {
+            final ProcessResourceSample sample = entry.getValue();
+            totalCpuPercent += Math.max(0, sample.getCpuPercent());
+            totalResidentSetBytes += sample.getResidentSetBytes();
+            totalReadBytesPerSecond += Math.max(0, sample.getReadBytesPerSecond());
+            totalWriteBytesPerSecond += Math.max(0, sample.getWriteBytesPerSecond());
+            if (sample.getCpuPercent() > busiestCpuPercent) {
+                busiestCpuPercent = sample.getCpuPercent();
+                busiestProcessUUID = entry.getKey();
+            }
+        }
+        log.info("Sampled {} game server processes in {} us: CPU {}%, RSS {} MiB, read {} B/s, write {} B/s; "
+                        + "busiest process {} at CPU {}%",
+                samples.size(), TimeUnit.NANOSECONDS.toMicros(sampleNanos), Math.round(totalCpuPercent),
+                totalResidentSetBytes / BYTES_PER_MEBIBYTE, totalReadBytesPerSecond, totalWriteBytesPerSecond,
+                busiestProcessUUID, Math.round(busiestCpuPercent));
+    }
+}
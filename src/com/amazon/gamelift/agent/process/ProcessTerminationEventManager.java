@@ -7,7 +7,6 @@ import com.amazon.gamelift.agent.model.ProcessTerminationReason;
 import com.amazon.gamelift.agent.model.exception.AgentException;
 import com.amazon.gamelift.agent.model.websocket.NotifyServerProcessTerminationRequest;
 import com.amazon.gamelift.agent.model.websocket.base.WebsocketResponse;
-import com.amazon.gamelift.agent.utils.RetryHelper;
 import com.amazon.gamelift.agent.websocket.AgentWebSocket;
 import com.amazon.gamelift.agent.websocket.WebSocketConnectionProvider;
 import com.google.common.annotations.VisibleForTesting;
@@ -27,31 +26,39 @@ public class ProcessTerminationEventManager {
     private final WebSocketConnectionProvider webSocketConnectionProvider;
 
     /**
-     * Reports a process has terminated on the compute by calling the NotifyServerProcessTermination API.
-     * This is required primarily for scenarios where processes crash or are terminated forcefully, in which case
-     * the GameLift Server SDK may not send a message that the process has terminated.
+     * Reports a process has terminated on the compute by calling the NotifyServerProcessTermination API once, waiting
+     * for GameLift's response. This is required primarily for scenarios where processes crash or are terminated
+     * forcefully, in which case the GameLift Server SDK may not send a message that the process has terminated.
+     * Callers schedule their own retries, such as {@link ProcessTerminationReporter}, which calls this method from its
+     * own executor so that a slow response never blocks the process exit path.
      *
      * @param processUuid the process UUID used to register through the GameLift Server SDK
      * @param processExitCode the numeric process exit code for the server process
      * @param unvalidatedTerminationReason the reason for the termination, which may be null
-     * @throws AgentException if the call to NotifyServerProcessTermination fails
+     * @throws AgentException if GameLift responds to NotifyServerProcessTermination with an error
      */
     public void notifyServerProcessTermination(final String processUuid,
                                                final int processExitCode,
                                                final ProcessTerminationReason unvalidatedTerminationReason)
             throws AgentException {
+        final NotifyServerProcessTerminationRequest notifyRequest =
+                buildNotifyRequest(processUuid, processExitCode, unvalidatedTerminationReason);
+        final AgentWebSocket client = webSocketConnectionProvider.getCurrentConnection();
+        client.sendRequest(notifyRequest, WebsocketResponse.class, REQUEST_TIMEOUT);
+    }
 
+    private NotifyServerProcessTerminationRequest buildNotifyRequest(
+            final String processUuid,
+            final int processExitCode,
+            final ProcessTerminationReason unvalidatedTerminationReason) {
         final ProcessTerminationReason validatedReason =
                 validateTerminationReason(processExitCode, unvalidatedTerminationReason);
         log.info("Reporting process termination for process ID {} with reason: {}", processUuid, validatedReason);
-        final NotifyServerProcessTerminationRequest notifyRequest = NotifyServerProcessTerminationRequest.builder()
+        return NotifyServerProcessTerminationRequest.builder()
                 .processId(processUuid)
                 .eventCode(validatedReason.getEventCode())
                 .terminationReason(validatedReason.name())
                 .build();
-
-        final AgentWebSocket client = webSocketConnectionProvider.getCurrentConnection();
-        RetryHelper.runRetryable(() -> client.sendRequest(notifyRequest, WebsocketResponse.class, REQUEST_TIMEOUT));
     }
 
     /**
@@ -0,0 +1,157 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process;
+
+import com.amazon.gamelift.agent.model.ProcessTerminationReason;
+import com.amazon.gamelift.agent.model.exception.AgentException;
+import com.amazon.gamelift.agent.utils.ExecutorServiceSafeRunnable;
+import com.google.common.annotations.VisibleForTesting;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.amazon.gamelift.agent.module.ThreadingModule.GAME_PROCESS_TERMINATION_REPORT_EXECUTOR;
+
+/**
+ * Reports game server process terminations to GameLift off of the process exit path.
+ *
+ * Reports are queued on a dedicated executor and each attempt sends a single NotifyServerProcessTermination request,
+ * waiting on the executor's thread for GameLift's response. Failed attempts, including error responses such as
+ * throttling, are put back on the executor's delay queue with exponential backoff instead of sleeping, so a slow or
+ * failing report never holds up process slot release, log collection or the other queued reports.
+ */
+@Slf4j
+@Singleton
+public class ProcessTerminationReporter {
+
+    @VisibleForTesting static final int MAX_REPORT_ATTEMPTS = 6;
+    @VisibleForTesting static final long INITIAL_RETRY_DELAY_MILLIS = 500L;
+    @VisibleForTesting static final long MAX_RETRY_DELAY_MILLIS = 15000L;
+
+    private final ProcessTerminationEventManager processTerminationEventManager;
+    private final ScheduledExecutorService executorService;
+    // Completed once their report has been acknowledged by GameLift or abandoned
+    private final Set<CompletableFuture<Void>> pendingReports = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constructor for ProcessTerminationReporter
+     * @param processTerminationEventManager
+     * @param executorService
+     */
+    @Inject
+    public ProcessTerminationReporter(
+            final ProcessTerminationEventManager processTerminationEventManager,
+            @Named(GAME_PROCESS_TERMINATION_REPORT_EXECUTOR) final ScheduledExecutorService executorService) {
+        this.processTerminationEventManager = processTerminationEventManager;
+        this.executorService = executorService;
+    }
+
+    /**
+     * Queues a process termination report. Returns immediately; the report is sent, and retried on failure, on the
+     * reporter's executor.
+     * @param processUuid the process UUID used to register through the GameLift Server SDK
+     * @param processExitCode the numeric process exit code for the server process
+     * @param terminationReason the reason for the termination, which may be null
+     */
+    public void reportProcessTermination(final String processUuid,
+                                         final int processExitCode,
+                                         final ProcessTerminationReason terminationReason) {
+        final TerminationReport report = new TerminationReport(processUuid, processExitCode, terminationReason,
+                new CompletableFuture<>());
+        pendingReports.add(report.getCompletion());
+        scheduleAttempt(report, 1, 0L);
+    }
+
+    /**
+     * @return number of termination reports which have not yet been acknowledged by GameLift or abandoned
+     */
+    public int getPendingReportCount() {
+        return pendingReports.size();
+    }
+
+    /**
+     * Waits for the termination reports queued so far to be acknowledged by GameLift or abandoned
+     * @param timeout maximum time to wait
+     * @return true if all of the reports completed within the timeout
+     * @throws InterruptedException
+     */
+    public boolean awaitPendingReports(final Duration timeout) throws InterruptedException {
+        try {
+            CompletableFuture.allOf(pendingReports.toArray(new CompletableFuture<?>[0]))
+                    .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (final TimeoutException e) {
+            return false;
+        } catch (final ExecutionException e) {
+            // Reports are only ever completed normally
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void scheduleAttempt(final TerminationReport report, final int attempt, final long delayMillis) {
+        try {
+            executorService.schedule(new ExecutorServiceSafeRunnable(() -> attemptReport(report, attempt)),
+                    delayMillis, TimeUnit.MILLISECONDS);
+        } catch (final RejectedExecutionException e) {
+            complete(report);
+            log.error("Termination report executor is shut down; dropping termination report for process ID {}",
+                    report.getProcessUuid());
+        }
+    }
+
+    private void attemptReport(final TerminationReport report, final int attempt) {
+        try {
+            processTerminationEventManager.notifyServerProcessTermination(report.getProcessUuid(),
+                    report.getProcessExitCode(), report.getTerminationReason());
+        } catch (final Exception e) {
+            onAttemptFailed(report, attempt, e);
+            return;
+        }
+        complete(report);
+    }
+
+    private void onAttemptFailed(final TerminationReport report, final int attempt, final Exception e) {
+        final boolean isRetryable = !(e instanceof AgentException) || ((AgentException) e).isRetryable();
+        if (isRetryable && attempt < MAX_REPORT_ATTEMPTS) {
+            final long retryDelayMillis = getRetryDelayMillis(attempt);
+            log.warn("Termination report attempt {} / {} failed for process ID {}; retrying in {} milliseconds",
+                    attempt, MAX_REPORT_ATTEMPTS, report.getProcessUuid(), retryDelayMillis, e);
+            scheduleAttempt(report, attempt + 1, retryDelayMillis);
+        } else {
+            complete(report);
+            log.error("Failed to report process termination for process ID {} after {} attempts",
+                    report.getProcessUuid(), attempt, e);
+        }
+    }
+
+    private void complete(final TerminationReport report) {
+        pendingReports.remove(report.getCompletion());
+        report.getCompletion().complete(null);
+    }
+
+    @VisibleForTesting
+    static long getRetryDelayMillis(final int attempt) {
+        return Math.min(MAX_RETRY_DELAY_MILLIS, INITIAL_RETRY_DELAY_MILLIS << Math.min(attempt - 1, 20));
+    }
+
+    @Value
+    private static class TerminationReport {
+        String processUuid;
+        int processExitCode;
+        ProcessTerminationReason terminationReason;
+        CompletableFuture<Void> completion;
+    }
+}
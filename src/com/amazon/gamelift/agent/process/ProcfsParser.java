@@ -0,0 +1,281 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process;
+
+import com.amazon.gamelift.agent.linux.LibC;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * Reads and parses the procfs files used by the {@link ProcessResourceSampler} and the {@link ProcessGroupReaper}
+ * directly from the bytes read, without decoding them into Strings, so scanning hundreds of processes allocates
+ * nothing per file. Also loads the libc bindings shared by the classes which inspect or control Linux processes.
+ */
+@Slf4j
+final class ProcfsParser {
+    // procfs files read by the agent are well below a page in size
+    static final int READ_BUFFER_SIZE = 4096;
+    static final long DEFAULT_PAGE_SIZE = 4096;
+    private static final byte[] READ_BYTES_KEY = "read_bytes:".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] WRITE_BYTES_KEY = "write_bytes:".getBytes(StandardCharsets.US_ASCII);
+    // Fields of /proc/<pid>/stat, numbered from 1 as in proc(5); fields from 3 on follow the parenthesized command
+    private static final int STAT_FIRST_FIELD_AFTER_COMMAND = 3;
+    private static final int STAT_STATE_FIELD = 3;
+    private static final int STAT_PARENT_PROCESS_FIELD = 4;
+    private static final int STAT_PROCESS_GROUP_FIELD = 5;
+    private static final int STAT_SESSION_FIELD = 6;
+    private static final int STAT_USER_TIME_FIELD = 14;
+    private static final int STAT_SYSTEM_TIME_FIELD = 15;
+    private static final int STAT_START_TIME_FIELD = 22;
+    // Field of /proc/<pid>/statm, numbered from 1 as in proc(5)
+    private static final int STATM_RESIDENT_FIELD = 2;
+
+    /**
+     * Counters of a single process, reused for every process sampled
+     */
+    static final class ProcessCounters {
+        long processGroupId;
+        // Single character process state, e.g. 'Z' for a zombie waiting to be reaped
+        byte state;
+        long parentProcessId;
+        long sessionId;
+        // Time the process started after system boot, in clock ticks
+        long startTicks;
+        // User and system CPU time in clock ticks
+        long cpuTicks;
+        long residentPages;
+        long readBytes;
+        long writeBytes;
+    }
+
+    private ProcfsParser() {
+    }
+
+    /**
+     * Reads a procfs file into a buffer, replacing its previous contents
+     * @return the number of bytes read, or -1 if the file could not be read
+     */
+    static int readFile(final Path file, final ByteBuffer buffer) {
+        buffer.clear();
+        try (FileChannel channel = FileChannel.open(file)) {
+            while (buffer.hasRemaining() && channel.read(buffer) > 0) {
+                // procfs returns the file in one or more reads
+            }
+            return buffer.position();
+        } catch (final IOException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * @param unavailableFeature what the caller cannot do without libc, logged if libc fails to load
+     * @return libc bindings, or null if libc could not be loaded
+     */
+    static LibC loadLibC(final String unavailableFeature) {
+        try {
+            return LibC.INSTANCE;
+        } catch (final LinkageError e) {
+            log.warn("Failed to load libc; {}", unavailableFeature, e);
+            return null;
+        }
+    }
+
+    /**
+     * @return the size of a memory page, or {@value #DEFAULT_PAGE_SIZE} bytes if libc could not be loaded
+     */
+    static long loadPageSize() {
+        final LibC libC = loadLibC(String.format("assuming a page size of %d bytes", DEFAULT_PAGE_SIZE));
+        return libC == null ? DEFAULT_PAGE_SIZE : libC.getpagesize();
+    }
+
+    /**
+     * Parses the process group and CPU time from the contents of /proc/[pid]/stat
+     * @return false if the contents are malformed
+     */
+    static boolean parseStat(final byte[] buffer, final int length, final ProcessCounters counters) {
+        int position = findFirstFieldAfterCommand(buffer, length);
+        if (position < 0) {
+            return false;
+        }
+
+        long userTicks = -1;
+        for (int field = STAT_FIRST_FIELD_AFTER_COMMAND; field <= STAT_SYSTEM_TIME_FIELD && position < length;
+                field++) {
+            final int fieldEnd = findFieldEnd(buffer, position, length);
+            if (field == STAT_PROCESS_GROUP_FIELD) {
+                counters.processGroupId = parseLong(buffer, position, fieldEnd);
+            } else if (field == STAT_USER_TIME_FIELD) {
+                userTicks = parseLong(buffer, position, fieldEnd);
+            } else if (field == STAT_SYSTEM_TIME_FIELD) {
+                final long systemTicks = parseLong(buffer, position, fieldEnd);
+                if (userTicks < 0 || systemTicks < 0 || counters.processGroupId < 0) {
+                    return false;
+                }
+                counters.cpuTicks = userTicks + systemTicks;
+                return true;
+            }
+            position = fieldEnd + 1;
+        }
+        return false;
+    }
+
+    /**
+     * Parses the state, parent, process group, session and start time from the contents of /proc/[pid]/stat
+     * @return false if the contents are malformed
+     */
+    static boolean parseStatLineage(final byte[] buffer, final int length, final ProcessCounters counters) {
+        int position = findFirstFieldAfterCommand(buffer, length);
+        if (position < 0) {
+            return false;
+        }
+
+        for (int field = STAT_FIRST_FIELD_AFTER_COMMAND; field <= STAT_START_TIME_FIELD && position < length;
+                field++) {
+            final int fieldEnd = findFieldEnd(buffer, position, length);
+            if (field == STAT_STATE_FIELD) {
+                if (fieldEnd != position + 1) {
+                    return false;
+                }
+                counters.state = buffer[position];
+            } else if (field == STAT_PARENT_PROCESS_FIELD) {
+                counters.parentProcessId = parseLong(buffer, position, fieldEnd);
+            } else if (field == STAT_PROCESS_GROUP_FIELD) {
+                counters.processGroupId = parseLong(buffer, position, fieldEnd);
+            } else if (field == STAT_SESSION_FIELD) {
+                counters.sessionId = parseLong(buffer, position, fieldEnd);
+            } else if (field == STAT_START_TIME_FIELD) {
+                counters.startTicks = parseLong(buffer, position, fieldEnd);
+                return counters.parentProcessId >= 0 && counters.processGroupId >= 0 && counters.sessionId >= 0
+                        && counters.startTicks >= 0;
+            }
+            position = fieldEnd + 1;
+        }
+        return false;
+    }
+
+    /**
+     * Parses the resident set size from the contents of /proc/[pid]/statm
+     * @return false if the contents are malformed
+     */
+    static boolean parseStatm(final byte[] buffer, final int length, final ProcessCounters counters) {
+        int position = 0;
+        for (int field = 1; position < length; field++) {
+            final int fieldEnd = findFieldEnd(buffer, position, length);
+            if (field == STATM_RESIDENT_FIELD) {
+                counters.residentPages = parseLong(buffer, position, fieldEnd);
+                return counters.residentPages >= 0;
+            }
+            position = fieldEnd + 1;
+        }
+        return false;
+    }
+
+    /**
+     * Parses the bytes read from and written to storage from the contents of /proc/[pid]/io
+     * @return false if the contents are malformed
+     */
+    static boolean parseIo(final byte[] buffer, final int length, final ProcessCounters counters) {
+        counters.readBytes = -1;
+        counters.writeBytes = -1;
+        int lineStart = 0;
+        while (lineStart < length) {
+            int lineEnd = lineStart;
+            while (lineEnd < length && buffer[lineEnd] != '\n') {
+                lineEnd++;
+            }
+            if (startsWith(buffer, lineStart, lineEnd, READ_BYTES_KEY)) {
+                counters.readBytes = parseLong(buffer, skipSpaces(buffer, lineStart + READ_BYTES_KEY.length, lineEnd),
+                        lineEnd);
+            } else if (startsWith(buffer, lineStart, lineEnd, WRITE_BYTES_KEY)) {
+                counters.writeBytes = parseLong(buffer,
+                        skipSpaces(buffer, lineStart + WRITE_BYTES_KEY.length, lineEnd), lineEnd);
+            }
+            lineStart = lineEnd + 1;
+        }
+        return counters.readBytes >= 0 && counters.writeBytes >= 0;
+    }
+
+    /**
+     * Parses the process ID from the name of a /proc directory
+     * @return the process ID, or -1 if the directory is not a process directory
+     */
+    static long parseProcessId(final String fileName) {
+        if (fileName.isEmpty()) {
+            return -1;
+        }
+        long pid = 0;
+        for (int i = 0; i < fileName.length(); i++) {
+            final char c = fileName.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            pid = pid * 10 + (c - '0');
+        }
+        return pid;
+    }
+
+    /**
+     * @return the position of the state field of /proc/[pid]/stat, or -1 if the contents are malformed
+     */
+    private static int findFirstFieldAfterCommand(final byte[] buffer, final int length) {
+        // The command may contain spaces and parentheses, so fields are counted from the last closing parenthesis
+        int position = length - 1;
+        while (position >= 0 && buffer[position] != ')') {
+            position--;
+        }
+        return position < 0 ? -1 : position + 2;
+    }
+
+    private static int findFieldEnd(final byte[] buffer, final int position, final int length) {
+        int fieldEnd = position;
+        while (fieldEnd < length && buffer[fieldEnd] != ' ' && buffer[fieldEnd] != '\n') {
+            fieldEnd++;
+        }
+        return fieldEnd;
+    }
+
+    private static int skipSpaces(final byte[] buffer, final int position, final int end) {
+        int nextPosition = position;
+        while (nextPosition < end && buffer[nextPosition] == ' ') {
+            nextPosition++;
+        }
+        return nextPosition;
+    }
+
+    private static boolean startsWith(final byte[] buffer, final int start, final int end, final byte[] prefix) {
+        if (end - start < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (buffer[start + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses a non-negative decimal number
+     * @return the number, or -1 if the range is empty or not a number
+     */
+    private static long parseLong(final byte[] buffer, final int start, final int end) {
+        if (start >= end) {
+            return -1;
+        }
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            final int digit = buffer[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process;
+
+import com.amazon.gamelift.agent.model.GameProcessConfiguration;
+import com.amazon.gamelift.agent.model.ProcessTerminationReason;
+import com.amazon.gamelift.agent.model.RuntimeConfiguration;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Drains the processes launched from process configurations which are no longer part of the runtime configuration,
+ * so that the compute converges to a new runtime configuration shortly after it is deployed, rather than once the old
+ * processes happen to exit.
+ *
+ * Every process whose configuration has been removed is marked as draining. A draining process is stopped as soon as
+ * it holds no game session; a draining process hosting a game session is left to exit on its own, so that players are
+ * never disconnected by a deploy. Stopped processes release their slot immediately, which lets the GameProcessMonitor
+ * launch their replacements from the current runtime configuration in the same run that stopped them.
+ *
+ * A configuration is identified by its LaunchPath and Parameters only. Changing how many processes of a build run, or
+ * how they are tuned (timeouts, resource limits), does not remove it, so rescaling a
+ * configuration never restarts its processes.
+ */
+@Slf4j
+@Singleton
+public class RuntimeConfigurationReconciler implements GameProcessLifecycleListener {
+
+    private final GameProcessManager gameProcessManager;
+    private final Set<String> drainingProcessUUIDs = ConcurrentHashMap.newKeySet();
+    private final Set<String> stoppingProcessUUIDs = ConcurrentHashMap.newKeySet();
+    private boolean isConverging;
+
+    /**
+     * Constructor for RuntimeConfigurationReconciler
+     * @param gameProcessManager
+     */
+    @Inject
+    public RuntimeConfigurationReconciler(final GameProcessManager gameProcessManager) {
+        this.gameProcessManager = gameProcessManager;
+    }
+
+    /**
+     * Mark the processes of removed process configurations as draining, stop the draining processes which hold no game
+     * session, and report how far the compute has converged to the runtime configuration
+     * @param runtimeConfiguration the current runtime configuration
+     */
+    public synchronized void reconcile(final RuntimeConfiguration runtimeConfiguration) {
+        // Drop processes whose exit raced with a previous reconciliation
+        final Set<String> managedProcessUUIDs = gameProcessManager.getAllProcessUUIDs();
+        drainingProcessUUIDs.retainAll(managedProcessUUIDs);
+        stoppingProcessUUIDs.retainAll(managedProcessUUIDs);
+
+        final Set<List<Object>> processConfigurationIdentities = runtimeConfiguration.getServerProcesses().stream()
+                .map(RuntimeConfigurationReconciler::getLaunchIdentity)
+                .collect(Collectors.toSet());
+        int convergedProcessCount = 0;
+        int stoppingProcessCount = 0;
+        int awaitingGameSessionEndCount = 0;
+        for (final GameProcess gameProcess : gameProcessManager.getProcesses()) {
+            final String processUuid = gameProcess.getProcessUUID();
+            if (stoppingProcessUUIDs.contains(processUuid)) {
+                stoppingProcessCount++;
+                continue;
+            }
+            if (processConfigurationIdentities.contains(getLaunchIdentity(gameProcess.getProcessConfiguration()))) {
+                // The configuration may have been restored by a later runtime configuration
+                drainingProcessUUIDs.remove(processUuid);
+                convergedProcessCount++;
+                continue;
+            }
+
+            if (drainingProcessUUIDs.add(processUuid)) {
+                log.info("Draining process {} launched from removed configuration: {}", processUuid,
+                        gameProcess.getProcessConfiguration());
+            }
+            if (gameProcess.getGameSessionId() != null) {
+                awaitingGameSessionEndCount++;
+                continue;
+            }
+            log.info("Stopping draining process {}; it holds no game session", processUuid);
+            stoppingProcessUUIDs.add(processUuid);
+            stoppingProcessCount++;
+            try {
+                gameProcessManager.terminateProcessByUUID(processUuid, ProcessTerminationReason.NORMAL_TERMINATION);
+            } catch (final Exception e) {
+                log.error("Failed to stop draining process {}", processUuid, e);
+            }
+        }
+
+        if (stoppingProcessCount + awaitingGameSessionEndCount > 0) {
+            isConverging = true;
+            final int targetProcessCount = runtimeConfiguration.getServerProcesses().stream()
+                    .mapToInt(GameProcessConfiguration::getConcurrentExecutions).sum();
+            log.info("Converging to the runtime configuration: {} of {} processes running from current "
+                    + "configurations, {} draining processes stopping and {} waiting for their game session to end",
+                    convergedProcessCount, targetProcessCount, stoppingProcessCount, awaitingGameSessionEndCount);
+        } else if (isConverging) {
+            isConverging = false;
+            log.info("Converged to the runtime configuration; no processes of removed configurations remain");
+        }
+    }
+
+    /**
+     * Gets the number of draining processes which have been stopped but have not exited yet. These processes no longer
+     * occupy a slot of the runtime configuration.
+     * @return number of stopped draining processes still managed by the GameLift agent
+     */
+    public int getStoppingProcessCount() {
+        final Set<String> managedProcessUUIDs = gameProcessManager.getAllProcessUUIDs();
+        return (int) stoppingProcessUUIDs.stream().filter(managedProcessUUIDs::contains).count();
+    }
+
+    /**
+     * @return number of processes of removed configurations which have not exited yet
+     */
+    public int getDrainingProcessCount() {
+        return drainingProcessUUIDs.size();
+    }
+
+    /**
+     * Identifies the build a process configuration launches, ignoring its sizing and tuning fields
+     */
+    private static List<Object> getLaunchIdentity(final GameProcessConfiguration processConfiguration) {
+        return List.of(processConfiguration.getLaunchPath(), processConfiguration.getParameters());
+    }
+
+    @Override
+    public void onProcessExited(final GameProcess gameProcess) {
+        drainingProcessUUIDs.remove(gameProcess.getProcessUUID());
+        stoppingProcessUUIDs.remove(gameProcess.getProcessUUID());
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process.builder;
+
+import com.amazon.gamelift.agent.module.ConfigModule;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Launches Linux game server processes through a small persistent helper process, so that the agent JVM does not fork
+ * itself for every launch.
+ *
+ * The helper is a /bin/sh loop which evaluates one launch request per line read from its stdin. For each request it
+ * forks a waiter subshell, which starts the game server in its own session with setsid and exec, reports the game
+ * server's PID, waits for it and reports its exit status. Reports are read from the helper's stdout by a daemon thread.
+ * Because the waiters are children of the helper, the exit status of every game server is still known to the agent,
+ * and game servers keep being tracked if the helper itself dies; the next launch simply starts a new helper.
+ *
+ * A launch falls back to ProcessBuilder if the helper cannot be started or written to, or if the launch cannot be
+ * written as a single line because an argument or environment variable contains a line break.
+ */
+@Slf4j
+@Singleton
+public class ForkServer {
+    @VisibleForTesting static final String HELPER_SCRIPT = "while IFS= read -r request; do eval \"$request\"; done";
+    // Maximum time to wait for the helper to report the PID of a launched process
+    @VisibleForTesting static final Duration LAUNCH_TIMEOUT = Duration.ofSeconds(10);
+    private static final String SHELL = "/bin/sh";
+    private static final String STARTED_REPORT = "S";
+    private static final String EXITED_REPORT = "E";
+    private static final String FAILED_REPORT = "F";
+    private static final ThreadFactory REPORT_READER_THREAD_FACTORY = new ThreadFactoryBuilder()
+            .setNameFormat(ForkServer.class.getSimpleName() + "-ReportReader-%d")
+            .setDaemon(true)
+            .build();
+
+    private final boolean isEnabled;
+    private final AtomicLong nextRequestId = new AtomicLong();
+    @VisibleForTesting
+    final Map<Long, CompletableFuture<ForkServerProcess>> pendingLaunches = new ConcurrentHashMap<>();
+    // Guarded by this
+    private Process helperProcess;
+    private Writer requestWriter;
+
+    /**
+     * Constructor for ForkServer
+     * @param isEnabled whether Linux game server processes are launched through the fork server
+     */
+    @Inject
+    public ForkServer(@Named(ConfigModule.FORK_SERVER_LAUNCH) final boolean isEnabled) {
+        this.isEnabled = isEnabled;
+    }
+
+    /**
+     * @return true if game server processes should be launched through the fork server
+     */
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * Launches a game server process through the fork server
+     * @param launchTemplate launch template of the process configuration
+     * @param environmentVariables environment variables added to the agent's environment for the process
+     * @return the launched process, or empty if the launch must fall back to ProcessBuilder
+     * @throws IOException if the fork server accepted the launch but did not start the process
+     */
+    public Optional<Process> launch(final LaunchTemplate launchTemplate,
+                                    final Map<String, String> environmentVariables) throws IOException {
+        if (!isEnabled) {
+            return Optional.empty();
+        }
+        final long requestId = nextRequestId.incrementAndGet();
+        final String request = encodeLaunchRequest(requestId, launchTemplate, environmentVariables);
+        if (request == null) {
+            log.warn("Launch of {} cannot be sent to the fork server; launching with ProcessBuilder",
+                    launchTemplate.getCommand());
+            return Optional.empty();
+        }
+
+        final CompletableFuture<ForkServerProcess> launchedProcess = new CompletableFuture<>();
+        pendingLaunches.put(requestId, launchedProcess);
+        try {
+            if (!sendRequest(request)) {
+                return Optional.empty();
+            }
+            return Optional.of(launchedProcess.get(LAUNCH_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+        } catch (final TimeoutException e) {
+            // The process may have been reported just after the timeout; otherwise it is killed once it is reported
+            if (!launchedProcess.completeExceptionally(e)) {
+                return Optional.of(launchedProcess.join());
+            }
+            throw new IOException("Fork server did not report the launched process within " + LAUNCH_TIMEOUT, e);
+        } catch (final ExecutionException e) {
+            throw new IOException("Fork server failed to launch the process", e.getCause());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            launchedProcess.completeExceptionally(e);
+            throw new IOException("Interrupted while waiting for the fork server to launch the process", e);
+        } finally {
+            pendingLaunches.remove(requestId);
+        }
+    }
+
+    /**
+     * Writes a launch request to the helper, starting a new helper if there is none running.
+     * @return false if the request could not be sent
+     */
+    private synchronized boolean sendRequest(final String request) {
+        try {
+            if (helperProcess == null || !helperProcess.isAlive()) {
+                startHelper();
+            }
+            requestWriter.write(request);
+            requestWriter.write('\n');
+            requestWriter.flush();
+            return true;
+        } catch (final IOException e) {
+            log.error("Failed to send a launch request to the fork server; launching with ProcessBuilder", e);
+            if (helperProcess != null) {
+                helperProcess.destroy();
+                helperProcess = null;
+            }
+            return false;
+        }
+    }
+
+    private void startHelper() throws IOException {
+        final Process helper = new ProcessBuilder(SHELL, "-c", HELPER_SCRIPT)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        requestWriter = new BufferedWriter(new OutputStreamWriter(helper.getOutputStream(), StandardCharsets.UTF_8));
+        final BufferedReader reportReader =
+                new BufferedReader(new InputStreamReader(helper.getInputStream(), StandardCharsets.UTF_8));
+        REPORT_READER_THREAD_FACTORY.newThread(() -> readReports(reportReader)).start();
+        helper.onExit().thenRun(() -> log.info("Fork server with PID {} exited", helper.pid()));
+        helperProcess = helper;
+        log.info("Started fork server with PID {}", helper.pid());
+    }
+
+    /**
+     * Reads the reports of a single helper until every process it launched has exited and the helper is gone. A
+     * report which cannot be parsed is skipped.
+     */
+    @VisibleForTesting
+    void readReports(final BufferedReader reportReader) {
+        final Map<Long, ForkServerProcess> runningProcesses = new HashMap<>();
+        try (reportReader) {
+            String report;
+            while ((report = reportReader.readLine()) != null) {
+                try {
+                    handleReport(report, runningProcesses);
+                } catch (final RuntimeException e) {
+                    log.error("Ignoring malformed fork server report: {}", report, e);
+                }
+            }
+            // Waiters hold the report pipe open until they have reported, so these processes' exits were not reported
+            runningProcesses.values().forEach(process -> process.exited(ForkServerProcess.UNKNOWN_EXIT_CODE));
+            runningProcesses.clear();
+        } catch (final IOException e) {
+            // The processes may still be running, so their exits are now tracked through their PIDs instead
+            log.error("Failed to read reports from the fork server; tracking the exits of its {} running processes "
+                    + "by PID", runningProcesses.size(), e);
+            runningProcesses.values().forEach(ForkServer::trackExitByPid);
+        }
+    }
+
+    private static void trackExitByPid(final ForkServerProcess process) {
+        ProcessHandle.of(process.pid()).ifPresentOrElse(
+                processHandle -> processHandle.onExit()
+                        .thenRun(() -> process.exited(ForkServerProcess.UNKNOWN_EXIT_CODE)),
+                () -> process.exited(ForkServerProcess.UNKNOWN_EXIT_CODE));
+    }
+
+    private void handleReport(final String report, final Map<Long, ForkServerProcess> runningProcesses) {
+        final String[] fields = report.split(" ");
+        final long requestId = Long.parseLong(fields[1]);
+        switch (fields[0]) {
+            case STARTED_REPORT -> {
+                final ForkServerProcess process = new ForkServerProcess(Long.parseLong(fields[2]));
+                runningProcesses.put(requestId, process);
+                final CompletableFuture<ForkServerProcess> launchedProcess = pendingLaunches.remove(requestId);
+                if (launchedProcess == null || !launchedProcess.complete(process)) {
+                    log.warn("Fork server launched process {} after its launch was abandoned; killing it",
+                            process.pid());
+                    process.destroyForcibly();
+                }
+            }
+            case EXITED_REPORT -> {
+                // Parsed first, so a malformed report leaves the process running until its exit is reported
+                final int exitStatus = Integer.parseInt(fields[2]);
+                final ForkServerProcess process = runningProcesses.remove(requestId);
+                if (process != null) {
+                    process.exited(exitStatus);
+                }
+            }
+            case FAILED_REPORT -> {
+                final CompletableFuture<ForkServerProcess> launchedProcess = pendingLaunches.remove(requestId);
+                if (launchedProcess != null) {
+                    launchedProcess.completeExceptionally(
+                            new IOException("Fork server could not enter the working directory"));
+                }
+            }
+            default -> log.debug("Ignoring unknown fork server report: {}", report);
+        }
+    }
+
+    /**
+     * Writes a launch as a single line of shell for the helper. The waiter subshell starts the process in the
+     * background with the given environment variables added, reports its PID, waits for it and reports its exit
+     * status; every argument is single-quoted, so nothing in the request is interpreted by the shell.
+     * @return the request, or null if the launch cannot be written as a single line
+     */
+    @VisibleForTesting
+    static String encodeLaunchRequest(final long requestId,
+                                      final LaunchTemplate launchTemplate,
+                                      final Map<String, String> environmentVariables) {
+        final StringBuilder request = new StringBuilder("{ ");
+        final File workingDirectory = launchTemplate.getWorkingDirectory();
+        if (workingDirectory != null) {
+            request.append("cd ").append(quote(workingDirectory.getPath()))
+                    .append(" || { echo \"").append(FAILED_REPORT).append(' ').append(requestId).append("\"; exit; }; ");
+        }
+        request.append("env");
+        if (environmentVariables != null) {
+            for (final Map.Entry<String, String> environmentVariable : environmentVariables.entrySet()) {
+                request.append(' ').append(quote(environmentVariable.getKey() + "=" + environmentVariable.getValue()));
+            }
+        }
+        for (final String argument : launchTemplate.getCommand()) {
+            request.append(' ').append(quote(argument));
+        }
+        request.append(" </dev/null >/dev/null 2>&1 & ")
+                .append("echo \"").append(STARTED_REPORT).append(' ').append(requestId).append(" $!\"; ")
+                .append("wait $!; ")
+                .append("echo \"").append(EXITED_REPORT).append(' ').append(requestId).append(" $?\"; } &");
+        final String encodedRequest = request.toString();
+        return encodedRequest.indexOf('\n') >= 0 || encodedRequest.indexOf('\r') >= 0 ? null : encodedRequest;
+    }
+
+    private static String quote(final String value) {
+        return "'" + value.replace("'", "'\\''") + "'";
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process.builder;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * ForkServerProcess is a Java Process for a game server launched by the {@link ForkServer}. The game server is not a
+ * child of the agent JVM, so its exit status is reported by the fork server rather than collected by the JVM.
+ */
+public class ForkServerProcess extends Process {
+
+    // Exit status used when the fork server could not report how the process exited
+    static final int UNKNOWN_EXIT_CODE = -1;
+
+    private final long processId;
+    private final CompletableFuture<Integer> exitStatus = new CompletableFuture<>();
+    // Exit callbacks run off the fork server's reader thread, so a slow callback cannot delay other processes' reports
+    private final CompletableFuture<Process> exitFuture = exitStatus.thenApplyAsync(status -> this);
+
+    ForkServerProcess(final long processId) {
+        this.processId = processId;
+    }
+
+    /**
+     * Records the exit status reported by the fork server
+     * @param status exit status as reported by the shell, 128 + signal number if the process was killed by a signal
+     */
+    void exited(final int status) {
+        exitStatus.complete(status);
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+        // The game server's stdin is not connected to the agent
+        return OutputStream.nullOutputStream();
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        // The game server's stdout is discarded
+        return InputStream.nullInputStream();
+    }
+
+    @Override
+    public InputStream getErrorStream() {
+        // The game server's stderr is discarded
+        return InputStream.nullInputStream();
+    }
+
+    @Override
+    public int waitFor() throws InterruptedException {
+        try {
+            return exitStatus.get();
+        } catch (final ExecutionException e) {
+            return UNKNOWN_EXIT_CODE;
+        }
+    }
+
+    @Override
+    public boolean waitFor(final long timeout, final TimeUnit unit) throws InterruptedException {
+        try {
+            exitStatus.get(timeout, unit);
+            return true;
+        } catch (final TimeoutException e) {
+            return false;
+        } catch (final ExecutionException e) {
+            return true;
+        }
+    }
+
+    @Override
+    public int exitValue() {
+        if (!exitStatus.isDone()) {
+            throw new IllegalThreadStateException("The process has not exited.");
+        }
+        return exitStatus.getNow(UNKNOWN_EXIT_CODE);
+    }
+
+    @Override
+    public void destroy() {
+        ProcessHandle.of(processId).ifPresent(ProcessHandle::destroy);
+    }
+
+    @Override
+    public Process destroyForcibly() {
+        ProcessHandle.of(processId).ifPresent(ProcessHandle::destroyForcibly);
+        return this;
+    }
+
+    @Override
+    public boolean supportsNormalTermination() {
+        return true;
+    }
+
+    @Override
+    public boolean isAlive() {
+        return !exitStatus.isDone();
+    }
+
+    @Override
+    public long pid() {
+        return processId;
+    }
+
+    @Override
+    public CompletableFuture<Process> onExit() {
+        return exitFuture;
+    }
+
+    @Override
+    public ProcessHandle toHandle() {
+        return ProcessHandle.of(processId).orElseThrow(() ->
+                new IllegalStateException("Process " + processId + " has already exited"));
+    }
+}
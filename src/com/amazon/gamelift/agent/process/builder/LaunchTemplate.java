@@ -0,0 +1,24 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process.builder;
+
+import lombok.Value;
+
+import java.io.File;
+import java.util.List;
+
+/**
+ * The parts of a process launch which only depend on the process configuration and operating system, resolved once
+ * per configuration by {@link LaunchTemplateCache} so that each launch only has to fill in its per-process environment.
+ */
+@Value
+public class LaunchTemplate {
+    // Full command vector of the process; shared between launches, so it must never be modified
+    List<String> command;
+    // Command line passed to CreateProcessAsUser on Windows; null on Linux
+    String commandLine;
+    // Directory the process is started in on Linux, or null to use the GameLift agent's working directory. Cached
+    // templates hold the launch path prefix, which LaunchTemplateCache drops on launches where it does not exist.
+    File workingDirectory;
+}
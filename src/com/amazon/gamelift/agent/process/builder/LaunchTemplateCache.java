@@ -0,0 +1,97 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process.builder;
+
+import com.amazon.gamelift.agent.command.CommandTransform;
+import com.amazon.gamelift.agent.command.LinuxCommandTransform;
+import com.amazon.gamelift.agent.model.GameProcessConfiguration;
+import com.amazon.gamelift.agent.model.OperatingSystem;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.Value;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Caches a {@link LaunchTemplate} per process configuration, so that the command vector and working directory are
+ * resolved once rather than on every launch. Launches for the same configuration share the template.
+ *
+ * The cache is bounded, so configurations which were removed from the runtime configuration are eventually evicted.
+ * The working directory is the only part of a template which depends on the state of the host, so whether it exists is
+ * checked again on every launch rather than cached.
+ */
+@Singleton
+public class LaunchTemplateCache {
+    // Far more configurations than a runtime configuration holds, so live configurations are never evicted
+    @VisibleForTesting static final int MAX_CACHED_LAUNCH_TEMPLATES = 100;
+
+    private static final CommandTransform LINUX_COMMAND_TRANSFORM = new LinuxCommandTransform();
+
+    private final Cache<LaunchTemplateKey, LaunchTemplate> launchTemplates = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_LAUNCH_TEMPLATES)
+            .build();
+
+    /**
+     * Constructor for LaunchTemplateCache
+     */
+    @Inject
+    public LaunchTemplateCache() {
+    }
+
+    /**
+     * Returns the launch template for a process configuration, creating it on first use
+     * @param processConfiguration
+     * @param operatingSystem
+     * @return launch template of the configuration, without a working directory if its directory does not exist
+     */
+    public LaunchTemplate getLaunchTemplate(final GameProcessConfiguration processConfiguration,
+                                            final OperatingSystem operatingSystem) {
+        final LaunchTemplate launchTemplate = launchTemplates.asMap().computeIfAbsent(
+                new LaunchTemplateKey(processConfiguration, operatingSystem),
+                key -> createLaunchTemplate(processConfiguration, operatingSystem));
+        // Mostly for testing, but if the launch path prefix does not exist, use the GameLift agent's running
+        // directory. The directory may be created or removed after the template was cached, e.g. by a build install.
+        final File workingDirectory = launchTemplate.getWorkingDirectory();
+        if (workingDirectory == null || workingDirectory.exists()) {
+            return launchTemplate;
+        }
+        return new LaunchTemplate(launchTemplate.getCommand(), launchTemplate.getCommandLine(), null);
+    }
+
+    @VisibleForTesting
+    static LaunchTemplate createLaunchTemplate(final GameProcessConfiguration processConfiguration,
+                                               final OperatingSystem operatingSystem) {
+        return switch (operatingSystem.getOperatingSystemFamily()) {
+            case LINUX -> new LaunchTemplate(
+                    Collections.unmodifiableList(LINUX_COMMAND_TRANSFORM.getFullCommandFromConfig(
+                            processConfiguration)),
+                    null,
+                    new File(operatingSystem.getLaunchPathPrefix()));
+            case WINDOWS -> {
+                final List<String> command = new ArrayList<>();
+                command.add(processConfiguration.getLaunchPath());
+                command.addAll(processConfiguration.getParameters());
+                yield new LaunchTemplate(
+                        Collections.unmodifiableList(command),
+                        WindowsProcessBuilderWrapper.generateCommandLine(processConfiguration.getLaunchPath(),
+                                processConfiguration.getParameters()),
+                        null);
+            }
+            default -> throw new IllegalArgumentException("Failed to create launch template for OS "
+                    + operatingSystem);
+        };
+    }
+
+    @Value
+    private static class LaunchTemplateKey {
+        GameProcessConfiguration processConfiguration;
+        OperatingSystem operatingSystem;
+    }
+}
@@ -3,8 +3,6 @@
  */
 package com.amazon.gamelift.agent.process.builder;
 
-import com.amazon.gamelift.agent.command.CommandTransform;
-import com.amazon.gamelift.agent.command.LinuxCommandTransform;
 import com.amazon.gamelift.agent.model.GameProcessConfiguration;
 import com.amazon.gamelift.agent.model.OperatingSystem;
 import com.amazon.gamelift.agent.model.OperatingSystemFamily;
@@ -19,27 +17,33 @@ import javax.inject.Singleton;
 import java.io.File;
 import java.io.IOException;
 import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @Singleton
 public class LinuxProcessBuilderWrapper implements ProcessBuilderWrapper {
 
-    // Initializing only a single commandTransform
-    private static final CommandTransform COMMAND_TRANSFORM = new LinuxCommandTransform();
-
     private final GameProcessConfiguration processConfiguration;
-    private final OperatingSystem operatingSystem;
+    private final LaunchTemplate launchTemplate;
 
     private final ProcessBuilder processBuilder;
+    private final ForkServer forkServer;
+    private final ProcessOutputCapture processOutputCapture;
 
     /**
      * Constructor for LinuxProcessBuilderWrapper
      * @param processConfiguration
      * @param operatingSystem
+     * @param forkServer
+     * @param processOutputCapture
+     * @param launchTemplateCache
      */
     @Inject
     public LinuxProcessBuilderWrapper(final GameProcessConfiguration processConfiguration,
-                                      @Named(ConfigModule.OPERATING_SYSTEM) final OperatingSystem operatingSystem) {
+                                      @Named(ConfigModule.OPERATING_SYSTEM) final OperatingSystem operatingSystem,
+                                      final ForkServer forkServer,
+                                      final ProcessOutputCapture processOutputCapture,
+                                      final LaunchTemplateCache launchTemplateCache) {
         if (!OperatingSystemFamily.LINUX.equals(operatingSystem.getOperatingSystemFamily())) {
             //Creation validation. This class should only be used for Linux-based OS
             throw new IllegalArgumentException("Attempted to create Linux process for non Linux-based OS. Found "
@@ -47,9 +51,11 @@ public class LinuxProcessBuilderWrapper implements ProcessBuilderWrapper {
         }
 
         this.processConfiguration = processConfiguration;
-        this.operatingSystem = operatingSystem;
+        this.launchTemplate = launchTemplateCache.getLaunchTemplate(processConfiguration, operatingSystem);
 
-        processBuilder = new ProcessBuilder(COMMAND_TRANSFORM.getFullCommandFromConfig(processConfiguration));
+        processBuilder = new ProcessBuilder(launchTemplate.getCommand());
+        this.forkServer = forkServer;
+        this.processOutputCapture = processOutputCapture;
     }
 
     /**
@@ -57,12 +63,18 @@ public class LinuxProcessBuilderWrapper implements ProcessBuilderWrapper {
      * @param processConfiguration
      * @param operatingSystem
      * @param processBuilder
+     * @param forkServer
+     * @param processOutputCapture
+     * @param launchTemplateCache
      * @paragm serverProcessLaunchUser
      */
     @VisibleForTesting
     public LinuxProcessBuilderWrapper(final GameProcessConfiguration processConfiguration,
                       @Named(ConfigModule.OPERATING_SYSTEM) final OperatingSystem operatingSystem,
-                      final ProcessBuilder processBuilder) {
+                      final ProcessBuilder processBuilder,
+                      final ForkServer forkServer,
+                      final ProcessOutputCapture processOutputCapture,
+                      final LaunchTemplateCache launchTemplateCache) {
         if (!OperatingSystemFamily.LINUX.equals(operatingSystem.getOperatingSystemFamily())) {
             //Creation validation. This class should only be used for Linux-based OS
             throw new IllegalArgumentException("Attempted to create Linux process for non Linux-based OS. Found "
@@ -70,8 +82,10 @@ public class LinuxProcessBuilderWrapper implements ProcessBuilderWrapper {
         }
 
         this.processConfiguration = processConfiguration;
-        this.operatingSystem = operatingSystem;
+        this.launchTemplate = launchTemplateCache.getLaunchTemplate(processConfiguration, operatingSystem);
         this.processBuilder = processBuilder;
+        this.forkServer = forkServer;
+        this.processOutputCapture = processOutputCapture;
     }
 
     @Override
@@ -81,18 +95,38 @@ public class LinuxProcessBuilderWrapper implements ProcessBuilderWrapper {
             throw new BadExecutablePathException(String.format("Executable path (%s) is invalid.",
                                                                 processConfiguration.getLaunchPath()));
         }
-        // Mostly for testing, but if operating system could not be detected, use GameLiftAgent running directory
-        // Otherwise, use launch path prefix as our running directory
-        final File directory = new File(operatingSystem.getLaunchPathPrefix());
-        if (directory.exists()) {
-            processBuilder.directory(directory);
+        if (forkServer.isEnabled()) {
+            try {
+                // The fork server applies the launch template itself; an empty result falls back to ProcessBuilder
+                final Optional<Process> process = forkServer.launch(launchTemplate, environmentVariables);
+                if (process.isPresent()) {
+                    return process.get();
+                }
+            } catch (final IOException e) {
+                final String errorMessage = String.format("Failed to start process from configuration [%s] "
+                        + "through the fork server", processConfiguration.toString());
+                log.error(errorMessage, e);
+                throw new RuntimeException(errorMessage, e);
+            }
+        }
+        // The launch template only holds a working directory if it exists
+        if (launchTemplate.getWorkingDirectory() != null) {
+            processBuilder.directory(launchTemplate.getWorkingDirectory());
+        }
+        final Optional<File> outputFile = processOutputCapture.createOutputFile();
+        if (outputFile.isPresent()) {
+            // stdout and stderr share one file, so their tail keeps the order they were written in. The file is opened
+            // for appending so that it can be truncated while the process writes to it.
+            processBuilder.redirectErrorStream(true);
+            processBuilder.redirectOutput(ProcessBuilder.Redirect.appendTo(outputFile.get()));
+        } else {
+            // Large amounts of data to stdout will cause the Process to hang, especially if the stream gets flushed.
+            // Discarding stdout shouldn't affect specific log4j configurations to log to a File, but stdout will be
+            // pointed to /dev/null to effectively discard the output.
+            processBuilder.redirectOutput(ProcessBuilder.Redirect.DISCARD);
+            // Discard error stream to avoid potential SIGPIPE
+            processBuilder.redirectError(ProcessBuilder.Redirect.DISCARD);
         }
-        // Large amounts of data to stdout will cause the Process to hang, especially if the stream gets flushed.
-        // Discarding stdout shouldn't affect specific log4j configurations to log to a File, but stdout will be
-        // pointed to /dev/null to effectively discard the output.
-        processBuilder.redirectOutput(ProcessBuilder.Redirect.DISCARD);
-        // Discard error stream to avoid potential SIGPIPE
-        processBuilder.redirectError(ProcessBuilder.Redirect.DISCARD);
 
         final Map<String, String> processEnvironmentVariables = processBuilder.environment();
         if (environmentVariables != null) {
@@ -100,8 +134,11 @@ public class LinuxProcessBuilderWrapper implements ProcessBuilderWrapper {
         }
 
         try {
-            return processBuilder.start();
+            final Process process = processBuilder.start();
+            outputFile.ifPresent(file -> processOutputCapture.capture(process, file));
+            return process;
         } catch (final IOException e) {
+            outputFile.ifPresent(File::delete);
             final String errorMessage =
                     String.format("Failed to start process from configuration [%s]", processConfiguration.toString());
             log.error(errorMessage, e);
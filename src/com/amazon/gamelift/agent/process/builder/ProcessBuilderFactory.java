@@ -12,15 +12,22 @@ public class ProcessBuilderFactory {
      * Return ProcessBuilderWrapper based on OS
      * @param processConfiguration
      * @param operatingSystem
+     * @param forkServer fork server used to launch processes on Linux, when it is enabled
+     * @param processOutputCapture capture of the output of processes launched on Linux, when it is enabled
+     * @param launchTemplateCache
      * @return
      */
     public static ProcessBuilderWrapper getProcessBuilder(final GameProcessConfiguration processConfiguration,
-                                                          final OperatingSystem operatingSystem) {
+                                                          final OperatingSystem operatingSystem,
+                                                          final ForkServer forkServer,
+                                                          final ProcessOutputCapture processOutputCapture,
+                                                          final LaunchTemplateCache launchTemplateCache) {
         return switch (operatingSystem.getOperatingSystemFamily()) {
             case LINUX ->
-                    new LinuxProcessBuilderWrapper(processConfiguration, operatingSystem);
+                    new LinuxProcessBuilderWrapper(processConfiguration, operatingSystem, forkServer,
+                            processOutputCapture, launchTemplateCache);
             case WINDOWS ->
-                    new WindowsProcessBuilderWrapper(processConfiguration, operatingSystem);
+                    new WindowsProcessBuilderWrapper(processConfiguration, operatingSystem, launchTemplateCache);
             default -> throw new IllegalArgumentException("Failed to find underlying process builder for OS "
                     + operatingSystem);
         };
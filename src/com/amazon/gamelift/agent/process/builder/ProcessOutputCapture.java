@@ -0,0 +1,281 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process.builder;
+
+import com.amazon.gamelift.agent.module.ConfigModule;
+import com.amazon.gamelift.agent.module.ThreadingModule;
+import com.amazon.gamelift.agent.utils.ExecutorServiceSafeRunnable;
+import com.google.common.annotations.VisibleForTesting;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the tail of the combined stdout and stderr of Linux game server processes launched with ProcessBuilder, so
+ * that the output leading up to a crash can be added to the game session logs.
+ *
+ * The output of each captured process is appended to its own file in the process-output directory under the agent
+ * log directory, so a process never waits on the agent to write its output. Every
+ * {@value #SIZE_CHECK_INTERVAL_MILLIS} ms, each file which has grown past {@value #MAX_FILE_SIZE_IN_TAILS} times the
+ * tail size has its tail copied into memory and is truncated, so disk and memory use stay bounded by a few tails per
+ * running process. Output written between the copy and the truncation is lost. Processes launched through the
+ * {@link ForkServer} are not captured.
+ *
+ * Once a process has started, its output file is named after its PID and start time. The file stays open for a
+ * process which outlives an agent restart, and is captured again when the process is re-adopted. Output files whose
+ * process is no longer running are deleted before the first output file of an agent run is created.
+ */
+@Slf4j
+@Singleton
+public class ProcessOutputCapture {
+    @VisibleForTesting static final String OUTPUT_DIRECTORY_NAME = "process-output";
+    @VisibleForTesting static final long SIZE_CHECK_INTERVAL_MILLIS = 1000;
+    @VisibleForTesting static final int MAX_FILE_SIZE_IN_TAILS = 4;
+    private static final String OUTPUT_FILE_PREFIX = "process-";
+    private static final String OUTPUT_FILE_SUFFIX = ".out";
+    private static final Pattern PROCESS_OUTPUT_FILE_PATTERN = Pattern.compile("process-(\\d+)-(\\d+)\\.out");
+    private static final int BYTES_PER_KILOBYTE = 1024;
+
+    /**
+     * Output file of a captured process and the tail saved from it when it was last truncated
+     */
+    private static final class CapturedOutput {
+        private final File outputFile;
+        private byte[] savedTail = new byte[0];
+
+        private CapturedOutput(final File outputFile) {
+            this.outputFile = outputFile;
+        }
+    }
+
+    private final int tailBytes;
+    private final File outputDirectory;
+    private final ScheduledExecutorService executorService;
+    private final Map<Process, CapturedOutput> capturedOutputs = new ConcurrentHashMap<>();
+    private final AtomicBoolean isSizeCheckScheduled = new AtomicBoolean(false);
+    private boolean isOutputDirectoryPrepared = false;
+
+    /**
+     * Constructor for ProcessOutputCapture
+     * @param tailKilobytes amount of output kept per process, or 0 to discard process output
+     * @param agentLogDirectory directory under which the output files of captured processes are created
+     * @param executorService
+     */
+    @Inject
+    public ProcessOutputCapture(
+            @Named(ConfigModule.PROCESS_OUTPUT_TAIL_KILOBYTES) final int tailKilobytes,
+            @Named(ConfigModule.GAMELIFT_AGENT_LOGS_DIRECTORY) final File agentLogDirectory,
+            @Named(ThreadingModule.PROCESS_OUTPUT_CAPTURE_EXECUTOR) final ScheduledExecutorService executorService) {
+        this.tailBytes = Math.max(0, tailKilobytes) * BYTES_PER_KILOBYTE;
+        this.outputDirectory = new File(agentLogDirectory, OUTPUT_DIRECTORY_NAME);
+        this.executorService = executorService;
+    }
+
+    /**
+     * @return true if the output of game server processes should be captured
+     */
+    public boolean isEnabled() {
+        return tailBytes > 0;
+    }
+
+    /**
+     * Creates a file for the output of a process which is about to be started
+     * @return the file to append the process's output to, or empty if output is not captured or the file could not
+     *         be created
+     */
+    public Optional<File> createOutputFile() {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        try {
+            prepareOutputDirectory();
+            return Optional.of(Files.createTempFile(outputDirectory.toPath(), OUTPUT_FILE_PREFIX, OUTPUT_FILE_SUFFIX)
+                    .toFile());
+        } catch (final IOException e) {
+            log.warn("Failed to create output file in {}; process output will be discarded", outputDirectory, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Starts capturing the output of a process started with its output appended to a file from createOutputFile.
+     * The file is renamed after the process, so that it can be captured again if the process is re-adopted.
+     * @param process
+     * @param outputFile
+     */
+    public void capture(final Process process, final File outputFile) {
+        File capturedFile = outputFile;
+        final Optional<File> processOutputFile = getProcessOutputFile(process);
+        if (processOutputFile.isPresent() && outputFile.renameTo(processOutputFile.get())) {
+            capturedFile = processOutputFile.get();
+        } else {
+            log.warn("Failed to name output file {} after its process; the output will not be captured again if the "
+                    + "process is re-adopted", outputFile);
+        }
+        startCapture(process, capturedFile);
+    }
+
+    /**
+     * Starts capturing the output of a process re-adopted after an agent restart, if its output file still exists
+     * @param process
+     */
+    public void adopt(final Process process) {
+        if (!isEnabled()) {
+            return;
+        }
+        getProcessOutputFile(process)
+                .filter(File::isFile)
+                .ifPresent(outputFile -> startCapture(process, outputFile));
+    }
+
+    /**
+     * Stops capturing the output of an exited process and deletes its output file
+     * @param process
+     * @return the tail of the process's output, or empty if it was not captured or wrote nothing
+     */
+    public Optional<byte[]> release(final Process process) {
+        final CapturedOutput capturedOutput = capturedOutputs.remove(process);
+        if (capturedOutput == null) {
+            return Optional.empty();
+        }
+        synchronized (capturedOutput) {
+            try {
+                final byte[] fileTail = readTail(capturedOutput.outputFile);
+                final int savedBytes = Math.min(capturedOutput.savedTail.length, tailBytes - fileTail.length);
+                if (savedBytes + fileTail.length == 0) {
+                    return Optional.empty();
+                }
+                final byte[] tail = new byte[savedBytes + fileTail.length];
+                System.arraycopy(capturedOutput.savedTail, capturedOutput.savedTail.length - savedBytes, tail, 0,
+                        savedBytes);
+                System.arraycopy(fileTail, 0, tail, savedBytes, fileTail.length);
+                return Optional.of(tail);
+            } catch (final IOException e) {
+                log.warn("Failed to read process output file {}", capturedOutput.outputFile, e);
+                return Optional.empty();
+            } finally {
+                if (!capturedOutput.outputFile.delete()) {
+                    log.warn("Failed to delete process output file {}", capturedOutput.outputFile);
+                }
+            }
+        }
+    }
+
+    /**
+     * Saves the tail of every output file which has grown past its size limit and truncates the file
+     */
+    @VisibleForTesting
+    void enforceSizeLimit() {
+        final long maxFileBytes = (long) tailBytes * MAX_FILE_SIZE_IN_TAILS;
+        for (final CapturedOutput capturedOutput : capturedOutputs.values()) {
+            synchronized (capturedOutput) {
+                if (capturedOutput.outputFile.length() <= maxFileBytes) {
+                    continue;
+                }
+                try (RandomAccessFile file = new RandomAccessFile(capturedOutput.outputFile, "rw")) {
+                    final byte[] tail = readTail(file);
+                    // The process appends to the file, so its next write lands at the new end of the file
+                    file.setLength(0);
+                    capturedOutput.savedTail = tail;
+                } catch (final IOException e) {
+                    log.warn("Failed to truncate process output file {}", capturedOutput.outputFile, e);
+                }
+            }
+        }
+    }
+
+    private void startCapture(final Process process, final File outputFile) {
+        capturedOutputs.put(process, new CapturedOutput(outputFile));
+        if (isSizeCheckScheduled.compareAndSet(false, true)) {
+            executorService.scheduleWithFixedDelay(new ExecutorServiceSafeRunnable(this::enforceSizeLimit),
+                    SIZE_CHECK_INTERVAL_MILLIS, SIZE_CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private byte[] readTail(final File outputFile) throws IOException {
+        if (!outputFile.exists()) {
+            return new byte[0];
+        }
+        try (RandomAccessFile file = new RandomAccessFile(outputFile, "r")) {
+            return readTail(file);
+        }
+    }
+
+    private byte[] readTail(final RandomAccessFile file) throws IOException {
+        final long length = file.length();
+        final byte[] tail = new byte[(int) Math.min(length, tailBytes)];
+        file.seek(length - tail.length);
+        file.readFully(tail);
+        return tail;
+    }
+
+    /**
+     * @return the output file named after the PID and start time of a process, or empty if its start time is unknown
+     */
+    private Optional<File> getProcessOutputFile(final Process process) {
+        return getProcessStartMillis(process.pid())
+                .map(startMillis -> new File(outputDirectory,
+                        String.format("%s%d-%d%s", OUTPUT_FILE_PREFIX, process.pid(), startMillis,
+                                OUTPUT_FILE_SUFFIX)));
+    }
+
+    private static Optional<Long> getProcessStartMillis(final long pid) {
+        return ProcessHandle.of(pid)
+                .flatMap(processHandle -> processHandle.info().startInstant())
+                .map(Instant::toEpochMilli);
+    }
+
+    /**
+     * Creates the output directory and deletes the output files left by processes which are no longer running
+     */
+    private synchronized void prepareOutputDirectory() throws IOException {
+        if (isOutputDirectoryPrepared) {
+            return;
+        }
+        Files.createDirectories(outputDirectory.toPath());
+        final File[] outputFiles = outputDirectory.listFiles(
+                (directory, name) -> name.startsWith(OUTPUT_FILE_PREFIX) && name.endsWith(OUTPUT_FILE_SUFFIX));
+        if (outputFiles != null) {
+            for (final File outputFile : outputFiles) {
+                if (!isWriterRunning(outputFile) && !outputFile.delete()) {
+                    log.warn("Failed to delete stale process output file {}", outputFile);
+                }
+            }
+        }
+        isOutputDirectoryPrepared = true;
+    }
+
+    /**
+     * @return true if the output file is named after a process which is still running
+     */
+    private static boolean isWriterRunning(final File outputFile) {
+        final Matcher matcher = PROCESS_OUTPUT_FILE_PATTERN.matcher(outputFile.getName());
+        if (!matcher.matches()) {
+            return false;
+        }
+        try {
+            final long startMillis = Long.parseLong(matcher.group(2));
+            return getProcessStartMillis(Long.parseLong(matcher.group(1)))
+                    .map(processStartMillis -> processStartMillis == startMillis)
+                    .orElse(false);
+        } catch (final NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -11,6 +11,8 @@ import com.amazon.gamelift.agent.windows.MoreAdvapi32;
 import com.amazon.gamelift.agent.model.constants.ProcessConstants;
 import com.amazon.gamelift.agent.module.ConfigModule;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.sun.jna.Memory;
 import com.sun.jna.Pointer;
 import com.sun.jna.platform.win32.Kernel32;
@@ -26,7 +28,6 @@ import javax.inject.Singleton;
 import java.io.ByteArrayOutputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -34,17 +35,27 @@ import java.util.Map;
 @Singleton
 public class WindowsProcessBuilderWrapper implements ProcessBuilderWrapper {
 
+    // Windows is little endian
+    private static final Charset ENVIRONMENT_CHARSET = StandardCharsets.UTF_16LE;
+
+    // The GameLift agent's own environment never changes, so it is encoded once and shared by every launch
+    private static final Supplier<byte[]> INHERITED_ENVIRONMENT_BLOCK =
+            Suppliers.memoize(() -> encodeEnvVars(System.getenv()));
+
     private final GameProcessConfiguration processConfiguration;
     private final OperatingSystem operatingSystem;
+    private final LaunchTemplate launchTemplate;
 
     /**
      * Constructor for WindowsProcessBuilderWrapper
      * @param processConfiguration
      * @param operatingSystem
+     * @param launchTemplateCache
      */
     @Inject
     public WindowsProcessBuilderWrapper(final GameProcessConfiguration processConfiguration,
-                                        @Named(ConfigModule.OPERATING_SYSTEM) final OperatingSystem operatingSystem) {
+                                        @Named(ConfigModule.OPERATING_SYSTEM) final OperatingSystem operatingSystem,
+                                        final LaunchTemplateCache launchTemplateCache) {
         if (!OperatingSystemFamily.WINDOWS.equals(operatingSystem.getOperatingSystemFamily())) {
             // Creation validation. This class should only be used for Windows-based OS
             throw new IllegalArgumentException("Attempted to create Windows process for non Windows-based OS. Found "
@@ -53,6 +64,7 @@ public class WindowsProcessBuilderWrapper implements ProcessBuilderWrapper {
 
         this.processConfiguration = processConfiguration;
         this.operatingSystem = operatingSystem;
+        this.launchTemplate = launchTemplateCache.getLaunchTemplate(processConfiguration, operatingSystem);
     }
 
     @Override
@@ -73,8 +85,7 @@ public class WindowsProcessBuilderWrapper implements ProcessBuilderWrapper {
             final boolean processCreated =
                     MoreAdvapi32.INSTANCE.CreateProcessAsUser(null,
                             null,
-                            generateCommandLine(processConfiguration.getLaunchPath(),
-                                    processConfiguration.getParameters()),
+                            launchTemplate.getCommandLine(),
                             null,
                             null,
                             false,
@@ -106,7 +117,7 @@ public class WindowsProcessBuilderWrapper implements ProcessBuilderWrapper {
     }
 
     @VisibleForTesting
-    String generateCommandLine(final String executable, final List<String> arguments) {
+    static String generateCommandLine(final String executable, final List<String> arguments) {
         final StringBuilder commandLine = new StringBuilder(String.format("\"%s\"", executable));
 
         String argsString = " ";
@@ -131,17 +142,14 @@ public class WindowsProcessBuilderWrapper implements ProcessBuilderWrapper {
      * conversion, java System.getEnv() is used to get the vars.
      */
     private Pointer createEnvironmentVariablePointer(final Map<String, String> toBeSet) {
-        final Map<String, String> completeEnvVars = new HashMap<>(toBeSet);
-        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
-        // Windows is little endian
-        final Charset charset = StandardCharsets.UTF_16LE;
+        final byte[] inheritedEnvironmentBlock = INHERITED_ENVIRONMENT_BLOCK.get();
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream(inheritedEnvironmentBlock.length + 1024);
 
-        final Map<String, String> env = System.getenv();
         // Push system env vars into byte stream
-        pushEnvVarsToByteStream(bos, charset, env);
+        bos.write(inheritedEnvironmentBlock, 0, inheritedEnvironmentBlock.length);
 
         // Pushing provided env vars to byte stream
-        pushEnvVarsToByteStream(bos, charset, completeEnvVars);
+        pushEnvVarsToByteStream(bos, ENVIRONMENT_CHARSET, toBeSet);
 
         // env vars are terminated with an extra terminal char
         bos.write(Character.MIN_VALUE);
@@ -154,7 +162,13 @@ public class WindowsProcessBuilderWrapper implements ProcessBuilderWrapper {
         return pointer;
     }
 
-    private void pushEnvVarsToByteStream(final ByteArrayOutputStream bos,
+    private static byte[] encodeEnvVars(final Map<String, String> env) {
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        pushEnvVarsToByteStream(bos, ENVIRONMENT_CHARSET, env);
+        return bos.toByteArray();
+    }
+
+    private static void pushEnvVarsToByteStream(final ByteArrayOutputStream bos,
                                          final Charset charset,
                                          final Map<String, String> env) {
         env.forEach((key, value) -> {
@@ -57,7 +57,13 @@ public class LinuxProcessDestroyer implements ProcessDestroyer {
 
     @Override
     public void destroyProcess(final Process internalProcess) {
-        final String processGroupId = Long.toString(internalProcess.pid());
+        final long pid = internalProcess.pid();
+        if (pid <= 1) {
+            // "kill -9 -0" would kill the agent's own process group and "kill -9 -1" every process the agent can
+            // signal, so never issue a group kill for these IDs.
+            throw new RuntimeException(String.format("Refusing to destroy process with invalid PGID %s", pid));
+        }
+        final String processGroupId = Long.toString(pid);
         // Use the kill command to forcibly terminate processes with the given Process Group ID (PGID).
         // "-9" indicates to forcibly terminate the process.
         // "-$PGID" indicates to destroy the entire PGID
@@ -0,0 +1,155 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process.destroyer;
+
+import com.amazon.gamelift.agent.linux.LibC;
+import com.amazon.gamelift.agent.model.OperatingSystem;
+import com.amazon.gamelift.agent.model.OperatingSystemFamily;
+import com.amazon.gamelift.agent.utils.ExecutorServiceSafeRunnable;
+import com.google.common.annotations.VisibleForTesting;
+import com.sun.jna.LastErrorException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Terminates a process group by signalling it directly through kill(2), without forking a helper process.
+ *
+ * With a zero grace period the group is sent SIGKILL immediately. Otherwise the group is sent SIGTERM, and SIGKILL once
+ * the grace period has passed if the group leader is still running. The escalation is cancelled once the leader exits:
+ * its PID, which is the PGID, may then be reused by an unrelated process group, and descendants left behind are cleaned
+ * up by the {@link com.amazon.gamelift.agent.process.ProcessGroupReaper} instead. The escalation is scheduled rather
+ * than waited for, so destroying many processes does not block the caller for a grace period each.
+ *
+ * If libc cannot be loaded or a signal fails for any reason other than the group having already exited, this falls
+ * back to the fork-based {@link LinuxProcessDestroyer}.
+ */
+@Slf4j
+public class LinuxSignalProcessDestroyer implements ProcessDestroyer {
+    private final LibC libC;
+    private final Duration terminationGracePeriod;
+    private final Supplier<ProcessDestroyer> fallbackProcessDestroyerSupplier;
+    private final ScheduledExecutorService escalationExecutorService;
+
+    /**
+     * Constructor for LinuxSignalProcessDestroyer
+     * @param operatingSystem
+     * @param terminationGracePeriod time between SIGTERM and SIGKILL; zero sends SIGKILL immediately
+     * @param escalationExecutorService executor which sends SIGKILL once the grace period has passed; may be null if
+     *                                  the grace period is zero
+     */
+    public LinuxSignalProcessDestroyer(final OperatingSystem operatingSystem,
+                                       final Duration terminationGracePeriod,
+                                       final ScheduledExecutorService escalationExecutorService) {
+        this(operatingSystem, loadLibC(), terminationGracePeriod, () -> new LinuxProcessDestroyer(operatingSystem),
+                escalationExecutorService);
+    }
+
+    /**
+     * Test constructor for LinuxSignalProcessDestroyer
+     * @param operatingSystem
+     * @param libC libc bindings, or null if libc is unavailable
+     * @param terminationGracePeriod
+     * @param fallbackProcessDestroyerSupplier
+     * @param escalationExecutorService
+     */
+    @VisibleForTesting
+    LinuxSignalProcessDestroyer(final OperatingSystem operatingSystem,
+                                final LibC libC,
+                                final Duration terminationGracePeriod,
+                                final Supplier<ProcessDestroyer> fallbackProcessDestroyerSupplier,
+                                final ScheduledExecutorService escalationExecutorService) {
+        if (!OperatingSystemFamily.LINUX.equals(operatingSystem.getOperatingSystemFamily())) {
+            // Creation validation. This class should only be used for Linux-based OS
+            throw new IllegalArgumentException("Attempted to create Linux process for non Linux-based OS. Found "
+                    + operatingSystem);
+        }
+        if (!terminationGracePeriod.isZero() && escalationExecutorService == null) {
+            throw new IllegalArgumentException("An escalation executor is required for a termination grace period of "
+                    + terminationGracePeriod);
+        }
+        this.libC = libC;
+        this.terminationGracePeriod = terminationGracePeriod;
+        this.fallbackProcessDestroyerSupplier = fallbackProcessDestroyerSupplier;
+        this.escalationExecutorService = escalationExecutorService;
+    }
+
+    @Override
+    public void destroyProcess(final Process internalProcess) {
+        final long pid = internalProcess.pid();
+        if (pid <= 1) {
+            // Signalling process group 0 would kill the agent's own process group and -1 every process the agent can
+            // signal, so never issue a group kill for these IDs.
+            throw new RuntimeException(String.format("Refusing to destroy process with invalid PGID %s", pid));
+        }
+
+        final long startNanos = System.nanoTime();
+        internalProcess.onExit().thenRun(() -> log.info("Process with PGID {} exited {} ms after termination started",
+                pid, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)));
+
+        if (terminationGracePeriod.isZero()) {
+            signalProcessGroup(internalProcess, LibC.SIGKILL);
+            return;
+        }
+
+        if (signalProcessGroup(internalProcess, LibC.SIGTERM)) {
+            final ScheduledFuture<?> escalation = escalationExecutorService.schedule(
+                    new ExecutorServiceSafeRunnable(() -> escalate(internalProcess)),
+                    terminationGracePeriod.toMillis(), TimeUnit.MILLISECONDS);
+            internalProcess.onExit().thenRun(() -> escalation.cancel(false));
+        }
+    }
+
+    /**
+     * Sends SIGKILL to the process group if its leader is still running once the grace period has passed
+     */
+    private void escalate(final Process internalProcess) {
+        if (internalProcess.onExit().isDone() || !internalProcess.isAlive()) {
+            log.debug("Process with PGID {} exited within its grace period; not sending SIGKILL",
+                    internalProcess.pid());
+            return;
+        }
+        log.info("Process with PGID {} did not exit within {} ms of SIGTERM; sending SIGKILL", internalProcess.pid(),
+                terminationGracePeriod.toMillis());
+        signalProcessGroup(internalProcess, LibC.SIGKILL);
+    }
+
+    /**
+     * Sends a signal to the process group led by the given process
+     * @return true if the signal was delivered, false if the group had already exited or the fallback was used
+     */
+    private boolean signalProcessGroup(final Process internalProcess, final int signal) {
+        final long pid = internalProcess.pid();
+        if (libC != null && pid <= Integer.MAX_VALUE) {
+            try {
+                libC.kill((int) -pid, signal);
+                return true;
+            } catch (final LastErrorException e) {
+                if (e.getErrorCode() == LibC.ESRCH) {
+                    log.debug("Process group {} has already exited", pid);
+                    return false;
+                }
+                log.warn("Failed to send signal {} to process group {}; falling back to the kill command",
+                        signal, pid, e);
+            } catch (final LinkageError e) {
+                log.warn("Failed to call kill(2) for process group {}; falling back to the kill command", pid, e);
+            }
+        }
+        fallbackProcessDestroyerSupplier.get().destroyProcess(internalProcess);
+        return false;
+    }
+
+    private static LibC loadLibC() {
+        try {
+            return LibC.INSTANCE;
+        } catch (final LinkageError e) {
+            log.warn("Failed to load libc; process groups will be destroyed with the kill command", e);
+            return null;
+        }
+    }
+}
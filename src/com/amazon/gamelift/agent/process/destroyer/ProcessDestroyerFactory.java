@@ -5,15 +5,34 @@ package com.amazon.gamelift.agent.process.destroyer;
 
 import com.amazon.gamelift.agent.model.OperatingSystem;
 
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+
 public class ProcessDestroyerFactory {
     /**
-     * Return ProcessDestroyer based on OS
+     * Return ProcessDestroyer based on OS, which kills processes without a grace period
      * @param operatingSystem
      * @return
      */
     public static ProcessDestroyer getProcessDestroyer(final OperatingSystem operatingSystem) {
+        return getProcessDestroyer(operatingSystem, Duration.ZERO, null);
+    }
+
+    /**
+     * Return ProcessDestroyer based on OS
+     * @param operatingSystem
+     * @param terminationGracePeriod time a Linux process group is given to exit after SIGTERM before it is killed.
+     *                               Not used on Windows, where processes are always terminated forcibly.
+     * @param escalationExecutorService executor which kills Linux process groups once their grace period has passed;
+     *                                  may be null if the grace period is zero
+     * @return
+     */
+    public static ProcessDestroyer getProcessDestroyer(final OperatingSystem operatingSystem,
+                                                       final Duration terminationGracePeriod,
+                                                       final ScheduledExecutorService escalationExecutorService) {
         return switch (operatingSystem.getOperatingSystemFamily()) {
-            case LINUX -> new LinuxProcessDestroyer(operatingSystem);
+            case LINUX -> new LinuxSignalProcessDestroyer(operatingSystem, terminationGracePeriod,
+                    escalationExecutorService);
             case WINDOWS -> new WindowsProcessDestroyer(operatingSystem);
             default -> throw new IllegalArgumentException("Failed to find underlying process destroyer for OS "
                     + operatingSystem);
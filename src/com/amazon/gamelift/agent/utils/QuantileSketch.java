@@ -0,0 +1,84 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.utils;
+
+/**
+ * Streaming quantile sketch for positive values, with a bounded relative error on every quantile.
+ *
+ * Values are counted in logarithmically sized buckets: bucket i holds the values in (gamma^(i-1), gamma^i], where
+ * gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy). Any quantile is then estimated within relativeAccuracy of a
+ * value in the sketch, regardless of how many values were added. Memory is fixed by the range of the sketch: values up
+ * to 1 count towards the first bucket and values above maxValue towards the last one.
+ *
+ * Adding a value and estimating a quantile allocate nothing. This class is not thread-safe.
+ */
+public class QuantileSketch {
+
+    private final double gamma;
+    private final double logGamma;
+    private final long[] bucketCounts;
+    private long count;
+
+    /**
+     * Constructor for QuantileSketch
+     * @param relativeAccuracy relative error of the estimated quantiles, between 0 and 1 exclusive
+     * @param maxValue largest value which is sketched accurately
+     */
+    public QuantileSketch(final double relativeAccuracy, final double maxValue) {
+        if (relativeAccuracy <= 0 || relativeAccuracy >= 1) {
+            throw new IllegalArgumentException("Relative accuracy must be between 0 and 1 exclusive");
+        }
+        if (maxValue <= 1) {
+            throw new IllegalArgumentException("Max value must be greater than 1");
+        }
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+        this.bucketCounts = new long[getBucketIndex(maxValue) + 1];
+    }
+
+    /**
+     * Adds a value to the sketch
+     * @param value
+     */
+    public void add(final double value) {
+        bucketCounts[Math.min(getBucketIndex(value), bucketCounts.length - 1)]++;
+        count++;
+    }
+
+    /**
+     * @return number of values added to the sketch
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Estimates a quantile of the values added to the sketch
+     * @param quantile between 0 and 1 inclusive, for example 0.999 for the 99.9th percentile
+     * @return the estimated quantile, or 0 if the sketch is empty
+     */
+    public double getQuantile(final double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1 inclusive");
+        }
+        if (count == 0) {
+            return 0;
+        }
+        final long rank = (long) Math.floor(quantile * (count - 1));
+        long cumulativeCount = 0;
+        int bucketIndex = 0;
+        for (; bucketIndex < bucketCounts.length - 1; bucketIndex++) {
+            cumulativeCount += bucketCounts[bucketIndex];
+            if (cumulativeCount > rank) {
+                break;
+            }
+        }
+        // The value within relativeAccuracy of every value in the bucket
+        return bucketIndex == 0 ? 1 : 2 * Math.pow(gamma, bucketIndex) / (gamma + 1);
+    }
+
+    private int getBucketIndex(final double value) {
+        return value <= 1 ? 0 : (int) Math.ceil(Math.log(value) / logGamma);
+    }
+}
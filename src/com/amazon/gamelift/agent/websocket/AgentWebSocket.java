@@ -5,13 +5,14 @@ package com.amazon.gamelift.agent.websocket;
 
 import java.net.http.WebSocket;
 import java.time.Duration;
-import java.util.LinkedList;
 import java.util.Queue;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.amazon.gamelift.agent.model.websocket.base.WebsocketRequest;
 import com.amazon.gamelift.agent.model.websocket.base.WebsocketResponse;
@@ -28,12 +29,21 @@ import javax.inject.Inject;
  * This primarily contains logic for sending messages over the connection - see AgentWebSocketListener
  * for how messages received over the connection are handled.
  *
+ * Outgoing messages are serialized by the sending thread and added to a lock-free outbound queue. Whichever thread
+ * finds the queue without a drainer becomes its single drainer, and keeps sending queued frames for as long as the
+ * connection accepts them immediately. Only when a send is still in progress does it hand draining over to that send's
+ * completion, so a burst of messages is sent in a few passes instead of one completion callback per message.
+ *
  * See Java Doc for more details on how to use the WebSocket instance:
  * https://docs.oracle.com/en/java/javase/11/docs/api/java.net.http/java/net/http/WebSocket.html
  */
 @Slf4j
 public class AgentWebSocket {
 
+    // Maximum number of frames sent by one pass of the drainer before the rest of the queue is handed over to another
+    // thread, so a thread which became the drainer is not held up indefinitely by messages of other threads.
+    private static final int MAX_FRAMES_PER_DRAIN = 64;
+
     private final WebSocket webSocketSender;
     private final GameLiftAgentWebSocketListener webSocketListener;
     private final WebSocketExceptionProvider webSocketExceptionProvider;
@@ -46,14 +56,15 @@ public class AgentWebSocket {
     // initialize this WebSocket connection
     @Getter private final String webSocketIdentifier;
 
-    // This queue is used to store an ordered list of messages to be sent out over the websocket. Only one message may
-    // be outgoing (IE actually sending text out) at once or IllegalStateException is thrown and message fails to send
+    // This queue is used to store an ordered list of serialized messages to be sent out over the websocket. Only one
+    // message may be outgoing (IE actually sending text out) at once or IllegalStateException is thrown and message
+    // fails to send
     // https://docs.oracle.com/en/java/javase/11/docs/api/java.net.http/java/net/http/WebSocket.html#sendText(java.lang.CharSequence,boolean
-    private final Queue<WebsocketRequest> requestQueue = new LinkedList<>();
+    private final Queue<OutboundFrame> outboundQueue = new ConcurrentLinkedQueue<>();
 
-    // Boolean flag for whether a message is currently being sent out over the websocket. When this is 'true'
-    // AgentWebSocket will enqueue other incoming messages to be sent in order.
-    private boolean messageInFlight;
+    // Flag for whether a thread is draining the outbound queue. The thread which sets it is the only one sending
+    // messages out over the websocket until it clears it.
+    private final AtomicBoolean isDraining = new AtomicBoolean(false);
 
     /**
      * Constructor for GameLiftAgentWebSocket
@@ -75,7 +86,6 @@ public class AgentWebSocket {
         this.webSocketEndpoint = webSocketEndpoint;
         this.webSocketIdentifier = webSocketListener.getWebSocketIdentifier();
         this.objectMapper = objectMapper;
-        this.messageInFlight = false;
     }
 
     /**
@@ -138,59 +148,69 @@ public class AgentWebSocket {
      * NOTE: The returned CompletableFuture is not used by the caller but facilitates unit testing possible.
      *
      * @param message - Message to send over the WebSocket
+     * @return a future completed once the message has been sent, or null if the connection is closed
      */
-    public synchronized CompletableFuture<WebSocket> sendRequestAsync(final WebsocketRequest message) {
-        // If a message is currently being sent out over the WebSocket, or if there is a backlog of
-        // pending messages, this logic will enqueue any sent messages. If `messageInFlight` is false, then the message
-        // can be sent immediately. Because all methods are synchronized, a normal boolean is thread-safe for this usage.
-        // The WebSocket connection throws an InvalidStateException if another message is sent before the prior
-        // message has completed sending.
-        if (!messageInFlight) {
-            if (!webSocketSender.isInputClosed()) {
-                messageInFlight = true;
-                return sendText(message);
-            } else {
-                log.warn("Attempting to send message over closed WebSocket connection: {}", message);
-                return null;
-            }
-        } else {
-            requestQueue.add(message);
+    public CompletableFuture<WebSocket> sendRequestAsync(final WebsocketRequest message) {
+        if (webSocketSender.isInputClosed()) {
+            log.warn("Attempting to send message over closed WebSocket connection: {}", message);
             return null;
         }
-    }
 
-    /**
-     * Sends a message out over the WebSocket connection. This method returns a CompletableFuture. When this future
-     * completes, `thenRun` will trigger a callback to the `handleSendTextCompletion` method, which is responsible
-     * for continuing to send enqueued messages or for releasing the `messageInFlight` boolean if no work remains
-     * @param message
-     * @return
-     */
-    private synchronized CompletableFuture<WebSocket> sendText(final WebsocketRequest message) {
+        final OutboundFrame frame;
         try {
-            final CompletableFuture<WebSocket> future
-                    = webSocketSender.sendText(objectMapper.writeValueAsString(message), true);
-            future.thenRun(this::handleSendTextCompletion);
-            return future;
+            frame = new OutboundFrame(objectMapper.writeValueAsString(message));
         } catch (final JsonProcessingException e) {
             log.error("Failed to serialize websocket message: {}", message, e);
             throw new RuntimeException(e);
         }
+
+        // The WebSocket connection throws an IllegalStateException if another message is sent before the prior message
+        // has completed sending, so messages are only ever sent by the thread which owns the drainer flag.
+        outboundQueue.add(frame);
+        if (isDraining.compareAndSet(false, true)) {
+            drainOutboundQueue();
+        }
+        return frame.getSendFuture();
     }
 
     /**
-     *  This method is a callback from a completed future. It will check for additional enqueued messages to send while
-     *  holding the `messageInFlight` boolean - set to true when a message is first sent - and will release the boolean
-     *  once no additional messages are enqueued.
+     * Sends queued frames out over the WebSocket connection while holding the drainer flag. Frames accepted
+     * immediately by the connection are followed by the next one in the same pass; once a send is still in progress,
+     * or the pass has sent MAX_FRAMES_PER_DRAIN frames, draining resumes from that send's completion. The flag is
+     * released once no frames remain.
      */
-    private synchronized void handleSendTextCompletion() {
-        if (!requestQueue.isEmpty()) {
-            final WebsocketRequest nextMessage = requestQueue.poll();
-            log.debug("Sending queued WebSocket message: {} - Remaining messages in queue: {}",
-                    nextMessage, requestQueue.size());
-            sendText(nextMessage);
-        } else {
-            messageInFlight = false;
+    private void drainOutboundQueue() {
+        int drainedFrameCount = 0;
+        while (true) {
+            final OutboundFrame frame = outboundQueue.poll();
+            if (frame == null) {
+                isDraining.set(false);
+                // A frame queued after the poll found the drainer still busy, so drain it unless another thread has
+                // become the drainer in the meantime
+                if (outboundQueue.isEmpty() || !isDraining.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+
+            final CompletableFuture<WebSocket> sendFuture;
+            try {
+                sendFuture = webSocketSender.sendText(frame.getText(), true);
+            } catch (final RuntimeException e) {
+                log.error("Failed to send websocket message: {}", frame.getText(), e);
+                frame.getSendFuture().completeExceptionally(e);
+                continue;
+            }
+            sendFuture.whenComplete(frame::onSendCompleted);
+
+            if (!sendFuture.isDone()) {
+                sendFuture.whenComplete((webSocket, error) -> drainOutboundQueue());
+                return;
+            }
+            if (++drainedFrameCount >= MAX_FRAMES_PER_DRAIN) {
+                sendFuture.whenCompleteAsync((webSocket, error) -> drainOutboundQueue());
+                return;
+            }
         }
     }
 
@@ -213,4 +233,25 @@ public class AgentWebSocket {
         }
     }
 
+    /**
+     * A serialized message waiting to be sent, with the future completed once it has been sent
+     */
+    @Getter
+    private static final class OutboundFrame {
+        private final String text;
+        private final CompletableFuture<WebSocket> sendFuture = new CompletableFuture<>();
+
+        OutboundFrame(final String text) {
+            this.text = text;
+        }
+
+        void onSendCompleted(final WebSocket webSocket, final Throwable error) {
+            if (error != null) {
+                log.warn("Failed to send websocket message: {}", text, error);
+                sendFuture.completeExceptionally(error);
+            } else {
+                sendFuture.complete(webSocket);
+            }
+        }
+    }
 }
@@ -197,7 +197,9 @@ public class WebSocketConnectionManager {
         log.error("Encountered an unexpected disconnection for the primary WebSocket connection with ID: {}; "
                         + "Attemping to reconnect to endpoint: {}", currentConnection.getWebSocketIdentifier(),
                 currentConnection.getWebSocketEndpoint());
+        webSocketConnectionProvider.markConnectionLost();
 
+        // If reconnecting gives up the connection stays marked lost; launches paused for it resume after a capped pause
         final AgentWebSocket newConnection = RetryHelper.runRetryable(WEBSOCKET_RECONNECT_RETRY_ATTEMPTS,
                 () -> connectToWebSocket(currentConnection.getWebSocketEndpoint(),
                         computeAuthTokenManager.getComputeAuthToken()));
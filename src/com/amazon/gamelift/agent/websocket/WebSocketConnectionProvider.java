@@ -15,12 +15,22 @@ import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import static com.amazon.gamelift.agent.module.ThreadingModule.WEBSOCKET_CONNECTION_PROVIDER_EXECUTOR;
 
+/**
+ * Holds the active WebSocket connection of the GameLift Agent, and tracks whether it is healthy.
+ *
+ * The connection is unhealthy from the moment the active connection is unexpectedly lost until a new connection
+ * replaces it. Listeners are notified of both transitions, outside of the connection lock, so they can react to the
+ * connection being restored without polling.
+ */
 @Slf4j
 @Singleton
 public class WebSocketConnectionProvider {
@@ -44,6 +54,14 @@ public class WebSocketConnectionProvider {
     @Getter(onMethod = @__(@Synchronized("connectionLock")))
     private AgentWebSocket currentConnection;
 
+    // When the active connection was lost, or null while the connection is healthy
+    @GuardedBy("connectionLock")
+    @Getter(AccessLevel.NONE)
+    private Instant connectionLostTime;
+
+    @Getter(AccessLevel.NONE)
+    private final List<Consumer<Boolean>> connectionStateChangeListeners = new CopyOnWriteArrayList<>();
+
     /**
      * Constructor for WebSocketConnectionProvider
      * @param connectionCloserService
@@ -62,18 +80,70 @@ public class WebSocketConnectionProvider {
      *
      * @param newConnection the instance of AgentWebSocket for the new active WebSocket connection
      */
-    @Synchronized("connectionLock")
     public void updateConnection(final AgentWebSocket newConnection) {
-        log.info("Updating the current WebSocket connection: webSocketId={}", newConnection.getWebSocketIdentifier());
+        final Instant lostTime;
+        synchronized (connectionLock) {
+            log.info("Updating the current WebSocket connection: webSocketId={}",
+                    newConnection.getWebSocketIdentifier());
 
-        // Store current connection into a local variable so Java captures it in the lambda to avoid it getting
-        // garbage collected early.
-        final AgentWebSocket oldConnection = this.currentConnection;
-        // Important to not close oldConnection immediately. Some communication may still occur via this connection.
-        connectionCloserService.schedule(new ExecutorServiceSafeRunnable(() -> closeConnection(oldConnection)),
-                OLD_CONNECTION_EXPIRATION_MINUTES, TimeUnit.MINUTES);
+            // Store current connection into a local variable so Java captures it in the lambda to avoid it getting
+            // garbage collected early.
+            final AgentWebSocket oldConnection = this.currentConnection;
+            // Important to not close oldConnection immediately. Some communication may still occur via this
+            // connection.
+            connectionCloserService.schedule(new ExecutorServiceSafeRunnable(() -> closeConnection(oldConnection)),
+                    OLD_CONNECTION_EXPIRATION_MINUTES, TimeUnit.MINUTES);
 
-        this.currentConnection = newConnection;
+            this.currentConnection = newConnection;
+            lostTime = this.connectionLostTime;
+            this.connectionLostTime = null;
+        }
+
+        if (lostTime != null) {
+            log.info("WebSocket connection restored after {} seconds",
+                    Duration.between(lostTime, Instant.now()).toSeconds());
+            notifyConnectionStateChangeListeners(true);
+        }
+    }
+
+    /**
+     * Marks the active WebSocket connection as lost, until a new connection is saved with updateConnection.
+     */
+    public void markConnectionLost() {
+        synchronized (connectionLock) {
+            if (connectionLostTime != null) {
+                return;
+            }
+            connectionLostTime = Instant.now();
+        }
+        log.warn("WebSocket connection marked as lost");
+        notifyConnectionStateChangeListeners(false);
+    }
+
+    /**
+     * @return true unless the active WebSocket connection has been lost and not yet replaced
+     */
+    @Synchronized("connectionLock")
+    public boolean isConnectionHealthy() {
+        return connectionLostTime == null;
+    }
+
+    /**
+     * @return how long ago the active WebSocket connection was lost, or Duration.ZERO while the connection is healthy
+     */
+    @Synchronized("connectionLock")
+    public Duration getConnectionLostDuration() {
+        return connectionLostTime == null ? Duration.ZERO : Duration.between(connectionLostTime, Instant.now());
+    }
+
+    /**
+     * Adds a listener which is notified with the new health of the connection whenever it is lost or restored.
+     * Listeners are called on the thread which changed the connection, so they should not block.
+     *
+     * @param listener
+     */
+    public void addConnectionStateChangeListener(final Consumer<Boolean> listener) {
+        connectionStateChangeListeners.add(listener);
     }
 
     /**
@@ -87,6 +157,16 @@ public class WebSocketConnectionProvider {
         currentConnection = null;
     }
 
+    private void notifyConnectionStateChangeListeners(final boolean isConnectionHealthy) {
+        for (final Consumer<Boolean> listener : connectionStateChangeListeners) {
+            try {
+                listener.accept(isConnectionHealthy);
+            } catch (final Exception e) {
+                log.error("WebSocket connection state change listener failed", e);
+            }
+        }
+    }
+
     private void closeConnection(final AgentWebSocket connection) {
         if (connection != null) {
             try {
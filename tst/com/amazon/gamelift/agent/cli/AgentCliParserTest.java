@@ -19,6 +19,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+
 import static com.amazon.gamelift.agent.cli.AgentCliParser.COMPUTE_TYPE_CONTAINER;
 import static com.amazon.gamelift.agent.cli.AgentCliParser.ENABLE_COMPUTE_REGISTRATION_VIA_AGENT;
 import static com.amazon.gamelift.agent.cli.AgentCliParser.GAMELIFT_AGENT_WEBSOCKET_ENDPOINT;
@@ -427,6 +429,288 @@ public class AgentCliParserTest {
         assertEquals(thrown.getMessage(), expectedMessage);
     }
 
+    @Test
+    public void GIVEN_processLaunchParallelism_WHEN_parsing_THEN_returnValue() {
+        // GIVEN
+        final String[] args = new String[]{
+                "-rc", RUNTIME_CONFIG_TEST_JSON,
+                "-f", FLEET_ID_FROM_CLI_OPTION,
+                "-c", COMPUTE_NAME_TEST,
+                "-r", REGION_TEST,
+                "-loc", LOCATION_TEST,
+                "-plp", "8"
+        };
+        final AgentCliParser parser = cliComponent.buildCliParser();
+
+        // WHEN
+        final AgentArgs parsedArgs =  parser.parse(args);
+
+        // THEN
+        assertEquals(parsedArgs.getProcessLaunchParallelism(), 8);
+    }
+
+    @Test
+    public void GIVEN_invalidProcessLaunchParallelism_WHEN_parsing_THEN_illegalArgumentException() {
+        // GIVEN
+        final String[] args = new String[]{
+                "-rc", RUNTIME_CONFIG_TEST_JSON,
+                "-f", FLEET_ID_FROM_CLI_OPTION,
+                "-c", COMPUTE_NAME_TEST,
+                "-r", REGION_TEST,
+                "-loc", LOCATION_TEST,
+                "-plp", "0"
+        };
+        final AgentCliParser parser = cliComponent.buildCliParser();
+
+        // WHEN, THEN
+        Exception thrown = assertThrows(IllegalArgumentException.class, () -> parser.parse(args));
+        assertEquals(thrown.getMessage(), "process-launch-parallelism must be a positive integer but was: 0");
+    }
+
+    @Test
+    public void GIVEN_buildPrewarmGlobs_WHEN_parsing_THEN_returnGlobList() {
+        // GIVEN
+        final String[] args = new String[]{
+                "-rc", RUNTIME_CONFIG_TEST_JSON,
+                "-f", FLEET_ID_FROM_CLI_OPTION,
+                "-c", COMPUTE_NAME_TEST,
+                "-r", REGION_TEST,
+                "-loc", LOCATION_TEST,
+                "-bpg", "assets/*.pak, *.so,"
+        };
+        final AgentCliParser parser = cliComponent.buildCliParser();
+
+        // WHEN
+        final AgentArgs parsedArgs =  parser.parse(args);
+
+        // THEN
+        assertEquals(parsedArgs.getBuildPrewarmGlobs(), List.of("assets/*.pak", "*.so"));
+    }
+
+    @Test
+    public void GIVEN_forkServerLaunch_WHEN_parsing_THEN_forkServerLaunchEnabled() {
+        // GIVEN
+        final String[] args = new String[]{
+                "-rc", RUNTIME_CONFIG_TEST_JSON,
+                "-f", FLEET_ID_FROM_CLI_OPTION,
+                "-c", COMPUTE_NAME_TEST,
+                "-r", REGION_TEST,
+                "-loc", LOCATION_TEST,
+                "-fsl"
+        };
+        final AgentCliParser parser = cliComponent.buildCliParser();
+
+        // WHEN
+        final AgentArgs parsedArgs =  parser.parse(args);
+
+        // THEN
+        assertEquals(parsedArgs.getForkServerLaunch(), Boolean.TRUE);
+    }
+
+    @Test
+    public void GIVEN_cgroupRoot_WHEN_parsing_THEN_returnCgroupRoot() {
+        // GIVEN
+        final String[] args = new String[]{
+                "-rc", RUNTIME_CONFIG_TEST_JSON,
+                "-f", FLEET_ID_FROM_CLI_OPTION,
+                "-c", COMPUTE_NAME_TEST,
+                "-r", REGION_TEST,
+                "-loc", LOCATION_TEST,
+                "-cgr", "/sys/fs/cgroup/gamelift-game-servers"
+        };
+        final AgentCliParser parser = cliComponent.buildCliParser();
+
+        // WHEN
+        final AgentArgs parsedArgs =  parser.parse(args);
+
+        // THEN
+        assertEquals(parsedArgs.getCgroupRoot(), "/sys/fs/cgroup/gamelift-game-servers");
+    }
+
+    @Test
+    public void GIVEN_cpuPlacement_WHEN_parsing_THEN_returnHousekeepingCpusAndCpusPerProcess() {
+        // GIVEN
+        final String[] args = new String[]{
+                "-rc", RUNTIME_CONFIG_TEST_JSON,
+                "-f", FLEET_ID_FROM_CLI_OPTION,
+                "-c", COMPUTE_NAME_TEST,
+                "-r", REGION_TEST,
+                "-loc", LOCATION_TEST,
+                "-hkc", "0-1",
+                "-cpp", "2"
+        };
+        final AgentCliParser parser = cliComponent.buildCliParser();
+
+        // WHEN
+        final AgentArgs parsedArgs =  parser.parse(args);
+
+        // THEN
+        assertEquals(parsedArgs.getHousekeepingCpus(), "0-1");
+        assertEquals(parsedArgs.getCpusPerProcess(), 2);
+    }
+
+    @Test
+    public void GIVEN_malformedHousekeepingCpus_WHEN_parsing_THEN_illegalArgumentException() {
+        // GIVEN
+        final String[] args = new String[]{
+                "-rc", RUNTIME_CONFIG_TEST_JSON,
+                "-f", FLEET_ID_FROM_CLI_OPTION,
+                "-c", COMPUTE_NAME_TEST,
+                "-r", REGION_TEST,
+                "-loc", LOCATION_TEST,
+                "-hkc", "1-0"
+        };
+        final AgentCliParser parser = cliComponent.buildCliParser();
+
+        // WHEN
+        Exception thrown = assertThrows(IllegalArgumentException.class, () -> parser.parse(args));
+
+        // THEN
+        assertEquals(thrown.getMessage(), "housekeeping-cpus must be a CPU list such as 0-1,4 but was: 1-0");
+    }
+
+    @Test
+    public void GIVEN_resourceSampleInterval_WHEN_parsing_THEN_returnResourceSampleInterval() {
+        // GIVEN
+        final String[] args = new String[]{
+                "-rc", RUNTIME_CONFIG_TEST_JSON,
+                "-f", FLEET_ID_FROM_CLI_OPTION,
+                "-c", COMPUTE_NAME_TEST,
+                "-r", REGION_TEST,
+                "-loc", LOCATION_TEST,
+                "-rsis", "15"
+        };
+        final AgentCliParser parser = cliComponent.buildCliParser();
+
+        // WHEN
+        final AgentArgs parsedArgs =  parser.parse(args);
+
+        // THEN
+        assertEquals(parsedArgs.getResourceSampleIntervalSeconds(), 15);
+    }
+
+    @Test
+    public void GIVEN_processOutputTail_WHEN_parsing_THEN_returnProcessOutputTailKilobytes() {
+        // GIVEN
+        final String[] args = new String[]{
+                "-rc", RUNTIME_CONFIG_TEST_JSON,
+                "-f", FLEET_ID_FROM_CLI_OPTION,
+                "-c", COMPUTE_NAME_TEST,
+                "-r", REGION_TEST,
+                "-loc", LOCATION_TEST,
+                "-potk", "256"
+        };
+        final AgentCliParser parser = cliComponent.buildCliParser();
+
+        // WHEN
+        final AgentArgs parsedArgs =  parser.parse(args);
+
+        // THEN
+        assertEquals(parsedArgs.getProcessOutputTailKilobytes(), 256);
+    }
+
+    @Test
+    public void GIVEN_processJournalPath_WHEN_parsing_THEN_returnProcessJournalPath() {
+        // GIVEN
+        final String[] args = new String[]{
+                "-rc", RUNTIME_CONFIG_TEST_JSON,
+                "-f", FLEET_ID_FROM_CLI_OPTION,
+                "-c", COMPUTE_NAME_TEST,
+                "-r", REGION_TEST,
+                "-loc", LOCATION_TEST,
+                "-pjp", "/var/lib/gamelift/process-journal"
+        };
+        final AgentCliParser parser = cliComponent.buildCliParser();
+
+        // WHEN
+        final AgentArgs parsedArgs =  parser.parse(args);
+
+        // THEN
+        assertEquals(parsedArgs.getProcessJournalPath(), "/var/lib/gamelift/process-journal");
+    }
+
+    @Test
+    public void GIVEN_processOutputTailAndProcessJournalPath_WHEN_parsing_THEN_returnBoth() {
+        // GIVEN
+        final String[] args = new String[]{
+                "-rc", RUNTIME_CONFIG_TEST_JSON,
+                "-f", FLEET_ID_FROM_CLI_OPTION,
+                "-c", COMPUTE_NAME_TEST,
+                "-r", REGION_TEST,
+                "-loc", LOCATION_TEST,
+                "-potk", "256",
+                "-pjp", "/var/lib/gamelift/process-journal"
+        };
+        final AgentCliParser parser = cliComponent.buildCliParser();
+
+        // WHEN
+        final AgentArgs parsedArgs =  parser.parse(args);
+
+        // THEN
+        assertEquals(parsedArgs.getProcessOutputTailKilobytes(), 256);
+        assertEquals(parsedArgs.getProcessJournalPath(), "/var/lib/gamelift/process-journal");
+    }
+
+    @Test
+    public void GIVEN_reapLeakedProcesses_WHEN_parsing_THEN_reapLeakedProcessesEnabled() {
+        // GIVEN
+        final String[] args = new String[]{
+                "-rc", RUNTIME_CONFIG_TEST_JSON,
+                "-f", FLEET_ID_FROM_CLI_OPTION,
+                "-c", COMPUTE_NAME_TEST,
+                "-r", REGION_TEST,
+                "-loc", LOCATION_TEST,
+                "-rlp"
+        };
+        final AgentCliParser parser = cliComponent.buildCliParser();
+
+        // WHEN
+        final AgentArgs parsedArgs =  parser.parse(args);
+
+        // THEN
+        assertEquals(parsedArgs.getReapLeakedProcesses(), Boolean.TRUE);
+    }
+
+    @Test
+    public void GIVEN_hostLoadAdmission_WHEN_parsing_THEN_hostLoadAdmissionEnabled() {
+        // GIVEN
+        final String[] args = new String[]{
+                "-rc", RUNTIME_CONFIG_TEST_JSON,
+                "-f", FLEET_ID_FROM_CLI_OPTION,
+                "-c", COMPUTE_NAME_TEST,
+                "-r", REGION_TEST,
+                "-loc", LOCATION_TEST,
+                "-hla"
+        };
+        final AgentCliParser parser = cliComponent.buildCliParser();
+
+        // WHEN
+        final AgentArgs parsedArgs =  parser.parse(args);
+
+        // THEN
+        assertEquals(parsedArgs.getHostLoadAdmission(), Boolean.TRUE);
+    }
+
+    @Test
+    public void GIVEN_minInitializationTimeout_WHEN_parsing_THEN_returnMinInitializationTimeout() {
+        // GIVEN
+        final String[] args = new String[]{
+                "-rc", RUNTIME_CONFIG_TEST_JSON,
+                "-f", FLEET_ID_FROM_CLI_OPTION,
+                "-c", COMPUTE_NAME_TEST,
+                "-r", REGION_TEST,
+                "-loc", LOCATION_TEST,
+                "-mits", "10"
+        };
+        final AgentCliParser parser = cliComponent.buildCliParser();
+
+        // WHEN
+        final AgentArgs parsedArgs =  parser.parse(args);
+
+        // THEN
+        assertEquals(parsedArgs.getMinInitializationTimeoutSeconds(), 10);
+    }
+
     @Test
     public void GIVEN_missingRequiredArg_WHEN_parsing_THEN_failure() {
         // GIVEN
@@ -521,6 +805,18 @@ public class AgentCliParserTest {
         assertEquals(parsedArgs.getGameLiftCredentials(), GameLiftCredentials.INSTANCE_PROFILE);
         assertNull(parsedArgs.getGameSessionLogBucket());
         assertNull(parsedArgs.getAgentLogPath());
+        assertNull(parsedArgs.getProcessLaunchParallelism());
+        assertNull(parsedArgs.getBuildPrewarmGlobs());
+        assertEquals(parsedArgs.getForkServerLaunch(), Boolean.FALSE);
+        assertNull(parsedArgs.getCgroupRoot());
+        assertNull(parsedArgs.getHousekeepingCpus());
+        assertNull(parsedArgs.getCpusPerProcess());
+        assertNull(parsedArgs.getResourceSampleIntervalSeconds());
+        assertNull(parsedArgs.getProcessOutputTailKilobytes());
+        assertNull(parsedArgs.getProcessJournalPath());
+        assertEquals(parsedArgs.getReapLeakedProcesses(), Boolean.FALSE);
+        assertEquals(parsedArgs.getHostLoadAdmission(), Boolean.FALSE);
+        assertNull(parsedArgs.getMinInitializationTimeoutSeconds());
         assertEquals(parsedArgs.getIsContainerFleet(), Boolean.FALSE);
         assertEquals(parsedArgs.getLogCredentials(), LogCredentials.FLEET_ROLE);
     }
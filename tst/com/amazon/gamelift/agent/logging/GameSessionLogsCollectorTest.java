@@ -98,7 +98,7 @@ public class GameSessionLogsCollectorTest {
         createLogFiles();
 
         gameSessionLogsCollector = new GameSessionLogsCollector(FLEET_ID, COMPUTE_NAME, PROCESS_UUID,
-                LAUNCH_PATH, mockGameSessionLogFileHelper);
+                LAUNCH_PATH, mockGameSessionLogFileHelper, null);
     }
 
     public void cleanUp() throws IOException {
@@ -139,6 +139,35 @@ public class GameSessionLogsCollectorTest {
         cleanUp();
     }
 
+    @Test
+    public void GIVEN_processOutputTail_WHEN_collectGameSessionLogs_THEN_outputTailAddedToZipFile() throws Exception {
+        // GIVEN
+        final byte[] processOutputTail = "Segmentation fault\n".getBytes(StandardCharsets.UTF_8);
+        gameSessionLogsCollector = new GameSessionLogsCollector(FLEET_ID, COMPUTE_NAME, PROCESS_UUID,
+                LAUNCH_PATH, mockGameSessionLogFileHelper, processOutputTail);
+        when(mockGameSessionLogFileHelper.configureLogPaths(any(), any())).thenReturn(mockConfiguredLogPaths);
+        when(mockConfiguredLogPaths.getValidLogPaths()).thenReturn(new ArrayList<>());
+        when(mockConfiguredLogPaths.getInvalidLogPaths()).thenReturn(new ArrayList<>());
+
+        // WHEN
+        final File zipFile = gameSessionLogsCollector.collectGameSessionLogs(new ArrayList<>(), GAME_SESSION_ID);
+
+        // THEN
+        boolean isOutputTailFound = false;
+        try (ZipInputStream zipInputStream = new ZipInputStream(new FileInputStream(zipFile))) {
+            for (ZipEntry entry = zipInputStream.getNextEntry(); entry != null;
+                    entry = zipInputStream.getNextEntry()) {
+                if (entry.getName().equals("GameLiftAgentProcessOutputTail.log")) {
+                    isOutputTailFound = true;
+                    assertEquals("Segmentation fault\n",
+                            new String(zipInputStream.readAllBytes(), StandardCharsets.UTF_8));
+                }
+            }
+        }
+        assertTrue(isOutputTailFound);
+        FileUtils.deleteDirectory(zipFile.getParentFile());
+    }
+
     @Test
     public void GIVEN_validPaths_WHEN_deleteGameSessionLogs_THEN_deleteFiles() {
         try (
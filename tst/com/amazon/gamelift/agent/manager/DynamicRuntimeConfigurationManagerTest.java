@@ -9,14 +9,19 @@ import com.amazon.gamelift.agent.model.websocket.DescribeRuntimeConfigurationRes
 import com.amazon.gamelift.agent.websocket.AgentWebSocket;
 import com.amazon.gamelift.agent.websocket.WebSocketConnectionProvider;
 import com.google.common.collect.Lists;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -39,13 +44,15 @@ public class DynamicRuntimeConfigurationManagerTest {
     private AgentWebSocket client;
     @Mock
     private WebSocketConnectionProvider webSocketConnectionProvider;
+    @Mock
+    private ScheduledExecutorService executorService;
     private DynamicRuntimeConfigurationManager dynamicRuntimeConfigManager;
 
     @BeforeEach
     public void setup() throws AgentException {
         when(webSocketConnectionProvider.getCurrentConnection()).thenReturn(client);
         when(client.sendRequest(any(), any(), any())).thenReturn(RESPONSE);
-        dynamicRuntimeConfigManager = new DynamicRuntimeConfigurationManager(webSocketConnectionProvider);
+        dynamicRuntimeConfigManager = new DynamicRuntimeConfigurationManager(webSocketConnectionProvider, executorService);
     }
 
     @Test
@@ -62,4 +69,50 @@ public class DynamicRuntimeConfigurationManagerTest {
         assertEquals(config, RUNTIME_CONFIG);
         verify(client, times(1)).sendRequest(any(), any(), any());
     }
+
+    @Test
+    public void GIVEN_changeListener_WHEN_initialLoadAndCacheHit_THEN_listenerNotNotified() throws Exception {
+        final AtomicInteger changeCount = new AtomicInteger();
+        dynamicRuntimeConfigManager.addRuntimeConfigurationChangeListener(config -> changeCount.incrementAndGet());
+
+        dynamicRuntimeConfigManager.getRuntimeConfiguration();
+        dynamicRuntimeConfigManager.getRuntimeConfiguration();
+
+        assertEquals(0, changeCount.get());
+    }
+
+    @Test
+    public void GIVEN_changedRuntimeConfig_WHEN_scheduledRefreshRuns_THEN_listenerNotified() throws Exception {
+        final DescribeRuntimeConfigurationResponse changedResponse = DescribeRuntimeConfigurationResponse.builder()
+                .gameSessionActivationTimeoutSeconds(TIMEOUT_SECS)
+                .maxConcurrentGameSessionActivations(CONCURRENT_ACTIVATIONS + 1)
+                .serverProcesses(Lists.newArrayList()).build();
+        final ArgumentCaptor<Runnable> refreshCaptor = ArgumentCaptor.forClass(Runnable.class);
+        final AtomicInteger changeCount = new AtomicInteger();
+        dynamicRuntimeConfigManager.addRuntimeConfigurationChangeListener(config -> changeCount.incrementAndGet());
+        dynamicRuntimeConfigManager.getRuntimeConfiguration();
+        dynamicRuntimeConfigManager.start();
+        verify(executorService).scheduleWithFixedDelay(refreshCaptor.capture(), eq(300000L), eq(300000L),
+                eq(TimeUnit.MILLISECONDS));
+        when(client.sendRequest(any(), any(), any())).thenReturn(changedResponse);
+
+        refreshCaptor.getValue().run();
+
+        assertEquals(1, changeCount.get());
+        assertEquals(CONCURRENT_ACTIVATIONS + 1,
+                dynamicRuntimeConfigManager.getRuntimeConfiguration().getMaxConcurrentGameSessionActivations());
+        verify(client, times(2)).sendRequest(any(), any(), any());
+    }
+
+    @Test
+    public void GIVEN_unchangedRuntimeConfig_WHEN_scheduledRefreshRuns_THEN_listenerNotNotified() throws Exception {
+        final AtomicInteger changeCount = new AtomicInteger();
+        dynamicRuntimeConfigManager.addRuntimeConfigurationChangeListener(config -> changeCount.incrementAndGet());
+        dynamicRuntimeConfigManager.getRuntimeConfiguration();
+
+        dynamicRuntimeConfigManager.refreshRuntimeConfiguration();
+
+        assertEquals(0, changeCount.get());
+        verify(client, times(2)).sendRequest(any(), any(), any());
+    }
 }
@@ -19,7 +19,10 @@ import static com.amazon.gamelift.agent.manager.ProcessEnvironmentManager.ENV_VA
 import static com.amazon.gamelift.agent.manager.ProcessEnvironmentManager.ENV_VAR_PROCESS_ID;
 import static com.amazon.gamelift.agent.manager.ProcessEnvironmentManager.ENV_VAR_WEBSOCKET_URL;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -102,4 +105,39 @@ public class ProcessEnvironmentManagerTest {
                 + ENV_VAR_PROCESS_ID + "=\"" + TEST_PROCESS_ID + "\"";
         assertEquals(expectedValue, output);
     }
+
+    @Test
+    public void GIVEN_resolvedEnvVars_WHEN_getPrintableEnvVars_THEN_authTokenFetchedOnce() {
+        // GIVEN
+        ProcessEnvironmentManager processEnvironmentManager = new ProcessEnvironmentManager(
+                TEST_FLEET_ID, TEST_COMPUTE_ID, mockComputeAuthTokenManager, mockSdkWebsocketEndpointProvider);
+        final Map<String, String> envVars = processEnvironmentManager.getProcessEnvironmentVariables(TEST_PROCESS_ID);
+
+        // WHEN
+        final String output = processEnvironmentManager.getPrintableEnvironmentVariables(envVars);
+
+        // THEN
+        assertEquals(processEnvironmentManager.getPrintableEnvironmentVariables(TEST_PROCESS_ID), output);
+        verify(mockComputeAuthTokenManager, times(2)).getComputeAuthToken();
+    }
+
+    @Test
+    public void GIVEN_sdkWebsocketEndpointChanged_WHEN_getProcessEnvironmentVariables_THEN_newEndpointUsed() {
+        // GIVEN
+        ProcessEnvironmentManager processEnvironmentManager = new ProcessEnvironmentManager(
+                TEST_FLEET_ID, TEST_COMPUTE_ID, mockComputeAuthTokenManager, mockSdkWebsocketEndpointProvider);
+        final Map<String, String> firstEnvVars = processEnvironmentManager.getProcessEnvironmentVariables("process1");
+        final Map<String, String> secondEnvVars = processEnvironmentManager.getProcessEnvironmentVariables("process2");
+        when(mockSdkWebsocketEndpointProvider.getSdkWebsocketEndpoint()).thenReturn("newWebSocketUrl");
+
+        // WHEN
+        final Map<String, String> envVars = processEnvironmentManager.getProcessEnvironmentVariables(TEST_PROCESS_ID);
+
+        // THEN
+        assertSame(firstEnvVars.get(ENV_VAR_WEBSOCKET_URL), secondEnvVars.get(ENV_VAR_WEBSOCKET_URL));
+        assertEquals("process2", secondEnvVars.get(ENV_VAR_PROCESS_ID));
+        assertEquals("newWebSocketUrl", envVars.get(ENV_VAR_WEBSOCKET_URL));
+        assertEquals(TEST_FLEET_ID, envVars.get(ENV_VAR_FLEET_ID));
+        assertEquals(TEST_PROCESS_ID, envVars.get(ENV_VAR_PROCESS_ID));
+    }
 }
@@ -13,12 +13,14 @@ import com.amazon.gamelift.agent.model.exception.NotFoundException;
 import com.amazon.gamelift.agent.model.exception.UnauthorizedException;
 import com.amazon.gamelift.agent.process.GameProcessManager;
 import com.amazon.gamelift.agent.process.GameProcessMonitor;
+import com.amazon.gamelift.agent.process.ProcessTerminationReporter;
 import com.amazon.gamelift.agent.websocket.WebSocketConnectionProvider;
 
 import com.amazonaws.services.gamelift.model.DeregisterComputeRequest;
 import com.amazonaws.services.gamelift.model.DeregisterComputeResult;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -27,11 +29,13 @@ import java.time.Instant;
 import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
 
+import static com.amazon.gamelift.agent.module.ThreadingModule.GAME_PROCESS_TERMINATION_REPORT_EXECUTOR;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -49,6 +53,8 @@ class ShutdownOrchestratorTest {
     @Mock
     private GameProcessMonitor gameProcessMonitor;
     @Mock
+    private ProcessTerminationReporter processTerminationReporter;
+    @Mock
     private WebSocketConnectionProvider webSocketConnectionProvider;
     @Mock
     private GameLiftAgentLogUploader gameLiftAgentLogUploader;
@@ -78,9 +84,9 @@ class ShutdownOrchestratorTest {
 
         // WHEN
         this.shutdownOrchestrator = new ShutdownOrchestrator(
-                stateManager, heartbeatSender, gameProcessManager, gameProcessMonitor, webSocketConnectionProvider,
-                gameLiftAgentLogUploader, amazonGameLift, executorService, mockExecutorServiceManager, IS_NOT_CONTAINER_FLEET,
-                FLEET_ID, COMPUTE_ID, ENABLED_REGISTRATION_FALSE);
+                stateManager, heartbeatSender, gameProcessManager, gameProcessMonitor, processTerminationReporter,
+                webSocketConnectionProvider, gameLiftAgentLogUploader, amazonGameLift, executorService,
+                mockExecutorServiceManager, IS_NOT_CONTAINER_FLEET, FLEET_ID, COMPUTE_ID, ENABLED_REGISTRATION_FALSE);
         shutdownOrchestrator.startTermination(Instant.now().plus(Duration.ofMinutes(1)), false);
 
         // THEN
@@ -99,9 +105,9 @@ class ShutdownOrchestratorTest {
 
         // WHEN
         this.shutdownOrchestrator = new ShutdownOrchestrator(
-                stateManager, heartbeatSender, gameProcessManager, gameProcessMonitor, webSocketConnectionProvider,
-                gameLiftAgentLogUploader, amazonGameLift, executorService, mockExecutorServiceManager, IS_NOT_CONTAINER_FLEET,
-                FLEET_ID, COMPUTE_ID, ENABLED_REGISTRATION_FALSE);
+                stateManager, heartbeatSender, gameProcessManager, gameProcessMonitor, processTerminationReporter,
+                webSocketConnectionProvider, gameLiftAgentLogUploader, amazonGameLift, executorService,
+                mockExecutorServiceManager, IS_NOT_CONTAINER_FLEET, FLEET_ID, COMPUTE_ID, ENABLED_REGISTRATION_FALSE);
         shutdownOrchestrator.startTermination(Instant.now().plus(Duration.ofMinutes(1)), true);
 
         // THEN
@@ -121,9 +127,9 @@ class ShutdownOrchestratorTest {
 
         // WHEN
         this.shutdownOrchestrator = new ShutdownOrchestrator(
-                stateManager, heartbeatSender, gameProcessManager, gameProcessMonitor, webSocketConnectionProvider,
-                gameLiftAgentLogUploader, amazonGameLift, executorService, mockExecutorServiceManager, IS_NOT_CONTAINER_FLEET,
-                FLEET_ID, COMPUTE_ID, ENABLED_REGISTRATION_FALSE);
+                stateManager, heartbeatSender, gameProcessManager, gameProcessMonitor, processTerminationReporter,
+                webSocketConnectionProvider, gameLiftAgentLogUploader, amazonGameLift, executorService,
+                mockExecutorServiceManager, IS_NOT_CONTAINER_FLEET, FLEET_ID, COMPUTE_ID, ENABLED_REGISTRATION_FALSE);
         shutdownOrchestrator.startTermination(Instant.now().minus(Duration.ofMinutes(1)), false);
 
         // THEN
@@ -140,9 +146,9 @@ class ShutdownOrchestratorTest {
 
         // WHEN
         this.shutdownOrchestrator = new ShutdownOrchestrator(
-                stateManager, heartbeatSender, gameProcessManager, gameProcessMonitor, webSocketConnectionProvider,
-                gameLiftAgentLogUploader, amazonGameLift, executorService, mockExecutorServiceManager, IS_NOT_CONTAINER_FLEET,
-                FLEET_ID, COMPUTE_ID, ENABLED_REGISTRATION_FALSE);
+                stateManager, heartbeatSender, gameProcessManager, gameProcessMonitor, processTerminationReporter,
+                webSocketConnectionProvider, gameLiftAgentLogUploader, amazonGameLift, executorService,
+                mockExecutorServiceManager, IS_NOT_CONTAINER_FLEET, FLEET_ID, COMPUTE_ID, ENABLED_REGISTRATION_FALSE);
         shutdownOrchestrator.startTermination(Instant.now().plus(Duration.ofMinutes(1)), false);
 
         // THEN
@@ -158,9 +164,9 @@ class ShutdownOrchestratorTest {
 
         // WHEN
         this.shutdownOrchestrator = new ShutdownOrchestrator(
-                stateManager, heartbeatSender, gameProcessManager, gameProcessMonitor, webSocketConnectionProvider,
-                gameLiftAgentLogUploader, amazonGameLift, executorService, mockExecutorServiceManager, IS_NOT_CONTAINER_FLEET,
-                FLEET_ID, COMPUTE_ID, ENABLED_REGISTRATION_FALSE);
+                stateManager, heartbeatSender, gameProcessManager, gameProcessMonitor, processTerminationReporter,
+                webSocketConnectionProvider, gameLiftAgentLogUploader, amazonGameLift, executorService,
+                mockExecutorServiceManager, IS_NOT_CONTAINER_FLEET, FLEET_ID, COMPUTE_ID, ENABLED_REGISTRATION_FALSE);
         shutdownOrchestrator.validateSafeTermination();
 
         // THEN
@@ -178,15 +184,15 @@ class ShutdownOrchestratorTest {
 
         // WHEN
         this.shutdownOrchestrator = new ShutdownOrchestrator(
-                stateManager, heartbeatSender, gameProcessManager, gameProcessMonitor, webSocketConnectionProvider,
-                gameLiftAgentLogUploader, amazonGameLift, executorService, mockExecutorServiceManager, IS_NOT_CONTAINER_FLEET,
-                FLEET_ID, COMPUTE_ID, ENABLED_REGISTRATION_FALSE);
+                stateManager, heartbeatSender, gameProcessManager, gameProcessMonitor, processTerminationReporter,
+                webSocketConnectionProvider, gameLiftAgentLogUploader, amazonGameLift, executorService,
+                mockExecutorServiceManager, IS_NOT_CONTAINER_FLEET, FLEET_ID, COMPUTE_ID, ENABLED_REGISTRATION_FALSE);
         shutdownOrchestrator.validateSafeTermination();
 
         // THEN
         verifyNoInteractions(amazonGameLift);
         verify(stateManager).reportComputeTerminated();
-        verify(gameProcessManager).terminateAllProcessesForShutdown(anyLong(), anyLong());
+        verify(gameProcessManager).terminateAllProcessesForShutdown(anyLong());
         verify(heartbeatSender).sendHeartbeat();
         verify(webSocketConnectionProvider).closeAllConnections();
         verify(mockExecutorServiceManager).shutdownExecutorServices();
@@ -201,40 +207,67 @@ class ShutdownOrchestratorTest {
 
         // WHEN
         this.shutdownOrchestrator = new ShutdownOrchestrator(
-                stateManager, heartbeatSender, gameProcessManager, gameProcessMonitor, webSocketConnectionProvider,
-                gameLiftAgentLogUploader, amazonGameLift, executorService, mockExecutorServiceManager, IS_NOT_CONTAINER_FLEET,
-                FLEET_ID, COMPUTE_ID, ENABLED_REGISTRATION_FALSE);
+                stateManager, heartbeatSender, gameProcessManager, gameProcessMonitor, processTerminationReporter,
+                webSocketConnectionProvider, gameLiftAgentLogUploader, amazonGameLift, executorService,
+                mockExecutorServiceManager, IS_NOT_CONTAINER_FLEET, FLEET_ID, COMPUTE_ID, ENABLED_REGISTRATION_FALSE);
         shutdownOrchestrator.completeTermination();
 
         // THEN
         verifyNoInteractions(amazonGameLift);
         verify(stateManager).reportComputeTerminated();
-        verify(gameProcessManager).terminateAllProcessesForShutdown(anyLong(), anyLong());
+        verify(gameProcessManager).terminateAllProcessesForShutdown(anyLong());
         verify(heartbeatSender).sendHeartbeat();
-        verify(webSocketConnectionProvider).closeAllConnections();
+        final InOrder inOrder = inOrder(mockExecutorServiceManager, webSocketConnectionProvider);
+        inOrder.verify(mockExecutorServiceManager).shutdownScheduledThreadPoolExecutorServiceByName(
+                GAME_PROCESS_TERMINATION_REPORT_EXECUTOR);
+        inOrder.verify(webSocketConnectionProvider).closeAllConnections();
         verify(mockExecutorServiceManager).shutdownExecutorServices();
         verify(gameLiftAgentLogUploader).shutdownAndUploadLogs();
     }
 
+    @Test
+    public void GIVEN_pendingTerminationReports_WHEN_completeTermination_THEN_waitsForReportsBeforeClosingConnection()
+            throws Exception {
+        // GIVEN
+        when(stateManager.getComputeStatus()).thenReturn(ComputeStatus.Active);
+        // Reports waiting to be retried are still pending until they are acknowledged
+        when(processTerminationReporter.awaitPendingReports(any())).thenReturn(true);
+
+        // WHEN
+        this.shutdownOrchestrator = new ShutdownOrchestrator(
+                stateManager, heartbeatSender, gameProcessManager, gameProcessMonitor, processTerminationReporter,
+                webSocketConnectionProvider, gameLiftAgentLogUploader, amazonGameLift, executorService,
+                mockExecutorServiceManager, IS_NOT_CONTAINER_FLEET, FLEET_ID, COMPUTE_ID, ENABLED_REGISTRATION_FALSE);
+        shutdownOrchestrator.completeTermination();
+
+        // THEN
+        final InOrder inOrder = inOrder(processTerminationReporter, mockExecutorServiceManager,
+                webSocketConnectionProvider);
+        inOrder.verify(processTerminationReporter).awaitPendingReports(Duration.ofSeconds(30));
+        inOrder.verify(mockExecutorServiceManager).shutdownScheduledThreadPoolExecutorServiceByName(
+                GAME_PROCESS_TERMINATION_REPORT_EXECUTOR);
+        inOrder.verify(webSocketConnectionProvider).closeAllConnections();
+    }
+
     @Test
     public void GIVEN_incompleteProcessTermination_WHEN_completeTermination_THEN_terminatesProcessManager()
             throws Exception {
         // GIVEN
         when(stateManager.getComputeStatus()).thenReturn(ComputeStatus.Active);
         doThrow(NotFinishedException.class).when(gameProcessManager)
-                .terminateAllProcessesForShutdown(anyLong(), anyLong());
+                .terminateAllProcessesForShutdown(anyLong());
 
         // WHEN
         this.shutdownOrchestrator = new ShutdownOrchestrator(
-                stateManager, heartbeatSender, gameProcessManager, gameProcessMonitor, webSocketConnectionProvider,
-                gameLiftAgentLogUploader, amazonGameLift, executorService, mockExecutorServiceManager, IS_NOT_CONTAINER_FLEET,
-                FLEET_ID, COMPUTE_ID, ENABLED_REGISTRATION_FALSE);
+                stateManager, heartbeatSender, gameProcessManager, gameProcessMonitor, processTerminationReporter,
+                webSocketConnectionProvider, gameLiftAgentLogUploader, amazonGameLift, executorService,
+                mockExecutorServiceManager, IS_NOT_CONTAINER_FLEET, FLEET_ID, COMPUTE_ID, ENABLED_REGISTRATION_FALSE);
         shutdownOrchestrator.completeTermination();
 
         // THEN
         verifyNoInteractions(amazonGameLift);
         verify(stateManager).reportComputeTerminated();
-        verify(gameProcessManager).terminateAllProcessesForShutdown(anyLong(), anyLong());
+        verify(gameProcessManager).terminateAllProcessesForShutdown(anyLong());
         verify(heartbeatSender).sendHeartbeat();
         verify(webSocketConnectionProvider).closeAllConnections();
         verify(mockExecutorServiceManager).shutdownExecutorServices();
@@ -249,15 +282,15 @@ class ShutdownOrchestratorTest {
 
         // WHEN
         this.shutdownOrchestrator = new ShutdownOrchestrator(
-                stateManager, heartbeatSender, gameProcessManager, gameProcessMonitor, webSocketConnectionProvider,
-                gameLiftAgentLogUploader, amazonGameLift, executorService, mockExecutorServiceManager, IS_NOT_CONTAINER_FLEET,
-                FLEET_ID, COMPUTE_ID, ENABLED_REGISTRATION_FALSE);
+                stateManager, heartbeatSender, gameProcessManager, gameProcessMonitor, processTerminationReporter,
+                webSocketConnectionProvider, gameLiftAgentLogUploader, amazonGameLift, executorService,
+                mockExecutorServiceManager, IS_NOT_CONTAINER_FLEET, FLEET_ID, COMPUTE_ID, ENABLED_REGISTRATION_FALSE);
         shutdownOrchestrator.completeTermination();
 
         // THEN
         verifyNoInteractions(amazonGameLift);
         verify(stateManager, never()).reportComputeTerminated();
-        verify(gameProcessManager, never()).terminateAllProcessesForShutdown(anyLong(), anyLong());
+        verify(gameProcessManager, never()).terminateAllProcessesForShutdown(anyLong());
         verify(heartbeatSender, never()).sendHeartbeat();
         verify(webSocketConnectionProvider, never()).closeAllConnections();
         verify(mockExecutorServiceManager, never()).shutdownExecutorServices();
@@ -271,9 +304,9 @@ class ShutdownOrchestratorTest {
 
         // WHEN
         this.shutdownOrchestrator = new ShutdownOrchestrator(
-                stateManager, heartbeatSender, gameProcessManager, gameProcessMonitor, webSocketConnectionProvider,
-                gameLiftAgentLogUploader, amazonGameLift, executorService, mockExecutorServiceManager, IS_CONTAINER_FLEET,
-                FLEET_ID, COMPUTE_ID, ENABLED_REGISTRATION_FALSE);
+                stateManager, heartbeatSender, gameProcessManager, gameProcessMonitor, processTerminationReporter,
+                webSocketConnectionProvider, gameLiftAgentLogUploader, amazonGameLift, executorService,
+                mockExecutorServiceManager, IS_CONTAINER_FLEET, FLEET_ID, COMPUTE_ID, ENABLED_REGISTRATION_FALSE);
         shutdownOrchestrator.startTermination(Instant.now().plus(Duration.ofMinutes(1)), false);
 
         // THEN
@@ -291,9 +324,9 @@ class ShutdownOrchestratorTest {
 
         // WHEN
         this.shutdownOrchestrator = new ShutdownOrchestrator(
-                stateManager, heartbeatSender, gameProcessManager, gameProcessMonitor, webSocketConnectionProvider,
-                gameLiftAgentLogUploader, amazonGameLift, executorService, mockExecutorServiceManager, IS_CONTAINER_FLEET,
-                FLEET_ID, COMPUTE_ID, ENABLED_REGISTRATION);
+                stateManager, heartbeatSender, gameProcessManager, gameProcessMonitor, processTerminationReporter,
+                webSocketConnectionProvider, gameLiftAgentLogUploader, amazonGameLift, executorService,
+                mockExecutorServiceManager, IS_CONTAINER_FLEET, FLEET_ID, COMPUTE_ID, ENABLED_REGISTRATION);
         shutdownOrchestrator.startTermination(Instant.now().plus(Duration.ofMinutes(1)), false);
 
         // THEN
@@ -311,15 +344,15 @@ class ShutdownOrchestratorTest {
 
         // WHEN
         this.shutdownOrchestrator = new ShutdownOrchestrator(
-                stateManager, heartbeatSender, gameProcessManager, gameProcessMonitor, webSocketConnectionProvider,
-                gameLiftAgentLogUploader, amazonGameLift, executorService, mockExecutorServiceManager, IS_CONTAINER_FLEET,
-                FLEET_ID, COMPUTE_ID, ENABLED_REGISTRATION_FALSE);
+                stateManager, heartbeatSender, gameProcessManager, gameProcessMonitor, processTerminationReporter,
+                webSocketConnectionProvider, gameLiftAgentLogUploader, amazonGameLift, executorService,
+                mockExecutorServiceManager, IS_CONTAINER_FLEET, FLEET_ID, COMPUTE_ID, ENABLED_REGISTRATION_FALSE);
         shutdownOrchestrator.completeTermination();
 
         // THEN
         verify(amazonGameLift, never()).deregisterCompute(any());
         verify(stateManager).reportComputeTerminated();
-        verify(gameProcessManager).terminateAllProcessesForShutdown(anyLong(), anyLong());
+        verify(gameProcessManager).terminateAllProcessesForShutdown(anyLong());
         verify(heartbeatSender).sendHeartbeat();
         verify(webSocketConnectionProvider).closeAllConnections();
         verify(mockExecutorServiceManager).shutdownExecutorServices();
@@ -334,15 +367,15 @@ class ShutdownOrchestratorTest {
 
         // WHEN
         this.shutdownOrchestrator = new ShutdownOrchestrator(
-                stateManager, heartbeatSender, gameProcessManager, gameProcessMonitor, webSocketConnectionProvider,
-                gameLiftAgentLogUploader, amazonGameLift, executorService, mockExecutorServiceManager, IS_CONTAINER_FLEET,
-                FLEET_ID, COMPUTE_ID, ENABLED_REGISTRATION);
+                stateManager, heartbeatSender, gameProcessManager, gameProcessMonitor, processTerminationReporter,
+                webSocketConnectionProvider, gameLiftAgentLogUploader, amazonGameLift, executorService,
+                mockExecutorServiceManager, IS_CONTAINER_FLEET, FLEET_ID, COMPUTE_ID, ENABLED_REGISTRATION);
         shutdownOrchestrator.completeTermination();
 
         // THEN
         verify(amazonGameLift).deregisterCompute(expectedDeregisterComputeRequest);
         verify(stateManager).reportComputeTerminated();
-        verify(gameProcessManager).terminateAllProcessesForShutdown(anyLong(), anyLong());
+        verify(gameProcessManager).terminateAllProcessesForShutdown(anyLong());
         verify(heartbeatSender).sendHeartbeat();
         verify(webSocketConnectionProvider).closeAllConnections();
         verify(mockExecutorServiceManager).shutdownExecutorServices();
@@ -357,15 +390,15 @@ class ShutdownOrchestratorTest {
 
         // WHEN
         this.shutdownOrchestrator = new ShutdownOrchestrator(
-                stateManager, heartbeatSender, gameProcessManager, gameProcessMonitor, webSocketConnectionProvider,
-                gameLiftAgentLogUploader, amazonGameLift, executorService, mockExecutorServiceManager, IS_CONTAINER_FLEET,
-                FLEET_ID, COMPUTE_ID, ENABLED_REGISTRATION);
+                stateManager, heartbeatSender, gameProcessManager, gameProcessMonitor, processTerminationReporter,
+                webSocketConnectionProvider, gameLiftAgentLogUploader, amazonGameLift, executorService,
+                mockExecutorServiceManager, IS_CONTAINER_FLEET, FLEET_ID, COMPUTE_ID, ENABLED_REGISTRATION);
         shutdownOrchestrator.completeTermination();
 
         // THEN
         verify(amazonGameLift).deregisterCompute(any());
         verify(stateManager).reportComputeTerminated();
-        verify(gameProcessManager).terminateAllProcessesForShutdown(anyLong(), anyLong());
+        verify(gameProcessManager).terminateAllProcessesForShutdown(anyLong());
         verify(heartbeatSender).sendHeartbeat();
         verify(webSocketConnectionProvider).closeAllConnections();
         verify(mockExecutorServiceManager).shutdownExecutorServices();
@@ -380,15 +413,15 @@ class ShutdownOrchestratorTest {
 
         // WHEN
         this.shutdownOrchestrator = new ShutdownOrchestrator(
-                stateManager, heartbeatSender, gameProcessManager, gameProcessMonitor, webSocketConnectionProvider,
-                gameLiftAgentLogUploader, amazonGameLift, executorService, mockExecutorServiceManager, IS_CONTAINER_FLEET,
-                FLEET_ID, COMPUTE_ID, ENABLED_REGISTRATION);
+                stateManager, heartbeatSender, gameProcessManager, gameProcessMonitor, processTerminationReporter,
+                webSocketConnectionProvider, gameLiftAgentLogUploader, amazonGameLift, executorService,
+                mockExecutorServiceManager, IS_CONTAINER_FLEET, FLEET_ID, COMPUTE_ID, ENABLED_REGISTRATION);
         shutdownOrchestrator.completeTermination();
 
         // THEN
         verify(amazonGameLift).deregisterCompute(any());
         verify(stateManager).reportComputeTerminated();
-        verify(gameProcessManager).terminateAllProcessesForShutdown(anyLong(), anyLong());
+        verify(gameProcessManager).terminateAllProcessesForShutdown(anyLong());
         verify(heartbeatSender).sendHeartbeat();
         verify(webSocketConnectionProvider).closeAllConnections();
         verify(mockExecutorServiceManager).shutdownExecutorServices();
@@ -403,15 +436,15 @@ class ShutdownOrchestratorTest {
 
         // WHEN
         this.shutdownOrchestrator = new ShutdownOrchestrator(
-                stateManager, heartbeatSender, gameProcessManager, gameProcessMonitor, webSocketConnectionProvider,
-                gameLiftAgentLogUploader, amazonGameLift, executorService, mockExecutorServiceManager, IS_CONTAINER_FLEET,
-                FLEET_ID, COMPUTE_ID, ENABLED_REGISTRATION);
+                stateManager, heartbeatSender, gameProcessManager, gameProcessMonitor, processTerminationReporter,
+                webSocketConnectionProvider, gameLiftAgentLogUploader, amazonGameLift, executorService,
+                mockExecutorServiceManager, IS_CONTAINER_FLEET, FLEET_ID, COMPUTE_ID, ENABLED_REGISTRATION);
         shutdownOrchestrator.completeTermination();
 
         // THEN
         verify(amazonGameLift).deregisterCompute(any());
         verify(stateManager).reportComputeTerminated();
-        verify(gameProcessManager).terminateAllProcessesForShutdown(anyLong(), anyLong());
+        verify(gameProcessManager).terminateAllProcessesForShutdown(anyLong());
         verify(heartbeatSender).sendHeartbeat();
         verify(webSocketConnectionProvider).closeAllConnections();
         verify(mockExecutorServiceManager).shutdownExecutorServices();
@@ -426,15 +459,15 @@ class ShutdownOrchestratorTest {
 
         // WHEN
         this.shutdownOrchestrator = new ShutdownOrchestrator(
-                stateManager, heartbeatSender, gameProcessManager, gameProcessMonitor, webSocketConnectionProvider,
-                gameLiftAgentLogUploader, amazonGameLift, executorService, mockExecutorServiceManager, IS_CONTAINER_FLEET,
-                FLEET_ID, COMPUTE_ID, ENABLED_REGISTRATION);
+                stateManager, heartbeatSender, gameProcessManager, gameProcessMonitor, processTerminationReporter,
+                webSocketConnectionProvider, gameLiftAgentLogUploader, amazonGameLift, executorService,
+                mockExecutorServiceManager, IS_CONTAINER_FLEET, FLEET_ID, COMPUTE_ID, ENABLED_REGISTRATION);
         shutdownOrchestrator.completeTermination();
 
         // THEN
         verify(amazonGameLift).deregisterCompute(any());
         verify(stateManager).reportComputeTerminated();
-        verify(gameProcessManager).terminateAllProcessesForShutdown(anyLong(), anyLong());
+        verify(gameProcessManager).terminateAllProcessesForShutdown(anyLong());
         verify(heartbeatSender).sendHeartbeat();
         verify(webSocketConnectionProvider).closeAllConnections();
         verify(mockExecutorServiceManager).shutdownExecutorServices();
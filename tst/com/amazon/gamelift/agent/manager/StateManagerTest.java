@@ -8,6 +8,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.amazon.gamelift.agent.model.ComputeStatus;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,6 +26,22 @@ public class StateManagerTest {
         stateManager = new StateManager();
     }
 
+    @Test
+    public void GIVEN_statusChangeListener_WHEN_statusChanges_THEN_listenerNotifiedOnlyOnChange() {
+        final List<ComputeStatus> notifiedStatuses = new ArrayList<>();
+        stateManager.addComputeStatusChangeListener(notifiedStatuses::add);
+
+        stateManager.reportComputeActivating();
+        stateManager.reportComputeActive();
+        stateManager.reportComputeActive();
+        stateManager.reportComputeActivating();
+        stateManager.reportComputeTerminating();
+        stateManager.reportComputeTerminated();
+
+        assertEquals(List.of(ComputeStatus.Activating, ComputeStatus.Active, ComputeStatus.Terminating,
+                ComputeStatus.Terminated), notifiedStatuses);
+    }
+
     @Test
     public void GIVEN_stateIsActive_WHEN_reportComputeInterrupted_THEN_computeIsInterrupted() {
         stateManager.reportComputeActive();
@@ -3,6 +3,7 @@
  */
 package com.amazon.gamelift.agent.model;
 
+import org.apache.commons.lang3.SystemUtils;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -74,11 +75,15 @@ public class OperatingSystemTest {
 
     @Test
     public void GIVEN_windows2022_WHEN_fromOperatingSystem_THEN_correctOSReturned() {
+        // SystemUtils caches os.name when it is loaded, so load it before the property is overridden
+        assertNotNull(SystemUtils.OS_NAME);
         final String osName = "os.name";
         String previousOsName = System.getProperty(osName);
         System.setProperty(osName, OperatingSystem.WINDOWS_2022.getDisplayName());
-        assertEquals(OperatingSystem.fromSystemOperatingSystem(), OperatingSystem.WINDOWS_2022);
-
-        System.setProperty(osName, previousOsName);
+        try {
+            assertEquals(OperatingSystem.fromSystemOperatingSystem(), OperatingSystem.WINDOWS_2022);
+        } finally {
+            System.setProperty(osName, previousOsName);
+        }
     }
 }
\ No newline at end of file
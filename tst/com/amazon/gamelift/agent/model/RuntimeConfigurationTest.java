@@ -65,4 +65,32 @@ public class RuntimeConfigurationTest {
         // THEN
           assertThrows(NullPointerException.class, ()-> GameProcessConfiguration.builder().launchPath("test").build());
     }
+
+    @Test
+    public void GIVEN_initializationTimeout_WHEN_builder_THEN_timeoutReturnedOrDefaulted() {
+        final GameProcessConfiguration configuredProcess = GameProcessConfiguration.builder()
+                .concurrentExecutions(1).launchPath("test").initializationTimeoutSeconds(60).build();
+        final GameProcessConfiguration defaultProcess = GameProcessConfiguration.builder()
+                .concurrentExecutions(1).launchPath("test").build();
+        final GameProcessConfiguration invalidProcess = GameProcessConfiguration.builder()
+                .concurrentExecutions(1).launchPath("test").initializationTimeoutSeconds(0).build();
+
+        assertEquals(60, configuredProcess.getInitializationTimeoutSeconds());
+        assertEquals(300, defaultProcess.getInitializationTimeoutSeconds());
+        assertEquals(300, invalidProcess.getInitializationTimeoutSeconds());
+    }
+
+    @Test
+    public void GIVEN_terminationGracePeriod_WHEN_builder_THEN_gracePeriodReturnedOrDefaulted() {
+        final GameProcessConfiguration configuredProcess = GameProcessConfiguration.builder()
+                .concurrentExecutions(1).launchPath("test").terminationGracePeriodSeconds(10).build();
+        final GameProcessConfiguration defaultProcess = GameProcessConfiguration.builder()
+                .concurrentExecutions(1).launchPath("test").build();
+        final GameProcessConfiguration invalidProcess = GameProcessConfiguration.builder()
+                .concurrentExecutions(1).launchPath("test").terminationGracePeriodSeconds(-1).build();
+
+        assertEquals(10, configuredProcess.getTerminationGracePeriodSeconds());
+        assertEquals(0, defaultProcess.getTerminationGracePeriodSeconds());
+        assertEquals(0, invalidProcess.getTerminationGracePeriodSeconds());
+    }
 }
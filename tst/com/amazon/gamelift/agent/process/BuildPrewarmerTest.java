@@ -0,0 +1,191 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process;
+
+import com.amazon.gamelift.agent.model.GameProcessConfiguration;
+import com.google.common.util.concurrent.MoreExecutors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BuildPrewarmerTest {
+
+    private static final List<String> ASSET_GLOBS = List.of("assets/*.pak", "*.cfg");
+
+    @TempDir private Path buildDirectory;
+    @Mock private ExecutorService mockExecutorService;
+    @Mock private GameProcess mockGameProcess;
+
+    private final AtomicLong nowNanos = new AtomicLong();
+
+    @Test
+    public void GIVEN_noGlobs_WHEN_isPrewarmPending_THEN_launchesNotHeldBack() {
+        // GIVEN
+        final BuildPrewarmer buildPrewarmer =
+                new BuildPrewarmer(Collections.emptyList(), mockExecutorService, nowNanos::get);
+
+        // WHEN
+        buildPrewarmer.startPrewarm(newConfig("GameServer"));
+
+        // THEN
+        assertFalse(buildPrewarmer.isPrewarmPending(newConfig("GameServer")));
+        verifyNoInteractions(mockExecutorService);
+    }
+
+    @Test
+    public void GIVEN_buildFiles_WHEN_prewarmBuild_THEN_executableAndMatchingAssetsLoaded() throws IOException {
+        // GIVEN
+        final Path executable = writeFile("GameServer", 4096);
+        writeFile("server.cfg", 100);
+        writeFile("assets/level1.pak", 8192);
+        writeFile("assets/level1.txt", 1000);
+        writeFile("logs/server.log", 1000);
+        final BuildPrewarmer buildPrewarmer = new BuildPrewarmer(ASSET_GLOBS, mockExecutorService, nowNanos::get);
+
+        // WHEN
+        final BuildPrewarmer.PrewarmedFiles prewarmedFiles = buildPrewarmer.prewarmBuild(executable.toString());
+
+        // THEN
+        assertEquals(new BuildPrewarmer.PrewarmedFiles(3, 4096 + 100 + 8192), prewarmedFiles);
+    }
+
+    @Test
+    public void GIVEN_prewarmRunning_WHEN_isPrewarmPending_THEN_launchesHeldBackUntilPrewarmCompletes()
+            throws IOException {
+        // GIVEN
+        final GameProcessConfiguration config = newConfig(writeFile("GameServer", 4096).toString());
+        final BuildPrewarmer buildPrewarmer = new BuildPrewarmer(ASSET_GLOBS, mockExecutorService, nowNanos::get);
+        final AtomicInteger prewarmCompletedCount = new AtomicInteger();
+        buildPrewarmer.addPrewarmCompletedListener(prewarmCompletedCount::incrementAndGet);
+        final ArgumentCaptor<Runnable> prewarmCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+        // WHEN
+        buildPrewarmer.startPrewarm(config);
+
+        // THEN
+        assertTrue(buildPrewarmer.isPrewarmPending(config));
+        verify(mockExecutorService, times(1)).execute(prewarmCaptor.capture());
+
+        // WHEN
+        nowNanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(250));
+        prewarmCaptor.getValue().run();
+
+        // THEN
+        assertFalse(buildPrewarmer.isPrewarmPending(config));
+        assertEquals(1, prewarmCompletedCount.get());
+        final BuildPrewarmer.BuildPrewarmStats stats =
+                buildPrewarmer.getBuildPrewarmStatsByLaunchPath().get(config.getLaunchPath());
+        assertTrue(stats.isPrewarmed());
+        assertEquals(1, stats.getPrewarmedFileCount());
+        assertEquals(4096, stats.getPrewarmedBytes());
+        assertEquals(250, stats.getPrewarmMillis());
+    }
+
+    @Test
+    public void GIVEN_newBuildAtSameLaunchPath_WHEN_isPrewarmPending_THEN_newBuildPrewarmed() throws IOException {
+        // GIVEN
+        final GameProcessConfiguration config = newConfig(writeFile("GameServer", 4096).toString());
+        final BuildPrewarmer buildPrewarmer = new BuildPrewarmer(ASSET_GLOBS, mockExecutorService, nowNanos::get);
+        final ArgumentCaptor<Runnable> prewarmCaptor = ArgumentCaptor.forClass(Runnable.class);
+        buildPrewarmer.startPrewarm(config);
+        verify(mockExecutorService).execute(prewarmCaptor.capture());
+        prewarmCaptor.getValue().run();
+        assertFalse(buildPrewarmer.isPrewarmPending(config));
+
+        // WHEN
+        writeFile("GameServer", 8192);
+
+        // THEN
+        assertTrue(buildPrewarmer.isPrewarmPending(config));
+        verify(mockExecutorService, times(2)).execute(prewarmCaptor.capture());
+        prewarmCaptor.getValue().run();
+        assertFalse(buildPrewarmer.isPrewarmPending(config));
+        assertEquals(8192, buildPrewarmer.getBuildPrewarmStatsByLaunchPath().get(config.getLaunchPath())
+                .getPrewarmedBytes());
+    }
+
+    @Test
+    public void GIVEN_prewarmTakesTooLong_WHEN_isPrewarmPending_THEN_launchesNoLongerHeldBack() {
+        // GIVEN
+        final GameProcessConfiguration config = newConfig("GameServer");
+        final BuildPrewarmer buildPrewarmer = new BuildPrewarmer(ASSET_GLOBS, mockExecutorService, nowNanos::get);
+        buildPrewarmer.startPrewarm(config);
+
+        // WHEN
+        nowNanos.addAndGet(BuildPrewarmer.MAX_PREWARM_WAIT.toNanos());
+
+        // THEN
+        assertFalse(buildPrewarmer.isPrewarmPending(config));
+    }
+
+    @Test
+    public void GIVEN_missingExecutable_WHEN_prewarm_THEN_launchesNotHeldBackAndBuildNotPrewarmed() {
+        // GIVEN
+        final GameProcessConfiguration config = newConfig(buildDirectory.resolve("missing").toString());
+        final BuildPrewarmer buildPrewarmer = new BuildPrewarmer(ASSET_GLOBS,
+                MoreExecutors.newDirectExecutorService(), nowNanos::get);
+
+        // WHEN
+        buildPrewarmer.startPrewarm(config);
+
+        // THEN
+        assertFalse(buildPrewarmer.isPrewarmPending(config));
+        assertFalse(buildPrewarmer.getBuildPrewarmStatsByLaunchPath().get(config.getLaunchPath()).isPrewarmed());
+    }
+
+    @Test
+    public void GIVEN_processRegisters_WHEN_getBuildPrewarmStats_THEN_launchToRegistrationMeasured() {
+        // GIVEN
+        final GameProcessConfiguration config = newConfig("GameServer");
+        final BuildPrewarmer buildPrewarmer =
+                new BuildPrewarmer(Collections.emptyList(), mockExecutorService, nowNanos::get);
+        when(mockGameProcess.getProcessUUID()).thenReturn("processUUID");
+        when(mockGameProcess.getProcessConfiguration()).thenReturn(config);
+
+        // WHEN
+        buildPrewarmer.onProcessStarted(mockGameProcess);
+        nowNanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(1500));
+        buildPrewarmer.onProcessRegistered(mockGameProcess);
+
+        // THEN
+        assertEquals(new BuildPrewarmer.BuildPrewarmStats(false, 0, 0, 0, 1, 1500, 1500),
+                buildPrewarmer.getBuildPrewarmStatsByLaunchPath().get("GameServer"));
+    }
+
+    private Path writeFile(final String relativePath, final int size) throws IOException {
+        final Path file = buildDirectory.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.write(file, new byte[size]);
+        return file;
+    }
+
+    private static GameProcessConfiguration newConfig(final String launchPath) {
+        return GameProcessConfiguration.builder()
+                .launchPath(launchPath)
+                .concurrentExecutions(1)
+                .build();
+    }
+}
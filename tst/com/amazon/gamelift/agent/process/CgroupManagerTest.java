@@ -0,0 +1,201 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process;
+
+import com.amazon.gamelift.agent.model.GameProcessConfiguration;
+import com.amazon.gamelift.agent.model.OperatingSystem;
+import com.amazon.gamelift.agent.model.ResourceLimits;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.OptionalLong;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CgroupManagerTest {
+
+    private static final String PROCESS_UUID = "processUUID";
+    // A PID which is not running, so the process has no children to move
+    private static final long PID = Integer.MAX_VALUE;
+
+    @TempDir private Path cgroupRoot;
+    @Mock private GameProcess mockGameProcess;
+    @Mock private ScheduledExecutorService mockExecutorService;
+
+    @Test
+    public void GIVEN_noCgroupRoot_WHEN_onProcessStarted_THEN_processNotIsolated() {
+        // GIVEN
+        final CgroupManager cgroupManager = new CgroupManager(null, OperatingSystem.DEFAULT_OS,
+                mockExecutorService);
+
+        // WHEN
+        cgroupManager.onProcessStarted(mockGameProcess);
+
+        // THEN
+        assertFalse(cgroupManager.isEnabled());
+        verifyNoInteractions(mockGameProcess);
+    }
+
+    @Test
+    public void GIVEN_windows_WHEN_onProcessStarted_THEN_processNotIsolated() {
+        // GIVEN
+        final CgroupManager cgroupManager = new CgroupManager(cgroupRoot.toString(), OperatingSystem.WINDOWS_2022,
+                mockExecutorService);
+
+        // WHEN
+        cgroupManager.onProcessStarted(mockGameProcess);
+
+        // THEN
+        assertFalse(cgroupManager.isEnabled());
+        verifyNoInteractions(mockGameProcess);
+    }
+
+    @Test
+    public void GIVEN_resourceLimits_WHEN_onProcessStarted_THEN_limitsWrittenBeforeProcessMoved() throws IOException {
+        // GIVEN
+        final CgroupManager cgroupManager = new CgroupManager(cgroupRoot.toString(), OperatingSystem.DEFAULT_OS,
+                mockExecutorService);
+        givenProcess(ResourceLimits.builder()
+                .cpuWeight(200)
+                .cpuMaxCores(1.5)
+                .memoryMaxBytes(2147483648L)
+                .ioWeight(50)
+                .build());
+
+        // WHEN
+        cgroupManager.onProcessStarted(mockGameProcess);
+
+        // THEN
+        final Path cgroup = cgroupRoot.resolve(CgroupManager.CGROUP_NAME_PREFIX + PROCESS_UUID);
+        assertEquals("+cpu +memory +io\n", Files.readString(cgroupRoot.resolve(CgroupManager.SUBTREE_CONTROL_FILE)));
+        assertEquals("200\n", Files.readString(cgroup.resolve(CgroupManager.CPU_WEIGHT_FILE)));
+        assertEquals("150000 100000\n", Files.readString(cgroup.resolve(CgroupManager.CPU_MAX_FILE)));
+        assertEquals("2147483648\n", Files.readString(cgroup.resolve(CgroupManager.MEMORY_MAX_FILE)));
+        assertEquals("default 50\n", Files.readString(cgroup.resolve(CgroupManager.IO_WEIGHT_FILE)));
+        assertEquals(PID + "\n", Files.readString(cgroup.resolve(CgroupManager.PROCS_FILE)));
+    }
+
+    @Test
+    public void GIVEN_invalidResourceLimits_WHEN_onProcessStarted_THEN_invalidLimitsIgnored() throws IOException {
+        // GIVEN
+        final CgroupManager cgroupManager = new CgroupManager(cgroupRoot.toString(), OperatingSystem.DEFAULT_OS,
+                mockExecutorService);
+        givenProcess(ResourceLimits.builder()
+                .cpuWeight(0)
+                .cpuMaxCores(0.0)
+                .memoryMaxBytes(-1L)
+                .ioWeight(10001)
+                .build());
+
+        // WHEN
+        cgroupManager.onProcessStarted(mockGameProcess);
+
+        // THEN
+        final Path cgroup = cgroupRoot.resolve(CgroupManager.CGROUP_NAME_PREFIX + PROCESS_UUID);
+        assertFalse(Files.exists(cgroup.resolve(CgroupManager.CPU_WEIGHT_FILE)));
+        assertFalse(Files.exists(cgroup.resolve(CgroupManager.CPU_MAX_FILE)));
+        assertFalse(Files.exists(cgroup.resolve(CgroupManager.MEMORY_MAX_FILE)));
+        assertFalse(Files.exists(cgroup.resolve(CgroupManager.IO_WEIGHT_FILE)));
+        assertEquals(PID + "\n", Files.readString(cgroup.resolve(CgroupManager.PROCS_FILE)));
+    }
+
+    @Test
+    public void GIVEN_processInCgroup_WHEN_onProcessExited_THEN_cgroupRemoved() {
+        // GIVEN
+        final CgroupManager cgroupManager = new CgroupManager(cgroupRoot.toString(), OperatingSystem.DEFAULT_OS,
+                mockExecutorService);
+        givenProcess(ResourceLimits.builder().memoryMaxBytes(1024L).build());
+        cgroupManager.onProcessStarted(mockGameProcess);
+        final Path cgroup = cgroupRoot.resolve(CgroupManager.CGROUP_NAME_PREFIX + PROCESS_UUID);
+        assertTrue(Files.isDirectory(cgroup));
+
+        // WHEN
+        cgroupManager.onProcessExited(mockGameProcess);
+
+        // THEN
+        assertFalse(Files.exists(cgroup));
+        verifyNoInteractions(mockExecutorService);
+    }
+
+    @Test
+    public void GIVEN_cgroupStillBusy_WHEN_onProcessExited_THEN_cgroupKilledAndRemovalRetried() throws IOException {
+        // GIVEN
+        final CgroupManager cgroupManager = new CgroupManager(cgroupRoot.toString(), OperatingSystem.DEFAULT_OS,
+                mockExecutorService);
+        givenProcess(ResourceLimits.builder().memoryMaxBytes(1024L).build());
+        cgroupManager.onProcessStarted(mockGameProcess);
+        final Path cgroup = cgroupRoot.resolve(CgroupManager.CGROUP_NAME_PREFIX + PROCESS_UUID);
+        final Path killFile = Files.writeString(cgroup.resolve(CgroupManager.KILL_FILE), "");
+        // A non-empty child directory stands in for the processes keeping the cgroup busy
+        final Path busyChild = Files.createDirectories(cgroup.resolve("child"));
+        Files.writeString(busyChild.resolve(CgroupManager.PROCS_FILE), "");
+        final ArgumentCaptor<Runnable> retryCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+        // WHEN
+        cgroupManager.onProcessExited(mockGameProcess);
+
+        // THEN
+        assertEquals("1\n", Files.readString(killFile));
+        assertTrue(Files.isDirectory(cgroup));
+        verify(mockExecutorService).schedule(retryCaptor.capture(), eq(CgroupManager.REMOVAL_RETRY_DELAY_MILLIS),
+                eq(TimeUnit.MILLISECONDS));
+
+        // WHEN
+        Files.delete(busyChild.resolve(CgroupManager.PROCS_FILE));
+        Files.delete(busyChild);
+        retryCaptor.getValue().run();
+
+        // THEN
+        assertFalse(Files.exists(cgroup));
+        // No further retry was scheduled
+        verify(mockExecutorService, times(1)).schedule(any(Runnable.class),
+                eq(CgroupManager.REMOVAL_RETRY_DELAY_MILLIS), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void GIVEN_cgroupCannotBeCreated_WHEN_onProcessStarted_THEN_processRunsWithoutIsolation()
+            throws IOException {
+        // GIVEN
+        final Path notADirectory = Files.writeString(cgroupRoot.resolve("file"), "");
+        final CgroupManager cgroupManager = new CgroupManager(notADirectory.toString(), OperatingSystem.DEFAULT_OS,
+                mockExecutorService);
+        when(mockGameProcess.getProcessUUID()).thenReturn(PROCESS_UUID);
+        when(mockGameProcess.getPid()).thenReturn(OptionalLong.of(PID));
+
+        // WHEN
+        cgroupManager.onProcessStarted(mockGameProcess);
+        cgroupManager.onProcessExited(mockGameProcess);
+
+        // THEN
+        assertTrue(Files.isRegularFile(notADirectory));
+    }
+
+    private void givenProcess(final ResourceLimits resourceLimits) {
+        when(mockGameProcess.getProcessUUID()).thenReturn(PROCESS_UUID);
+        when(mockGameProcess.getPid()).thenReturn(OptionalLong.of(PID));
+        when(mockGameProcess.getProcessConfiguration()).thenReturn(GameProcessConfiguration.builder()
+                .launchPath("GameServer")
+                .concurrentExecutions(1)
+                .resourceLimits(resourceLimits)
+                .build());
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process;
+
+import com.amazon.gamelift.agent.linux.LibC;
+import com.amazon.gamelift.agent.model.OperatingSystem;
+import com.sun.jna.LastErrorException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CpuPlacementPlannerTest {
+
+    // A PID which is not running, so the process has no children to pin
+    private static final int PID = Integer.MAX_VALUE;
+    private static final int THREAD_ID = Integer.MAX_VALUE - 1;
+
+    @TempDir private Path sysfsRoot;
+    @TempDir private Path procRoot;
+    @Mock private LibC mockLibC;
+    @Mock private GameProcess mockGameProcess;
+
+    @Test
+    public void GIVEN_cpuList_WHEN_parseCpuList_THEN_returnsSortedCpus() {
+        assertEquals(List.of(0, 1, 2, 3, 8, 10, 11), CpuPlacementPlanner.parseCpuList("10-11,0-3, 8\n"));
+        assertThrows(IllegalArgumentException.class, () -> CpuPlacementPlanner.parseCpuList("3-1"));
+        assertThrows(IllegalArgumentException.class, () -> CpuPlacementPlanner.parseCpuList("a"));
+    }
+
+    @Test
+    public void GIVEN_cpus_WHEN_toCpuMask_THEN_bitSetPerCpu() {
+        assertArrayEquals(new long[] {0b1010L, 1L}, CpuPlacementPlanner.toCpuMask(List.of(1, 3, 64)));
+    }
+
+    @Test
+    public void GIVEN_noHousekeepingCpus_WHEN_onProcessStarted_THEN_processNotPinned() {
+        // GIVEN
+        final CpuPlacementPlanner planner =
+                new CpuPlacementPlanner(null, 1, OperatingSystem.DEFAULT_OS, mockLibC, sysfsRoot, procRoot);
+
+        // WHEN
+        planner.start();
+        planner.onProcessStarted(mockGameProcess);
+
+        // THEN
+        assertFalse(planner.isEnabled());
+        verifyNoInteractions(mockLibC, mockGameProcess);
+    }
+
+    @Test
+    public void GIVEN_twoNumaNodes_WHEN_assignCpus_THEN_processesSpreadAcrossNodes() throws IOException {
+        // GIVEN
+        givenNumaNode(0, "0-3");
+        givenNumaNode(1, "4-7");
+        final CpuPlacementPlanner planner =
+                new CpuPlacementPlanner("0", 2, OperatingSystem.DEFAULT_OS, mockLibC, sysfsRoot, procRoot);
+
+        // WHEN / THEN
+        assertTrue(planner.isEnabled());
+        assertEquals(List.of(1, 2), planner.assignCpus("process1"));
+        assertEquals(List.of(4, 5), planner.assignCpus("process2"));
+        assertEquals(List.of(6, 7), planner.assignCpus("process3"));
+        // Node 0 has one CPU left, so the process shares the least loaded CPU of the node
+        assertEquals(List.of(1, 3), planner.assignCpus("process4"));
+    }
+
+    @Test
+    public void GIVEN_noNumaTopology_WHEN_assignCpus_THEN_onlineCpusUsed() throws IOException {
+        // GIVEN
+        Files.createDirectories(sysfsRoot.resolve("devices/system/cpu"));
+        Files.writeString(sysfsRoot.resolve("devices/system/cpu/online"), "0-2\n");
+        final CpuPlacementPlanner planner =
+                new CpuPlacementPlanner("0", 1, OperatingSystem.DEFAULT_OS, mockLibC, sysfsRoot, procRoot);
+
+        // WHEN / THEN
+        assertEquals(List.of(1), planner.assignCpus("process1"));
+        assertEquals(List.of(2), planner.assignCpus("process2"));
+    }
+
+    @Test
+    public void GIVEN_allCpusReserved_WHEN_constructed_THEN_placementDisabled() throws IOException {
+        // GIVEN
+        givenNumaNode(0, "0-1");
+
+        // WHEN
+        final CpuPlacementPlanner planner =
+                new CpuPlacementPlanner("0-1", 1, OperatingSystem.DEFAULT_OS, mockLibC, sysfsRoot, procRoot);
+
+        // THEN
+        assertFalse(planner.isEnabled());
+    }
+
+    @Test
+    public void GIVEN_processStarted_WHEN_onProcessStarted_THEN_everyThreadPinned() throws IOException {
+        // GIVEN
+        givenNumaNode(0, "0-3");
+        givenThreads(String.valueOf(PID), PID, THREAD_ID);
+        final CpuPlacementPlanner planner =
+                new CpuPlacementPlanner("0", 1, OperatingSystem.DEFAULT_OS, mockLibC, sysfsRoot, procRoot);
+        when(mockGameProcess.getProcessUUID()).thenReturn("process1");
+        when(mockGameProcess.getPid()).thenReturn(OptionalLong.of(PID));
+
+        // WHEN
+        planner.onProcessStarted(mockGameProcess);
+
+        // THEN
+        verify(mockLibC).sched_setaffinity(PID, (long) Long.BYTES, new long[] {0b0010L});
+        verify(mockLibC).sched_setaffinity(THREAD_ID, (long) Long.BYTES, new long[] {0b0010L});
+    }
+
+    @Test
+    public void GIVEN_processExited_WHEN_onProcessExited_THEN_cpusReused() throws IOException {
+        // GIVEN
+        givenNumaNode(0, "0-2");
+        givenThreads(String.valueOf(PID), PID);
+        final CpuPlacementPlanner planner =
+                new CpuPlacementPlanner("0", 1, OperatingSystem.DEFAULT_OS, mockLibC, sysfsRoot, procRoot);
+        when(mockGameProcess.getProcessUUID()).thenReturn("process1");
+        when(mockGameProcess.getPid()).thenReturn(OptionalLong.of(PID));
+        planner.onProcessStarted(mockGameProcess);
+
+        // WHEN
+        planner.onProcessExited(mockGameProcess);
+
+        // THEN
+        assertEquals(List.of(1), planner.assignCpus("process2"));
+    }
+
+    @Test
+    public void GIVEN_processCannotBePinned_WHEN_onProcessStarted_THEN_cpusReleased() throws IOException {
+        // GIVEN
+        givenNumaNode(0, "0-2");
+        final CpuPlacementPlanner planner =
+                new CpuPlacementPlanner("0", 1, OperatingSystem.DEFAULT_OS, mockLibC, sysfsRoot, procRoot);
+        when(mockGameProcess.getProcessUUID()).thenReturn("process1");
+        when(mockGameProcess.getPid()).thenReturn(OptionalLong.of(PID));
+
+        // WHEN
+        planner.onProcessStarted(mockGameProcess);
+
+        // THEN
+        verifyNoInteractions(mockLibC);
+        assertEquals(List.of(1), planner.assignCpus("process2"));
+    }
+
+    @Test
+    public void GIVEN_pinningFails_WHEN_onProcessStarted_THEN_processAllowedOnEveryGameServerCpu() throws IOException {
+        // GIVEN
+        givenNumaNode(0, "0-3");
+        givenThreads(String.valueOf(PID), PID);
+        final CpuPlacementPlanner planner =
+                new CpuPlacementPlanner("0", 1, OperatingSystem.DEFAULT_OS, mockLibC, sysfsRoot, procRoot);
+        when(mockGameProcess.getProcessUUID()).thenReturn("process1");
+        when(mockGameProcess.getPid()).thenReturn(OptionalLong.of(PID));
+        doThrow(new LastErrorException(22)).when(mockLibC)
+                .sched_setaffinity(PID, (long) Long.BYTES, new long[] {0b0010L});
+
+        // WHEN
+        planner.onProcessStarted(mockGameProcess);
+
+        // THEN
+        verify(mockLibC).sched_setaffinity(PID, (long) Long.BYTES, new long[] {0b1110L});
+        assertEquals(List.of(1), planner.assignCpus("process2"));
+    }
+
+    @Test
+    public void GIVEN_housekeepingCpus_WHEN_start_THEN_agentThreadsConfined() throws IOException {
+        // GIVEN
+        givenNumaNode(0, "0-3");
+        givenThreads("self", 100, 101);
+        final CpuPlacementPlanner planner =
+                new CpuPlacementPlanner("0-1", 1, OperatingSystem.DEFAULT_OS, mockLibC, sysfsRoot, procRoot);
+
+        // WHEN
+        planner.start();
+
+        // THEN
+        verify(mockLibC).sched_setaffinity(100, (long) Long.BYTES, new long[] {0b0011L});
+        verify(mockLibC).sched_setaffinity(101, (long) Long.BYTES, new long[] {0b0011L});
+    }
+
+    private void givenNumaNode(final int nodeId, final String cpuList) throws IOException {
+        final Path node = Files.createDirectories(sysfsRoot.resolve("devices/system/node/node" + nodeId));
+        Files.writeString(node.resolve("cpulist"), cpuList + "\n");
+    }
+
+    private void givenThreads(final String process, final int... threadIds) throws IOException {
+        for (final int threadId : threadIds) {
+            Files.createDirectories(procRoot.resolve(process).resolve("task").resolve(String.valueOf(threadId)));
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process;
+
+import com.amazon.gamelift.agent.model.GameProcessConfiguration;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FairShareLaunchSchedulerTest {
+
+    private static final GameProcessConfiguration SMALL_CONFIG = newConfig("smallExecutable", 10);
+    private static final GameProcessConfiguration MEDIUM_CONFIG = newConfig("mediumExecutable", 20);
+    private static final GameProcessConfiguration LARGE_CONFIG = newConfig("largeExecutable", 30);
+
+    @Test
+    public void GIVEN_equalFillLevels_WHEN_schedule_THEN_launchesInterleavedByWeight() {
+        // GIVEN
+        final List<FairShareLaunchScheduler.LaunchDemand> launchDemands = List.of(
+                new FairShareLaunchScheduler.LaunchDemand(SMALL_CONFIG, 0, 10),
+                new FairShareLaunchScheduler.LaunchDemand(MEDIUM_CONFIG, 0, 20),
+                new FairShareLaunchScheduler.LaunchDemand(LARGE_CONFIG, 0, 30));
+
+        // WHEN
+        final List<GameProcessConfiguration> launchOrder = FairShareLaunchScheduler.schedule(launchDemands, 6);
+
+        // THEN
+        assertEquals(List.of(SMALL_CONFIG, MEDIUM_CONFIG, LARGE_CONFIG, LARGE_CONFIG, MEDIUM_CONFIG, LARGE_CONFIG),
+                launchOrder);
+    }
+
+    @Test
+    public void GIVEN_configBehindOthers_WHEN_schedule_THEN_laggingConfigCaughtUpFirst() {
+        // GIVEN
+        final List<FairShareLaunchScheduler.LaunchDemand> launchDemands = List.of(
+                new FairShareLaunchScheduler.LaunchDemand(SMALL_CONFIG, 5, 5),
+                new FairShareLaunchScheduler.LaunchDemand(MEDIUM_CONFIG, 4, 16));
+
+        // WHEN
+        final List<GameProcessConfiguration> launchOrder = FairShareLaunchScheduler.schedule(launchDemands, 6);
+
+        // THEN
+        assertEquals(Collections.nCopies(6, MEDIUM_CONFIG), launchOrder);
+    }
+
+    @Test
+    public void GIVEN_budgetExceedsDemand_WHEN_schedule_THEN_launchesLimitedToDemand() {
+        // GIVEN
+        final List<FairShareLaunchScheduler.LaunchDemand> launchDemands = List.of(
+                new FairShareLaunchScheduler.LaunchDemand(SMALL_CONFIG, 9, 1),
+                new FairShareLaunchScheduler.LaunchDemand(MEDIUM_CONFIG, 18, 2),
+                new FairShareLaunchScheduler.LaunchDemand(LARGE_CONFIG, 30, 0));
+
+        // WHEN
+        final List<GameProcessConfiguration> launchOrder = FairShareLaunchScheduler.schedule(launchDemands, 100);
+
+        // THEN
+        assertEquals(List.of(SMALL_CONFIG, MEDIUM_CONFIG, MEDIUM_CONFIG), launchOrder);
+    }
+
+    @Test
+    public void GIVEN_noBudget_WHEN_schedule_THEN_noLaunches() {
+        assertTrue(FairShareLaunchScheduler.schedule(
+                List.of(new FairShareLaunchScheduler.LaunchDemand(SMALL_CONFIG, 0, 10)), 0).isEmpty());
+    }
+
+    /**
+     * Simulates filling an empty compute when only a few launches fit in each process monitor run, and measures the
+     * run at which every configuration reaches its concurrent execution count. With fair-share scheduling all
+     * configurations converge within a run of each other; handing vacancies out in configuration order lets the first
+     * configuration finish long before the last one starts.
+     */
+    @Test
+    public void GIVEN_limitedLaunchesPerRun_WHEN_simulateFill_THEN_allConfigsConvergeAtSameRate() {
+        // GIVEN
+        final List<GameProcessConfiguration> configs = List.of(SMALL_CONFIG, MEDIUM_CONFIG, LARGE_CONFIG);
+        final int launchesPerRun = 3;
+
+        // WHEN
+        final Map<GameProcessConfiguration, Integer> fairShareConvergenceRuns =
+                simulateFill(configs, launchesPerRun, FairShareLaunchScheduler::schedule);
+        final Map<GameProcessConfiguration, Integer> inOrderConvergenceRuns =
+                simulateFill(configs, launchesPerRun, FairShareLaunchSchedulerTest::scheduleInOrder);
+
+        // THEN
+        // 60 processes at 3 launches per run take 20 runs to fill the compute
+        assertEquals(20, Collections.max(fairShareConvergenceRuns.values()));
+        assertTrue(Collections.max(fairShareConvergenceRuns.values())
+                - Collections.min(fairShareConvergenceRuns.values()) <= 1);
+        assertEquals(Map.of(SMALL_CONFIG, 4, MEDIUM_CONFIG, 10, LARGE_CONFIG, 20), inOrderConvergenceRuns);
+    }
+
+    /**
+     * Simulates process monitor runs over an initially empty compute, where every queued launch is running by the next
+     * run, and returns the run at which each configuration first reached its concurrent execution count.
+     */
+    private static Map<GameProcessConfiguration, Integer> simulateFill(
+            final List<GameProcessConfiguration> configs,
+            final int launchesPerRun,
+            final BiFunction<List<FairShareLaunchScheduler.LaunchDemand>, Integer,
+                    List<GameProcessConfiguration>> scheduler) {
+        final Map<GameProcessConfiguration, Integer> processCounts = new HashMap<>();
+        final Map<GameProcessConfiguration, Integer> convergenceRuns = new LinkedHashMap<>();
+        for (int run = 1; convergenceRuns.size() < configs.size(); run++) {
+            final List<FairShareLaunchScheduler.LaunchDemand> launchDemands = new ArrayList<>();
+            for (final GameProcessConfiguration config : configs) {
+                final int processCount = processCounts.getOrDefault(config, 0);
+                launchDemands.add(new FairShareLaunchScheduler.LaunchDemand(config, processCount,
+                        config.getConcurrentExecutions() - processCount));
+            }
+            for (final GameProcessConfiguration config : scheduler.apply(launchDemands, launchesPerRun)) {
+                processCounts.merge(config, 1, Integer::sum);
+            }
+            for (final GameProcessConfiguration config : configs) {
+                if (processCounts.getOrDefault(config, 0) == config.getConcurrentExecutions()) {
+                    convergenceRuns.putIfAbsent(config, run);
+                }
+            }
+        }
+        return convergenceRuns;
+    }
+
+    /**
+     * The previous behavior of the process monitor: vacancies go to configurations in runtime configuration order.
+     */
+    private static List<GameProcessConfiguration> scheduleInOrder(
+            final List<FairShareLaunchScheduler.LaunchDemand> launchDemands, final int launchBudget) {
+        final List<GameProcessConfiguration> launchOrder = new ArrayList<>();
+        for (final FairShareLaunchScheduler.LaunchDemand launchDemand : launchDemands) {
+            for (int i = 0; i < launchDemand.getMaxLaunchCount() && launchOrder.size() < launchBudget; i++) {
+                launchOrder.add(launchDemand.getGameProcessConfiguration());
+            }
+        }
+        return launchOrder;
+    }
+
+    private static GameProcessConfiguration newConfig(final String launchPath, final int concurrentExecutions) {
+        return GameProcessConfiguration.builder()
+                .launchPath(launchPath)
+                .concurrentExecutions(concurrentExecutions)
+                .build();
+    }
+}
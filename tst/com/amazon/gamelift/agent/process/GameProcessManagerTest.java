@@ -6,16 +6,21 @@ package com.amazon.gamelift.agent.process;
 import com.amazon.gamelift.agent.logging.UploadGameSessionLogsCallableFactory;
 import com.amazon.gamelift.agent.model.GameProcessConfiguration;
 import com.amazon.gamelift.agent.model.OperatingSystem;
+import com.amazon.gamelift.agent.model.ProcessStatus;
 import com.amazon.gamelift.agent.model.ProcessTerminationReason;
 import com.amazon.gamelift.agent.model.exception.BadExecutablePathException;
 import com.amazon.gamelift.agent.model.exception.NotFinishedException;
 import com.amazon.gamelift.agent.model.exception.NotFoundException;
 import com.amazon.gamelift.agent.model.exception.AgentException;
+import com.amazon.gamelift.agent.process.builder.ForkServer;
+import com.amazon.gamelift.agent.process.builder.LaunchTemplateCache;
 import com.amazon.gamelift.agent.process.builder.ProcessBuilderFactory;
 import com.amazon.gamelift.agent.process.builder.ProcessBuilderWrapper;
+import com.amazon.gamelift.agent.process.builder.ProcessOutputCapture;
 import com.amazon.gamelift.agent.logging.UploadGameSessionLogsCallable;
 import com.amazon.gamelift.agent.manager.ProcessEnvironmentManager;
 import com.amazon.gamelift.agent.model.constants.ProcessConstants;
+import com.amazon.gamelift.agent.process.destroyer.ProcessDestroyer;
 import com.amazon.gamelift.agent.process.destroyer.ProcessDestroyerFactory;
 import com.amazon.gamelift.agent.process.destroyer.WindowsProcessDestroyer;
 import com.google.common.collect.ImmutableList;
@@ -25,20 +30,29 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -46,7 +60,12 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -58,7 +77,7 @@ public class GameProcessManagerTest {
     private static final String TEST_GAME_SESSION_ID = "TEST_GAME_SESSION_ID";
 
     @Mock private ProcessEnvironmentManager mockProcessEnvironmentManager;
-    @Mock private ProcessTerminationEventManager mockTerminationEventManager;
+    @Mock private ProcessTerminationReporter mockTerminationReporter;
     @Mock private ProcessBuilderWrapper processBuilderWrapper;
     @Mock private Process mockProcess;
     @Mock private Process mockProcess2;
@@ -66,22 +85,32 @@ public class GameProcessManagerTest {
     @Mock private UploadGameSessionLogsCallableFactory uploadGameSessionLogsCallableFactory;
     @Mock private UploadGameSessionLogsCallable mockUploadGameSessionLogsCallable;
     @Mock private ScheduledExecutorService executorService;
+    @Mock private GameProcessLifecycleListener mockLifecycleListener;
+    @Mock private InitializationTimeoutTracker mockInitializationTimeoutTracker;
+    @Mock private ForkServer mockForkServer;
+    @Mock private ProcessOutputCapture mockProcessOutputCapture;
+    private ExecutorService shutdownTerminationExecutorService;
     private GameProcessManager processManager;
 
     @BeforeEach
     public void setup() {
+        shutdownTerminationExecutorService = Executors.newCachedThreadPool();
         // This test attempts to spin up a Linux Process
-        processManager = new GameProcessManager(mockProcessEnvironmentManager, mockTerminationEventManager,
-                OperatingSystem.DEFAULT_OS, uploadGameSessionLogsCallableFactory, executorService);
+        processManager = new GameProcessManager(mockProcessEnvironmentManager, mockTerminationReporter,
+                OperatingSystem.DEFAULT_OS, uploadGameSessionLogsCallableFactory, executorService,
+                mockInitializationTimeoutTracker, mockForkServer,
+                mockProcessOutputCapture, new LaunchTemplateCache(), new InitializationTimeoutEstimator(0),
+                shutdownTerminationExecutorService, executorService);
     }
 
     @AfterEach
     public void teardown() {
         try {
-            processManager.terminateAllProcessesForShutdown(0L, 0L);
+            processManager.terminateAllProcessesForShutdown(1000L);
         } catch (final Exception e) {
             // Swallow Exception
         }
+        shutdownTerminationExecutorService.shutdownNow();
     }
 
     @Test
@@ -108,9 +137,9 @@ public class GameProcessManagerTest {
 
         try (MockedStatic<ProcessBuilderFactory> processBuilderFactory = mockStatic(ProcessBuilderFactory.class);
              MockedStatic<ProcessDestroyerFactory> processDestroyerFactory = mockStatic(ProcessDestroyerFactory.class)) {
-            processDestroyerFactory.when(() -> ProcessDestroyerFactory.getProcessDestroyer(any()))
+            processDestroyerFactory.when(() -> ProcessDestroyerFactory.getProcessDestroyer(any(), any(), any()))
                     .thenReturn(new WindowsProcessDestroyer(OperatingSystem.WINDOWS_2019));
-            processBuilderFactory.when(() -> ProcessBuilderFactory.getProcessBuilder(any(), any()))
+            processBuilderFactory.when(() -> ProcessBuilderFactory.getProcessBuilder(any(), any(), any(), any(), any()))
                     .thenReturn(processBuilderWrapper);
             when(processBuilderWrapper.buildProcess(any())).thenReturn(mockProcess);
             when(mockProcess.isAlive()).thenReturn(true);
@@ -121,7 +150,7 @@ public class GameProcessManagerTest {
             });
             when(mockProcess.descendants()).thenReturn(Stream.empty());
 
-            processManager.startProcessFromConfiguration(processConfig);
+            processManager.startProcessFromConfiguration(processConfig, false);
             assertEquals(1, processManager.getAllProcessUUIDs().size());
             assertTrue(processManager.isProcessAlive(processManager.getAllProcessUUIDs().iterator().next()));
         }
@@ -138,9 +167,9 @@ public class GameProcessManagerTest {
 
         try (MockedStatic<ProcessBuilderFactory> processBuilderFactory = mockStatic(ProcessBuilderFactory.class);
              MockedStatic<ProcessDestroyerFactory> processDestroyerFactory = mockStatic(ProcessDestroyerFactory.class)) {
-            processDestroyerFactory.when(() -> ProcessDestroyerFactory.getProcessDestroyer(any()))
+            processDestroyerFactory.when(() -> ProcessDestroyerFactory.getProcessDestroyer(any(), any(), any()))
                     .thenReturn(new WindowsProcessDestroyer(OperatingSystem.WINDOWS_2019));
-            processBuilderFactory.when(() -> ProcessBuilderFactory.getProcessBuilder(any(), any()))
+            processBuilderFactory.when(() -> ProcessBuilderFactory.getProcessBuilder(any(), any(), any(), any(), any()))
                     .thenReturn(processBuilderWrapper);
             when(processBuilderWrapper.buildProcess(any())).thenReturn(mockProcess);
             when(mockProcess.onExit()).thenReturn(new CompletableFuture<>());
@@ -150,7 +179,7 @@ public class GameProcessManagerTest {
             });
             when(mockProcess.descendants()).thenReturn(Stream.empty());
 
-            processManager.startProcessFromConfiguration(processConfig);
+            processManager.startProcessFromConfiguration(processConfig, false);
             assertEquals(1, processManager.getAllProcessUUIDs().size());
             // Single process id, pull it out of the set
             processManager.getAllProcessUUIDs().iterator().next();
@@ -167,27 +196,59 @@ public class GameProcessManagerTest {
 
         try (MockedStatic<ProcessBuilderFactory> processBuilderFactory = mockStatic(ProcessBuilderFactory.class);
              MockedStatic<ProcessDestroyerFactory> processDestroyerFactory = mockStatic(ProcessDestroyerFactory.class)) {
-            processDestroyerFactory.when(() -> ProcessDestroyerFactory.getProcessDestroyer(any()))
+            processDestroyerFactory.when(() -> ProcessDestroyerFactory.getProcessDestroyer(any(), any(), any()))
                     .thenReturn(new WindowsProcessDestroyer(OperatingSystem.WINDOWS_2019));
-            processBuilderFactory.when(() -> ProcessBuilderFactory.getProcessBuilder(any(), any()))
+            processBuilderFactory.when(() -> ProcessBuilderFactory.getProcessBuilder(any(), any(), any(), any(), any()))
                     .thenReturn(processBuilderWrapper);
             when(processBuilderWrapper.buildProcess(any())).thenReturn(mockProcess);
-            when(mockProcess.isAlive()).thenReturn(true);
-            // Call actual methods so call-back (BiFunction) is triggered
-            when(mockProcess.onExit()).thenCallRealMethod();
+            // Complete the exit future once the process UUID has been read, so the call-back (BiFunction) is triggered
+            final CompletableFuture<Process> processExit = new CompletableFuture<>();
+            when(mockProcess.onExit()).thenReturn(processExit);
 
             // WHEN
-            processManager.startProcessFromConfiguration(processConfig);
+            processManager.startProcessFromConfiguration(processConfig, false);
             String processUUID = processManager.getAllProcessUUIDs().iterator().next();
-            //Sleep to make sure onExit is executed
-            Thread.sleep(200);
+            processExit.complete(mockProcess);
 
             // THEN
-            verify(mockTerminationEventManager, times(1)).notifyServerProcessTermination(processUUID, 0, null);
+            verify(mockTerminationReporter, times(1)).reportProcessTermination(processUUID, 0, null);
             assertEquals(0, processManager.getAllProcessUUIDs().size());
         }
     }
 
+    @Test
+    public void GIVEN_capturedOutputAndProcessCrashes_WHEN_processExits_THEN_outputTailAddedToLogs()
+            throws AgentException {
+        // GIVEN
+        final GameProcessConfiguration processConfig = GameProcessConfiguration.builder()
+                .launchPath("someexecutable")
+                .concurrentExecutions(1)
+                .build();
+        final byte[] outputTail = "Segmentation fault".getBytes();
+
+        try (MockedStatic<ProcessBuilderFactory> processBuilderFactory = mockStatic(ProcessBuilderFactory.class);
+             MockedStatic<ProcessDestroyerFactory> processDestroyerFactory = mockStatic(ProcessDestroyerFactory.class)) {
+            processDestroyerFactory.when(() -> ProcessDestroyerFactory.getProcessDestroyer(any(), any(), any()))
+                    .thenReturn(new WindowsProcessDestroyer(OperatingSystem.WINDOWS_2019));
+            processBuilderFactory.when(() -> ProcessBuilderFactory.getProcessBuilder(any(), any(), any(), any(), any()))
+                    .thenReturn(processBuilderWrapper);
+            when(processBuilderWrapper.buildProcess(any())).thenReturn(mockProcess);
+            final CompletableFuture<Process> processExit = new CompletableFuture<>();
+            when(mockProcess.onExit()).thenReturn(processExit);
+            when(mockProcess.exitValue()).thenReturn(139);
+            when(mockProcessOutputCapture.release(mockProcess)).thenReturn(Optional.of(outputTail));
+
+            // WHEN
+            processManager.startProcessFromConfiguration(processConfig, false);
+            final String processUUID = processManager.getAllProcessUUIDs().iterator().next();
+            processExit.complete(mockProcess);
+
+            // THEN
+            verify(uploadGameSessionLogsCallableFactory).newUploadGameSessionLogsCallable(
+                    eq(processUUID), eq("someexecutable"), any(), any(), eq(outputTail));
+        }
+    }
+
     @Test
     public void GIVEN_processTerminatesAndNotifyTerminationFails_WHEN_processTerminates_THEN_swallowsException()
             throws InterruptedException, AgentException {
@@ -199,9 +260,9 @@ public class GameProcessManagerTest {
 
         try (MockedStatic<ProcessBuilderFactory> processBuilderFactory = mockStatic(ProcessBuilderFactory.class);
              MockedStatic<ProcessDestroyerFactory> processDestroyerFactory = mockStatic(ProcessDestroyerFactory.class)) {
-            processDestroyerFactory.when(() -> ProcessDestroyerFactory.getProcessDestroyer(any()))
+            processDestroyerFactory.when(() -> ProcessDestroyerFactory.getProcessDestroyer(any(), any(), any()))
                     .thenReturn(new WindowsProcessDestroyer(OperatingSystem.WINDOWS_2019));
-            processBuilderFactory.when(() -> ProcessBuilderFactory.getProcessBuilder(any(), any()))
+            processBuilderFactory.when(() -> ProcessBuilderFactory.getProcessBuilder(any(), any(), any(), any(), any()))
                     .thenReturn(processBuilderWrapper);
             when(processBuilderWrapper.buildProcess(any())).thenReturn(mockProcess);
             when(mockProcess.onExit()).thenReturn(new CompletableFuture<>());
@@ -211,27 +272,127 @@ public class GameProcessManagerTest {
             });
             when(mockProcess.descendants()).thenReturn(Stream.empty());
             when(uploadGameSessionLogsCallableFactory.newUploadGameSessionLogsCallable(
-                    anyString(), anyString(), eq(new ArrayList<>()), any()))
+                    anyString(), anyString(), eq(new ArrayList<>()), any(), any()))
                     .thenReturn(mockUploadGameSessionLogsCallable);
 
-            doThrow(new RuntimeException()).when(mockTerminationEventManager)
-                    .notifyServerProcessTermination(anyString(), anyInt(), any());
+            doThrow(new RuntimeException()).when(mockTerminationReporter)
+                    .reportProcessTermination(anyString(), anyInt(), any());
 
             // WHEN
-            processManager.startProcessFromConfiguration(processConfig);
+            processManager.startProcessFromConfiguration(processConfig, false);
             String processUUID = processManager.getAllProcessUUIDs().iterator().next();
             processManager.terminateProcessByUUID(processUUID);
             //Sleep to make sure onExit is executed
             Thread.sleep(200);
 
             // THEN
-            verify(mockTerminationEventManager, times(1))
-                    .notifyServerProcessTermination(processUUID, 0, ProcessTerminationReason.SERVER_PROCESS_FORCE_TERMINATED);
+            verify(mockTerminationReporter, times(1))
+                    .reportProcessTermination(processUUID, 0, ProcessTerminationReason.SERVER_PROCESS_FORCE_TERMINATED);
             verify(executorService).submit(eq(mockUploadGameSessionLogsCallable));
             assertEquals(0, processManager.getAllProcessUUIDs().size());
         }
     }
 
+    @Test
+    public void GIVEN_lifecycleListener_WHEN_processStartsRegistersAndExits_THEN_listenerNotified()
+            throws InterruptedException, AgentException {
+        // GIVEN
+        final GameProcessConfiguration processConfig = GameProcessConfiguration.builder()
+                .launchPath("someexecutable")
+                .concurrentExecutions(1)
+                .build();
+        processManager.addLifecycleListener(mockLifecycleListener);
+
+        try (MockedStatic<ProcessBuilderFactory> processBuilderFactory = mockStatic(ProcessBuilderFactory.class);
+             MockedStatic<ProcessDestroyerFactory> processDestroyerFactory = mockStatic(ProcessDestroyerFactory.class)) {
+            processDestroyerFactory.when(() -> ProcessDestroyerFactory.getProcessDestroyer(any(), any(), any()))
+                    .thenReturn(new WindowsProcessDestroyer(OperatingSystem.WINDOWS_2019));
+            processBuilderFactory.when(() -> ProcessBuilderFactory.getProcessBuilder(any(), any(), any(), any(), any()))
+                    .thenReturn(processBuilderWrapper);
+            when(processBuilderWrapper.buildProcess(any())).thenReturn(mockProcess);
+            when(mockProcess.onExit()).thenReturn(new CompletableFuture<>());
+            when(mockProcess.destroyForcibly()).thenAnswer(it -> {
+                mockProcess.onExit().complete(mockProcess);
+                return mockProcess;
+            });
+            when(mockProcess.descendants()).thenReturn(Stream.empty());
+
+            // WHEN
+            processManager.startProcessFromConfiguration(processConfig, false);
+            final String processUUID = processManager.getAllProcessUUIDs().iterator().next();
+
+            // THEN
+            verify(mockLifecycleListener).onProcessStarted(any(GameProcess.class));
+            verify(mockLifecycleListener, never()).onProcessExited(any(GameProcess.class));
+
+            // WHEN
+            processManager.updateProcessOnRegistration(processUUID, List.of());
+
+            // THEN
+            verify(mockLifecycleListener).onProcessRegistered(any(GameProcess.class));
+
+            // WHEN
+            processManager.terminateProcessByUUID(processUUID);
+            //Sleep to make sure onExit is executed
+            Thread.sleep(200);
+
+            // THEN
+            verify(mockLifecycleListener).onProcessExited(any(GameProcess.class));
+            assertEquals(0, processManager.getAllProcessUUIDs().size());
+        }
+    }
+
+    @Test
+    public void GIVEN_processExits_WHEN_handleProcessExit_THEN_slotReleasedBeforeReportingAndLogUpload()
+            throws InterruptedException, AgentException {
+        // GIVEN
+        final GameProcessConfiguration processConfig = GameProcessConfiguration.builder()
+                .launchPath("someexecutable")
+                .concurrentExecutions(1)
+                .build();
+        final List<Integer> processCountsOnExit = new ArrayList<>();
+        processManager.addLifecycleListener(new GameProcessLifecycleListener() {
+            @Override
+            public void onProcessExited(final GameProcess gameProcess) {
+                processCountsOnExit.add(processManager.getProcessCount(processConfig));
+                mockLifecycleListener.onProcessExited(gameProcess);
+            }
+        });
+
+        try (MockedStatic<ProcessBuilderFactory> processBuilderFactory = mockStatic(ProcessBuilderFactory.class);
+             MockedStatic<ProcessDestroyerFactory> processDestroyerFactory = mockStatic(ProcessDestroyerFactory.class)) {
+            processDestroyerFactory.when(() -> ProcessDestroyerFactory.getProcessDestroyer(any(), any(), any()))
+                    .thenReturn(new WindowsProcessDestroyer(OperatingSystem.WINDOWS_2019));
+            processBuilderFactory.when(() -> ProcessBuilderFactory.getProcessBuilder(any(), any(), any(), any(), any()))
+                    .thenReturn(processBuilderWrapper);
+            when(processBuilderWrapper.buildProcess(any())).thenReturn(mockProcess);
+            when(mockProcess.onExit()).thenReturn(new CompletableFuture<>());
+            when(mockProcess.destroyForcibly()).thenAnswer(it -> {
+                mockProcess.onExit().complete(mockProcess);
+                return mockProcess;
+            });
+            when(mockProcess.descendants()).thenReturn(Stream.empty());
+            when(uploadGameSessionLogsCallableFactory.newUploadGameSessionLogsCallable(
+                    anyString(), anyString(), any(), any(), any()))
+                    .thenReturn(mockUploadGameSessionLogsCallable);
+
+            // WHEN
+            processManager.startProcessFromConfiguration(processConfig, false);
+            final String processUUID = processManager.getAllProcessUUIDs().iterator().next();
+            processManager.terminateProcessByUUID(processUUID);
+            //Sleep to make sure onExit is executed
+            Thread.sleep(200);
+
+            // THEN
+            assertEquals(List.of(0), processCountsOnExit);
+            final InOrder inOrder = inOrder(mockLifecycleListener, mockTerminationReporter, executorService);
+            inOrder.verify(mockLifecycleListener).onProcessExited(any(GameProcess.class));
+            inOrder.verify(mockTerminationReporter).reportProcessTermination(
+                    processUUID, 0, ProcessTerminationReason.SERVER_PROCESS_FORCE_TERMINATED);
+            inOrder.verify(executorService).submit(eq(mockUploadGameSessionLogsCallable));
+        }
+    }
+
     @Test
     public void GIVEN_validProcessUUIDAndTerminationReason_WHEN_terminateProcessByUUID_THEN_terminatesProcess()
             throws AgentException, InterruptedException {
@@ -243,9 +404,9 @@ public class GameProcessManagerTest {
 
         try (MockedStatic<ProcessBuilderFactory> processBuilderFactory = mockStatic(ProcessBuilderFactory.class);
              MockedStatic<ProcessDestroyerFactory> processDestroyerFactory = mockStatic(ProcessDestroyerFactory.class)) {
-            processDestroyerFactory.when(() -> ProcessDestroyerFactory.getProcessDestroyer(any()))
+            processDestroyerFactory.when(() -> ProcessDestroyerFactory.getProcessDestroyer(any(), any(), any()))
                     .thenReturn(new WindowsProcessDestroyer(OperatingSystem.WINDOWS_2019));
-            processBuilderFactory.when(() -> ProcessBuilderFactory.getProcessBuilder(any(), any()))
+            processBuilderFactory.when(() -> ProcessBuilderFactory.getProcessBuilder(any(), any(), any(), any(), any()))
                     .thenReturn(processBuilderWrapper);
             when(processBuilderWrapper.buildProcess(any())).thenReturn(mockProcess);
             when(mockProcess.onExit()).thenReturn(new CompletableFuture<>());
@@ -255,7 +416,7 @@ public class GameProcessManagerTest {
             });
             when(mockProcess.descendants()).thenReturn(Stream.empty());
 
-            processManager.startProcessFromConfiguration(processConfig);
+            processManager.startProcessFromConfiguration(processConfig, false);
 
             // WHEN
             String processUUID = processManager.getAllProcessUUIDs().iterator().next();
@@ -264,7 +425,7 @@ public class GameProcessManagerTest {
 
             // THEN
             assertEquals(0, processManager.getAllProcessUUIDs().size());
-            verify(mockTerminationEventManager, times(1)).notifyServerProcessTermination(
+            verify(mockTerminationReporter, times(1)).reportProcessTermination(
                     eq(processUUID), anyInt(), eq(ProcessTerminationReason.SERVER_PROCESS_TERMINATED_UNHEALTHY));
         }
     }
@@ -283,10 +444,9 @@ public class GameProcessManagerTest {
 
     @Test
     public void GIVEN_multipleProcesses_WHEN_terminateAllProcessesForShutdown_THEN_allProcessesTerminated()
-            throws AgentException {
+            throws AgentException, InterruptedException {
         // GIVEN
         final long totalWaitMillis = 1000L;
-        final long pollWaitMillis = 100L;
         final GameProcessConfiguration processConfig = GameProcessConfiguration.builder()
                 .launchPath("sleep")
                 .parameters("100")
@@ -295,27 +455,38 @@ public class GameProcessManagerTest {
 
         try (MockedStatic<ProcessBuilderFactory> processBuilderFactory = mockStatic(ProcessBuilderFactory.class);
              MockedStatic<ProcessDestroyerFactory> processDestroyerFactory = mockStatic(ProcessDestroyerFactory.class)) {
-            processDestroyerFactory.when(() -> ProcessDestroyerFactory.getProcessDestroyer(any()))
+            processDestroyerFactory.when(() -> ProcessDestroyerFactory.getProcessDestroyer(any(), any(), any()))
                     .thenReturn(new WindowsProcessDestroyer(OperatingSystem.WINDOWS_2019));
-            processBuilderFactory.when(() -> ProcessBuilderFactory.getProcessBuilder(any(), any()))
+            processBuilderFactory.when(() -> ProcessBuilderFactory.getProcessBuilder(any(), any(), any(), any(), any()))
                     .thenReturn(processBuilderWrapper);
             ProcessBuilder processBuilder = new ProcessBuilder(new ImmutableList.Builder<String>()
                     .add(processConfig.getLaunchPath())
                     .addAll(processConfig.getParameters()).build());
             // Make sure to spin up 3 processes via thenAnswer(), not one process 3 times via thenReturn()
-            when(processBuilderWrapper.buildProcess(any())).thenAnswer(i -> processBuilder.start());
+            final List<Process> startedProcesses = new ArrayList<>();
+            when(processBuilderWrapper.buildProcess(any())).thenAnswer(i -> {
+                final Process process = processBuilder.start();
+                startedProcesses.add(process);
+                return process;
+            });
 
-            processManager.startProcessFromConfiguration(processConfig);
-            processManager.startProcessFromConfiguration(processConfig);
-            processManager.startProcessFromConfiguration(processConfig);
+            processManager.startProcessFromConfiguration(processConfig, false);
+            processManager.startProcessFromConfiguration(processConfig, false);
+            processManager.startProcessFromConfiguration(processConfig, false);
 
             // WHEN
-            processManager.terminateAllProcessesForShutdown(totalWaitMillis, pollWaitMillis);
+            final Map<String, Duration> terminationLatencies =
+                    processManager.terminateAllProcessesForShutdown(totalWaitMillis);
 
             // THEN
-            verify(mockTerminationEventManager, times(3)).notifyServerProcessTermination(
+            assertEquals(3, terminationLatencies.size());
+            verify(mockTerminationReporter, timeout(1000).times(3)).reportProcessTermination(
                     anyString(), anyInt(), eq(ProcessTerminationReason.COMPUTE_SHUTTING_DOWN));
             assertEquals(0, processManager.getAllProcessUUIDs().size());
+            // Exits are observed before the JDK reaps the processes; wait for them so no children outlive the test
+            for (final Process process : startedProcesses) {
+                assertTrue(process.waitFor(1, TimeUnit.SECONDS));
+            }
         }
     }
 
@@ -325,7 +496,6 @@ public class GameProcessManagerTest {
         // GIVEN
         // Use 0 second wait time to force immediate completion
         final long totalWaitMillis = 0L;
-        final long pollWaitMillis = 0L;
         final GameProcessConfiguration processConfig = GameProcessConfiguration.builder()
                 .launchPath("someexecutable")
                 .concurrentExecutions(1)
@@ -333,45 +503,138 @@ public class GameProcessManagerTest {
 
         try (MockedStatic<ProcessBuilderFactory> processBuilderFactory = mockStatic(ProcessBuilderFactory.class);
              MockedStatic<ProcessDestroyerFactory> processDestroyerFactory = mockStatic(ProcessDestroyerFactory.class)) {
-            processDestroyerFactory.when(() -> ProcessDestroyerFactory.getProcessDestroyer(any()))
+            processDestroyerFactory.when(() -> ProcessDestroyerFactory.getProcessDestroyer(any(), any(), any()))
                     .thenReturn(new WindowsProcessDestroyer(OperatingSystem.WINDOWS_2019));
 
-            processBuilderFactory.when(() -> ProcessBuilderFactory.getProcessBuilder(any(), any()))
+            processBuilderFactory.when(() -> ProcessBuilderFactory.getProcessBuilder(any(), any(), any(), any(), any()))
                     .thenReturn(processBuilderWrapper);
             when(processBuilderWrapper.buildProcess(any())).thenReturn(mockProcess);
             // Never calls handleProcessExit
             when(mockProcess.onExit()).thenReturn(new CompletableFuture<>());
-            when(mockProcess.descendants()).thenReturn(Stream.empty());
+            // The kill is issued asynchronously and may not have run by the time the wait has timed out
+            lenient().when(mockProcess.descendants()).thenReturn(Stream.empty());
 
-            processManager.startProcessFromConfiguration(processConfig);
+            processManager.startProcessFromConfiguration(processConfig, false);
 
             // WHEN / THEN
             assertThrows(NotFinishedException.class, () ->
-                    processManager.terminateAllProcessesForShutdown(totalWaitMillis, pollWaitMillis));
+                    processManager.terminateAllProcessesForShutdown(totalWaitMillis));
+        }
+    }
+
+    @Test
+    public void GIVEN_slowProcessDestroyer_WHEN_terminateAllProcessesForShutdown_THEN_killsIssuedInParallel()
+            throws AgentException {
+        // GIVEN
+        final int processCount = 3;
+        final GameProcessConfiguration processConfig = GameProcessConfiguration.builder()
+                .launchPath("someexecutable")
+                .concurrentExecutions(processCount)
+                .build();
+        // Each kill blocks until every kill has been issued, so serial kills would not complete within the wait time
+        final CountDownLatch killsIssued = new CountDownLatch(processCount);
+        final ProcessDestroyer slowProcessDestroyer = internalProcess -> {
+            killsIssued.countDown();
+            try {
+                killsIssued.await(5, TimeUnit.SECONDS);
+            } catch (final InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            internalProcess.destroyForcibly();
+        };
+        final List<Process> processes = List.of(mockProcess, mockProcess2, mock(Process.class));
+        for (final Process process : processes) {
+            when(process.onExit()).thenReturn(new CompletableFuture<>());
+            when(process.destroyForcibly()).thenAnswer(it -> {
+                process.onExit().complete(process);
+                return process;
+            });
+        }
+
+        try (MockedStatic<ProcessBuilderFactory> processBuilderFactory = mockStatic(ProcessBuilderFactory.class);
+             MockedStatic<ProcessDestroyerFactory> processDestroyerFactory = mockStatic(ProcessDestroyerFactory.class)) {
+            processDestroyerFactory.when(() -> ProcessDestroyerFactory.getProcessDestroyer(any(), any(), any()))
+                    .thenReturn(slowProcessDestroyer);
+            processBuilderFactory.when(() -> ProcessBuilderFactory.getProcessBuilder(any(), any(), any(), any(), any()))
+                    .thenReturn(processBuilderWrapper);
+            when(processBuilderWrapper.buildProcess(any()))
+                    .thenReturn(processes.get(0), processes.get(1), processes.get(2));
+            for (int i = 0; i < processCount; i++) {
+                processManager.startProcessFromConfiguration(processConfig, false);
+            }
+
+            // WHEN
+            final Map<String, Duration> terminationLatencies =
+                    processManager.terminateAllProcessesForShutdown(2000L);
+
+            // THEN
+            assertEquals(0, processManager.getAllProcessUUIDs().size());
+            assertEquals(processCount, terminationLatencies.size());
+            terminationLatencies.values().forEach(latency -> assertTrue(latency.toMillis() < 2000L));
+        }
+    }
+
+    @Test
+    public void GIVEN_newProcess_WHEN_initializationDeadlinePasses_THEN_terminatesProcess() throws AgentException {
+        // GIVEN
+        final GameProcessConfiguration processConfig = GameProcessConfiguration.builder()
+                .launchPath("sleep")
+                .parameters("100")
+                .concurrentExecutions(3)
+                .initializationTimeoutSeconds(30)
+                .build();
+        final ArgumentCaptor<Instant> deadlineCaptor = ArgumentCaptor.forClass(Instant.class);
+        final ArgumentCaptor<Runnable> onTimeoutCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+        try (MockedStatic<ProcessBuilderFactory> processBuilderFactory = mockStatic(ProcessBuilderFactory.class);
+             MockedStatic<ProcessDestroyerFactory> processDestroyerFactory = mockStatic(ProcessDestroyerFactory.class)) {
+            processDestroyerFactory.when(() -> ProcessDestroyerFactory.getProcessDestroyer(any(), any(), any()))
+                    .thenReturn(new WindowsProcessDestroyer(OperatingSystem.WINDOWS_2019));
+            processBuilderFactory.when(() -> ProcessBuilderFactory.getProcessBuilder(any(), any(), any(), any(), any()))
+                    .thenReturn(processBuilderWrapper);
+            when(processBuilderWrapper.buildProcess(any())).thenReturn(mockProcess);
+            when(mockProcess.onExit()).thenReturn(new CompletableFuture<>());
+            when(mockProcess.descendants()).thenReturn(Stream.empty());
+            final String processUUID = processManager.startProcessFromConfiguration(processConfig, false);
+            verify(mockInitializationTimeoutTracker).scheduleDeadline(eq(processUUID), deadlineCaptor.capture(),
+                    onTimeoutCaptor.capture());
+
+            // WHEN
+            onTimeoutCaptor.getValue().run();
+
+            // THEN
+            assertTrue(deadlineCaptor.getValue().isAfter(Instant.now().plusSeconds(29)));
+            verify(mockProcess).destroyForcibly();
         }
     }
 
     @Test
-    public void GIVEN_newProcess_WHEN_getInitializationTimedOutProcessUUIDs_THEN_returnsEmptyList() throws AgentException {
+    public void GIVEN_registeredProcess_WHEN_initializationDeadlinePasses_THEN_deadlineCancelledAndProcessNotTerminated()
+            throws AgentException {
         // GIVEN
         final GameProcessConfiguration processConfig = GameProcessConfiguration.builder()
                 .launchPath("sleep")
                 .parameters("100")
                 .concurrentExecutions(3)
                 .build();
+        final ArgumentCaptor<Runnable> onTimeoutCaptor = ArgumentCaptor.forClass(Runnable.class);
 
         try (MockedStatic<ProcessBuilderFactory> processBuilderFactory = mockStatic(ProcessBuilderFactory.class)) {
-            processBuilderFactory.when(() -> ProcessBuilderFactory.getProcessBuilder(any(), any()))
+            processBuilderFactory.when(() -> ProcessBuilderFactory.getProcessBuilder(any(), any(), any(), any(), any()))
                     .thenReturn(processBuilderWrapper);
             when(processBuilderWrapper.buildProcess(any())).thenReturn(mockProcess);
-            when(mockProcess.onExit()).thenCallRealMethod();
-            processManager.startProcessFromConfiguration(processConfig);
+            when(mockProcess.onExit()).thenReturn(new CompletableFuture<>());
+            final String processUUID = processManager.startProcessFromConfiguration(processConfig, false);
+            verify(mockInitializationTimeoutTracker).scheduleDeadline(eq(processUUID), any(),
+                    onTimeoutCaptor.capture());
 
             // WHEN
-            Set<String> result = processManager.getInitializationTimedOutProcessUUIDs();
+            processManager.updateProcessOnRegistration(processUUID, List.of());
+            onTimeoutCaptor.getValue().run();
 
             // THEN
-            assertEquals(0, result.size());
+            verify(mockInitializationTimeoutTracker).cancelDeadline(processUUID);
+            verify(mockProcess, never()).destroyForcibly();
         }
     }
 
@@ -399,10 +662,10 @@ public class GameProcessManagerTest {
 
         try (MockedStatic<ProcessBuilderFactory> processBuilderFactory = mockStatic(ProcessBuilderFactory.class);
              MockedStatic<ProcessDestroyerFactory> processDestroyerFactory = mockStatic(ProcessDestroyerFactory.class)) {
-            processDestroyerFactory.when(() -> ProcessDestroyerFactory.getProcessDestroyer(any()))
+            processDestroyerFactory.when(() -> ProcessDestroyerFactory.getProcessDestroyer(any(), any(), any()))
                     .thenReturn(new WindowsProcessDestroyer(OperatingSystem.WINDOWS_2019));
 
-            processBuilderFactory.when(() -> ProcessBuilderFactory.getProcessBuilder(any(), any()))
+            processBuilderFactory.when(() -> ProcessBuilderFactory.getProcessBuilder(any(), any(), any(), any(), any()))
                     .thenReturn(processBuilderWrapper);
             when(processBuilderWrapper.buildProcess(any()))
                     .thenReturn(mockProcess)
@@ -413,10 +676,10 @@ public class GameProcessManagerTest {
             when(mockProcess.descendants()).thenReturn(Stream.empty());
             when(mockProcess2.descendants()).thenReturn(Stream.empty());
 
-            processManager.startProcessFromConfiguration(processConfig1);
+            processManager.startProcessFromConfiguration(processConfig1, false);
 
-            processManager.startProcessFromConfiguration(processConfig2);
-            processManager.startProcessFromConfiguration(processConfig2);
+            processManager.startProcessFromConfiguration(processConfig2, false);
+            processManager.startProcessFromConfiguration(processConfig2, false);
 
             // WHEN
             Map<GameProcessConfiguration, Long> result = processManager.getProcessCountsByConfiguration();
@@ -425,6 +688,9 @@ public class GameProcessManagerTest {
             assertEquals(2, result.size());
             assertEquals(1L, result.get(processConfig1));
             assertEquals(2L, result.get(processConfig2));
+            assertEquals(3, processManager.getProcessCount());
+            assertEquals(1, processManager.getProcessCount(processConfig1));
+            assertEquals(2, processManager.getProcessCount(processConfig2));
         }
     }
     @Test
@@ -437,14 +703,14 @@ public class GameProcessManagerTest {
                 .build();
 
         try (MockedStatic<ProcessBuilderFactory> processBuilderFactory = mockStatic(ProcessBuilderFactory.class)) {
-            processBuilderFactory.when(() -> ProcessBuilderFactory.getProcessBuilder(any(), any()))
+            processBuilderFactory.when(() -> ProcessBuilderFactory.getProcessBuilder(any(), any(), any(), any(), any()))
                     .thenReturn(processBuilderWrapper);
             when(processBuilderWrapper.buildProcess(any())).thenThrow(BadExecutablePathException.class);
 
             assertThrows(BadExecutablePathException.class,
-                         () -> processManager.startProcessFromConfiguration(processConfig));
+                         () -> processManager.startProcessFromConfiguration(processConfig, false));
 
-            verify(mockTerminationEventManager, times(1)).notifyServerProcessTermination(
+            verify(mockTerminationReporter, times(1)).reportProcessTermination(
                     anyString(), eq(ProcessConstants.INVALID_LAUNCH_PATH_PROCESS_EXIT_CODE),
                     eq(ProcessTerminationReason.SERVER_PROCESS_INVALID_PATH));
         }
@@ -461,13 +727,13 @@ public class GameProcessManagerTest {
 
         // WHEN
         try (MockedStatic<ProcessBuilderFactory> processBuilderFactory = mockStatic(ProcessBuilderFactory.class)) {
-            processBuilderFactory.when(() -> ProcessBuilderFactory.getProcessBuilder(any(), any()))
+            processBuilderFactory.when(() -> ProcessBuilderFactory.getProcessBuilder(any(), any(), any(), any(), any()))
                     .thenReturn(processBuilderWrapper);
             when(processBuilderWrapper.buildProcess(any())).thenThrow(RuntimeException.class);
 
         // THEN
             assertThrows(RuntimeException.class,
-                    () -> processManager.startProcessFromConfiguration(processConfig));
+                    () -> processManager.startProcessFromConfiguration(processConfig, false));
         }
     }
 
@@ -486,21 +752,25 @@ public class GameProcessManagerTest {
         try (MockedStatic<ProcessBuilderFactory> processBuilderFactory = mockStatic(ProcessBuilderFactory.class);
              MockedStatic<ProcessDestroyerFactory> processDestroyerFactory = mockStatic(ProcessDestroyerFactory.class)) {
             // Perform a more functional test to ensure the log paths get correctly sent on the termination hook
-            processDestroyerFactory.when(() -> ProcessDestroyerFactory.getProcessDestroyer(any()))
+            processDestroyerFactory.when(() -> ProcessDestroyerFactory.getProcessDestroyer(any(), any(), any()))
                     .thenReturn(new WindowsProcessDestroyer(OperatingSystem.WINDOWS_2019));
-            processBuilderFactory.when(() -> ProcessBuilderFactory.getProcessBuilder(any(), any()))
+            processBuilderFactory.when(() -> ProcessBuilderFactory.getProcessBuilder(any(), any(), any(), any(), any()))
                     .thenReturn(processBuilderWrapper);
             when(processBuilderWrapper.buildProcess(any())).thenReturn(mockProcess);
-            when(mockProcess.isAlive()).thenReturn(true);
-            // Call actual methods so call-back (BiFunction) is triggered
-            when(mockProcess.onExit()).thenCallRealMethod();
-            when(mockProcess.destroyForcibly()).thenCallRealMethod();
+            // Complete the exit future only once the process is destroyed, so the call-back (BiFunction) is triggered
+            // by the termination rather than racing with it
+            when(mockProcess.onExit()).thenReturn(new CompletableFuture<>());
+            when(mockProcess.destroyForcibly()).thenAnswer(it -> {
+                mockProcess.onExit().complete(mockProcess);
+                return mockProcess;
+            });
+            when(mockProcess.descendants()).thenReturn(Stream.empty());
 
             when(uploadGameSessionLogsCallableFactory.newUploadGameSessionLogsCallable(
-                    anyString(), anyString(), eq(logPathsDedupedList), any()))
+                    anyString(), anyString(), eq(logPathsDedupedList), any(), any()))
                     .thenReturn(mockUploadGameSessionLogsCallable);
 
-            processManager.startProcessFromConfiguration(processConfig);
+            processManager.startProcessFromConfiguration(processConfig, false);
 
             // WHEN
             for (final String processUUID : processManager.getAllProcessUUIDs()) {
@@ -510,7 +780,7 @@ public class GameProcessManagerTest {
 
             // THEN
             assertEquals(0, ProcessHandle.current().children().count());
-            verify(mockTerminationEventManager, times(1)).notifyServerProcessTermination(
+            verify(mockTerminationReporter, times(1)).reportProcessTermination(
                     anyString(), anyInt(), eq(ProcessTerminationReason.SERVER_PROCESS_CRASHED));
 
             // Transiently tests that the callable is generated using the correct list of log paths
@@ -540,21 +810,25 @@ public class GameProcessManagerTest {
         try (MockedStatic<ProcessBuilderFactory> processBuilderFactory = mockStatic(ProcessBuilderFactory.class);
              MockedStatic<ProcessDestroyerFactory> processDestroyerFactory = mockStatic(ProcessDestroyerFactory.class)) {
             // Perform a more functional test to ensure the log paths get correctly sent on the termination hook
-            processDestroyerFactory.when(() -> ProcessDestroyerFactory.getProcessDestroyer(any()))
+            processDestroyerFactory.when(() -> ProcessDestroyerFactory.getProcessDestroyer(any(), any(), any()))
                     .thenReturn(new WindowsProcessDestroyer(OperatingSystem.WINDOWS_2019));
-            processBuilderFactory.when(() -> ProcessBuilderFactory.getProcessBuilder(any(), any()))
+            processBuilderFactory.when(() -> ProcessBuilderFactory.getProcessBuilder(any(), any(), any(), any(), any()))
                     .thenReturn(processBuilderWrapper);
             when(processBuilderWrapper.buildProcess(any())).thenReturn(mockProcess);
-            when(mockProcess.isAlive()).thenReturn(true);
-            // Call actual methods so call-back (BiFunction) is triggered
-            when(mockProcess.onExit()).thenCallRealMethod();
-            when(mockProcess.destroyForcibly()).thenCallRealMethod();
+            // Complete the exit future only once the process is destroyed, so the call-back (BiFunction) is triggered
+            // by the termination rather than racing with it
+            when(mockProcess.onExit()).thenReturn(new CompletableFuture<>());
+            when(mockProcess.destroyForcibly()).thenAnswer(it -> {
+                mockProcess.onExit().complete(mockProcess);
+                return mockProcess;
+            });
+            when(mockProcess.descendants()).thenReturn(Stream.empty());
 
             when(uploadGameSessionLogsCallableFactory.newUploadGameSessionLogsCallable(
-                    anyString(), anyString(), any(), eq(TEST_GAME_SESSION_ID)))
+                    anyString(), anyString(), any(), eq(TEST_GAME_SESSION_ID), any()))
                     .thenReturn(mockUploadGameSessionLogsCallable);
 
-            processManager.startProcessFromConfiguration(processConfig);
+            processManager.startProcessFromConfiguration(processConfig, false);
 
             // WHEN
             for (final String processUUID : processManager.getAllProcessUUIDs()) {
@@ -564,7 +838,7 @@ public class GameProcessManagerTest {
 
             // THEN
             assertEquals(0, ProcessHandle.current().children().count());
-            verify(mockTerminationEventManager, times(1)).notifyServerProcessTermination(
+            verify(mockTerminationReporter, times(1)).reportProcessTermination(
                     anyString(), anyInt(), eq(ProcessTerminationReason.SERVER_PROCESS_CRASHED));
 
             // Transiently tests that the callable is generated using the correct list of log paths
@@ -589,9 +863,9 @@ public class GameProcessManagerTest {
 
         try (MockedStatic<ProcessBuilderFactory> processBuilderFactory = mockStatic(ProcessBuilderFactory.class);
              MockedStatic<ProcessDestroyerFactory> processDestroyerFactory = mockStatic(ProcessDestroyerFactory.class)) {
-            processDestroyerFactory.when(() -> ProcessDestroyerFactory.getProcessDestroyer(any()))
+            processDestroyerFactory.when(() -> ProcessDestroyerFactory.getProcessDestroyer(any(), any(), any()))
                     .thenReturn(new WindowsProcessDestroyer(OperatingSystem.WINDOWS_2019));
-            processBuilderFactory.when(() -> ProcessBuilderFactory.getProcessBuilder(any(), any()))
+            processBuilderFactory.when(() -> ProcessBuilderFactory.getProcessBuilder(any(), any(), any(), any(), any()))
                     .thenReturn(processBuilderWrapper);
             when(processBuilderWrapper.buildProcess(any())).thenReturn(mockProcess);
             when(mockProcess.onExit()).thenReturn(new CompletableFuture<>());
@@ -601,11 +875,77 @@ public class GameProcessManagerTest {
             });
             when(mockProcess.descendants()).thenReturn(Stream.of(mockChildProcessHandle));
 
-            processManager.startProcessFromConfiguration(processConfig);
+            processManager.startProcessFromConfiguration(processConfig, false);
             processManager.terminateProcessByUUID(processManager.getAllProcessUUIDs().iterator().next());
 
             verify(mockChildProcessHandle).destroyForcibly();
             verify(mockProcess).destroyForcibly();
         }
     }
+
+    @Test
+    public void GIVEN_runningJournaledProcess_WHEN_adoptProcess_THEN_processManagedUntilItExits() throws Exception {
+        // GIVEN
+        final GameProcessConfiguration processConfig = GameProcessConfiguration.builder()
+                .launchPath("sleep")
+                .concurrentExecutions(1)
+                .build();
+        final Process runningProcess = new ProcessBuilder("sleep", "30").start();
+        final ProcessJournal.ProcessJournalEntry journalEntry = ProcessJournal.ProcessJournalEntry.builder()
+                .processUUID(TEST_PROCESS_UUID)
+                .processId(runningProcess.pid())
+                .processStartMillis(ProcessJournal.getProcessStartMillis(runningProcess.pid()))
+                .processConfiguration(processConfig)
+                .processStatus(ProcessStatus.Active)
+                .logPaths(ImmutableList.of("/local/game/logs"))
+                .build();
+        processManager.addLifecycleListener(mockLifecycleListener);
+
+        try (MockedStatic<ProcessDestroyerFactory> processDestroyerFactory = mockStatic(ProcessDestroyerFactory.class)) {
+            processDestroyerFactory.when(() -> ProcessDestroyerFactory.getProcessDestroyer(any(), any(), any()))
+                    .thenReturn(new WindowsProcessDestroyer(OperatingSystem.WINDOWS_2019));
+
+            // WHEN
+            final boolean isAdopted = processManager.adoptProcess(journalEntry);
+
+            // THEN
+            assertTrue(isAdopted);
+            assertEquals(1, processManager.getProcessCount(processConfig));
+            assertTrue(processManager.isProcessAlive(TEST_PROCESS_UUID));
+            verify(mockLifecycleListener).onProcessStarted(any());
+            verify(mockProcessOutputCapture).adopt(any(AdoptedProcess.class));
+            verify(mockInitializationTimeoutTracker, never()).scheduleDeadline(any(), any(), any());
+
+            processManager.terminateProcessByUUID(TEST_PROCESS_UUID);
+            verify(mockTerminationReporter, timeout(5000)).reportProcessTermination(TEST_PROCESS_UUID,
+                    AdoptedProcess.UNKNOWN_EXIT_CODE, ProcessTerminationReason.SERVER_PROCESS_FORCE_TERMINATED);
+            assertEquals(0, processManager.getProcessCount());
+        } finally {
+            runningProcess.destroyForcibly();
+        }
+    }
+
+    @Test
+    public void GIVEN_journaledProcessPidReused_WHEN_adoptProcess_THEN_notAdoptedAndReportedTerminated() {
+        // GIVEN
+        final long pid = ProcessHandle.current().pid();
+        final ProcessJournal.ProcessJournalEntry journalEntry = ProcessJournal.ProcessJournalEntry.builder()
+                .processUUID(TEST_PROCESS_UUID)
+                .processId(pid)
+                .processStartMillis(ProcessJournal.getProcessStartMillis(pid) - 60_000)
+                .processConfiguration(GameProcessConfiguration.builder()
+                        .launchPath("someexecutable")
+                        .concurrentExecutions(1)
+                        .build())
+                .build();
+
+        // WHEN
+        final boolean isAdopted = processManager.adoptProcess(journalEntry);
+
+        // THEN
+        assertFalse(isAdopted);
+        assertEquals(0, processManager.getProcessCount());
+        verify(mockTerminationReporter).reportProcessTermination(TEST_PROCESS_UUID,
+                AdoptedProcess.UNKNOWN_EXIT_CODE, null);
+    }
 }
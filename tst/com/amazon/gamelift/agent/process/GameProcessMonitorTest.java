@@ -3,35 +3,39 @@
  */
 package com.amazon.gamelift.agent.process;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
-import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.List;
-import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
+import com.amazon.gamelift.agent.model.ComputeStatus;
 import com.amazon.gamelift.agent.model.GameProcessConfiguration;
-import com.amazon.gamelift.agent.model.ProcessTerminationReason;
 import com.amazon.gamelift.agent.model.RuntimeConfiguration;
-import com.amazon.gamelift.agent.model.exception.BadExecutablePathException;
-import com.amazon.gamelift.agent.model.exception.NotFoundException;
-import com.amazon.gamelift.agent.model.exception.AgentException;
 import com.amazon.gamelift.agent.manager.ExecutorServiceManager;
-import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.ImmutableSet;
-import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
@@ -39,29 +43,190 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.amazon.gamelift.agent.manager.RuntimeConfigurationManager;
 import com.amazon.gamelift.agent.manager.StateManager;
+import com.amazon.gamelift.agent.websocket.WebSocketConnectionProvider;
 
 @ExtendWith(MockitoExtension.class)
 public class GameProcessMonitorTest {
 
-    private static final String INVALID_LAUNCH_PATH = "invalidPath";
-    public static final long TEST_INITIAL_PROCESS_LAUNCH_DELAY_SECONDS = 3L; // Three seconds
     @Mock private StateManager mockStateManager;
     @Mock private RuntimeConfigurationManager mockRuntimeConfigurationManager;
     @Mock private GameProcessManager mockGameProcessManager;
+    @Mock private ProcessLaunchPipeline mockProcessLaunchPipeline;
+    @Mock private ProcessLaunchCircuitBreaker mockProcessLaunchCircuitBreaker;
+    @Mock private BuildPrewarmer mockBuildPrewarmer;
+    @Mock private CgroupManager mockCgroupManager;
+    @Mock private CpuPlacementPlanner mockCpuPlacementPlanner;
+    @Mock private ProcessResourceSampler mockProcessResourceSampler;
+    @Mock private ProcessJournal mockProcessJournal;
+    @Mock private ProcessGroupReaper mockProcessGroupReaper;
+    @Mock private RuntimeConfigurationReconciler mockRuntimeConfigurationReconciler;
+    @Mock private HostLoadAdmissionController mockHostLoadAdmissionController;
+    @Mock private InitializationTimeoutEstimator mockInitializationTimeoutEstimator;
+    @Mock private WebSocketConnectionProvider mockWebSocketConnectionProvider;
     @Mock private ScheduledExecutorService mockExecutorService;
     @Mock private ExecutorServiceManager mockExecutorServiceManager;
 
     @Spy
     @InjectMocks private GameProcessMonitor gameProcessMonitor;
 
+    @BeforeEach
+    public void setup() {
+        // Only evaluated by runs which find process vacancies
+        lenient().when(mockHostLoadAdmissionController.evaluate()).thenReturn(
+                new HostLoadAdmissionController.AdmissionDecision(HostLoadAdmissionController.Admission.ADMIT,
+                        null, null));
+        lenient().when(mockWebSocketConnectionProvider.isConnectionHealthy()).thenReturn(true);
+    }
+
     @Test
-    public void GIVEN_nothing_WHEN_start_THEN_taskSubmittedToExecutor() {
+    public void GIVEN_nothing_WHEN_start_THEN_fallbackTaskSubmittedToExecutorAndListenersRegistered() {
         // GIVEN / WHEN
         gameProcessMonitor.start();
 
         // THEN
         verify(mockExecutorService).scheduleWithFixedDelay(
-                any(Runnable.class), eq(0L), eq(1L), any());
+                any(Runnable.class), eq(0L), eq(GameProcessMonitor.PROCESS_MONITOR_FALLBACK_INTERVAL_SECONDS), any());
+        verify(mockGameProcessManager).addLifecycleListener(gameProcessMonitor);
+        verify(mockGameProcessManager).addLifecycleListener(mockProcessLaunchCircuitBreaker);
+        verify(mockGameProcessManager).addLifecycleListener(mockBuildPrewarmer);
+        verify(mockGameProcessManager).addLifecycleListener(mockInitializationTimeoutEstimator);
+        verify(mockGameProcessManager).addLifecycleListener(mockCgroupManager);
+        verify(mockGameProcessManager).addLifecycleListener(mockCpuPlacementPlanner);
+        verify(mockCpuPlacementPlanner).start();
+        verify(mockGameProcessManager).addLifecycleListener(mockProcessResourceSampler);
+        verify(mockProcessResourceSampler).start();
+        verify(mockGameProcessManager).addLifecycleListener(mockProcessGroupReaper);
+        verify(mockProcessGroupReaper).start();
+        verify(mockGameProcessManager).addLifecycleListener(mockProcessJournal);
+        verify(mockProcessJournal, never()).replay();
+        verify(mockGameProcessManager).addLifecycleListener(mockRuntimeConfigurationReconciler);
+        verify(mockBuildPrewarmer).addPrewarmCompletedListener(any());
+        verify(mockProcessLaunchPipeline).addLaunchFailureListener(any());
+        verify(mockStateManager).addComputeStatusChangeListener(any());
+        verify(mockRuntimeConfigurationManager).addRuntimeConfigurationChangeListener(any());
+        verify(mockRuntimeConfigurationManager).start();
+        verify(mockWebSocketConnectionProvider).addConnectionStateChangeListener(any());
+    }
+
+    @Test
+    public void GIVEN_journaledProcesses_WHEN_start_THEN_runningProcessesAdoptedBeforeFirstRun() {
+        // GIVEN
+        final ProcessJournal.ProcessJournalEntry runningProcess =
+                ProcessJournal.ProcessJournalEntry.builder().processUUID("running").build();
+        final ProcessJournal.ProcessJournalEntry exitedProcess =
+                ProcessJournal.ProcessJournalEntry.builder().processUUID("exited").build();
+        when(mockProcessJournal.isEnabled()).thenReturn(true);
+        when(mockProcessJournal.replay()).thenReturn(List.of(runningProcess, exitedProcess));
+        when(mockGameProcessManager.adoptProcess(runningProcess)).thenReturn(true);
+        when(mockGameProcessManager.adoptProcess(exitedProcess)).thenReturn(false);
+
+        // WHEN
+        gameProcessMonitor.start();
+
+        // THEN
+        final InOrder inOrder = inOrder(mockGameProcessManager, mockProcessJournal, mockExecutorService);
+        inOrder.verify(mockGameProcessManager).addLifecycleListener(mockProcessJournal);
+        inOrder.verify(mockGameProcessManager).adoptProcess(runningProcess);
+        inOrder.verify(mockGameProcessManager).adoptProcess(exitedProcess);
+        inOrder.verify(mockProcessJournal).compact();
+        inOrder.verify(mockExecutorService).scheduleWithFixedDelay(
+                any(Runnable.class), eq(0L), eq(GameProcessMonitor.PROCESS_MONITOR_FALLBACK_INTERVAL_SECONDS), any());
+    }
+
+    @Test
+    public void GIVEN_computeStatusChanges_WHEN_listenerInvoked_THEN_processMonitorRunRequested() {
+        // GIVEN
+        final ArgumentCaptor<Consumer<ComputeStatus>> listenerCaptor = ArgumentCaptor.forClass(Consumer.class);
+        gameProcessMonitor.start();
+        verify(mockStateManager).addComputeStatusChangeListener(listenerCaptor.capture());
+
+        // WHEN
+        listenerCaptor.getValue().accept(ComputeStatus.Activating);
+
+        // THEN
+        verify(gameProcessMonitor).requestProcessMonitorRun();
+        verify(mockExecutorService).execute(any(Runnable.class));
+    }
+
+    @Test
+    public void GIVEN_runtimeConfigurationChanges_WHEN_listenerInvoked_THEN_processMonitorRunRequested() {
+        // GIVEN
+        final ArgumentCaptor<Consumer<RuntimeConfiguration>> listenerCaptor = ArgumentCaptor.forClass(Consumer.class);
+        gameProcessMonitor.start();
+        final InOrder inOrder = inOrder(mockRuntimeConfigurationManager);
+        inOrder.verify(mockRuntimeConfigurationManager).addRuntimeConfigurationChangeListener(listenerCaptor.capture());
+        inOrder.verify(mockRuntimeConfigurationManager).start();
+
+        // WHEN
+        listenerCaptor.getValue().accept(RuntimeConfiguration.builder().serverProcesses(List.of()).build());
+
+        // THEN
+        verify(gameProcessMonitor).requestProcessMonitorRun();
+        verify(mockExecutorService).execute(any(Runnable.class));
+    }
+
+    @Test
+    public void GIVEN_webSocketConnectionRestored_WHEN_listenerInvoked_THEN_processMonitorRunRequested() {
+        // GIVEN
+        final ArgumentCaptor<Consumer<Boolean>> listenerCaptor = ArgumentCaptor.forClass(Consumer.class);
+        gameProcessMonitor.start();
+        verify(mockWebSocketConnectionProvider).addConnectionStateChangeListener(listenerCaptor.capture());
+
+        // WHEN
+        listenerCaptor.getValue().accept(false);
+        listenerCaptor.getValue().accept(true);
+
+        // THEN
+        verify(gameProcessMonitor, times(1)).requestProcessMonitorRun();
+        verify(mockExecutorService).execute(any(Runnable.class));
+    }
+
+    @Test
+    public void GIVEN_runAlreadyRequested_WHEN_requestProcessMonitorRun_THEN_requestsCoalesced() {
+        // GIVEN
+        final ArgumentCaptor<Runnable> runCaptor = ArgumentCaptor.forClass(Runnable.class);
+        when(mockStateManager.isComputeTerminatingOrTerminated()).thenReturn(true);
+
+        // WHEN
+        gameProcessMonitor.requestProcessMonitorRun();
+        gameProcessMonitor.requestProcessMonitorRun();
+        gameProcessMonitor.requestProcessMonitorRun();
+
+        // THEN
+        verify(mockExecutorService, times(1)).execute(runCaptor.capture());
+
+        // WHEN
+        runCaptor.getValue().run();
+        gameProcessMonitor.requestProcessMonitorRun();
+
+        // THEN
+        verify(gameProcessMonitor, times(1)).runProcessMonitor();
+        verify(mockExecutorService, times(2)).execute(any(Runnable.class));
+    }
+
+    @Test
+    public void GIVEN_executorShutDown_WHEN_requestProcessMonitorRun_THEN_laterRequestsStillSubmitted() {
+        // GIVEN
+        doThrow(RejectedExecutionException.class).when(mockExecutorService).execute(any(Runnable.class));
+
+        // WHEN
+        gameProcessMonitor.requestProcessMonitorRun();
+        gameProcessMonitor.requestProcessMonitorRun();
+
+        // THEN
+        verify(mockExecutorService, times(2)).execute(any(Runnable.class));
+    }
+
+    @Test
+    public void GIVEN_processExited_WHEN_onProcessExited_THEN_processMonitorRunRequested() {
+        // GIVEN
+        final GameProcess mockGameProcess = mock(GameProcess.class);
+
+        // WHEN
+        gameProcessMonitor.onProcessExited(mockGameProcess);
+
+        // THEN
+        verify(mockExecutorService).execute(any(Runnable.class));
     }
 
     @Test
@@ -71,11 +236,11 @@ public class GameProcessMonitorTest {
 
         // THEN
         verify(mockExecutorServiceManager).shutdownScheduledThreadPoolExecutorServiceByName(GameProcessMonitor.class.getSimpleName());
+        verify(mockProcessLaunchPipeline).shutdown();
     }
 
     @Test
-    public void GIVEN_multipleProcessConfigsToLaunch_WHEN_runProcessMonitor_THEN_launchesAllProcesses()
-            throws AgentException {
+    public void GIVEN_multipleProcessConfigsToLaunch_WHEN_runProcessMonitor_THEN_queuesAllProcessLaunches() {
         // GIVEN
         int concurrentExecutionsForConfig1 = 5;
         int concurrentExecutionsForConfig2 = 10;
@@ -97,31 +262,27 @@ public class GameProcessMonitorTest {
             .build();
 
         when(mockStateManager.isComputeTerminatingOrTerminated()).thenReturn(false);
-        when(mockGameProcessManager.getInitializationTimedOutProcessUUIDs()).thenReturn(ImmutableSet.of());
         when(mockRuntimeConfigurationManager.getRuntimeConfiguration()).thenReturn(testConfig);
-        when(mockGameProcessManager.getProcessCountsByConfiguration())
-                .thenReturn(Map.of(testProcessConfig1, currentRunningProcessesForConfig1,
-                                   testProcessConfig2, currentRunningProcessesForConfig2));
-        doReturn(RandomStringUtils.random(10)).when(mockGameProcessManager).startProcessFromConfiguration(any());
-        // all processes are alive
-        doReturn(true).when(mockGameProcessManager).isProcessAlive(anyString());
+        when(mockGameProcessManager.getProcessCount())
+                .thenReturn((int) (currentRunningProcessesForConfig1 + currentRunningProcessesForConfig2));
+        when(mockGameProcessManager.getProcessCount(testProcessConfig1))
+                .thenReturn((int) currentRunningProcessesForConfig1);
+        when(mockGameProcessManager.getProcessCount(testProcessConfig2))
+                .thenReturn((int) currentRunningProcessesForConfig2);
 
+        givenAllLaunchesPermitted();
 
         // WHEN
         gameProcessMonitor.runProcessMonitor();
 
         // THEN
-        verify(gameProcessMonitor, times(expectedNewProcessesForConfig1)).startProcessWithDelay(eq(testProcessConfig1), anyLong());
-        verify(mockGameProcessManager, times(expectedNewProcessesForConfig2)).startProcessFromConfiguration(testProcessConfig2);
-        verify(gameProcessMonitor, times(expectedNewProcessesForConfig2)).startProcessWithDelay(eq(testProcessConfig2), anyLong());
+        verify(mockProcessLaunchPipeline, times(expectedNewProcessesForConfig1)).submit(testProcessConfig1, false);
+        verify(mockProcessLaunchPipeline, times(expectedNewProcessesForConfig2)).submit(testProcessConfig2, false);
         verifyNoMoreInteractions(mockGameProcessManager);
-        verify(gameProcessMonitor, times(expectedNewProcessesForConfig1 + expectedNewProcessesForConfig2)).getNextDelay(anyLong(), eq(true));
-        //        verifyNoMoreInteractions(mockGameProcessManager);
     }
 
     @Test
-    public void GIVEN_onlyOneConfigNeedsProcesses_WHEN_runTask_THEN_launchesProcessesForConfig()
-            throws AgentException {
+    public void GIVEN_onlyOneConfigNeedsProcesses_WHEN_runTask_THEN_queuesProcessLaunchesForConfig() {
         // GIVEN
         int concurrentExecutionsForConfig1 = 5;
         int concurrentExecutionsForConfig2 = 10;
@@ -142,40 +303,67 @@ public class GameProcessMonitorTest {
             .build();
 
         when(mockStateManager.isComputeTerminatingOrTerminated()).thenReturn(false);
-        when(mockGameProcessManager.getInitializationTimedOutProcessUUIDs()).thenReturn(ImmutableSet.of());
         when(mockRuntimeConfigurationManager.getRuntimeConfiguration()).thenReturn(testConfig);
-        when(mockGameProcessManager.getProcessCountsByConfiguration())
-                .thenReturn(Map.of(testProcessConfig1, currentRunningProcessesForConfig1,
-                                   testProcessConfig2, currentRunningProcessesForConfig2));
-        doReturn(RandomStringUtils.random(10)).when(mockGameProcessManager).startProcessFromConfiguration(any());
-        // all processes are alive
-        doReturn(true).when(mockGameProcessManager).isProcessAlive(anyString());
+        when(mockGameProcessManager.getProcessCount())
+                .thenReturn((int) (currentRunningProcessesForConfig1 + currentRunningProcessesForConfig2));
+        when(mockGameProcessManager.getProcessCount(testProcessConfig1))
+                .thenReturn(currentRunningProcessesForConfig1.intValue());
+        when(mockGameProcessManager.getProcessCount(testProcessConfig2))
+                .thenReturn((int) currentRunningProcessesForConfig2);
+
+        givenAllLaunchesPermitted();
+
+        // WHEN
+        gameProcessMonitor.runProcessMonitor();
+
+        // THEN
+        verify(mockProcessLaunchPipeline, never()).submit(testProcessConfig1, false);
+        verify(mockProcessLaunchPipeline, times(expectedNewProcessesForConfig2)).submit(testProcessConfig2, false);
+    }
+
+    @Test
+    public void GIVEN_pendingProcessLaunches_WHEN_runTask_THEN_pendingLaunchesCountTowardsVacancies() {
+        // GIVEN
+        int concurrentExecutionsForConfig = 10;
+        long currentRunningProcessesForConfig = 4L;
+        int currentPendingLaunchesForConfig = 3;
+        int expectedNewProcesses = (int) (concurrentExecutionsForConfig - currentRunningProcessesForConfig
+                - currentPendingLaunchesForConfig);
+
+        GameProcessConfiguration testProcessConfig = GameProcessConfiguration.builder()
+                .launchPath("testExecutable")
+                .concurrentExecutions(concurrentExecutionsForConfig)
+                .build();
+        RuntimeConfiguration testConfig = RuntimeConfiguration.builder()
+                .serverProcesses(List.of(testProcessConfig))
+                .build();
+
+        when(mockStateManager.isComputeTerminatingOrTerminated()).thenReturn(false);
+        when(mockRuntimeConfigurationManager.getRuntimeConfiguration()).thenReturn(testConfig);
+        when(mockProcessLaunchPipeline.getPendingLaunchCount()).thenReturn(currentPendingLaunchesForConfig);
+        when(mockProcessLaunchPipeline.getPendingLaunchCount(testProcessConfig))
+                .thenReturn(currentPendingLaunchesForConfig);
+        when(mockGameProcessManager.getProcessCount()).thenReturn((int) currentRunningProcessesForConfig);
+        when(mockGameProcessManager.getProcessCount(testProcessConfig))
+                .thenReturn((int) currentRunningProcessesForConfig);
 
+        givenAllLaunchesPermitted();
 
         // WHEN
         gameProcessMonitor.runProcessMonitor();
 
         // THEN
-        verify(gameProcessMonitor, never()).startProcessWithDelay(eq(testProcessConfig1), anyLong());
-        verify(gameProcessMonitor, times(expectedNewProcessesForConfig2))
-                .startProcessWithDelay(eq(testProcessConfig2),
-                        anyLong());
-        verify(gameProcessMonitor, times(expectedNewProcessesForConfig2)).getNextDelay(anyLong(), eq(true));
+        verify(mockProcessLaunchPipeline, times(expectedNewProcesses)).submit(testProcessConfig, false);
     }
 
     @Test
-    public void GIVEN_notEnoughTotalProcessVacancies_WHEN_runTask_THEN_onlyScalesUpToVacantProcesses()
-            throws AgentException {
+    public void GIVEN_notEnoughTotalProcessVacancies_WHEN_runTask_THEN_onlyScalesUpToVacantProcesses() {
         // GIVEN
-        int concurrentExecutionsForCurrentConfig = 9;
         int concurrentExecutionsForNewConfig = 10;
+        // Processes still running from a configuration which is no longer in the runtime configuration
         long currentRunningProcessesForCurrentConfig = 8L;
         int expectedNewProcesses = (int) (concurrentExecutionsForNewConfig - currentRunningProcessesForCurrentConfig);
 
-        GameProcessConfiguration currentProcessConfig = GameProcessConfiguration.builder()
-                .launchPath("currentExecutable")
-                .concurrentExecutions(concurrentExecutionsForCurrentConfig)
-                .build();
         GameProcessConfiguration newProcessConfig = GameProcessConfiguration.builder()
                 .launchPath("newExecutable")
                 .concurrentExecutions(concurrentExecutionsForNewConfig)
@@ -185,34 +373,84 @@ public class GameProcessMonitorTest {
             .build();
 
         when(mockStateManager.isComputeTerminatingOrTerminated()).thenReturn(false);
-        when(mockGameProcessManager.getInitializationTimedOutProcessUUIDs()).thenReturn(ImmutableSet.of());
         when(mockRuntimeConfigurationManager.getRuntimeConfiguration()).thenReturn(testConfig);
-        when(mockGameProcessManager.getProcessCountsByConfiguration())
-                .thenReturn(Map.of(currentProcessConfig, currentRunningProcessesForCurrentConfig));
-        doReturn(RandomStringUtils.random(10)).when(mockGameProcessManager).startProcessFromConfiguration(any());
-        // all processes are alive
-        doReturn(true).when(mockGameProcessManager).isProcessAlive(anyString());
+        when(mockGameProcessManager.getProcessCount()).thenReturn((int) currentRunningProcessesForCurrentConfig);
+
+        givenAllLaunchesPermitted();
+
+        // WHEN
+        gameProcessMonitor.runProcessMonitor();
+
+        // THEN
+        verify(mockProcessLaunchPipeline, times(expectedNewProcesses)).submit(newProcessConfig, false);
+    }
+
+    @Test
+    public void GIVEN_limitedVacancies_WHEN_runTask_THEN_vacanciesSharedInProportionToConcurrentExecutions() {
+        // GIVEN
+        final GameProcessConfiguration smallProcessConfig = GameProcessConfiguration.builder()
+                .launchPath("smallExecutable")
+                .concurrentExecutions(2)
+                .build();
+        final GameProcessConfiguration largeProcessConfig = GameProcessConfiguration.builder()
+                .launchPath("largeExecutable")
+                .concurrentExecutions(6)
+                .build();
+        final RuntimeConfiguration testConfig = RuntimeConfiguration.builder()
+                .serverProcesses(List.of(smallProcessConfig, largeProcessConfig))
+                .build();
+
+        when(mockStateManager.isComputeTerminatingOrTerminated()).thenReturn(false);
+        when(mockRuntimeConfigurationManager.getRuntimeConfiguration()).thenReturn(testConfig);
+        // Processes still running from a configuration which is no longer in the runtime configuration
+        when(mockGameProcessManager.getProcessCount()).thenReturn(4);
+        givenAllLaunchesPermitted();
 
         // WHEN
         gameProcessMonitor.runProcessMonitor();
 
         // THEN
-        verify(gameProcessMonitor, times(expectedNewProcesses))
-                .startProcessWithDelay(eq(newProcessConfig), anyLong());
-        verify(gameProcessMonitor, times(expectedNewProcesses)).getNextDelay(anyLong(), anyBoolean());
+        final ArgumentCaptor<GameProcessConfiguration> launchCaptor =
+                ArgumentCaptor.forClass(GameProcessConfiguration.class);
+        verify(mockProcessLaunchPipeline, times(4)).submit(launchCaptor.capture(), eq(false));
+        assertEquals(List.of(smallProcessConfig, largeProcessConfig, largeProcessConfig, largeProcessConfig),
+                launchCaptor.getAllValues());
+    }
+
+    @Test
+    public void GIVEN_drainingProcessesStopped_WHEN_runTask_THEN_replacementsLaunchedInSameRun() {
+        // GIVEN
+        GameProcessConfiguration newProcessConfig = GameProcessConfiguration.builder()
+                .launchPath("newExecutable")
+                .concurrentExecutions(4)
+                .build();
+        RuntimeConfiguration testConfig = RuntimeConfiguration.builder()
+            .serverProcesses(List.of(newProcessConfig))
+            .build();
+
+        when(mockStateManager.isComputeTerminatingOrTerminated()).thenReturn(false);
+        when(mockRuntimeConfigurationManager.getRuntimeConfiguration()).thenReturn(testConfig);
+        // 4 processes of a removed configuration, 3 of which were idle and have just been stopped
+        when(mockGameProcessManager.getProcessCount()).thenReturn(4);
+        when(mockRuntimeConfigurationReconciler.getStoppingProcessCount()).thenReturn(3);
+        givenAllLaunchesPermitted();
+
+        // WHEN
+        gameProcessMonitor.runProcessMonitor();
+
+        // THEN
+        final InOrder inOrder = inOrder(mockRuntimeConfigurationReconciler, mockProcessLaunchPipeline);
+        inOrder.verify(mockRuntimeConfigurationReconciler).reconcile(testConfig);
+        inOrder.verify(mockProcessLaunchPipeline, times(3)).submit(newProcessConfig, false);
     }
 
     @Test
     public void GIVEN_noProcessVacancies_WHEN_runTask_THEN_doesNotScaleUpProcesses() {
         // GIVEN
-        int concurrentExecutionsForCurrentConfig = 10;
         int concurrentExecutionsForNewConfig = 9;
+        // Processes still running from a configuration which is no longer in the runtime configuration
         Long currentRunningProcessesForCurrentConfig = 10L;
 
-        GameProcessConfiguration currentProcessConfig = GameProcessConfiguration.builder()
-                .launchPath("currentExecutable")
-                .concurrentExecutions(concurrentExecutionsForCurrentConfig)
-                .build();
         GameProcessConfiguration newProcessConfig = GameProcessConfiguration.builder()
                 .launchPath("newExecutable")
                 .concurrentExecutions(concurrentExecutionsForNewConfig)
@@ -222,259 +460,300 @@ public class GameProcessMonitorTest {
             .build();
 
         when(mockStateManager.isComputeTerminatingOrTerminated()).thenReturn(false);
-        when(mockGameProcessManager.getInitializationTimedOutProcessUUIDs()).thenReturn(ImmutableSet.of());
         when(mockRuntimeConfigurationManager.getRuntimeConfiguration()).thenReturn(testConfig);
-        when(mockGameProcessManager.getProcessCountsByConfiguration())
-                .thenReturn(Map.of(currentProcessConfig, currentRunningProcessesForCurrentConfig));
+        when(mockGameProcessManager.getProcessCount()).thenReturn(currentRunningProcessesForCurrentConfig.intValue());
 
         // WHEN
         gameProcessMonitor.runProcessMonitor();
 
         // THEN
+        verify(mockProcessLaunchPipeline, never()).submit(any(), anyBoolean());
         verifyNoMoreInteractions(mockGameProcessManager);
     }
 
     @Test
-    public void GIVEN_terminatingCompute_WHEN_runTask_THEN_noOp() {
+    public void GIVEN_prewarmCompletes_WHEN_listenerInvoked_THEN_processMonitorRunRequested() {
         // GIVEN
-        when(mockStateManager.isComputeTerminatingOrTerminated()).thenReturn(true);
+        final ArgumentCaptor<Runnable> listenerCaptor = ArgumentCaptor.forClass(Runnable.class);
+        gameProcessMonitor.start();
+        verify(mockBuildPrewarmer).addPrewarmCompletedListener(listenerCaptor.capture());
 
         // WHEN
-        gameProcessMonitor.runProcessMonitor();
+        listenerCaptor.getValue().run();
 
         // THEN
-        verifyNoMoreInteractions(mockGameProcessManager, mockRuntimeConfigurationManager);
+        verify(gameProcessMonitor).requestProcessMonitorRun();
+        verify(mockExecutorService).execute(any(Runnable.class));
     }
 
     @Test
-    public void GIVEN_initializingCompute_WHEN_runTask_THEN_noOp() {
+    public void GIVEN_buildBeingPrewarmed_WHEN_runTask_THEN_onlyPrewarmedBuildLaunches() {
         // GIVEN
-        when(mockStateManager.isComputeInitializing()).thenReturn(true);
+        GameProcessConfiguration prewarmingConfig = GameProcessConfiguration.builder()
+                .launchPath("newExecutable")
+                .concurrentExecutions(2)
+                .build();
+        GameProcessConfiguration prewarmedConfig = GameProcessConfiguration.builder()
+                .launchPath("testExecutable")
+                .concurrentExecutions(2)
+                .build();
+        RuntimeConfiguration testConfig = RuntimeConfiguration.builder()
+                .serverProcesses(List.of(prewarmingConfig, prewarmedConfig))
+                .build();
+
+        when(mockStateManager.isComputeTerminatingOrTerminated()).thenReturn(false);
+        when(mockRuntimeConfigurationManager.getRuntimeConfiguration()).thenReturn(testConfig);
+        when(mockGameProcessManager.getProcessCount()).thenReturn(0);
+        when(mockBuildPrewarmer.isPrewarmPending(prewarmingConfig)).thenReturn(true);
+        when(mockProcessLaunchCircuitBreaker.getAvailableLaunchPermits(prewarmedConfig)).thenReturn(Integer.MAX_VALUE);
+        when(mockProcessLaunchCircuitBreaker.acquireLaunchPermits(eq(prewarmedConfig), anyInt()))
+                .thenAnswer(invocation -> invocation.getArgument(1));
 
         // WHEN
         gameProcessMonitor.runProcessMonitor();
 
         // THEN
-        verifyNoMoreInteractions(mockGameProcessManager, mockRuntimeConfigurationManager);
+        verify(mockBuildPrewarmer).startPrewarm(prewarmingConfig);
+        verify(mockBuildPrewarmer).startPrewarm(prewarmedConfig);
+        verify(mockProcessLaunchPipeline, never()).submit(prewarmingConfig, false);
+        verify(mockProcessLaunchPipeline, times(2)).submit(prewarmedConfig, false);
     }
 
     @Test
-    public void GIVEN_zeroConcurrentExecutions_WHEN_runProcessMonitor_THEN_throwIllegalArgumentException() {
+    public void GIVEN_launchFailure_WHEN_listenerInvoked_THEN_failureRecordedAndRunRequested() {
         // GIVEN
-        int concurrentExecutionsForConfig = 0;
+        final ArgumentCaptor<BiConsumer<GameProcessConfiguration, Boolean>> listenerCaptor =
+                ArgumentCaptor.forClass(BiConsumer.class);
+        final GameProcessConfiguration testProcessConfig = GameProcessConfiguration.builder()
+                .launchPath("testExecutable")
+                .concurrentExecutions(1)
+                .build();
+        gameProcessMonitor.start();
+        verify(mockProcessLaunchPipeline).addLaunchFailureListener(listenerCaptor.capture());
 
-        GameProcessConfiguration testProcessConfig = GameProcessConfiguration.builder()
-                .launchPath("testExecutable1")
-                .concurrentExecutions(concurrentExecutionsForConfig)
+        // WHEN
+        listenerCaptor.getValue().accept(testProcessConfig, true);
+
+        // THEN
+        verify(mockProcessLaunchCircuitBreaker).recordLaunchFailure(testProcessConfig, true);
+        verify(gameProcessMonitor).requestProcessMonitorRun();
+    }
+
+    @Test
+    public void GIVEN_crashLoopingConfig_WHEN_runTask_THEN_onlyHealthyConfigLaunchesAndProbeRunScheduled() {
+        // GIVEN
+        final GameProcessConfiguration crashingProcessConfig = GameProcessConfiguration.builder()
+                .launchPath("crashingExecutable")
+                .concurrentExecutions(5)
                 .build();
-        RuntimeConfiguration testConfig = RuntimeConfiguration.builder()
-                .serverProcesses(List.of(testProcessConfig))
+        final GameProcessConfiguration healthyProcessConfig = GameProcessConfiguration.builder()
+                .launchPath("healthyExecutable")
+                .concurrentExecutions(5)
+                .build();
+        final RuntimeConfiguration testConfig = RuntimeConfiguration.builder()
+                .serverProcesses(List.of(crashingProcessConfig, healthyProcessConfig))
                 .build();
+        final long millisUntilProbe = 5000L;
 
         when(mockStateManager.isComputeTerminatingOrTerminated()).thenReturn(false);
-        when(mockGameProcessManager.getInitializationTimedOutProcessUUIDs()).thenReturn(ImmutableSet.of());
-        when(mockGameProcessManager.getProcessCountsByConfiguration()).thenReturn(ImmutableMap.of());
         when(mockRuntimeConfigurationManager.getRuntimeConfiguration()).thenReturn(testConfig);
+        when(mockProcessLaunchCircuitBreaker.getAvailableLaunchPermits(crashingProcessConfig)).thenReturn(0);
+        when(mockProcessLaunchCircuitBreaker.getAvailableLaunchPermits(healthyProcessConfig))
+                .thenReturn(Integer.MAX_VALUE);
+        when(mockProcessLaunchCircuitBreaker.acquireLaunchPermits(eq(healthyProcessConfig), anyInt()))
+                .thenAnswer(invocation -> invocation.getArgument(1));
+        when(mockProcessLaunchCircuitBreaker.getMillisUntilNextProbe()).thenReturn(OptionalLong.of(millisUntilProbe));
 
         // WHEN
         gameProcessMonitor.runProcessMonitor();
+        gameProcessMonitor.runProcessMonitor();
 
         // THEN
-        verifyNoMoreInteractions(mockGameProcessManager, mockRuntimeConfigurationManager);
+        verify(mockProcessLaunchPipeline, never()).submit(eq(crashingProcessConfig), anyBoolean());
+        verify(mockProcessLaunchPipeline, times(10)).submit(healthyProcessConfig, false);
+        verify(mockExecutorService, times(1)).schedule(any(Runnable.class), eq(millisUntilProbe),
+                eq(TimeUnit.MILLISECONDS));
     }
 
     @Test
-    public void GIVEN_InvalidLaunchPath_WHEN_runProcessMonitor_THEN_handleException() throws AgentException {
+    public void GIVEN_webSocketConnectionLost_WHEN_runTask_THEN_launchesHeldBackAndCountedOnce() {
         // GIVEN
-        int concurrentExecutionsForConfig = 5;
-        long currentRunningProcessesForConfig = 3L;
-        int expectedNewProcessesForConfig = (int) (concurrentExecutionsForConfig - currentRunningProcessesForConfig);
-
-        GameProcessConfiguration testProcessConfig = GameProcessConfiguration.builder()
-                .launchPath(INVALID_LAUNCH_PATH)
-                .concurrentExecutions(concurrentExecutionsForConfig)
+        final GameProcessConfiguration testProcessConfig = GameProcessConfiguration.builder()
+                .launchPath("testExecutable")
+                .concurrentExecutions(3)
                 .build();
-        RuntimeConfiguration testConfig = RuntimeConfiguration.builder()
+        final RuntimeConfiguration testConfig = RuntimeConfiguration.builder()
                 .serverProcesses(List.of(testProcessConfig))
                 .build();
 
         when(mockStateManager.isComputeTerminatingOrTerminated()).thenReturn(false);
         when(mockRuntimeConfigurationManager.getRuntimeConfiguration()).thenReturn(testConfig);
-        when(mockGameProcessManager.getInitializationTimedOutProcessUUIDs()).thenReturn(ImmutableSet.of());
-        when(mockGameProcessManager.getProcessCountsByConfiguration())
-                .thenReturn(Map.of(testProcessConfig, currentRunningProcessesForConfig));
-        doThrow(RuntimeException.class).when(mockGameProcessManager)
-                .startProcessFromConfiguration(testProcessConfig);
+        when(mockWebSocketConnectionProvider.isConnectionHealthy()).thenReturn(false);
+        when(mockWebSocketConnectionProvider.getConnectionLostDuration()).thenReturn(Duration.ofSeconds(42));
 
         // WHEN
         gameProcessMonitor.runProcessMonitor();
+        gameProcessMonitor.runProcessMonitor();
 
-        //THEN
-        verify(gameProcessMonitor, times(expectedNewProcessesForConfig))
-                .startProcessWithDelay(eq(testProcessConfig), anyLong());
-        verify(mockGameProcessManager, times(expectedNewProcessesForConfig)).startProcessFromConfiguration(testProcessConfig);
-        verify(gameProcessMonitor, never()).getNextDelay(anyLong(), anyBoolean());
-        verify(mockGameProcessManager, never()).isProcessAlive(anyString());
-        verifyNoMoreInteractions(mockGameProcessManager, mockRuntimeConfigurationManager);
+        // THEN
+        verify(mockProcessLaunchPipeline, never()).submit(any(), anyBoolean());
+        verify(mockHostLoadAdmissionController, never()).evaluate();
+        verify(mockRuntimeConfigurationReconciler, times(2)).reconcile(testConfig);
+        // A single run is scheduled for when the pause runs out, in case the connection is never restored
+        verify(mockExecutorService, times(1)).schedule(any(Runnable.class),
+                eq(TimeUnit.SECONDS.toMillis(GameProcessMonitor.MAX_LOST_CONNECTION_LAUNCH_PAUSE_SECONDS - 42)),
+                eq(TimeUnit.MILLISECONDS));
     }
 
     @Test
-    public void GIVEN_processThrowsRuntimeException_WHEN_runProcessMonitor_THEN_handleException() throws AgentException {
+    public void GIVEN_halfOpenBreaker_WHEN_runTask_THEN_singleLaunchSubmittedAsProbe() {
         // GIVEN
-        int concurrentExecutionsForConfig = 5;
-        long currentRunningProcessesForConfig = 3L;
-        int expectedNewProcessesForConfig = (int) (concurrentExecutionsForConfig - currentRunningProcessesForConfig);
-
-        GameProcessConfiguration testProcessConfig = GameProcessConfiguration.builder()
-                .launchPath("testExecutable")
-                .concurrentExecutions(concurrentExecutionsForConfig)
+        final GameProcessConfiguration testProcessConfig = GameProcessConfiguration.builder()
+                .launchPath("crashingExecutable")
+                .concurrentExecutions(5)
                 .build();
-        RuntimeConfiguration testConfig = RuntimeConfiguration.builder()
+        final RuntimeConfiguration testConfig = RuntimeConfiguration.builder()
                 .serverProcesses(List.of(testProcessConfig))
                 .build();
 
         when(mockStateManager.isComputeTerminatingOrTerminated()).thenReturn(false);
         when(mockRuntimeConfigurationManager.getRuntimeConfiguration()).thenReturn(testConfig);
-        when(mockGameProcessManager.getInitializationTimedOutProcessUUIDs()).thenReturn(ImmutableSet.of());
-        when(mockGameProcessManager.getProcessCountsByConfiguration())
-                .thenReturn(Map.of(testProcessConfig, currentRunningProcessesForConfig));
-        doThrow(RuntimeException.class).when(mockGameProcessManager).
-                startProcessFromConfiguration(testProcessConfig);
+        when(mockProcessLaunchCircuitBreaker.getAvailableLaunchPermits(testProcessConfig)).thenReturn(1);
+        when(mockProcessLaunchCircuitBreaker.acquireLaunchPermits(testProcessConfig, 1)).thenReturn(1);
+        when(mockProcessLaunchCircuitBreaker.getState(testProcessConfig))
+                .thenReturn(ProcessLaunchCircuitBreaker.State.HALF_OPEN);
 
         // WHEN
         gameProcessMonitor.runProcessMonitor();
 
-        //THEN
-        verify(gameProcessMonitor, times(expectedNewProcessesForConfig))
-                .startProcessWithDelay(eq(testProcessConfig), anyLong());
-        verify(mockGameProcessManager, times(expectedNewProcessesForConfig)).startProcessFromConfiguration(any());
-        // next 2 calls are never invoked because a successful execution was never received
-        verify(gameProcessMonitor, never()).getNextDelay(anyLong(), anyBoolean());
-        verify(mockGameProcessManager, never()).isProcessAlive(anyString());
-        verifyNoMoreInteractions(mockGameProcessManager, mockRuntimeConfigurationManager);
+        // THEN
+        verify(mockProcessLaunchPipeline).submit(testProcessConfig, true);
+        verify(mockProcessLaunchPipeline, never()).submit(testProcessConfig, false);
     }
 
     @Test
-    public void GIVEN_processThrowsBadExecutablePathException_WHEN_runProcessMonitor_THEN_handleException() throws AgentException {
+    public void GIVEN_webSocketConnectionLostBeyondMaxPause_WHEN_runTask_THEN_launchesResume() {
         // GIVEN
-        int concurrentExecutionsForConfig = 5;
-        long currentRunningProcessesForConfig = 3L;
-        int expectedNewProcessesForConfig = (int) (concurrentExecutionsForConfig - currentRunningProcessesForConfig); //2
-
-        GameProcessConfiguration testProcessConfig = GameProcessConfiguration.builder()
+        final GameProcessConfiguration testProcessConfig = GameProcessConfiguration.builder()
                 .launchPath("testExecutable")
-                .concurrentExecutions(concurrentExecutionsForConfig)
+                .concurrentExecutions(3)
                 .build();
-        RuntimeConfiguration testConfig = RuntimeConfiguration.builder()
+        final RuntimeConfiguration testConfig = RuntimeConfiguration.builder()
                 .serverProcesses(List.of(testProcessConfig))
                 .build();
 
         when(mockStateManager.isComputeTerminatingOrTerminated()).thenReturn(false);
-        when(mockGameProcessManager.getInitializationTimedOutProcessUUIDs()).thenReturn(ImmutableSet.of());
-        when(mockStateManager.isComputeInitializing()).thenReturn(false);
         when(mockRuntimeConfigurationManager.getRuntimeConfiguration()).thenReturn(testConfig);
-        when(mockGameProcessManager.getProcessCountsByConfiguration())
-                .thenReturn(Map.of(testProcessConfig, currentRunningProcessesForConfig));
-        doThrow(BadExecutablePathException.class).when(mockGameProcessManager)
-                .startProcessFromConfiguration(testProcessConfig);
+        when(mockWebSocketConnectionProvider.isConnectionHealthy()).thenReturn(false);
+        when(mockWebSocketConnectionProvider.getConnectionLostDuration()).thenReturn(Duration.ofSeconds(42),
+                Duration.ofSeconds(GameProcessMonitor.MAX_LOST_CONNECTION_LAUNCH_PAUSE_SECONDS));
+        when(mockProcessLaunchCircuitBreaker.getAvailableLaunchPermits(testProcessConfig))
+                .thenReturn(Integer.MAX_VALUE);
+        when(mockProcessLaunchCircuitBreaker.acquireLaunchPermits(eq(testProcessConfig), anyInt()))
+                .thenAnswer(invocation -> invocation.getArgument(1));
+        gameProcessMonitor.runProcessMonitor();
+        verify(mockProcessLaunchPipeline, never()).submit(any(), anyBoolean());
 
         // WHEN
         gameProcessMonitor.runProcessMonitor();
 
-        //THEN
-        verify(gameProcessMonitor, times(expectedNewProcessesForConfig))
-                .startProcessWithDelay(eq(testProcessConfig), anyLong());
-        verify(mockGameProcessManager, times(expectedNewProcessesForConfig)).startProcessFromConfiguration(any());
-        // next 2 calls are never invoked because a successful execution was never received
-        verify(gameProcessMonitor, never()).getNextDelay(anyLong(), anyBoolean());
-        verify(mockGameProcessManager, never()).isProcessAlive(anyString());
-        verifyNoMoreInteractions(mockGameProcessManager, mockRuntimeConfigurationManager);
+        // THEN
+        verify(mockHostLoadAdmissionController).evaluate();
+        verify(mockProcessLaunchPipeline, times(3)).submit(testProcessConfig, false);
     }
 
     @Test
-    public void GIVEN_processfailsToStartSilently_WHEN_runProcessMonitor_THEN_handleException() throws
-            AgentException {
+    public void GIVEN_hostUnderCriticalLoad_WHEN_runTask_THEN_launchesDeferredAndRecheckRunScheduled() {
         // GIVEN
-        final String testProcessId = "testProcessId";
-        int concurrentExecutionsForConfig = 5;
-        long currentRunningProcessesForConfig = 3L;
-        int expectedNewProcessesForConfig = (int) (concurrentExecutionsForConfig - currentRunningProcessesForConfig);
-
-        GameProcessConfiguration testProcessConfig = GameProcessConfiguration.builder()
+        final GameProcessConfiguration testProcessConfig = GameProcessConfiguration.builder()
                 .launchPath("testExecutable")
-                .concurrentExecutions(concurrentExecutionsForConfig)
+                .concurrentExecutions(3)
                 .build();
-        RuntimeConfiguration testConfig = RuntimeConfiguration.builder()
+        final RuntimeConfiguration testConfig = RuntimeConfiguration.builder()
                 .serverProcesses(List.of(testProcessConfig))
                 .build();
+        final HostLoadAdmissionController.AdmissionDecision deferDecision =
+                new HostLoadAdmissionController.AdmissionDecision(HostLoadAdmissionController.Admission.DEFER,
+                        HostLoadAdmissionController.HostLoadSignal.MEMORY_AVAILABLE, "2.0% of memory available");
 
         when(mockStateManager.isComputeTerminatingOrTerminated()).thenReturn(false);
-        when(mockGameProcessManager.getInitializationTimedOutProcessUUIDs()).thenReturn(ImmutableSet.of());
         when(mockRuntimeConfigurationManager.getRuntimeConfiguration()).thenReturn(testConfig);
-        when(mockGameProcessManager.getProcessCountsByConfiguration())
-                .thenReturn(Map.of(testProcessConfig, currentRunningProcessesForConfig));
-        doReturn(testProcessId).when(mockGameProcessManager).startProcessFromConfiguration(any());
-        // nmumber of processes stays at 0
-        doReturn(false).when(mockGameProcessManager).isProcessAlive(testProcessId);
+        when(mockHostLoadAdmissionController.evaluate()).thenReturn(deferDecision);
 
         // WHEN
         gameProcessMonitor.runProcessMonitor();
+        gameProcessMonitor.runProcessMonitor();
 
-        //THEN
-        verify(gameProcessMonitor, times(expectedNewProcessesForConfig))
-                .startProcessWithDelay(eq(testProcessConfig), eq(TEST_INITIAL_PROCESS_LAUNCH_DELAY_SECONDS));
-        verify(gameProcessMonitor, times(expectedNewProcessesForConfig)).getNextDelay(eq(TEST_INITIAL_PROCESS_LAUNCH_DELAY_SECONDS), anyBoolean());
-        verify(mockGameProcessManager, times(expectedNewProcessesForConfig)).isProcessAlive(anyString());
-        verifyNoMoreInteractions(mockGameProcessManager, mockRuntimeConfigurationManager);
+        // THEN
+        verify(mockProcessLaunchPipeline, never()).submit(any(), anyBoolean());
+        verify(mockHostLoadAdmissionController, times(2)).recordHeldBackLaunches(deferDecision, 3);
+        verify(mockExecutorService, times(1)).schedule(any(Runnable.class),
+                eq(HostLoadAdmissionController.RECHECK_INTERVAL_MILLIS), eq(TimeUnit.MILLISECONDS));
     }
 
     @Test
-    public void GIVEN_processfailsToStartWithNfe_WHEN_runProcessMonitor_THEN_handleException() throws
-            AgentException {
+    public void GIVEN_hostUnderElevatedLoad_WHEN_runTask_THEN_launchesThrottled() {
         // GIVEN
-        final String testProcessId = "testProcessId";
-        int concurrentExecutionsForConfig = 5;
-        long currentRunningProcessesForConfig = 3L;
-        int expectedNewProcessesForConfig = (int) (concurrentExecutionsForConfig - currentRunningProcessesForConfig);
-
-        GameProcessConfiguration testProcessConfig = GameProcessConfiguration.builder()
+        final GameProcessConfiguration testProcessConfig = GameProcessConfiguration.builder()
                 .launchPath("testExecutable")
-                .concurrentExecutions(concurrentExecutionsForConfig)
+                .concurrentExecutions(3)
                 .build();
-        RuntimeConfiguration testConfig = RuntimeConfiguration.builder()
+        final RuntimeConfiguration testConfig = RuntimeConfiguration.builder()
                 .serverProcesses(List.of(testProcessConfig))
                 .build();
+        final HostLoadAdmissionController.AdmissionDecision throttleDecision =
+                new HostLoadAdmissionController.AdmissionDecision(HostLoadAdmissionController.Admission.THROTTLE,
+                        HostLoadAdmissionController.HostLoadSignal.CPU_PRESSURE,
+                        "tasks waited for a CPU 60.0% of the last 10 seconds");
 
         when(mockStateManager.isComputeTerminatingOrTerminated()).thenReturn(false);
-        when(mockGameProcessManager.getInitializationTimedOutProcessUUIDs()).thenReturn(ImmutableSet.of());
         when(mockRuntimeConfigurationManager.getRuntimeConfiguration()).thenReturn(testConfig);
-        when(mockGameProcessManager.getProcessCountsByConfiguration())
-                .thenReturn(Map.of(testProcessConfig, currentRunningProcessesForConfig));
-        doReturn(testProcessId).when(mockGameProcessManager).startProcessFromConfiguration(any());
-        // number of processes stays at 0
-        doThrow(NotFoundException.class).when(mockGameProcessManager).isProcessAlive(testProcessId);
+        when(mockHostLoadAdmissionController.evaluate()).thenReturn(throttleDecision);
+        givenAllLaunchesPermitted();
 
         // WHEN
         gameProcessMonitor.runProcessMonitor();
 
-        //THEN
-        verify(gameProcessMonitor, times(expectedNewProcessesForConfig))
-                .startProcessWithDelay(eq(testProcessConfig), eq(TEST_INITIAL_PROCESS_LAUNCH_DELAY_SECONDS));
-        verify(gameProcessMonitor, times(expectedNewProcessesForConfig)).getNextDelay(eq(TEST_INITIAL_PROCESS_LAUNCH_DELAY_SECONDS), anyBoolean());
-        verify(mockGameProcessManager, times(expectedNewProcessesForConfig)).isProcessAlive(anyString());
-        verifyNoMoreInteractions(mockGameProcessManager, mockRuntimeConfigurationManager);
+        // THEN
+        verify(mockProcessLaunchPipeline, times(HostLoadAdmissionController.MAX_THROTTLED_LAUNCHES))
+                .submit(testProcessConfig, false);
+        verify(mockHostLoadAdmissionController).recordHeldBackLaunches(throttleDecision,
+                3 - HostLoadAdmissionController.MAX_THROTTLED_LAUNCHES);
+        verify(mockExecutorService).schedule(any(Runnable.class),
+                eq(HostLoadAdmissionController.RECHECK_INTERVAL_MILLIS), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void GIVEN_terminatingCompute_WHEN_runTask_THEN_noOp() {
+        // GIVEN
+        when(mockStateManager.isComputeTerminatingOrTerminated()).thenReturn(true);
+
+        // WHEN
+        gameProcessMonitor.runProcessMonitor();
+
+        // THEN
+        verifyNoMoreInteractions(mockGameProcessManager, mockRuntimeConfigurationManager, mockProcessLaunchPipeline);
+    }
+
+    @Test
+    public void GIVEN_initializingCompute_WHEN_runTask_THEN_noOp() {
+        // GIVEN
+        when(mockStateManager.isComputeInitializing()).thenReturn(true);
+
+        // WHEN
+        gameProcessMonitor.runProcessMonitor();
+
+        // THEN
+        verifyNoMoreInteractions(mockGameProcessManager, mockRuntimeConfigurationManager, mockProcessLaunchPipeline);
     }
 
     @Test
-    public void GIVEN_processesTimedOutForInitialization_WHEN_runProcessMonitor_THEN_terminatesProcesses() {
+    public void GIVEN_zeroConcurrentExecutions_WHEN_runProcessMonitor_THEN_throwIllegalArgumentException() {
         // GIVEN
-        final String testProcessId1 = "test1";
-        final String testProcessId2 = "test2";
-        int concurrentExecutionsForConfig = 5;
-        Long currentRunningProcessesForConfig = 5L;
+        int concurrentExecutionsForConfig = 0;
 
         GameProcessConfiguration testProcessConfig = GameProcessConfiguration.builder()
-                .launchPath("testExecutable")
+                .launchPath("testExecutable1")
                 .concurrentExecutions(concurrentExecutionsForConfig)
                 .build();
         RuntimeConfiguration testConfig = RuntimeConfiguration.builder()
@@ -483,17 +762,18 @@ public class GameProcessMonitorTest {
 
         when(mockStateManager.isComputeTerminatingOrTerminated()).thenReturn(false);
         when(mockRuntimeConfigurationManager.getRuntimeConfiguration()).thenReturn(testConfig);
-        when(mockGameProcessManager.getInitializationTimedOutProcessUUIDs())
-                .thenReturn(ImmutableSet.of(testProcessId1, testProcessId2));
-        when(mockGameProcessManager.getProcessCountsByConfiguration())
-                .thenReturn(Map.of(testProcessConfig, currentRunningProcessesForConfig));
 
         // WHEN
         gameProcessMonitor.runProcessMonitor();
 
-        //THEN
-        verify(mockGameProcessManager).terminateProcessByUUID(testProcessId1, ProcessTerminationReason.SERVER_PROCESS_SDK_INITIALIZATION_TIMEOUT);
-        verify(mockGameProcessManager).terminateProcessByUUID(testProcessId2, ProcessTerminationReason.SERVER_PROCESS_SDK_INITIALIZATION_TIMEOUT);
+        // THEN
+        verify(mockProcessLaunchPipeline, never()).submit(any(), anyBoolean());
         verifyNoMoreInteractions(mockGameProcessManager, mockRuntimeConfigurationManager);
     }
+
+    private void givenAllLaunchesPermitted() {
+        when(mockProcessLaunchCircuitBreaker.getAvailableLaunchPermits(any())).thenReturn(Integer.MAX_VALUE);
+        when(mockProcessLaunchCircuitBreaker.acquireLaunchPermits(any(), anyInt()))
+                .thenAnswer(invocation -> invocation.getArgument(1));
+    }
 }
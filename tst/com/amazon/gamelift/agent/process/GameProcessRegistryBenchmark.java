@@ -0,0 +1,94 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process;
+
+import com.amazon.gamelift.agent.model.GameProcessConfiguration;
+import com.amazon.gamelift.agent.model.OperatingSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the cost of the process count queries made on every process monitor run, for varying numbers of tracked
+ * processes. The stream benchmark reproduces the previous approach of grouping every tracked process by configuration
+ * on each query; the registry benchmark reads the incrementally maintained counters.
+ *
+ * Run with:
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.openjdk.jmh.Main \
+ *     -Dexec.args=GameProcessRegistryBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameProcessRegistryBenchmark {
+
+    private static final int CONFIGURATION_COUNT = 10;
+
+    @Param({"1000", "10000"})
+    public int trackedProcesses;
+
+    private GameProcessRegistry registry;
+    private List<GameProcessConfiguration> runtimeConfiguration;
+
+    @Setup
+    public void setup() {
+        registry = new GameProcessRegistry();
+        final List<GameProcessConfiguration> trackedConfigurations = new ArrayList<>();
+        runtimeConfiguration = new ArrayList<>();
+        for (int i = 0; i < CONFIGURATION_COUNT; i++) {
+            trackedConfigurations.add(newConfiguration(i));
+            // The runtime configuration is deserialized separately from the configurations processes were started with
+            runtimeConfiguration.add(newConfiguration(i));
+        }
+        for (int i = 0; i < trackedProcesses; i++) {
+            registry.add(new GameProcess(trackedConfigurations.get(i % CONFIGURATION_COUNT), null, null, null,
+                    OperatingSystem.DEFAULT_OS, Duration.ofMinutes(5)));
+        }
+    }
+
+    private static GameProcessConfiguration newConfiguration(final int index) {
+        return GameProcessConfiguration.builder()
+                .launchPath("/local/game/bin/GameServer" + index)
+                .parameters("-logFile /local/game/logs/server" + index + ".log -maxPlayers 32 -region us-west-2")
+                .concurrentExecutions(Integer.MAX_VALUE)
+                .build();
+    }
+
+    @Benchmark
+    public void streamGroupingCounts(final Blackhole blackhole) {
+        final Map<GameProcessConfiguration, Long> processCounts = registry.getProcesses().stream()
+                .collect(Collectors.groupingBy(GameProcess::getProcessConfiguration, Collectors.counting()));
+        blackhole.consume(processCounts.values().stream().mapToLong(Long::longValue).sum());
+        for (final GameProcessConfiguration processConfiguration : runtimeConfiguration) {
+            blackhole.consume(processCounts.getOrDefault(processConfiguration, 0L));
+        }
+    }
+
+    @Benchmark
+    public void registryCounts(final Blackhole blackhole) {
+        blackhole.consume(registry.getProcessCount());
+        for (final GameProcessConfiguration processConfiguration : runtimeConfiguration) {
+            blackhole.consume(registry.getProcessCount(processConfiguration));
+        }
+    }
+}
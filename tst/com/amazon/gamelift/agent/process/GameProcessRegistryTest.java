@@ -0,0 +1,119 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process;
+
+import com.amazon.gamelift.agent.model.GameProcessConfiguration;
+import com.amazon.gamelift.agent.model.OperatingSystem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GameProcessRegistryTest {
+
+    private static final GameProcessConfiguration PROCESS_CONFIG_1 = GameProcessConfiguration.builder()
+            .launchPath("testExecutable1")
+            .parameters("--port 1234")
+            .concurrentExecutions(5)
+            .build();
+    private static final GameProcessConfiguration PROCESS_CONFIG_2 = GameProcessConfiguration.builder()
+            .launchPath("testExecutable2")
+            .concurrentExecutions(5)
+            .build();
+
+    private GameProcessRegistry registry;
+
+    @BeforeEach
+    public void setup() {
+        registry = new GameProcessRegistry();
+    }
+
+    private static GameProcess newGameProcess(final GameProcessConfiguration processConfiguration) {
+        return new GameProcess(processConfiguration, null, null, null, OperatingSystem.DEFAULT_OS,
+                Duration.ofMinutes(5));
+    }
+
+    @Test
+    public void GIVEN_processesAdded_WHEN_getProcessCount_THEN_countsByConfiguration() {
+        // GIVEN
+        final GameProcess process1 = newGameProcess(PROCESS_CONFIG_1);
+        final GameProcess process2 = newGameProcess(PROCESS_CONFIG_1);
+        final GameProcess process3 = newGameProcess(PROCESS_CONFIG_2);
+
+        // WHEN
+        registry.add(process1);
+        registry.add(process2);
+        registry.add(process3);
+
+        // THEN
+        assertEquals(3, registry.getProcessCount());
+        assertEquals(2, registry.getProcessCount(PROCESS_CONFIG_1));
+        // An equal configuration built separately, e.g. from a refreshed runtime configuration, finds the same count
+        assertEquals(2, registry.getProcessCount(GameProcessConfiguration.builder()
+                .launchPath("testExecutable1")
+                .parameters("--port 1234")
+                .concurrentExecutions(5)
+                .build()));
+        assertEquals(1, registry.getProcessCount(PROCESS_CONFIG_2));
+        assertSame(process1, registry.get(process1.getProcessUUID()));
+        assertTrue(registry.contains(process3.getProcessUUID()));
+        assertEquals(Map.of(PROCESS_CONFIG_1, 2L, PROCESS_CONFIG_2, 1L), registry.getProcessCountsByConfiguration());
+    }
+
+    @Test
+    public void GIVEN_sameProcessAddedTwice_WHEN_add_THEN_countedOnce() {
+        // GIVEN
+        final GameProcess process = newGameProcess(PROCESS_CONFIG_1);
+
+        // WHEN
+        registry.add(process);
+        registry.add(process);
+
+        // THEN
+        assertEquals(1, registry.getProcessCount());
+        assertEquals(1, registry.getProcessCount(PROCESS_CONFIG_1));
+    }
+
+    @Test
+    public void GIVEN_trackedProcess_WHEN_remove_THEN_countsDecremented() {
+        // GIVEN
+        final GameProcess process1 = newGameProcess(PROCESS_CONFIG_1);
+        final GameProcess process2 = newGameProcess(PROCESS_CONFIG_2);
+        registry.add(process1);
+        registry.add(process2);
+
+        // WHEN
+        final GameProcess removedProcess = registry.remove(process1.getProcessUUID());
+
+        // THEN
+        assertSame(process1, removedProcess);
+        assertFalse(registry.contains(process1.getProcessUUID()));
+        assertEquals(1, registry.getProcessCount());
+        assertEquals(0, registry.getProcessCount(PROCESS_CONFIG_1));
+        assertEquals(Map.of(PROCESS_CONFIG_2, 1L), registry.getProcessCountsByConfiguration());
+    }
+
+    @Test
+    public void GIVEN_removedProcess_WHEN_removeAgain_THEN_countsUnchanged() {
+        // GIVEN
+        final GameProcess process = newGameProcess(PROCESS_CONFIG_1);
+        registry.add(process);
+        registry.remove(process.getProcessUUID());
+
+        // WHEN
+        final GameProcess removedProcess = registry.remove(process.getProcessUUID());
+
+        // THEN
+        assertNull(removedProcess);
+        assertEquals(0, registry.getProcessCount());
+        assertEquals(0, registry.getProcessCount(PROCESS_CONFIG_1));
+    }
+}
@@ -12,6 +12,7 @@ import com.amazon.gamelift.agent.process.builder.ProcessBuilderWrapper;
 import com.amazon.gamelift.agent.process.destroyer.ProcessDestroyer;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
@@ -147,34 +148,17 @@ public class GameProcessTest {
     }
 
     @Test
-    public void GIVEN_initializationDeadlinePassedForNewProcess_WHEN_hasTimedOutForInitialization_THEN_returnsTrue() {
+    public void GIVEN_initializationTimeout_WHEN_constructed_THEN_initializationDeadlineSetFromTimeout() {
         // GIVEN
-        processUnderTest = new GameProcess(PROCESS_CONFIG, mockProcessBuilder, mockProcessDestroyer, mockProcessEnvironmentManager,
-                OPERATING_SYSTEM, Duration.ofSeconds(-1));
-
-        // WHEN / THEN
-        assertTrue(processUnderTest.hasTimedOutForInitialization());
-    }
-
-    @Test
-    public void GIVEN_initializationDeadlinePassedForActiveProcess_WHEN_hasTimedOutForInitialization_THEN_returnsFalse() {
-        // GIVEN
-        processUnderTest = new GameProcess(PROCESS_CONFIG, mockProcessBuilder, mockProcessDestroyer, mockProcessEnvironmentManager,
-                OPERATING_SYSTEM, Duration.ofSeconds(-1));
-        processUnderTest.setProcessStatus(ProcessStatus.Active);
+        final Instant before = Instant.now();
 
-        // WHEN / THEN
-        assertFalse(processUnderTest.hasTimedOutForInitialization());
-    }
-
-    @Test
-    public void GIVEN_initializationDeadlineNotPassedForNewProcess_WHEN_hasTimedOutForInitialization_THEN_returnsFalse() {
-        // GIVEN
+        // WHEN
         processUnderTest = new GameProcess(PROCESS_CONFIG, mockProcessBuilder, mockProcessDestroyer, mockProcessEnvironmentManager,
                 OPERATING_SYSTEM, Duration.ofSeconds(10));
 
-        // WHEN / THEN
-        assertFalse(processUnderTest.hasTimedOutForInitialization());
+        // THEN
+        assertFalse(processUnderTest.getInitializationTimeoutDeadline().isBefore(before.plusSeconds(10)));
+        assertTrue(processUnderTest.getInitializationTimeoutDeadline().isBefore(Instant.now().plusSeconds(11)));
     }
 
     @Test
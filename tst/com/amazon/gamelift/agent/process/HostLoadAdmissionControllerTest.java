@@ -0,0 +1,194 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process;
+
+import com.amazon.gamelift.agent.model.OperatingSystem;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@ExtendWith(MockitoExtension.class)
+public class HostLoadAdmissionControllerTest {
+
+    private static final int CPU_COUNT = 4;
+    private static final String IDLE_PRESSURE = "some avg10=0.00 avg60=0.00 avg300=0.00 total=0\n"
+            + "full avg10=0.00 avg60=0.00 avg300=0.00 total=0\n";
+
+    @TempDir private Path procRoot;
+
+    @Test
+    public void GIVEN_procStat_WHEN_readHostCpuCount_THEN_perCpuLinesCounted() throws IOException {
+        // GIVEN
+        Files.writeString(procRoot.resolve("stat"), "cpu  100 0 50 1000 0 0 0 0 0 0\n"
+                + "cpu0 50 0 25 500 0 0 0 0 0 0\n"
+                + "cpu1 50 0 25 500 0 0 0 0 0 0\n"
+                + "cpu7 0 0 0 0 0 0 0 0 0 0\n"
+                + "intr 12345\n"
+                + "ctxt 6789\n");
+
+        // WHEN
+        final int cpuCount = HostLoadAdmissionController.readHostCpuCount(procRoot);
+
+        // THEN
+        assertEquals(3, cpuCount);
+    }
+
+    @Test
+    public void GIVEN_noProcStat_WHEN_readHostCpuCount_THEN_availableProcessorsUsed() {
+        // WHEN
+        final int cpuCount = HostLoadAdmissionController.readHostCpuCount(procRoot);
+
+        // THEN
+        assertEquals(Runtime.getRuntime().availableProcessors(), cpuCount);
+    }
+
+    @Test
+    public void GIVEN_disabled_WHEN_evaluate_THEN_launchesAdmittedWithoutReadingProcfs() {
+        // GIVEN
+        final HostLoadAdmissionController controller =
+                new HostLoadAdmissionController(false, OperatingSystem.DEFAULT_OS, procRoot, CPU_COUNT);
+
+        // WHEN
+        final HostLoadAdmissionController.AdmissionDecision decision = controller.evaluate();
+
+        // THEN
+        assertEquals(HostLoadAdmissionController.Admission.ADMIT, decision.getAdmission());
+    }
+
+    @Test
+    public void GIVEN_windows_WHEN_evaluate_THEN_launchesAdmitted() throws IOException {
+        // GIVEN
+        givenHostLoad(IDLE_PRESSURE, IDLE_PRESSURE, 100, 1, "40.00");
+        final HostLoadAdmissionController controller =
+                new HostLoadAdmissionController(true, OperatingSystem.WINDOWS_2022, procRoot, CPU_COUNT);
+
+        // WHEN
+        final HostLoadAdmissionController.AdmissionDecision decision = controller.evaluate();
+
+        // THEN
+        assertEquals(HostLoadAdmissionController.Admission.ADMIT, decision.getAdmission());
+    }
+
+    @Test
+    public void GIVEN_idleHost_WHEN_evaluate_THEN_launchesAdmitted() throws IOException {
+        // GIVEN
+        givenHostLoad(IDLE_PRESSURE, IDLE_PRESSURE, 1000, 800, "0.52");
+        final HostLoadAdmissionController controller = createController();
+
+        // WHEN
+        final HostLoadAdmissionController.AdmissionDecision decision = controller.evaluate();
+
+        // THEN
+        assertEquals(HostLoadAdmissionController.Admission.ADMIT, decision.getAdmission());
+        assertNull(decision.getSignal());
+    }
+
+    @Test
+    public void GIVEN_elevatedCpuPressure_WHEN_evaluate_THEN_launchesThrottled() throws IOException {
+        // GIVEN
+        givenHostLoad("some avg10=62.50 avg60=40.00 avg300=10.00 total=123456\n"
+                + "full avg10=0.00 avg60=0.00 avg300=0.00 total=0\n", IDLE_PRESSURE, 1000, 800, "6.00");
+        final HostLoadAdmissionController controller = createController();
+
+        // WHEN
+        final HostLoadAdmissionController.AdmissionDecision decision = controller.evaluate();
+
+        // THEN
+        assertEquals(HostLoadAdmissionController.Admission.THROTTLE, decision.getAdmission());
+        assertEquals(HostLoadAdmissionController.HostLoadSignal.CPU_PRESSURE, decision.getSignal());
+    }
+
+    @Test
+    public void GIVEN_memoryStallsAndHighLoad_WHEN_evaluate_THEN_launchesDeferredForMemoryPressure()
+            throws IOException {
+        // GIVEN
+        givenHostLoad(IDLE_PRESSURE, "some avg10=35.00 avg60=20.00 avg300=5.00 total=999\n"
+                + "full avg10=12.00 avg60=6.00 avg300=1.00 total=500\n", 1000, 300, "20.00");
+        final HostLoadAdmissionController controller = createController();
+
+        // WHEN
+        final HostLoadAdmissionController.AdmissionDecision decision = controller.evaluate();
+
+        // THEN
+        assertEquals(HostLoadAdmissionController.Admission.DEFER, decision.getAdmission());
+        assertEquals(HostLoadAdmissionController.HostLoadSignal.MEMORY_PRESSURE, decision.getSignal());
+    }
+
+    @Test
+    public void GIVEN_noPsiAndLittleMemoryAvailable_WHEN_evaluate_THEN_launchesDeferredForMemoryAvailable()
+            throws IOException {
+        // GIVEN
+        givenHostLoad(null, null, 1000, 40, "0.10");
+        final HostLoadAdmissionController controller = createController();
+
+        // WHEN
+        final HostLoadAdmissionController.AdmissionDecision decision = controller.evaluate();
+
+        // THEN
+        assertEquals(HostLoadAdmissionController.Admission.DEFER, decision.getAdmission());
+        assertEquals(HostLoadAdmissionController.HostLoadSignal.MEMORY_AVAILABLE, decision.getSignal());
+    }
+
+    @Test
+    public void GIVEN_loadAverageAboveCpuCount_WHEN_evaluate_THEN_launchesThrottledForLoadAverage()
+            throws IOException {
+        // GIVEN
+        givenHostLoad(IDLE_PRESSURE, IDLE_PRESSURE, 1000, 800, "9.00");
+        final HostLoadAdmissionController controller = createController();
+
+        // WHEN
+        final HostLoadAdmissionController.AdmissionDecision decision = controller.evaluate();
+
+        // THEN
+        assertEquals(HostLoadAdmissionController.Admission.THROTTLE, decision.getAdmission());
+        assertEquals(HostLoadAdmissionController.HostLoadSignal.LOAD_AVERAGE, decision.getSignal());
+    }
+
+    @Test
+    public void GIVEN_heldBackLaunches_WHEN_recordHeldBackLaunches_THEN_countedPerSignal() {
+        // GIVEN
+        final HostLoadAdmissionController controller = createController();
+        final HostLoadAdmissionController.AdmissionDecision deferDecision =
+                new HostLoadAdmissionController.AdmissionDecision(HostLoadAdmissionController.Admission.DEFER,
+                        HostLoadAdmissionController.HostLoadSignal.MEMORY_AVAILABLE, "2.0% of memory available");
+
+        // WHEN
+        controller.recordHeldBackLaunches(deferDecision, 3);
+        controller.recordHeldBackLaunches(deferDecision, 2);
+
+        // THEN
+        assertEquals(Map.of(HostLoadAdmissionController.HostLoadSignal.MEMORY_AVAILABLE, 5L),
+                controller.getHeldBackLaunchCounts());
+    }
+
+    private HostLoadAdmissionController createController() {
+        return new HostLoadAdmissionController(true, OperatingSystem.DEFAULT_OS, procRoot, CPU_COUNT);
+    }
+
+    private void givenHostLoad(final String cpuPressure,
+                               final String memoryPressure,
+                               final long memTotalMegabytes,
+                               final long memAvailableMegabytes,
+                               final String oneMinuteLoadAverage) throws IOException {
+        if (cpuPressure != null || memoryPressure != null) {
+            final Path pressureDirectory = Files.createDirectories(procRoot.resolve("pressure"));
+            Files.writeString(pressureDirectory.resolve("cpu"), cpuPressure);
+            Files.writeString(pressureDirectory.resolve("memory"), memoryPressure);
+        }
+        Files.writeString(procRoot.resolve("meminfo"), String.format(
+                "MemTotal:       %8d kB%nMemFree:        %8d kB%nMemAvailable:   %8d kB%n",
+                memTotalMegabytes * 1024, memAvailableMegabytes * 512, memAvailableMegabytes * 1024));
+        Files.writeString(procRoot.resolve("loadavg"),
+                String.format("%s 1.00 0.50 3/1234 5678%n", oneMinuteLoadAverage));
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process;
+
+import com.amazon.gamelift.agent.model.GameProcessConfiguration;
+import com.amazon.gamelift.agent.model.ProcessTerminationReason;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class InitializationTimeoutEstimatorTest {
+
+    private static final int MIN_INITIALIZATION_TIMEOUT_SECONDS = 10;
+    private static final GameProcessConfiguration PROCESS_CONFIGURATION = GameProcessConfiguration.builder()
+            .launchPath("/local/game/server")
+            .concurrentExecutions(1)
+            .initializationTimeoutSeconds(300)
+            .build();
+    private static final Duration CONFIGURED_TIMEOUT = Duration.ofSeconds(300);
+
+    @Test
+    public void GIVEN_disabled_WHEN_processesRegister_THEN_configuredTimeoutUsed() {
+        // GIVEN
+        final InitializationTimeoutEstimator estimator = new InitializationTimeoutEstimator(0);
+
+        // WHEN
+        estimator.onProcessRegistered(mock(GameProcess.class));
+
+        // THEN
+        assertEquals(CONFIGURED_TIMEOUT, estimator.getInitializationTimeout(PROCESS_CONFIGURATION));
+        assertEquals(0, estimator.getRegistrationCount(PROCESS_CONFIGURATION));
+    }
+
+    @Test
+    public void GIVEN_tooFewRegistrations_WHEN_getInitializationTimeout_THEN_configuredTimeoutUsed() {
+        // GIVEN
+        final InitializationTimeoutEstimator estimator =
+                new InitializationTimeoutEstimator(MIN_INITIALIZATION_TIMEOUT_SECONDS);
+        givenRegistrations(estimator, InitializationTimeoutEstimator.MIN_REGISTRATIONS_FOR_ADAPTIVE_TIMEOUT - 1,
+                5_000);
+
+        // WHEN
+        final Duration timeout = estimator.getInitializationTimeout(PROCESS_CONFIGURATION);
+
+        // THEN
+        assertEquals(CONFIGURED_TIMEOUT, timeout);
+    }
+
+    @Test
+    public void GIVEN_enoughRegistrations_WHEN_getInitializationTimeout_THEN_timeoutDerivedFromRegistrationTimes() {
+        // GIVEN
+        final InitializationTimeoutEstimator estimator =
+                new InitializationTimeoutEstimator(MIN_INITIALIZATION_TIMEOUT_SECONDS);
+        givenRegistrations(estimator, InitializationTimeoutEstimator.MIN_REGISTRATIONS_FOR_ADAPTIVE_TIMEOUT, 5_000);
+
+        // WHEN
+        final Duration timeout = estimator.getInitializationTimeout(PROCESS_CONFIGURATION);
+
+        // THEN
+        final long expectedTimeoutMillis = (long) (5_000 * InitializationTimeoutEstimator.TIMEOUT_FACTOR);
+        assertTrue(Math.abs(timeout.toMillis() - expectedTimeoutMillis) < expectedTimeoutMillis * 0.05,
+                "Unexpected timeout " + timeout);
+    }
+
+    @Test
+    public void GIVEN_fastRegistrations_WHEN_getInitializationTimeout_THEN_boundedByMinTimeout() {
+        // GIVEN
+        final InitializationTimeoutEstimator estimator =
+                new InitializationTimeoutEstimator(MIN_INITIALIZATION_TIMEOUT_SECONDS);
+        givenRegistrations(estimator, InitializationTimeoutEstimator.MIN_REGISTRATIONS_FOR_ADAPTIVE_TIMEOUT, 500);
+
+        // WHEN
+        final Duration timeout = estimator.getInitializationTimeout(PROCESS_CONFIGURATION);
+
+        // THEN
+        assertEquals(Duration.ofSeconds(MIN_INITIALIZATION_TIMEOUT_SECONDS), timeout);
+    }
+
+    @Test
+    public void GIVEN_slowRegistrations_WHEN_getInitializationTimeout_THEN_boundedByConfiguredTimeout() {
+        // GIVEN
+        final InitializationTimeoutEstimator estimator =
+                new InitializationTimeoutEstimator(MIN_INITIALIZATION_TIMEOUT_SECONDS);
+        givenRegistrations(estimator, InitializationTimeoutEstimator.MIN_REGISTRATIONS_FOR_ADAPTIVE_TIMEOUT, 200_000);
+
+        // WHEN
+        final Duration timeout = estimator.getInitializationTimeout(PROCESS_CONFIGURATION);
+
+        // THEN
+        assertEquals(CONFIGURED_TIMEOUT, timeout);
+    }
+
+    @Test
+    public void GIVEN_consecutiveInitializationTimeouts_WHEN_onProcessExited_THEN_learnedTimesDiscarded() {
+        // GIVEN
+        final InitializationTimeoutEstimator estimator =
+                new InitializationTimeoutEstimator(MIN_INITIALIZATION_TIMEOUT_SECONDS);
+        givenRegistrations(estimator, InitializationTimeoutEstimator.MIN_REGISTRATIONS_FOR_ADAPTIVE_TIMEOUT, 5_000);
+        final GameProcess timedOutProcess = mock(GameProcess.class);
+        when(timedOutProcess.getProcessConfiguration()).thenReturn(PROCESS_CONFIGURATION);
+        when(timedOutProcess.getTerminationReason())
+                .thenReturn(ProcessTerminationReason.SERVER_PROCESS_SDK_INITIALIZATION_TIMEOUT);
+
+        // WHEN
+        estimator.onProcessExited(timedOutProcess);
+        assertTrue(estimator.getInitializationTimeout(PROCESS_CONFIGURATION).compareTo(CONFIGURED_TIMEOUT) < 0);
+        estimator.onProcessExited(timedOutProcess);
+
+        // THEN
+        assertEquals(CONFIGURED_TIMEOUT, estimator.getInitializationTimeout(PROCESS_CONFIGURATION));
+        assertEquals(0, estimator.getRegistrationCount(PROCESS_CONFIGURATION));
+    }
+
+    @Test
+    public void GIVEN_registrationBetweenTimeouts_WHEN_onProcessExited_THEN_learnedTimesKept() {
+        // GIVEN
+        final InitializationTimeoutEstimator estimator =
+                new InitializationTimeoutEstimator(MIN_INITIALIZATION_TIMEOUT_SECONDS);
+        givenRegistrations(estimator, InitializationTimeoutEstimator.MIN_REGISTRATIONS_FOR_ADAPTIVE_TIMEOUT, 5_000);
+        final GameProcess timedOutProcess = mock(GameProcess.class);
+        when(timedOutProcess.getProcessConfiguration()).thenReturn(PROCESS_CONFIGURATION);
+        when(timedOutProcess.getTerminationReason())
+                .thenReturn(ProcessTerminationReason.SERVER_PROCESS_SDK_INITIALIZATION_TIMEOUT);
+
+        // WHEN
+        estimator.onProcessExited(timedOutProcess);
+        givenRegistrations(estimator, 1, 5_000);
+        estimator.onProcessExited(timedOutProcess);
+
+        // THEN
+        assertEquals(InitializationTimeoutEstimator.MIN_REGISTRATIONS_FOR_ADAPTIVE_TIMEOUT + 1,
+                estimator.getRegistrationCount(PROCESS_CONFIGURATION));
+    }
+
+    private static void givenRegistrations(final InitializationTimeoutEstimator estimator,
+                                           final int registrationCount,
+                                           final long registrationMillis) {
+        for (int i = 0; i < registrationCount; i++) {
+            final GameProcess gameProcess = mock(GameProcess.class);
+            when(gameProcess.getLaunchTime()).thenReturn(Instant.now().minusMillis(registrationMillis));
+            when(gameProcess.getProcessConfiguration()).thenReturn(PROCESS_CONFIGURATION);
+            estimator.onProcessRegistered(gameProcess);
+        }
+    }
+}
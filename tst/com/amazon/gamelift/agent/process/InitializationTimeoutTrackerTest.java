@@ -0,0 +1,162 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class InitializationTimeoutTrackerTest {
+
+    private static final String TEST_PROCESS_ID = "testProcessId";
+
+    @Mock private ScheduledExecutorService mockExecutorService;
+    @Mock private ScheduledFuture<?> mockScheduledFuture;
+    @Mock private ScheduledFuture<?> mockNextScheduledFuture;
+
+    private InitializationTimeoutTracker tracker;
+
+    @BeforeEach
+    public void setup() {
+        tracker = new InitializationTimeoutTracker(mockExecutorService);
+    }
+
+    @Test
+    public void GIVEN_futureDeadline_WHEN_scheduleDeadline_THEN_timeoutRunsWhenDeadlinePasses() {
+        // GIVEN
+        final ArgumentCaptor<Runnable> timeoutCaptor = ArgumentCaptor.forClass(Runnable.class);
+        final AtomicInteger timeoutCount = new AtomicInteger();
+        doReturn(mockScheduledFuture).when(mockExecutorService).schedule(any(Runnable.class), anyLong(), any());
+
+        // WHEN
+        tracker.scheduleDeadline(TEST_PROCESS_ID, Instant.now().plusSeconds(60), timeoutCount::incrementAndGet);
+
+        // THEN
+        verify(mockExecutorService).schedule(timeoutCaptor.capture(),
+                longThat(delay -> delay > 59_000L && delay <= 60_000L), eq(TimeUnit.MILLISECONDS));
+        assertEquals(1, tracker.getPendingDeadlineCount());
+
+        // WHEN
+        timeoutCaptor.getValue().run();
+
+        // THEN
+        assertEquals(1, timeoutCount.get());
+        assertEquals(0, tracker.getPendingDeadlineCount());
+    }
+
+    @Test
+    public void GIVEN_pastDeadline_WHEN_scheduleDeadline_THEN_timeoutScheduledImmediately() {
+        // GIVEN
+        doReturn(mockScheduledFuture).when(mockExecutorService).schedule(any(Runnable.class), anyLong(), any());
+
+        // WHEN
+        tracker.scheduleDeadline(TEST_PROCESS_ID, Instant.now().minusSeconds(1), () -> { });
+
+        // THEN
+        verify(mockExecutorService).schedule(any(Runnable.class), eq(0L), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void GIVEN_deadlineRunsBeforeScheduleReturns_WHEN_scheduleDeadline_THEN_deadlineNotLeftPending()
+            throws InterruptedException {
+        // GIVEN
+        final AtomicInteger timeoutCount = new AtomicInteger();
+        final Thread[] timeoutThread = new Thread[1];
+        doAnswer(invocation -> {
+            // The deadline fires on another thread while schedule has not yet returned
+            timeoutThread[0] = new Thread(invocation.getArgument(0, Runnable.class));
+            timeoutThread[0].start();
+            timeoutThread[0].join(100);
+            return mockScheduledFuture;
+        }).when(mockExecutorService).schedule(any(Runnable.class), anyLong(), any());
+
+        // WHEN
+        tracker.scheduleDeadline(TEST_PROCESS_ID, Instant.now(), timeoutCount::incrementAndGet);
+        timeoutThread[0].join();
+
+        // THEN
+        assertEquals(1, timeoutCount.get());
+        assertEquals(0, tracker.getPendingDeadlineCount());
+    }
+
+    @Test
+    public void GIVEN_scheduledDeadline_WHEN_scheduleDeadlineAgain_THEN_previousDeadlineCancelledAndSuperseded() {
+        // GIVEN
+        final ArgumentCaptor<Runnable> timeoutCaptor = ArgumentCaptor.forClass(Runnable.class);
+        final AtomicInteger previousTimeoutCount = new AtomicInteger();
+        final AtomicInteger timeoutCount = new AtomicInteger();
+        doReturn(mockScheduledFuture, mockNextScheduledFuture).when(mockExecutorService)
+                .schedule(any(Runnable.class), anyLong(), any());
+        tracker.scheduleDeadline(TEST_PROCESS_ID, Instant.now().plusSeconds(60),
+                previousTimeoutCount::incrementAndGet);
+
+        // WHEN
+        tracker.scheduleDeadline(TEST_PROCESS_ID, Instant.now().plusSeconds(120), timeoutCount::incrementAndGet);
+
+        // THEN
+        verify(mockScheduledFuture).cancel(false);
+        verify(mockExecutorService, times(2)).schedule(timeoutCaptor.capture(), anyLong(), eq(TimeUnit.MILLISECONDS));
+        // The previous deadline was already running when it was cancelled
+        timeoutCaptor.getAllValues().get(0).run();
+        assertEquals(0, previousTimeoutCount.get());
+        assertEquals(1, tracker.getPendingDeadlineCount());
+
+        // WHEN
+        timeoutCaptor.getAllValues().get(1).run();
+
+        // THEN
+        assertEquals(1, timeoutCount.get());
+        assertEquals(0, tracker.getPendingDeadlineCount());
+    }
+
+    @Test
+    public void GIVEN_scheduledDeadline_WHEN_cancelDeadline_THEN_deadlineCancelled() {
+        // GIVEN
+        doReturn(mockScheduledFuture).when(mockExecutorService).schedule(any(Runnable.class), anyLong(), any());
+        tracker.scheduleDeadline(TEST_PROCESS_ID, Instant.now().plusSeconds(60), () -> { });
+
+        // WHEN
+        tracker.cancelDeadline(TEST_PROCESS_ID);
+        tracker.cancelDeadline(TEST_PROCESS_ID);
+
+        // THEN
+        verify(mockScheduledFuture).cancel(false);
+        assertEquals(0, tracker.getPendingDeadlineCount());
+    }
+
+    @Test
+    public void GIVEN_executorShutDown_WHEN_scheduleDeadline_THEN_deadlineNotTracked() {
+        // GIVEN
+        doThrow(RejectedExecutionException.class).when(mockExecutorService)
+                .schedule(any(Runnable.class), anyLong(), any());
+
+        // WHEN
+        tracker.scheduleDeadline(TEST_PROCESS_ID, Instant.now().plusSeconds(60), () -> { });
+
+        // THEN
+        assertEquals(0, tracker.getPendingDeadlineCount());
+    }
+}
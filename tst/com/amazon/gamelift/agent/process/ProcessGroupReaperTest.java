@@ -0,0 +1,208 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process;
+
+import com.amazon.gamelift.agent.linux.LibC;
+import com.amazon.gamelift.agent.model.OperatingSystem;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class ProcessGroupReaperTest {
+
+    private static final String PROCESS_UUID = "processUUID";
+    private static final long AGENT_PID = 1000;
+    private static final long LEADER_PID = 2000;
+    private static final long PAGE_SIZE = 4096;
+
+    @TempDir private Path procRoot;
+    @Mock private ScheduledExecutorService mockExecutorService;
+    @Mock private LibC mockLibC;
+    @Mock private GameProcess mockGameProcess;
+
+    @Test
+    public void GIVEN_reapingDisabled_WHEN_start_THEN_nothingTrackedOrScheduled() {
+        // GIVEN
+        final ProcessGroupReaper reaper = createReaper(false, OperatingSystem.DEFAULT_OS);
+
+        // WHEN
+        reaper.start();
+        reaper.onProcessStarted(mockGameProcess);
+        reaper.onProcessExited(mockGameProcess);
+
+        // THEN
+        verifyNoInteractions(mockLibC, mockExecutorService, mockGameProcess);
+    }
+
+    @Test
+    public void GIVEN_windows_WHEN_start_THEN_nothingScheduled() {
+        // GIVEN
+        final ProcessGroupReaper reaper = createReaper(true, OperatingSystem.WINDOWS_2022);
+
+        // WHEN
+        reaper.start();
+
+        // THEN
+        verifyNoInteractions(mockLibC, mockExecutorService);
+    }
+
+    @Test
+    public void GIVEN_reapingEnabled_WHEN_start_THEN_agentMadeSubreaperAndScansScheduled() {
+        // GIVEN
+        final ProcessGroupReaper reaper = createReaper(true, OperatingSystem.DEFAULT_OS);
+
+        // WHEN
+        reaper.start();
+
+        // THEN
+        verify(mockLibC).prctl(LibC.PR_SET_CHILD_SUBREAPER, 1, 0, 0, 0);
+        verify(mockExecutorService).scheduleWithFixedDelay(any(Runnable.class),
+                eq(ProcessGroupReaper.SCAN_INTERVAL_SECONDS), eq(ProcessGroupReaper.SCAN_INTERVAL_SECONDS),
+                eq(TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void GIVEN_leaderExited_WHEN_sweepProcessGroup_THEN_groupMembersAndEscapedDescendantsKilled()
+            throws IOException {
+        // GIVEN
+        final ProcessGroupReaper reaper = createReaper(true, OperatingSystem.DEFAULT_OS);
+        givenRunningGameServerWithDescendants(reaper);
+        // The game server exits; its surviving children are re-parented to the agent
+        givenProcessExited(LEADER_PID);
+        givenProcess(2001, 'S', AGENT_PID, LEADER_PID, LEADER_PID, 110, 100);
+        givenProcess(2002, 'S', AGENT_PID, 2002, 2002, 120, 200);
+
+        // WHEN
+        reaper.sweepProcessGroup(PROCESS_UUID);
+
+        // THEN
+        verify(mockLibC).kill(2001, LibC.SIGKILL);
+        verify(mockLibC).kill(2002, LibC.SIGKILL);
+        verify(mockLibC).kill(2003, LibC.SIGKILL);
+        verify(mockLibC, never()).kill(eq(3000), anyInt());
+        assertEquals(3, reaper.getReclaimedProcessCount());
+        assertEquals(700 * PAGE_SIZE, reaper.getReclaimedResidentSetBytes());
+        verify(mockExecutorService).schedule(any(Runnable.class), eq(ProcessGroupReaper.REAP_DELAY_MILLIS),
+                eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void GIVEN_killedProcessesExited_WHEN_scan_THEN_zombiesOfTheAgentReaped() throws IOException {
+        // GIVEN
+        final ProcessGroupReaper reaper = createReaper(true, OperatingSystem.DEFAULT_OS);
+        givenRunningGameServerWithDescendants(reaper);
+        givenProcessExited(LEADER_PID);
+        reaper.sweepProcessGroup(PROCESS_UUID);
+        givenProcess(2001, 'Z', AGENT_PID, LEADER_PID, LEADER_PID, 110, 0);
+        givenProcess(2002, 'Z', AGENT_PID, 2002, 2002, 120, 0);
+        givenProcess(2003, 'Z', 2002, 2002, 2002, 130, 0);
+
+        // WHEN
+        reaper.scan();
+
+        // THEN
+        verify(mockLibC).waitpid(2001, null, LibC.WNOHANG);
+        verify(mockLibC).waitpid(2002, null, LibC.WNOHANG);
+        // Reaped by its own parent, once the parent has been reaped
+        verify(mockLibC, never()).waitpid(eq(2003), any(), anyInt());
+    }
+
+    @Test
+    public void GIVEN_orphanedHelperExitedOnItsOwn_WHEN_scan_THEN_helperReaped() throws IOException {
+        // GIVEN
+        final ProcessGroupReaper reaper = createReaper(true, OperatingSystem.DEFAULT_OS);
+        givenRunningGameServerWithDescendants(reaper);
+        // 2002 exits normally and is reaped by the game server; its child is re-parented to the agent and then exits
+        givenProcessExited(2002);
+        givenProcess(2003, 'Z', AGENT_PID, 2002, 2002, 130, 0);
+        // Zombies which are reaped by their own parent
+        givenProcess(2001, 'Z', LEADER_PID, LEADER_PID, LEADER_PID, 110, 0);
+        givenProcess(3000, 'Z', AGENT_PID, 3000, 3000, 140, 0);
+
+        // WHEN
+        reaper.scan();
+
+        // THEN
+        verify(mockLibC).waitpid(2003, null, LibC.WNOHANG);
+        verify(mockLibC, never()).waitpid(eq(2001), any(), anyInt());
+        verify(mockLibC, never()).waitpid(eq(3000), any(), anyInt());
+        verify(mockLibC, never()).waitpid(eq((int) LEADER_PID), any(), anyInt());
+        verify(mockLibC, never()).kill(anyInt(), anyInt());
+    }
+
+    @Test
+    public void GIVEN_trackedPidReused_WHEN_sweepProcessGroup_THEN_newProcessNotKilled() throws IOException {
+        // GIVEN
+        final ProcessGroupReaper reaper = createReaper(true, OperatingSystem.DEFAULT_OS);
+        givenRunningGameServerWithDescendants(reaper);
+        givenProcessExited(LEADER_PID);
+        givenProcessExited(2001);
+        givenProcessExited(2003);
+        givenProcess(2002, 'S', 1, 2002, 2002, 900, 200);
+
+        // WHEN
+        reaper.sweepProcessGroup(PROCESS_UUID);
+
+        // THEN
+        verify(mockLibC, never()).kill(anyInt(), anyInt());
+        assertEquals(0, reaper.getReclaimedProcessCount());
+    }
+
+    private ProcessGroupReaper createReaper(final boolean reapLeakedProcesses, final OperatingSystem operatingSystem) {
+        return new ProcessGroupReaper(reapLeakedProcesses, operatingSystem, mockExecutorService, mockLibC, procRoot,
+                AGENT_PID, PAGE_SIZE);
+    }
+
+    /**
+     * A game server with a child in its process group, a child which moved itself to its own session, a grandchild in
+     * that session, and an unrelated process forked by the agent
+     */
+    private void givenRunningGameServerWithDescendants(final ProcessGroupReaper reaper) throws IOException {
+        givenProcess(LEADER_PID, 'S', AGENT_PID, LEADER_PID, LEADER_PID, 100, 1000);
+        givenProcess(2001, 'S', LEADER_PID, LEADER_PID, LEADER_PID, 110, 100);
+        givenProcess(2002, 'S', LEADER_PID, 2002, 2002, 120, 200);
+        givenProcess(2003, 'S', 2002, 2002, 2002, 130, 400);
+        givenProcess(3000, 'S', AGENT_PID, 3000, 3000, 140, 800);
+        reaper.trackProcessGroup(PROCESS_UUID, LEADER_PID);
+        reaper.scan();
+    }
+
+    private void givenProcess(final long pid,
+                              final char state,
+                              final long parentProcessId,
+                              final long processGroupId,
+                              final long sessionId,
+                              final long startTicks,
+                              final long residentPages) throws IOException {
+        final Path processDirectory = Files.createDirectories(procRoot.resolve(String.valueOf(pid)));
+        Files.writeString(processDirectory.resolve("stat"), String.format(
+                "%d (helper) %c %d %d %d 0 -1 4194560 0 0 0 0 0 0 0 0 20 0 1 0 %d 0 %d%n",
+                pid, state, parentProcessId, processGroupId, sessionId, startTicks, residentPages));
+        Files.writeString(processDirectory.resolve("statm"), String.format("0 %d 0 0 0 0 0%n", residentPages));
+    }
+
+    private void givenProcessExited(final long pid) throws IOException {
+        final Path processDirectory = procRoot.resolve(String.valueOf(pid));
+        Files.delete(processDirectory.resolve("stat"));
+        Files.delete(processDirectory.resolve("statm"));
+        Files.delete(processDirectory);
+    }
+}
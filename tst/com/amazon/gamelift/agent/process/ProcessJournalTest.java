@@ -0,0 +1,172 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process;
+
+import com.amazon.gamelift.agent.model.GameProcessConfiguration;
+import com.amazon.gamelift.agent.model.ProcessStatus;
+import com.amazon.gamelift.agent.model.ResourceLimits;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ProcessJournalTest {
+
+    private static final long PID = ProcessHandle.current().pid();
+    private static final Instant INITIALIZATION_TIMEOUT_DEADLINE = Instant.ofEpochMilli(1_700_000_000_000L);
+    private static final GameProcessConfiguration PROCESS_CONFIGURATION = GameProcessConfiguration.builder()
+            .launchPath("/local/game/server")
+            .parameters("-port 1935")
+            .concurrentExecutions(2)
+            .resourceLimits(ResourceLimits.builder().cpuMaxCores(1.5).build())
+            .build();
+
+    @TempDir private Path journalDirectory;
+
+    @Test
+    public void GIVEN_noJournalPath_WHEN_processStarted_THEN_nothingJournaled() {
+        // GIVEN
+        final ProcessJournal processJournal = new ProcessJournal(null);
+
+        // WHEN
+        processJournal.onProcessStarted(mock(GameProcess.class));
+
+        // THEN
+        assertFalse(processJournal.isEnabled());
+        assertTrue(processJournal.replay().isEmpty());
+    }
+
+    @Test
+    public void GIVEN_missingJournal_WHEN_replay_THEN_noEntries() {
+        // GIVEN
+        final ProcessJournal processJournal = new ProcessJournal(getJournalPath().toString());
+
+        // WHEN
+        final List<ProcessJournal.ProcessJournalEntry> entries = processJournal.replay();
+
+        // THEN
+        assertTrue(entries.isEmpty());
+    }
+
+    @Test
+    public void GIVEN_processesStartedRegisteredAndExited_WHEN_replay_THEN_lastRecordOfLiveProcessesReturned() {
+        // GIVEN
+        final ProcessJournal processJournal = new ProcessJournal(getJournalPath().toString());
+        final GameProcess registeredProcess = givenGameProcess("registered", ProcessStatus.Initializing, Set.of());
+        final GameProcess exitedProcess = givenGameProcess("exited", ProcessStatus.Initializing, Set.of());
+        processJournal.onProcessStarted(registeredProcess);
+        processJournal.onProcessStarted(exitedProcess);
+        when(registeredProcess.getProcessStatus()).thenReturn(ProcessStatus.Active);
+        when(registeredProcess.getLogPaths()).thenReturn(Set.of("/local/game/logs"));
+        processJournal.onProcessRegistered(registeredProcess);
+        processJournal.onProcessExited(exitedProcess);
+
+        // WHEN
+        final List<ProcessJournal.ProcessJournalEntry> entries =
+                new ProcessJournal(getJournalPath().toString()).replay();
+
+        // THEN
+        assertEquals(1, entries.size());
+        final ProcessJournal.ProcessJournalEntry entry = entries.get(0);
+        assertEquals("registered", entry.getProcessUUID());
+        assertEquals(PID, entry.getProcessId());
+        assertEquals(ProcessJournal.getProcessStartMillis(PID), entry.getProcessStartMillis());
+        assertEquals(PROCESS_CONFIGURATION, entry.getProcessConfiguration());
+        assertEquals(ProcessStatus.Active, entry.getProcessStatus());
+        assertEquals(List.of("/local/game/logs"), entry.getLogPaths());
+        assertEquals(INITIALIZATION_TIMEOUT_DEADLINE.toEpochMilli(), entry.getInitializationTimeoutDeadlineMillis());
+    }
+
+    @Test
+    public void GIVEN_tornRecord_WHEN_replay_THEN_recordSkipped() throws IOException {
+        // GIVEN
+        final ProcessJournal processJournal = new ProcessJournal(getJournalPath().toString());
+        processJournal.onProcessStarted(givenGameProcess("started", ProcessStatus.Initializing, Set.of()));
+        Files.write(getJournalPath(), "{\"ProcessUUID\":\"torn\",\"Proc".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        // WHEN
+        final List<ProcessJournal.ProcessJournalEntry> entries =
+                new ProcessJournal(getJournalPath().toString()).replay();
+
+        // THEN
+        assertEquals(1, entries.size());
+        assertEquals("started", entries.get(0).getProcessUUID());
+    }
+
+    @Test
+    public void GIVEN_replayedJournal_WHEN_compact_THEN_onlyRecordsOfReadoptedProcessesKept() throws IOException {
+        // GIVEN
+        final ProcessJournal previousJournal = new ProcessJournal(getJournalPath().toString());
+        final GameProcess adoptedProcess = givenGameProcess("adopted", ProcessStatus.Active, Set.of());
+        previousJournal.onProcessStarted(adoptedProcess);
+        previousJournal.onProcessRegistered(adoptedProcess);
+        previousJournal.onProcessStarted(givenGameProcess("gone", ProcessStatus.Initializing, Set.of()));
+        final ProcessJournal processJournal = new ProcessJournal(getJournalPath().toString());
+        assertEquals(2, processJournal.replay().size());
+        processJournal.onProcessStarted(adoptedProcess);
+
+        // WHEN
+        processJournal.compact();
+
+        // THEN
+        assertEquals(1, Files.readAllLines(getJournalPath()).size());
+        assertEquals(1, processJournal.getRecordCount());
+        final List<ProcessJournal.ProcessJournalEntry> entries =
+                new ProcessJournal(getJournalPath().toString()).replay();
+        assertEquals(1, entries.size());
+        assertEquals("adopted", entries.get(0).getProcessUUID());
+    }
+
+    @Test
+    public void GIVEN_manyRecords_WHEN_processExits_THEN_journalCompacted() {
+        // GIVEN
+        final ProcessJournal processJournal = new ProcessJournal(getJournalPath().toString());
+        final GameProcess gameProcess = givenGameProcess("restarted", ProcessStatus.Initializing, Set.of());
+
+        // WHEN
+        for (int i = 0; i <= ProcessJournal.MIN_RECORDS_BEFORE_COMPACTION / 2; i++) {
+            processJournal.onProcessStarted(gameProcess);
+            processJournal.onProcessExited(gameProcess);
+        }
+
+        // THEN
+        assertTrue(processJournal.getRecordCount() < ProcessJournal.MIN_RECORDS_BEFORE_COMPACTION);
+        assertTrue(processJournal.replay().isEmpty());
+    }
+
+    private Path getJournalPath() {
+        return journalDirectory.resolve("journal").resolve("process-journal");
+    }
+
+    private GameProcess givenGameProcess(final String processUUID,
+                                         final ProcessStatus processStatus,
+                                         final Set<String> logPaths) {
+        final GameProcess gameProcess = mock(GameProcess.class);
+        when(gameProcess.getProcessUUID()).thenReturn(processUUID);
+        when(gameProcess.getPid()).thenReturn(OptionalLong.of(PID));
+        when(gameProcess.getProcessConfiguration()).thenReturn(PROCESS_CONFIGURATION);
+        when(gameProcess.getProcessStatus()).thenReturn(processStatus);
+        when(gameProcess.getLogPaths()).thenReturn(logPaths);
+        when(gameProcess.getInitializationTimeoutDeadline()).thenReturn(INITIALIZATION_TIMEOUT_DEADLINE);
+        return gameProcess;
+    }
+}
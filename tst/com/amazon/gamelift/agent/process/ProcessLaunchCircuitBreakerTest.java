@@ -0,0 +1,223 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process;
+
+import com.amazon.gamelift.agent.model.GameProcessConfiguration;
+import com.amazon.gamelift.agent.model.ProcessStatus;
+import com.amazon.gamelift.agent.model.ProcessTerminationReason;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ProcessLaunchCircuitBreakerTest {
+
+    private static final int REQUESTED_LAUNCHES = 4;
+    private static final GameProcessConfiguration CRASHING_CONFIG = GameProcessConfiguration.builder()
+            .launchPath("crashingExecutable")
+            .concurrentExecutions(5)
+            .build();
+    private static final GameProcessConfiguration HEALTHY_CONFIG = GameProcessConfiguration.builder()
+            .launchPath("healthyExecutable")
+            .concurrentExecutions(5)
+            .build();
+
+    @Mock private GameProcess mockCrashingProcess;
+    @Mock private GameProcess mockHealthyProcess;
+
+    private final AtomicLong nowNanos = new AtomicLong();
+    private ProcessLaunchCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    public void setup() {
+        circuitBreaker = new ProcessLaunchCircuitBreaker(nowNanos::get);
+    }
+
+    @Test
+    public void GIVEN_noLaunchOutcomes_WHEN_acquireLaunchPermits_THEN_allLaunchesPermitted() {
+        assertEquals(REQUESTED_LAUNCHES, circuitBreaker.acquireLaunchPermits(CRASHING_CONFIG, REQUESTED_LAUNCHES));
+        assertEquals(ProcessLaunchCircuitBreaker.State.CLOSED, circuitBreaker.getState(CRASHING_CONFIG));
+        assertTrue(circuitBreaker.getMillisUntilNextProbe().isEmpty());
+    }
+
+    @Test
+    public void GIVEN_crashLoopingConfig_WHEN_acquireLaunchPermits_THEN_onlyCrashingConfigThrottled() {
+        // GIVEN
+        givenCrashingProcess(null);
+        when(mockHealthyProcess.getProcessConfiguration()).thenReturn(HEALTHY_CONFIG);
+        circuitBreaker.onProcessRegistered(mockHealthyProcess);
+
+        // WHEN
+        tripBreaker();
+
+        // THEN
+        assertEquals(ProcessLaunchCircuitBreaker.State.OPEN, circuitBreaker.getState(CRASHING_CONFIG));
+        assertEquals(0, circuitBreaker.acquireLaunchPermits(CRASHING_CONFIG, REQUESTED_LAUNCHES));
+        assertEquals(REQUESTED_LAUNCHES, circuitBreaker.acquireLaunchPermits(HEALTHY_CONFIG, REQUESTED_LAUNCHES));
+        assertEquals(OptionalLong.of(ProcessLaunchCircuitBreaker.INITIAL_COOL_DOWN_MILLIS),
+                circuitBreaker.getMillisUntilNextProbe());
+    }
+
+    @Test
+    public void GIVEN_mostlyHealthyConfig_WHEN_occasionalFailure_THEN_breakerStaysClosed() {
+        // GIVEN
+        givenCrashingProcess(ProcessTerminationReason.SERVER_PROCESS_CRASHED);
+        when(mockHealthyProcess.getProcessConfiguration()).thenReturn(CRASHING_CONFIG);
+
+        // WHEN
+        circuitBreaker.onProcessRegistered(mockHealthyProcess);
+        circuitBreaker.onProcessRegistered(mockHealthyProcess);
+        circuitBreaker.onProcessExited(mockCrashingProcess);
+        circuitBreaker.recordLaunchFailure(CRASHING_CONFIG, false);
+
+        // THEN
+        assertEquals(ProcessLaunchCircuitBreaker.State.CLOSED, circuitBreaker.getState(CRASHING_CONFIG));
+        final ProcessLaunchCircuitBreaker.LaunchHealth launchHealth =
+                circuitBreaker.getLaunchHealthByConfiguration().get(CRASHING_CONFIG);
+        assertEquals(4, launchHealth.getRecentLaunchCount());
+        assertEquals(0.5, launchHealth.getRecentLaunchSuccessRatio());
+    }
+
+    @Test
+    public void GIVEN_coolDownPassed_WHEN_acquireLaunchPermits_THEN_singleProbePermitted() {
+        // GIVEN
+        givenCrashingProcess(null);
+        tripBreaker();
+
+        // WHEN
+        advanceMillis(ProcessLaunchCircuitBreaker.INITIAL_COOL_DOWN_MILLIS);
+
+        // THEN
+        assertEquals(ProcessLaunchCircuitBreaker.State.HALF_OPEN, circuitBreaker.getState(CRASHING_CONFIG));
+        assertEquals(1, circuitBreaker.acquireLaunchPermits(CRASHING_CONFIG, REQUESTED_LAUNCHES));
+        assertEquals(0, circuitBreaker.acquireLaunchPermits(CRASHING_CONFIG, REQUESTED_LAUNCHES));
+    }
+
+    @Test
+    public void GIVEN_probeSucceeds_WHEN_processRegistered_THEN_breakerClosed() {
+        // GIVEN
+        givenCrashingProcess(null);
+        tripBreaker();
+        advanceMillis(ProcessLaunchCircuitBreaker.INITIAL_COOL_DOWN_MILLIS);
+        circuitBreaker.acquireLaunchPermits(CRASHING_CONFIG, REQUESTED_LAUNCHES);
+        when(mockCrashingProcess.isLaunchProbe()).thenReturn(true);
+
+        // WHEN
+        circuitBreaker.onProcessRegistered(mockCrashingProcess);
+
+        // THEN
+        assertEquals(ProcessLaunchCircuitBreaker.State.CLOSED, circuitBreaker.getState(CRASHING_CONFIG));
+        assertEquals(REQUESTED_LAUNCHES, circuitBreaker.acquireLaunchPermits(CRASHING_CONFIG, REQUESTED_LAUNCHES));
+    }
+
+    @Test
+    public void GIVEN_probeFails_WHEN_processExits_THEN_breakerReopensWithLongerCoolDown() {
+        // GIVEN
+        givenCrashingProcess(null);
+        tripBreaker();
+        advanceMillis(ProcessLaunchCircuitBreaker.INITIAL_COOL_DOWN_MILLIS);
+        circuitBreaker.acquireLaunchPermits(CRASHING_CONFIG, REQUESTED_LAUNCHES);
+        when(mockCrashingProcess.isLaunchProbe()).thenReturn(true);
+
+        // WHEN
+        circuitBreaker.onProcessExited(mockCrashingProcess);
+
+        // THEN
+        assertEquals(ProcessLaunchCircuitBreaker.State.OPEN, circuitBreaker.getState(CRASHING_CONFIG));
+        assertEquals(OptionalLong.of(2 * ProcessLaunchCircuitBreaker.INITIAL_COOL_DOWN_MILLIS),
+                circuitBreaker.getMillisUntilNextProbe());
+    }
+
+    @Test
+    public void GIVEN_probeFailsToStart_WHEN_recordLaunchFailure_THEN_breakerReopens() {
+        // GIVEN
+        givenCrashingProcess(null);
+        tripBreaker();
+        advanceMillis(ProcessLaunchCircuitBreaker.INITIAL_COOL_DOWN_MILLIS);
+        circuitBreaker.acquireLaunchPermits(CRASHING_CONFIG, REQUESTED_LAUNCHES);
+
+        // WHEN
+        circuitBreaker.recordLaunchFailure(CRASHING_CONFIG, true);
+
+        // THEN
+        assertEquals(ProcessLaunchCircuitBreaker.State.OPEN, circuitBreaker.getState(CRASHING_CONFIG));
+    }
+
+    @Test
+    public void GIVEN_launchesQueuedBeforeBreakerOpened_WHEN_outcomesRecordedWhileHalfOpen_THEN_probeStillDecides() {
+        // GIVEN
+        givenCrashingProcess(null);
+        tripBreaker();
+        advanceMillis(ProcessLaunchCircuitBreaker.INITIAL_COOL_DOWN_MILLIS);
+        circuitBreaker.acquireLaunchPermits(CRASHING_CONFIG, REQUESTED_LAUNCHES);
+        when(mockHealthyProcess.getProcessConfiguration()).thenReturn(CRASHING_CONFIG);
+
+        // WHEN
+        circuitBreaker.onProcessRegistered(mockHealthyProcess);
+        circuitBreaker.onProcessExited(mockCrashingProcess);
+        circuitBreaker.recordLaunchFailure(CRASHING_CONFIG, false);
+
+        // THEN
+        assertEquals(ProcessLaunchCircuitBreaker.State.HALF_OPEN, circuitBreaker.getState(CRASHING_CONFIG));
+        assertEquals(0, circuitBreaker.acquireLaunchPermits(CRASHING_CONFIG, REQUESTED_LAUNCHES));
+
+        // WHEN
+        when(mockCrashingProcess.isLaunchProbe()).thenReturn(true);
+        circuitBreaker.onProcessRegistered(mockCrashingProcess);
+
+        // THEN
+        assertEquals(ProcessLaunchCircuitBreaker.State.CLOSED, circuitBreaker.getState(CRASHING_CONFIG));
+    }
+
+    @Test
+    public void GIVEN_processExitsForShutdown_WHEN_onProcessExited_THEN_noOutcomeRecorded() {
+        // GIVEN
+        when(mockCrashingProcess.getProcessStatus()).thenReturn(ProcessStatus.Initializing);
+        when(mockCrashingProcess.getTerminationReason()).thenReturn(ProcessTerminationReason.COMPUTE_SHUTTING_DOWN);
+
+        // WHEN
+        for (int i = 0; i < ProcessLaunchCircuitBreaker.MIN_LAUNCH_OUTCOMES_TO_OPEN; i++) {
+            circuitBreaker.onProcessExited(mockCrashingProcess);
+        }
+
+        // THEN
+        assertTrue(circuitBreaker.getLaunchHealthByConfiguration().isEmpty());
+    }
+
+    @Test
+    public void GIVEN_consecutiveOpens_WHEN_getCoolDownMillis_THEN_backsOffExponentiallyUpToMax() {
+        assertEquals(5000L, ProcessLaunchCircuitBreaker.getCoolDownMillis(1));
+        assertEquals(10000L, ProcessLaunchCircuitBreaker.getCoolDownMillis(2));
+        assertEquals(160000L, ProcessLaunchCircuitBreaker.getCoolDownMillis(6));
+        assertEquals(ProcessLaunchCircuitBreaker.MAX_COOL_DOWN_MILLIS, ProcessLaunchCircuitBreaker.getCoolDownMillis(7));
+        assertEquals(ProcessLaunchCircuitBreaker.MAX_COOL_DOWN_MILLIS,
+                ProcessLaunchCircuitBreaker.getCoolDownMillis(100));
+    }
+
+    private void givenCrashingProcess(final ProcessTerminationReason terminationReason) {
+        when(mockCrashingProcess.getProcessConfiguration()).thenReturn(CRASHING_CONFIG);
+        when(mockCrashingProcess.getProcessStatus()).thenReturn(ProcessStatus.Initializing);
+        when(mockCrashingProcess.getTerminationReason()).thenReturn(terminationReason);
+    }
+
+    private void tripBreaker() {
+        for (int i = 0; i < ProcessLaunchCircuitBreaker.MIN_LAUNCH_OUTCOMES_TO_OPEN; i++) {
+            circuitBreaker.onProcessExited(mockCrashingProcess);
+        }
+    }
+
+    private void advanceMillis(final long millis) {
+        nowNanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process;
+
+import com.amazon.gamelift.agent.manager.ExecutorServiceManager;
+import com.amazon.gamelift.agent.model.GameProcessConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Measures the time taken to fill N process vacancies, e.g. after a host restart, for varying launch parallelism.
+ * A parallelism of 1 matches the previous behavior of launching every vacancy serially on the monitor thread.
+ *
+ * Process spawning is simulated with a fixed cost, and the launch delays are scaled down 100x from the production
+ * values (3s max, 1s min) so that a run completes in seconds; the relative results carry over.
+ *
+ * Run with:
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.openjdk.jmh.Main \
+ *     -Dexec.args=ProcessLaunchPipelineBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ProcessLaunchPipelineBenchmark {
+
+    private static final long SIMULATED_SPAWN_MILLIS = 20L;
+    private static final long MAX_DELAY_MILLIS = 30L;
+    private static final long MIN_DELAY_MILLIS = 10L;
+    private static final long DELAY_REDUCTION_MILLIS = 10L;
+    private static final GameProcessConfiguration PROCESS_CONFIG = GameProcessConfiguration.builder()
+            .launchPath("benchmarkExecutable")
+            .concurrentExecutions(Integer.MAX_VALUE)
+            .build();
+
+    @Param({"50", "200"})
+    public int vacancies;
+
+    @Param({"1", "4", "16"})
+    public int parallelism;
+
+    private ScheduledExecutorService executorService;
+    private ProcessLaunchPipeline pipeline;
+    private CountDownLatch capacityReached;
+
+    @Setup(Level.Invocation)
+    public void setup() throws Exception {
+        capacityReached = new CountDownLatch(vacancies);
+        final GameProcessManager gameProcessManager = mock(GameProcessManager.class);
+        doAnswer(invocation -> {
+            Thread.sleep(SIMULATED_SPAWN_MILLIS);
+            capacityReached.countDown();
+            return UUID.randomUUID().toString();
+        }).when(gameProcessManager).startProcessFromConfiguration(any(), anyBoolean());
+        doReturn(true).when(gameProcessManager).isProcessAlive(anyString());
+
+        executorService = Executors.newScheduledThreadPool(parallelism);
+        pipeline = new ProcessLaunchPipeline(gameProcessManager, executorService, new ExecutorServiceManager(),
+                parallelism, MAX_DELAY_MILLIS, MIN_DELAY_MILLIS, DELAY_REDUCTION_MILLIS);
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Benchmark
+    public void timeToFullCapacity() throws InterruptedException {
+        for (int i = 0; i < vacancies; i++) {
+            pipeline.submit(PROCESS_CONFIG, false);
+        }
+        capacityReached.await();
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process;
+
+import com.amazon.gamelift.agent.manager.ExecutorServiceManager;
+import com.amazon.gamelift.agent.model.GameProcessConfiguration;
+import com.amazon.gamelift.agent.model.exception.AgentException;
+import com.amazon.gamelift.agent.model.exception.BadExecutablePathException;
+import com.amazon.gamelift.agent.model.exception.NotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class ProcessLaunchPipelineTest {
+
+    private static final long MAX_DELAY_MILLIS = 3000L;
+    private static final long MIN_DELAY_MILLIS = 1000L;
+    private static final long DELAY_REDUCTION_MILLIS = 1000L;
+    private static final String TEST_PROCESS_ID = "testProcessId";
+    private static final GameProcessConfiguration PROCESS_CONFIG = GameProcessConfiguration.builder()
+            .launchPath("testExecutable")
+            .concurrentExecutions(5)
+            .build();
+
+    @Mock private GameProcessManager mockGameProcessManager;
+    @Mock private ScheduledExecutorService mockExecutorService;
+    @Mock private ExecutorServiceManager mockExecutorServiceManager;
+
+    private ProcessLaunchPipeline createPipeline(final int parallelism) {
+        return new ProcessLaunchPipeline(mockGameProcessManager, mockExecutorService, mockExecutorServiceManager,
+                parallelism, MAX_DELAY_MILLIS, MIN_DELAY_MILLIS, DELAY_REDUCTION_MILLIS);
+    }
+
+    private void runExecutorTasksInline() {
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Runnable.class).run();
+            return null;
+        }).when(mockExecutorService).execute(any(Runnable.class));
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Runnable.class).run();
+            return null;
+        }).when(mockExecutorService).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    public void GIVEN_healthyProcesses_WHEN_submit_THEN_launchesProcessesAndReducesLaneDelay() throws AgentException {
+        // GIVEN
+        final ProcessLaunchPipeline pipeline = createPipeline(1);
+        runExecutorTasksInline();
+        doReturn(TEST_PROCESS_ID).when(mockGameProcessManager).startProcessFromConfiguration(PROCESS_CONFIG, false);
+        doReturn(true).when(mockGameProcessManager).isProcessAlive(TEST_PROCESS_ID);
+
+        // WHEN
+        pipeline.submit(PROCESS_CONFIG, false);
+        pipeline.submit(PROCESS_CONFIG, false);
+        pipeline.submit(PROCESS_CONFIG, false);
+
+        // THEN
+        verify(mockGameProcessManager, times(3)).startProcessFromConfiguration(PROCESS_CONFIG, false);
+        verify(mockGameProcessManager, times(3)).isProcessAlive(TEST_PROCESS_ID);
+        assertEquals(List.of(MIN_DELAY_MILLIS), pipeline.getLaneLaunchDelaysMillis());
+        assertTrue(pipeline.getPendingLaunchCountsByConfiguration().isEmpty());
+    }
+
+    @Test
+    public void GIVEN_badExecutablePath_WHEN_submit_THEN_laneDelayResetToMax() throws AgentException {
+        // GIVEN
+        final ProcessLaunchPipeline pipeline = createPipeline(1);
+        runExecutorTasksInline();
+        doReturn(TEST_PROCESS_ID).when(mockGameProcessManager).startProcessFromConfiguration(PROCESS_CONFIG, false);
+        doReturn(true).when(mockGameProcessManager).isProcessAlive(TEST_PROCESS_ID);
+        pipeline.submit(PROCESS_CONFIG, false);
+        doThrow(BadExecutablePathException.class).when(mockGameProcessManager)
+                .startProcessFromConfiguration(PROCESS_CONFIG, false);
+
+        // WHEN
+        pipeline.submit(PROCESS_CONFIG, false);
+
+        // THEN
+        verify(mockGameProcessManager, times(2)).startProcessFromConfiguration(PROCESS_CONFIG, false);
+        verify(mockGameProcessManager, times(1)).isProcessAlive(anyString());
+        assertEquals(List.of(MAX_DELAY_MILLIS), pipeline.getLaneLaunchDelaysMillis());
+        assertTrue(pipeline.getPendingLaunchCountsByConfiguration().isEmpty());
+    }
+
+    @Test
+    public void GIVEN_processThrowsRuntimeException_WHEN_submit_THEN_laneDelayResetToMax() throws AgentException {
+        // GIVEN
+        final ProcessLaunchPipeline pipeline = createPipeline(1);
+        runExecutorTasksInline();
+        doThrow(RuntimeException.class).when(mockGameProcessManager).startProcessFromConfiguration(PROCESS_CONFIG, false);
+
+        // WHEN
+        pipeline.submit(PROCESS_CONFIG, false);
+        pipeline.submit(PROCESS_CONFIG, false);
+
+        // THEN
+        verify(mockGameProcessManager, times(2)).startProcessFromConfiguration(PROCESS_CONFIG, false);
+        verify(mockGameProcessManager, never()).isProcessAlive(anyString());
+        assertEquals(List.of(MAX_DELAY_MILLIS), pipeline.getLaneLaunchDelaysMillis());
+        assertTrue(pipeline.getPendingLaunchCountsByConfiguration().isEmpty());
+    }
+
+    @Test
+    public void GIVEN_processFailsToStartSilently_WHEN_submit_THEN_laneDelayResetToMax() throws AgentException {
+        // GIVEN
+        final ProcessLaunchPipeline pipeline = createPipeline(1);
+        runExecutorTasksInline();
+        doReturn(TEST_PROCESS_ID).when(mockGameProcessManager).startProcessFromConfiguration(PROCESS_CONFIG, false);
+        doReturn(true, false).when(mockGameProcessManager).isProcessAlive(TEST_PROCESS_ID);
+
+        // WHEN
+        pipeline.submit(PROCESS_CONFIG, false);
+        pipeline.submit(PROCESS_CONFIG, false);
+
+        // THEN
+        verify(mockGameProcessManager, times(2)).isProcessAlive(TEST_PROCESS_ID);
+        assertEquals(List.of(MAX_DELAY_MILLIS), pipeline.getLaneLaunchDelaysMillis());
+    }
+
+    @Test
+    public void GIVEN_processFailsToStartWithNfe_WHEN_submit_THEN_laneDelayResetToMax() throws AgentException {
+        // GIVEN
+        final ProcessLaunchPipeline pipeline = createPipeline(1);
+        runExecutorTasksInline();
+        doReturn(TEST_PROCESS_ID).when(mockGameProcessManager).startProcessFromConfiguration(PROCESS_CONFIG, false);
+        doThrow(NotFoundException.class).when(mockGameProcessManager).isProcessAlive(TEST_PROCESS_ID);
+
+        // WHEN
+        pipeline.submit(PROCESS_CONFIG, false);
+
+        // THEN
+        verify(mockGameProcessManager).isProcessAlive(TEST_PROCESS_ID);
+        assertEquals(List.of(MAX_DELAY_MILLIS), pipeline.getLaneLaunchDelaysMillis());
+    }
+
+    @Test
+    public void GIVEN_launchFailureListener_WHEN_launchFails_THEN_listenerInvokedOnceLaneReleased()
+            throws AgentException {
+        // GIVEN
+        final ProcessLaunchPipeline pipeline = createPipeline(1);
+        runExecutorTasksInline();
+        final AtomicInteger launchFailureCount = new AtomicInteger();
+        pipeline.addLaunchFailureListener((config, isLaunchProbe) -> launchFailureCount.incrementAndGet());
+        doReturn(TEST_PROCESS_ID).when(mockGameProcessManager).startProcessFromConfiguration(PROCESS_CONFIG, false);
+        doReturn(true).when(mockGameProcessManager).isProcessAlive(TEST_PROCESS_ID);
+        pipeline.submit(PROCESS_CONFIG, false);
+        doThrow(RuntimeException.class).when(mockGameProcessManager).startProcessFromConfiguration(PROCESS_CONFIG, false);
+
+        // WHEN
+        pipeline.submit(PROCESS_CONFIG, false);
+
+        // THEN
+        assertEquals(1, launchFailureCount.get());
+    }
+
+    @Test
+    public void GIVEN_allLanesBusy_WHEN_submit_THEN_launchesWaitForLaneRelease() throws AgentException {
+        // GIVEN
+        final ProcessLaunchPipeline pipeline = createPipeline(2);
+        doReturn(TEST_PROCESS_ID).when(mockGameProcessManager).startProcessFromConfiguration(PROCESS_CONFIG, false);
+        doReturn(true).when(mockGameProcessManager).isProcessAlive(TEST_PROCESS_ID);
+        final ArgumentCaptor<Runnable> launchCaptor = ArgumentCaptor.forClass(Runnable.class);
+        final ArgumentCaptor<Runnable> completionCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+        // WHEN
+        for (int i = 0; i < 5; i++) {
+            pipeline.submit(PROCESS_CONFIG, false);
+        }
+
+        // THEN
+        verify(mockExecutorService, times(2)).execute(launchCaptor.capture());
+        assertEquals(Map.of(PROCESS_CONFIG, 5), pipeline.getPendingLaunchCountsByConfiguration());
+
+        // WHEN
+        launchCaptor.getAllValues().forEach(Runnable::run);
+
+        // THEN
+        assertEquals(Map.of(PROCESS_CONFIG, 3), pipeline.getPendingLaunchCountsByConfiguration());
+        verify(mockExecutorService, times(2)).schedule(completionCaptor.capture(), anyLong(), eq(TimeUnit.MILLISECONDS));
+
+        // WHEN
+        completionCaptor.getAllValues().get(0).run();
+
+        // THEN
+        verify(mockExecutorService, times(3)).execute(any(Runnable.class));
+        assertEquals(List.of(MAX_DELAY_MILLIS - DELAY_REDUCTION_MILLIS, MAX_DELAY_MILLIS),
+                pipeline.getLaneLaunchDelaysMillis());
+    }
+
+    @Test
+    public void GIVEN_pendingLaunches_WHEN_shutdown_THEN_pendingLaunchesDroppedAndNewLaunchesRejected() {
+        // GIVEN
+        final ProcessLaunchPipeline pipeline = createPipeline(1);
+        pipeline.submit(PROCESS_CONFIG, false);
+        pipeline.submit(PROCESS_CONFIG, false);
+        pipeline.submit(PROCESS_CONFIG, false);
+
+        // WHEN
+        pipeline.shutdown();
+
+        // THEN
+        // The launch already handed to the executor is still pending until it starts
+        assertEquals(Map.of(PROCESS_CONFIG, 1), pipeline.getPendingLaunchCountsByConfiguration());
+        assertFalse(pipeline.submit(PROCESS_CONFIG, false));
+        verify(mockExecutorService, times(1)).execute(any(Runnable.class));
+        verify(mockExecutorServiceManager).shutdownScheduledThreadPoolExecutorServiceByName(
+                ProcessLaunchPipeline.class.getSimpleName());
+    }
+
+    @Test
+    public void GIVEN_zeroParallelism_WHEN_constructed_THEN_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> createPipeline(0));
+    }
+
+    @Test
+    public void GIVEN_processAlive_WHEN_getNextDelay_THEN_delayReducedToMinimum() {
+        final ProcessLaunchPipeline pipeline = createPipeline(1);
+        assertEquals(MAX_DELAY_MILLIS - DELAY_REDUCTION_MILLIS, pipeline.getNextDelay(MAX_DELAY_MILLIS, true));
+        assertEquals(MIN_DELAY_MILLIS, pipeline.getNextDelay(MIN_DELAY_MILLIS, true));
+    }
+
+    @Test
+    public void GIVEN_processNotAlive_WHEN_getNextDelay_THEN_delayResetToMaximum() {
+        final ProcessLaunchPipeline pipeline = createPipeline(1);
+        assertEquals(MAX_DELAY_MILLIS, pipeline.getNextDelay(MIN_DELAY_MILLIS, false));
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process;
+
+import com.amazon.gamelift.agent.model.OperatingSystem;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.OptionalLong;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ProcessResourceSamplerTest {
+
+    private static final String PROCESS_UUID = "processUUID";
+    private static final long PID = 100;
+    private static final long PAGE_SIZE = 4096;
+    private static final int SAMPLE_INTERVAL_SECONDS = 10;
+
+    @TempDir private Path procRoot;
+    @Mock private ScheduledExecutorService mockExecutorService;
+    @Mock private GameProcess mockGameProcess;
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    @Test
+    public void GIVEN_noSampleInterval_WHEN_start_THEN_samplingNotScheduled() {
+        // GIVEN
+        final ProcessResourceSampler sampler = createSampler(0, OperatingSystem.DEFAULT_OS);
+
+        // WHEN
+        sampler.start();
+        sampler.onProcessStarted(mockGameProcess);
+
+        // THEN
+        verifyNoInteractions(mockExecutorService, mockGameProcess);
+    }
+
+    @Test
+    public void GIVEN_windows_WHEN_start_THEN_samplingNotScheduled() {
+        // GIVEN
+        final ProcessResourceSampler sampler = createSampler(SAMPLE_INTERVAL_SECONDS, OperatingSystem.WINDOWS_2022);
+
+        // WHEN
+        sampler.start();
+
+        // THEN
+        verifyNoInteractions(mockExecutorService);
+    }
+
+    @Test
+    public void GIVEN_sampleInterval_WHEN_start_THEN_samplingScheduled() {
+        // GIVEN
+        final ProcessResourceSampler sampler = createSampler(SAMPLE_INTERVAL_SECONDS, OperatingSystem.DEFAULT_OS);
+
+        // WHEN
+        sampler.start();
+
+        // THEN
+        verify(mockExecutorService).scheduleAtFixedRate(any(Runnable.class), eq((long) SAMPLE_INTERVAL_SECONDS),
+                eq((long) SAMPLE_INTERVAL_SECONDS), eq(TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void GIVEN_processWithDescendants_WHEN_sample_THEN_processGroupAggregated() throws IOException {
+        // GIVEN
+        final ProcessResourceSampler sampler = createSampler(SAMPLE_INTERVAL_SECONDS, OperatingSystem.DEFAULT_OS);
+        givenGameProcessStarted(sampler);
+        givenProcess(PID, PID, 100, 1000, 0, 0);
+        givenProcess(101, PID, 50, 500, 4096, 0);
+        givenProcess(200, 200, 1000, 9000, 0, 0);
+        Files.createDirectories(procRoot.resolve("self"));
+
+        // WHEN
+        sampler.sample();
+
+        // THEN
+        final ProcessResourceSampler.ProcessResourceSample sample =
+                sampler.getProcessResourceSamples().get(PROCESS_UUID);
+        assertEquals(PID, sample.getProcessId());
+        assertEquals(2, sample.getProcessCount());
+        assertEquals(1500 * PAGE_SIZE, sample.getResidentSetBytes());
+        // Rates need a previous sample
+        assertEquals(-1, sample.getCpuPercent());
+        assertEquals(-1, sample.getReadBytesPerSecond());
+    }
+
+    @Test
+    public void GIVEN_previousSample_WHEN_sample_THEN_ratesComputed() throws IOException {
+        // GIVEN
+        final ProcessResourceSampler sampler = createSampler(SAMPLE_INTERVAL_SECONDS, OperatingSystem.DEFAULT_OS);
+        givenGameProcessStarted(sampler);
+        givenProcess(PID, PID, 100, 1000, 0, 0);
+        givenProcess(101, PID, 50, 500, 4096, 0);
+        sampler.sample();
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        givenProcess(PID, PID, 250, 1000, 0, 2048);
+        givenProcess(101, PID, 100, 500, 12288, 0);
+
+        // WHEN
+        sampler.sample();
+
+        // THEN
+        final ProcessResourceSampler.ProcessResourceSample sample =
+                sampler.getProcessResourceSamples().get(PROCESS_UUID);
+        // 200 ticks, or 2 CPU seconds, over 2 seconds
+        assertEquals(100.0, sample.getCpuPercent(), 0.001);
+        assertEquals(4096, sample.getReadBytesPerSecond());
+        assertEquals(1024, sample.getWriteBytesPerSecond());
+    }
+
+    @Test
+    public void GIVEN_processExited_WHEN_sample_THEN_processNoLongerSampled() throws IOException {
+        // GIVEN
+        final ProcessResourceSampler sampler = createSampler(SAMPLE_INTERVAL_SECONDS, OperatingSystem.DEFAULT_OS);
+        givenGameProcessStarted(sampler);
+        givenProcess(PID, PID, 100, 1000, 0, 0);
+        sampler.sample();
+
+        // WHEN
+        sampler.onProcessExited(mockGameProcess);
+        sampler.sample();
+
+        // THEN
+        assertTrue(sampler.getProcessResourceSamples().isEmpty());
+    }
+
+    private ProcessResourceSampler createSampler(final int sampleIntervalSeconds,
+                                                 final OperatingSystem operatingSystem) {
+        return new ProcessResourceSampler(sampleIntervalSeconds, operatingSystem, mockExecutorService, procRoot,
+                nanoTime::get, PAGE_SIZE);
+    }
+
+    private void givenGameProcessStarted(final ProcessResourceSampler sampler) {
+        when(mockGameProcess.getProcessUUID()).thenReturn(PROCESS_UUID);
+        when(mockGameProcess.getPid()).thenReturn(OptionalLong.of(PID));
+        sampler.onProcessStarted(mockGameProcess);
+    }
+
+    private void givenProcess(final long pid,
+                              final long processGroupId,
+                              final long cpuTicks,
+                              final long residentPages,
+                              final long readBytes,
+                              final long writeBytes) throws IOException {
+        final Path processDirectory = Files.createDirectories(procRoot.resolve(String.valueOf(pid)));
+        Files.writeString(processDirectory.resolve("stat"), String.format(
+                "%d (Game Server) S 1 %d %d 0 -1 4194560 0 0 0 0 %d 0 0 0 20 0 1 0 1 0 %d%n",
+                pid, processGroupId, processGroupId, cpuTicks, residentPages));
+        Files.writeString(processDirectory.resolve("statm"), String.format("0 %d 0 0 0 0 0%n", residentPages));
+        Files.writeString(processDirectory.resolve("io"), String.format(
+                "rchar: 0%nwchar: 0%nread_bytes: %d%nwrite_bytes: %d%n", readBytes, writeBytes));
+    }
+}
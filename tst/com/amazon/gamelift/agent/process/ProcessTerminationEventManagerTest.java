@@ -7,15 +7,16 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doThrow;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.amazon.gamelift.agent.model.ProcessTerminationReason;
-import com.amazon.gamelift.agent.model.exception.AgentException;
+import com.amazon.gamelift.agent.model.exception.ThrottlingException;
 import com.amazon.gamelift.agent.model.websocket.NotifyServerProcessTerminationRequest;
 import com.amazon.gamelift.agent.model.websocket.base.WebsocketRequest;
+import com.amazon.gamelift.agent.model.websocket.base.WebsocketResponse;
 import com.amazon.gamelift.agent.websocket.AgentWebSocket;
 import com.amazon.gamelift.agent.websocket.WebSocketConnectionProvider;
 
@@ -48,12 +49,14 @@ public class ProcessTerminationEventManagerTest {
     }
 
     @Test
-    public void GIVEN_normalExitCodeNoReason_WHEN_notifyServerProcessTermination_THEN_usesCorrectEventCode() throws AgentException {
+    public void GIVEN_normalExitCodeNoReason_WHEN_notifyServerProcessTermination_THEN_usesCorrectEventCode()
+            throws Exception {
         // GIVEN/WHEN
         manager.notifyServerProcessTermination(TEST_PROCESS_UUID, 0, null);
 
         // THEN
-        verify(mockAgentWebSocket).sendRequest(requestCaptor.capture(), any(), any(Duration.class));
+        verify(mockAgentWebSocket).sendRequest(requestCaptor.capture(), eq(WebsocketResponse.class),
+                any(Duration.class));
         final NotifyServerProcessTerminationRequest capturedRequest = requestCaptor.getValue();
         assertNotNull(capturedRequest.getAction());
         assertNotNull(capturedRequest.getRequestId());
@@ -63,12 +66,14 @@ public class ProcessTerminationEventManagerTest {
     }
 
     @Test
-    public void GIVEN_normalExitCodeWithReason_WHEN_notifyServerProcessTermination_THEN_usesGivenReason() throws AgentException {
+    public void GIVEN_normalExitCodeWithReason_WHEN_notifyServerProcessTermination_THEN_usesGivenReason()
+            throws Exception {
         // GIVEN/WHEN
         manager.notifyServerProcessTermination(TEST_PROCESS_UUID, 0, ProcessTerminationReason.SERVER_PROCESS_INVALID_PATH);
 
         // THEN
-        verify(mockAgentWebSocket).sendRequest(requestCaptor.capture(), any(), any(Duration.class));
+        verify(mockAgentWebSocket).sendRequest(requestCaptor.capture(), eq(WebsocketResponse.class),
+                any(Duration.class));
         final NotifyServerProcessTerminationRequest capturedRequest = requestCaptor.getValue();
         assertNotNull(capturedRequest.getAction());
         assertNotNull(capturedRequest.getRequestId());
@@ -78,12 +83,14 @@ public class ProcessTerminationEventManagerTest {
     }
 
     @Test
-    public void GIVEN_abnormalExitCodeNoReason_WHEN_notifyServerProcessTermination_THEN_usesCrashedReason() throws AgentException {
+    public void GIVEN_abnormalExitCodeNoReason_WHEN_notifyServerProcessTermination_THEN_usesCrashedReason()
+            throws Exception {
         // GIVEN/WHEN
         manager.notifyServerProcessTermination(TEST_PROCESS_UUID, -12345, null);
 
         // THEN
-        verify(mockAgentWebSocket).sendRequest(requestCaptor.capture(), any(), any(Duration.class));
+        verify(mockAgentWebSocket).sendRequest(requestCaptor.capture(), eq(WebsocketResponse.class),
+                any(Duration.class));
         final NotifyServerProcessTerminationRequest capturedRequest = requestCaptor.getValue();
         assertNotNull(capturedRequest.getAction());
         assertNotNull(capturedRequest.getRequestId());
@@ -93,12 +100,14 @@ public class ProcessTerminationEventManagerTest {
     }
 
     @Test
-    public void GIVEN_abnormalExitCodeWithReason_WHEN_notifyServerProcessTermination_THEN_usesGivenReason() throws AgentException {
+    public void GIVEN_abnormalExitCodeWithReason_WHEN_notifyServerProcessTermination_THEN_usesGivenReason()
+            throws Exception {
         // GIVEN/WHEN
         manager.notifyServerProcessTermination(TEST_PROCESS_UUID, -12345, ProcessTerminationReason.COMPUTE_SHUTTING_DOWN);
 
         // THEN
-        verify(mockAgentWebSocket).sendRequest(requestCaptor.capture(), any(), any(Duration.class));
+        verify(mockAgentWebSocket).sendRequest(requestCaptor.capture(), eq(WebsocketResponse.class),
+                any(Duration.class));
         final NotifyServerProcessTerminationRequest capturedRequest = requestCaptor.getValue();
         assertNotNull(capturedRequest.getAction());
         assertNotNull(capturedRequest.getRequestId());
@@ -108,15 +117,17 @@ public class ProcessTerminationEventManagerTest {
     }
 
     @Test
-    public void GIVEN_failureToSendRequest_WHEN_notifyServerProcessTermination_THEN_attemptsRetries() throws AgentException {
+    public void GIVEN_errorResponse_WHEN_notifyServerProcessTermination_THEN_throwsForCallerToRetry() throws Exception {
         // GIVEN
-        doThrow(RuntimeException.class).when(mockAgentWebSocket).sendRequest(any(WebsocketRequest.class), any(), any());
-
-        // WHEN
-        assertThrows(RuntimeException.class, () ->
-                manager.notifyServerProcessTermination(TEST_PROCESS_UUID, -12345, ProcessTerminationReason.COMPUTE_SHUTTING_DOWN));
-
-        // THEN
-        verify(mockAgentWebSocket, times(3)).sendRequest(any(WebsocketRequest.class), any(), any(Duration.class));
+        when(mockAgentWebSocket.sendRequest(any(WebsocketRequest.class), eq(WebsocketResponse.class),
+                any(Duration.class))).thenThrow(new ThrottlingException("Rate exceeded"));
+
+        // WHEN/THEN
+        assertThrows(ThrottlingException.class,
+                () -> manager.notifyServerProcessTermination(TEST_PROCESS_UUID, -12345, null));
+        verify(mockAgentWebSocket, times(1)).sendRequest(requestCaptor.capture(), eq(WebsocketResponse.class),
+                any(Duration.class));
+        assertEquals(ProcessTerminationReason.SERVER_PROCESS_CRASHED.name(),
+                requestCaptor.getValue().getTerminationReason());
     }
 }
@@ -0,0 +1,193 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process;
+
+import com.amazon.gamelift.agent.model.ProcessTerminationReason;
+import com.amazon.gamelift.agent.model.exception.InvalidRequestException;
+import com.amazon.gamelift.agent.model.exception.ThrottlingException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class ProcessTerminationReporterTest {
+
+    private static final String TEST_PROCESS_ID = "testProcessId";
+
+    @Mock private ProcessTerminationEventManager mockProcessTerminationEventManager;
+    @Mock private ScheduledExecutorService mockExecutorService;
+
+    private ProcessTerminationReporter reporter;
+
+    @BeforeEach
+    public void setup() {
+        reporter = new ProcessTerminationReporter(mockProcessTerminationEventManager, mockExecutorService);
+    }
+
+    @Test
+    public void GIVEN_report_WHEN_reportProcessTermination_THEN_sentOnExecutor() throws Exception {
+        // GIVEN
+        final ArgumentCaptor<Runnable> attemptCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+        // WHEN
+        reporter.reportProcessTermination(TEST_PROCESS_ID, 0, ProcessTerminationReason.NORMAL_TERMINATION);
+
+        // THEN
+        verify(mockExecutorService).schedule(attemptCaptor.capture(), eq(0L), eq(TimeUnit.MILLISECONDS));
+        verifyNoMoreInteractions(mockProcessTerminationEventManager);
+        assertEquals(1, reporter.getPendingReportCount());
+
+        // WHEN
+        attemptCaptor.getValue().run();
+
+        // THEN
+        verify(mockProcessTerminationEventManager).notifyServerProcessTermination(
+                TEST_PROCESS_ID, 0, ProcessTerminationReason.NORMAL_TERMINATION);
+        assertEquals(0, reporter.getPendingReportCount());
+    }
+
+    @Test
+    public void GIVEN_errorResponse_WHEN_attemptReport_THEN_retryScheduledWithBackoff() throws Exception {
+        // GIVEN
+        final ArgumentCaptor<Runnable> attemptCaptor = ArgumentCaptor.forClass(Runnable.class);
+        doThrow(new ThrottlingException("Rate exceeded")).when(mockProcessTerminationEventManager)
+                .notifyServerProcessTermination(TEST_PROCESS_ID, 1, null);
+        reporter.reportProcessTermination(TEST_PROCESS_ID, 1, null);
+        verify(mockExecutorService).schedule(attemptCaptor.capture(), eq(0L), eq(TimeUnit.MILLISECONDS));
+
+        // WHEN
+        attemptCaptor.getValue().run();
+
+        // THEN
+        verify(mockExecutorService).schedule(any(Runnable.class),
+                eq(ProcessTerminationReporter.INITIAL_RETRY_DELAY_MILLIS), eq(TimeUnit.MILLISECONDS));
+        assertEquals(1, reporter.getPendingReportCount());
+    }
+
+    @Test
+    public void GIVEN_sendFails_WHEN_attemptReport_THEN_retryScheduledWithBackoff() throws Exception {
+        // GIVEN
+        final ArgumentCaptor<Runnable> attemptCaptor = ArgumentCaptor.forClass(Runnable.class);
+        doThrow(RuntimeException.class).when(mockProcessTerminationEventManager)
+                .notifyServerProcessTermination(TEST_PROCESS_ID, 1, null);
+        reporter.reportProcessTermination(TEST_PROCESS_ID, 1, null);
+        verify(mockExecutorService).schedule(attemptCaptor.capture(), eq(0L), eq(TimeUnit.MILLISECONDS));
+
+        // WHEN
+        attemptCaptor.getValue().run();
+
+        // THEN
+        verify(mockExecutorService).schedule(any(Runnable.class),
+                eq(ProcessTerminationReporter.INITIAL_RETRY_DELAY_MILLIS), eq(TimeUnit.MILLISECONDS));
+        assertEquals(1, reporter.getPendingReportCount());
+    }
+
+    @Test
+    public void GIVEN_sendKeepsFailing_WHEN_attemptReport_THEN_abandonedAfterMaxAttempts() throws Exception {
+        // GIVEN
+        final ArgumentCaptor<Runnable> attemptCaptor = ArgumentCaptor.forClass(Runnable.class);
+        doThrow(RuntimeException.class).when(mockProcessTerminationEventManager)
+                .notifyServerProcessTermination(TEST_PROCESS_ID, 1, null);
+
+        // WHEN
+        reporter.reportProcessTermination(TEST_PROCESS_ID, 1, null);
+        for (int attempt = 1; attempt <= ProcessTerminationReporter.MAX_REPORT_ATTEMPTS; attempt++) {
+            verify(mockExecutorService, times(attempt)).schedule(attemptCaptor.capture(), anyLong(),
+                    eq(TimeUnit.MILLISECONDS));
+            attemptCaptor.getValue().run();
+        }
+
+        // THEN
+        verify(mockProcessTerminationEventManager, times(ProcessTerminationReporter.MAX_REPORT_ATTEMPTS))
+                .notifyServerProcessTermination(TEST_PROCESS_ID, 1, null);
+        verify(mockExecutorService, times(ProcessTerminationReporter.MAX_REPORT_ATTEMPTS))
+                .schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS));
+        assertEquals(0, reporter.getPendingReportCount());
+    }
+
+    @Test
+    public void GIVEN_nonRetryableFailure_WHEN_attemptReport_THEN_notRetried() throws Exception {
+        // GIVEN
+        final ArgumentCaptor<Runnable> attemptCaptor = ArgumentCaptor.forClass(Runnable.class);
+        doThrow(new InvalidRequestException("invalid")).when(mockProcessTerminationEventManager)
+                .notifyServerProcessTermination(TEST_PROCESS_ID, 1, null);
+        reporter.reportProcessTermination(TEST_PROCESS_ID, 1, null);
+        verify(mockExecutorService).schedule(attemptCaptor.capture(), eq(0L), eq(TimeUnit.MILLISECONDS));
+
+        // WHEN
+        attemptCaptor.getValue().run();
+
+        // THEN
+        verify(mockExecutorService, times(1)).schedule(any(Runnable.class), anyLong(), any());
+        assertEquals(0, reporter.getPendingReportCount());
+    }
+
+    @Test
+    public void GIVEN_executorShutDown_WHEN_reportProcessTermination_THEN_reportDropped() {
+        // GIVEN
+        doThrow(RejectedExecutionException.class).when(mockExecutorService)
+                .schedule(any(Runnable.class), anyLong(), any());
+
+        // WHEN
+        reporter.reportProcessTermination(TEST_PROCESS_ID, 0, null);
+
+        // THEN
+        verifyNoMoreInteractions(mockProcessTerminationEventManager);
+        assertEquals(0, reporter.getPendingReportCount());
+    }
+
+    @Test
+    public void GIVEN_pendingReport_WHEN_awaitPendingReports_THEN_returnsOnceReportAcknowledged() throws Exception {
+        // GIVEN
+        final ArgumentCaptor<Runnable> attemptCaptor = ArgumentCaptor.forClass(Runnable.class);
+        reporter.reportProcessTermination(TEST_PROCESS_ID, 0, null);
+        verify(mockExecutorService).schedule(attemptCaptor.capture(), eq(0L), eq(TimeUnit.MILLISECONDS));
+        assertFalse(reporter.awaitPendingReports(Duration.ofMillis(10)));
+        final Thread attemptThread = new Thread(attemptCaptor.getValue());
+
+        // WHEN
+        attemptThread.start();
+        final boolean isAcknowledged = reporter.awaitPendingReports(Duration.ofSeconds(30));
+
+        // THEN
+        assertTrue(isAcknowledged);
+        assertEquals(0, reporter.getPendingReportCount());
+        attemptThread.join();
+    }
+
+    @Test
+    public void GIVEN_noPendingReports_WHEN_awaitPendingReports_THEN_returnsImmediately() throws Exception {
+        assertTrue(reporter.awaitPendingReports(Duration.ZERO));
+    }
+
+    @Test
+    public void GIVEN_attempts_WHEN_getRetryDelayMillis_THEN_backsOffExponentiallyUpToMax() {
+        assertEquals(500L, ProcessTerminationReporter.getRetryDelayMillis(1));
+        assertEquals(1000L, ProcessTerminationReporter.getRetryDelayMillis(2));
+        assertEquals(8000L, ProcessTerminationReporter.getRetryDelayMillis(5));
+        assertEquals(ProcessTerminationReporter.MAX_RETRY_DELAY_MILLIS,
+                ProcessTerminationReporter.getRetryDelayMillis(6));
+        assertEquals(ProcessTerminationReporter.MAX_RETRY_DELAY_MILLIS,
+                ProcessTerminationReporter.getRetryDelayMillis(100));
+    }
+}
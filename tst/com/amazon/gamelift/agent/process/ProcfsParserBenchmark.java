@@ -0,0 +1,94 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Measures the cost of parsing the stat, statm and io files of 500 processes, the procfs parsing done by one sample
+ * of the ProcessResourceSampler on a busy host. The string benchmark decodes each file and parses it with a regex and
+ * String.split; the procfs parser benchmark parses the same bytes in place. File reads are excluded from both.
+ *
+ * Run with:
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.openjdk.jmh.Main \
+ *     -Dexec.args=ProcfsParserBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProcfsParserBenchmark {
+
+    private static final int PROCESS_COUNT = 500;
+    private static final Pattern STAT_PATTERN = Pattern.compile("^\\d+ \\((.*)\\) (.*)$", Pattern.DOTALL);
+    private static final Pattern IO_PATTERN = Pattern.compile("^(read_bytes|write_bytes): (\\d+)$", Pattern.MULTILINE);
+
+    private final byte[][] statFiles = new byte[PROCESS_COUNT][];
+    private final byte[][] statmFiles = new byte[PROCESS_COUNT][];
+    private final byte[][] ioFiles = new byte[PROCESS_COUNT][];
+    private final ProcfsParser.ProcessCounters counters = new ProcfsParser.ProcessCounters();
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < PROCESS_COUNT; i++) {
+            final int pid = 10000 + i;
+            statFiles[i] = String.format("%d (GameServer %d) S 1 %d %d 0 -1 4194560 1520 0 0 0 %d %d 0 0 20 0 8 0 "
+                    + "123456 104857600 2560 18446744073709551615 1 1 0 0 0 0 0 0 0 0 0 0 17 3 0 0%n",
+                    pid, i, pid, pid, 1000 + i, 300 + i).getBytes(StandardCharsets.US_ASCII);
+            statmFiles[i] = String.format("25600 %d 512 10 0 3000 0%n", 2000 + i).getBytes(StandardCharsets.US_ASCII);
+            ioFiles[i] = String.format("rchar: 1048576%nwchar: 524288%nsyscr: 300%nsyscw: 150%nread_bytes: %d%n"
+                    + "write_bytes: %d%ncancelled_write_bytes: 0%n", 4096 * i, 8192 * i)
+                    .getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    @Benchmark
+    public long procfsParser() {
+        long total = 0;
+        for (int i = 0; i < PROCESS_COUNT; i++) {
+            ProcfsParser.parseStat(statFiles[i], statFiles[i].length, counters);
+            ProcfsParser.parseStatm(statmFiles[i], statmFiles[i].length, counters);
+            ProcfsParser.parseIo(ioFiles[i], ioFiles[i].length, counters);
+            total += counters.processGroupId + counters.cpuTicks + counters.residentPages
+                    + counters.readBytes + counters.writeBytes;
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long stringParsing() {
+        long total = 0;
+        for (int i = 0; i < PROCESS_COUNT; i++) {
+            final Matcher statMatcher = STAT_PATTERN.matcher(new String(statFiles[i], StandardCharsets.US_ASCII));
+            if (statMatcher.matches()) {
+                // Fields after the command, numbered from 3 as in proc(5)
+                final String[] fields = statMatcher.group(2).trim().split(" ");
+                total += Long.parseLong(fields[2]) + Long.parseLong(fields[11]) + Long.parseLong(fields[12]);
+            }
+            final String[] statmFields = new String(statmFiles[i], StandardCharsets.US_ASCII).trim().split(" ");
+            total += Long.parseLong(statmFields[1]);
+            final Matcher ioMatcher = IO_PATTERN.matcher(new String(ioFiles[i], StandardCharsets.US_ASCII));
+            while (ioMatcher.find()) {
+                total += Long.parseLong(ioMatcher.group(2));
+            }
+        }
+        return total;
+    }
+}
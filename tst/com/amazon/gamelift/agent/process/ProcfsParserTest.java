@@ -0,0 +1,153 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ProcfsParserTest {
+
+    private static final String STAT = "4242 (Game Server (1)) S 1 4200 4200 0 -1 4194560 1520 0 0 0 "
+            + "250 75 0 0 20 0 8 0 123456 104857600 2560 18446744073709551615 1 1 0 0 0 0 0 0 0 0 0 0 17 3 0 0\n";
+    private static final String STATM = "25600 2560 512 10 0 3000 0\n";
+    private static final String IO = "rchar: 100\nwchar: 200\nsyscr: 3\nsyscw: 4\nread_bytes: 4096\n"
+            + "write_bytes: 8192\ncancelled_write_bytes: 0\n";
+
+    private final ProcfsParser.ProcessCounters counters = new ProcfsParser.ProcessCounters();
+
+    @TempDir private Path tempDirectory;
+
+    @Test
+    public void GIVEN_commandWithSpacesAndParentheses_WHEN_parseStat_THEN_fieldsCountedAfterCommand() {
+        // GIVEN
+        final byte[] stat = bytes(STAT);
+
+        // WHEN
+        final boolean parsed = ProcfsParser.parseStat(stat, stat.length, counters);
+
+        // THEN
+        assertTrue(parsed);
+        assertEquals(4200, counters.processGroupId);
+        assertEquals(325, counters.cpuTicks);
+    }
+
+    @Test
+    public void GIVEN_stat_WHEN_parseStatLineage_THEN_lineageAndStartTimeParsed() {
+        // GIVEN
+        final byte[] stat = bytes(STAT.replace(") S 1 ", ") Z 17 "));
+
+        // WHEN
+        final boolean parsed = ProcfsParser.parseStatLineage(stat, stat.length, counters);
+
+        // THEN
+        assertTrue(parsed);
+        assertEquals('Z', counters.state);
+        assertEquals(17, counters.parentProcessId);
+        assertEquals(4200, counters.processGroupId);
+        assertEquals(4200, counters.sessionId);
+        assertEquals(123456, counters.startTicks);
+    }
+
+    @Test
+    public void GIVEN_processDirectoryNames_WHEN_parseProcessId_THEN_onlyProcessIdsParsed() {
+        assertEquals(4242, ProcfsParser.parseProcessId("4242"));
+        assertEquals(-1, ProcfsParser.parseProcessId("self"));
+        assertEquals(-1, ProcfsParser.parseProcessId(""));
+    }
+
+    @Test
+    public void GIVEN_statm_WHEN_parseStatm_THEN_residentPagesParsed() {
+        // GIVEN
+        final byte[] statm = bytes(STATM);
+
+        // WHEN
+        final boolean parsed = ProcfsParser.parseStatm(statm, statm.length, counters);
+
+        // THEN
+        assertTrue(parsed);
+        assertEquals(2560, counters.residentPages);
+    }
+
+    @Test
+    public void GIVEN_io_WHEN_parseIo_THEN_storageBytesParsed() {
+        // GIVEN
+        final byte[] io = bytes(IO);
+
+        // WHEN
+        final boolean parsed = ProcfsParser.parseIo(io, io.length, counters);
+
+        // THEN
+        assertTrue(parsed);
+        assertEquals(4096, counters.readBytes);
+        assertEquals(8192, counters.writeBytes);
+    }
+
+    @Test
+    public void GIVEN_bufferLongerThanContents_WHEN_parse_THEN_onlyContentsParsed() {
+        // GIVEN
+        final byte[] buffer = new byte[256];
+        final byte[] statm = bytes("100 7");
+        System.arraycopy(statm, 0, buffer, 0, statm.length);
+        buffer[statm.length] = '9';
+
+        // WHEN
+        final boolean parsed = ProcfsParser.parseStatm(buffer, statm.length, counters);
+
+        // THEN
+        assertTrue(parsed);
+        assertEquals(7, counters.residentPages);
+    }
+
+    @Test
+    public void GIVEN_malformedContents_WHEN_parse_THEN_returnsFalse() {
+        final byte[] noCommand = bytes("4242 S 1 4200");
+        final byte[] truncatedStat = bytes("4242 (GameServer) S 1 4200 4200 0 -1 4194560 1520 0 0 0 250");
+        final byte[] invalidStat = bytes(STAT.replace(" 250 ", " 2x0 "));
+        final byte[] truncatedStatm = bytes("25600");
+        final byte[] missingIo = bytes("rchar: 100\nread_bytes: 4096\n");
+
+        assertFalse(ProcfsParser.parseStat(noCommand, noCommand.length, counters));
+        assertFalse(ProcfsParser.parseStat(truncatedStat, truncatedStat.length, counters));
+        assertFalse(ProcfsParser.parseStat(invalidStat, invalidStat.length, counters));
+        assertFalse(ProcfsParser.parseStatLineage(truncatedStat, truncatedStat.length, counters));
+        assertFalse(ProcfsParser.parseStatm(truncatedStatm, truncatedStatm.length, counters));
+        assertFalse(ProcfsParser.parseIo(missingIo, missingIo.length, counters));
+    }
+
+    @Test
+    public void GIVEN_bufferWithPreviousContents_WHEN_readFile_THEN_contentsReplacedAndParsed() throws IOException {
+        // GIVEN
+        final Path statmFile = Files.write(tempDirectory.resolve("statm"), bytes(STATM));
+        final ByteBuffer buffer = ByteBuffer.allocate(ProcfsParser.READ_BUFFER_SIZE);
+        buffer.put(bytes(STAT));
+
+        // WHEN
+        final int length = ProcfsParser.readFile(statmFile, buffer);
+
+        // THEN
+        assertEquals(STATM.length(), length);
+        assertTrue(ProcfsParser.parseStatm(buffer.array(), length, counters));
+        assertEquals(2560, counters.residentPages);
+    }
+
+    @Test
+    public void GIVEN_missingFile_WHEN_readFile_THEN_returnsMinusOne() {
+        assertEquals(-1, ProcfsParser.readFile(tempDirectory.resolve("missing"),
+                ByteBuffer.allocate(ProcfsParser.READ_BUFFER_SIZE)));
+    }
+
+    private static byte[] bytes(final String contents) {
+        return contents.getBytes(StandardCharsets.US_ASCII);
+    }
+}
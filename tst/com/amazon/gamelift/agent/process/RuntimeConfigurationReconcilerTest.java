@@ -0,0 +1,211 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process;
+
+import com.amazon.gamelift.agent.model.GameProcessConfiguration;
+import com.amazon.gamelift.agent.model.ProcessTerminationReason;
+import com.amazon.gamelift.agent.model.RuntimeConfiguration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class RuntimeConfigurationReconcilerTest {
+
+    private static final GameProcessConfiguration OLD_PROCESS_CONFIGURATION = GameProcessConfiguration.builder()
+            .launchPath("/local/game/v1/server")
+            .concurrentExecutions(2)
+            .build();
+    private static final GameProcessConfiguration NEW_PROCESS_CONFIGURATION = GameProcessConfiguration.builder()
+            .launchPath("/local/game/v2/server")
+            .concurrentExecutions(2)
+            .build();
+    private static final RuntimeConfiguration OLD_RUNTIME_CONFIGURATION = RuntimeConfiguration.builder()
+            .serverProcesses(List.of(OLD_PROCESS_CONFIGURATION))
+            .build();
+    private static final RuntimeConfiguration NEW_RUNTIME_CONFIGURATION = RuntimeConfiguration.builder()
+            .serverProcesses(List.of(NEW_PROCESS_CONFIGURATION))
+            .build();
+
+    @Mock private GameProcessManager mockGameProcessManager;
+
+    @InjectMocks private RuntimeConfigurationReconciler reconciler;
+
+    @Test
+    public void GIVEN_processesOfCurrentConfiguration_WHEN_reconcile_THEN_nothingDrained() {
+        // GIVEN
+        givenManagedProcesses(givenGameProcess("current1", OLD_PROCESS_CONFIGURATION, null),
+                givenGameProcess("current2", OLD_PROCESS_CONFIGURATION, "gameSession"));
+
+        // WHEN
+        reconciler.reconcile(OLD_RUNTIME_CONFIGURATION);
+
+        // THEN
+        verify(mockGameProcessManager, never()).terminateProcessByUUID(anyString(), any());
+        assertEquals(0, reconciler.getDrainingProcessCount());
+        assertEquals(0, reconciler.getStoppingProcessCount());
+    }
+
+    @Test
+    public void GIVEN_onlyConcurrentExecutionsChanged_WHEN_reconcile_THEN_nothingStopped() {
+        // GIVEN
+        final GameProcessConfiguration rescaledProcessConfiguration = GameProcessConfiguration.builder()
+                .launchPath(OLD_PROCESS_CONFIGURATION.getLaunchPath())
+                .concurrentExecutions(12)
+                .initializationTimeoutSeconds(120)
+                .build();
+        givenManagedProcesses(givenGameProcess("idle1", OLD_PROCESS_CONFIGURATION, null),
+                givenGameProcess("idle2", OLD_PROCESS_CONFIGURATION, null));
+
+        // WHEN
+        reconciler.reconcile(RuntimeConfiguration.builder()
+                .serverProcesses(List.of(rescaledProcessConfiguration))
+                .build());
+
+        // THEN
+        verify(mockGameProcessManager, never()).terminateProcessByUUID(anyString(), any());
+        assertEquals(0, reconciler.getDrainingProcessCount());
+        assertEquals(0, reconciler.getStoppingProcessCount());
+    }
+
+    @Test
+    public void GIVEN_parametersChanged_WHEN_reconcile_THEN_processesDrained() {
+        // GIVEN
+        final GameProcessConfiguration newParametersConfiguration = GameProcessConfiguration.builder()
+                .launchPath(OLD_PROCESS_CONFIGURATION.getLaunchPath())
+                .parameters("-port 7777")
+                .concurrentExecutions(2)
+                .build();
+        givenManagedProcesses(givenGameProcess("idle", OLD_PROCESS_CONFIGURATION, null));
+
+        // WHEN
+        reconciler.reconcile(RuntimeConfiguration.builder()
+                .serverProcesses(List.of(newParametersConfiguration))
+                .build());
+
+        // THEN
+        verify(mockGameProcessManager).terminateProcessByUUID("idle", ProcessTerminationReason.NORMAL_TERMINATION);
+    }
+
+    @Test
+    public void GIVEN_configurationRemoved_WHEN_reconcile_THEN_onlyProcessesWithoutGameSessionStopped() {
+        // GIVEN
+        givenManagedProcesses(givenGameProcess("idle", OLD_PROCESS_CONFIGURATION, null),
+                givenGameProcess("hosting", OLD_PROCESS_CONFIGURATION, "gameSession"),
+                givenGameProcess("replacement", NEW_PROCESS_CONFIGURATION, null));
+
+        // WHEN
+        reconciler.reconcile(NEW_RUNTIME_CONFIGURATION);
+
+        // THEN
+        verify(mockGameProcessManager).terminateProcessByUUID("idle", ProcessTerminationReason.NORMAL_TERMINATION);
+        verify(mockGameProcessManager, never()).terminateProcessByUUID("hosting",
+                ProcessTerminationReason.NORMAL_TERMINATION);
+        verify(mockGameProcessManager, never()).terminateProcessByUUID("replacement",
+                ProcessTerminationReason.NORMAL_TERMINATION);
+        assertEquals(2, reconciler.getDrainingProcessCount());
+        assertEquals(1, reconciler.getStoppingProcessCount());
+    }
+
+    @Test
+    public void GIVEN_stoppingProcess_WHEN_reconcileAgain_THEN_processNotStoppedTwice() {
+        // GIVEN
+        givenManagedProcesses(givenGameProcess("idle", OLD_PROCESS_CONFIGURATION, null));
+        reconciler.reconcile(NEW_RUNTIME_CONFIGURATION);
+
+        // WHEN
+        reconciler.reconcile(NEW_RUNTIME_CONFIGURATION);
+
+        // THEN
+        verify(mockGameProcessManager, times(1)).terminateProcessByUUID("idle",
+                ProcessTerminationReason.NORMAL_TERMINATION);
+        assertEquals(1, reconciler.getStoppingProcessCount());
+    }
+
+    @Test
+    public void GIVEN_gameSessionHostingProcessExits_WHEN_onProcessExited_THEN_processNoLongerDraining() {
+        // GIVEN
+        final GameProcess hostingProcess = givenGameProcess("hosting", OLD_PROCESS_CONFIGURATION, "gameSession");
+        final Set<String> managedProcessUUIDs = givenManagedProcesses(hostingProcess);
+        reconciler.reconcile(NEW_RUNTIME_CONFIGURATION);
+        assertEquals(1, reconciler.getDrainingProcessCount());
+
+        // WHEN
+        managedProcessUUIDs.clear();
+        reconciler.onProcessExited(hostingProcess);
+
+        // THEN
+        assertEquals(0, reconciler.getDrainingProcessCount());
+        assertEquals(0, reconciler.getStoppingProcessCount());
+    }
+
+    @Test
+    public void GIVEN_stopFails_WHEN_reconcile_THEN_remainingProcessesStillStopped() {
+        // GIVEN
+        givenManagedProcesses(givenGameProcess("failing", OLD_PROCESS_CONFIGURATION, null),
+                givenGameProcess("idle", OLD_PROCESS_CONFIGURATION, null));
+        doThrow(new RuntimeException("destroy failed")).when(mockGameProcessManager)
+                .terminateProcessByUUID("failing", ProcessTerminationReason.NORMAL_TERMINATION);
+
+        // WHEN
+        reconciler.reconcile(NEW_RUNTIME_CONFIGURATION);
+
+        // THEN
+        verify(mockGameProcessManager).terminateProcessByUUID("idle", ProcessTerminationReason.NORMAL_TERMINATION);
+        assertEquals(2, reconciler.getStoppingProcessCount());
+    }
+
+    @Test
+    public void GIVEN_removedConfigurationRestored_WHEN_reconcile_THEN_processNoLongerDraining() {
+        // GIVEN
+        givenManagedProcesses(givenGameProcess("hosting", OLD_PROCESS_CONFIGURATION, "gameSession"));
+        reconciler.reconcile(NEW_RUNTIME_CONFIGURATION);
+        assertEquals(1, reconciler.getDrainingProcessCount());
+
+        // WHEN
+        reconciler.reconcile(OLD_RUNTIME_CONFIGURATION);
+
+        // THEN
+        assertEquals(0, reconciler.getDrainingProcessCount());
+        verify(mockGameProcessManager, never()).terminateProcessByUUID(anyString(), any());
+    }
+
+    private Set<String> givenManagedProcesses(final GameProcess... gameProcesses) {
+        final Set<String> managedProcessUUIDs = new HashSet<>();
+        for (final GameProcess gameProcess : gameProcesses) {
+            managedProcessUUIDs.add(gameProcess.getProcessUUID());
+        }
+        when(mockGameProcessManager.getProcesses()).thenReturn(List.of(gameProcesses));
+        when(mockGameProcessManager.getAllProcessUUIDs()).thenReturn(managedProcessUUIDs);
+        return managedProcessUUIDs;
+    }
+
+    private static GameProcess givenGameProcess(final String processUUID,
+                                                final GameProcessConfiguration processConfiguration,
+                                                final String gameSessionId) {
+        final GameProcess gameProcess = mock(GameProcess.class);
+        when(gameProcess.getProcessUUID()).thenReturn(processUUID);
+        when(gameProcess.getProcessConfiguration()).thenReturn(processConfiguration);
+        // Only read for processes of removed configurations
+        lenient().when(gameProcess.getGameSessionId()).thenReturn(gameSessionId);
+        return gameProcess;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process.builder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of spawning and reaping a short-lived Linux process. The processBuilder benchmark launches
+ * the way LinuxProcessBuilderWrapper does without the fork server, forking the JVM for every launch; the forkServer
+ * benchmark sends the launch to the fork server's persistent helper process.
+ *
+ * Run with:
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.openjdk.jmh.Main \
+ *     -Dexec.args=ForkServerSpawnBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ForkServerSpawnBenchmark {
+
+    private static final LaunchTemplate LAUNCH_TEMPLATE =
+            new LaunchTemplate(List.of("setsid", "/bin/true"), null, null);
+    private static final Map<String, String> ENVIRONMENT_VARIABLES = Map.of(
+            "GAMELIFT_SDK_WEBSOCKET_URL", "wss://us-west-2.process-sdk-api.amazonaws.com",
+            "GAMELIFT_FLEET_ID", "fleet-benchmark",
+            "GAMELIFT_COMPUTE_NAME", "compute-benchmark",
+            "GAMELIFT_SDK_PROCESS_ID", "1d6a8c2e-5b1f-4a57-9d44-3f0f1b6c9e21",
+            "GAMELIFT_SDK_AUTH_TOKEN", "auth-token-benchmark");
+
+    private ForkServer forkServer;
+
+    @Setup
+    public void setup() {
+        forkServer = new ForkServer(true);
+    }
+
+    @Benchmark
+    public int processBuilder() throws IOException, InterruptedException {
+        final ProcessBuilder processBuilder = new ProcessBuilder(LAUNCH_TEMPLATE.getCommand());
+        processBuilder.redirectOutput(ProcessBuilder.Redirect.DISCARD);
+        processBuilder.redirectError(ProcessBuilder.Redirect.DISCARD);
+        processBuilder.environment().putAll(ENVIRONMENT_VARIABLES);
+        return processBuilder.start().waitFor();
+    }
+
+    @Benchmark
+    public int forkServer() throws IOException, InterruptedException {
+        return forkServer.launch(LAUNCH_TEMPLATE, ENVIRONMENT_VARIABLES).orElseThrow().waitFor();
+    }
+}
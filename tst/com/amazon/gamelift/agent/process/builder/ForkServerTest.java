@@ -0,0 +1,176 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process.builder;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ForkServerTest {
+
+    @TempDir private Path workingDirectory;
+
+    @Test
+    public void GIVEN_launchTemplate_WHEN_encodeLaunchRequest_THEN_argumentsQuoted() {
+        // GIVEN
+        final LaunchTemplate launchTemplate = new LaunchTemplate(
+                List.of("setsid", "/local/game/it's a server", "-port", "$PORT"), null, new File("/local/game"));
+
+        // WHEN
+        final String request = ForkServer.encodeLaunchRequest(7, launchTemplate, Map.of("NAME", "a & b"));
+
+        // THEN
+        assertEquals("{ cd '/local/game' || { echo \"F 7\"; exit; }; "
+                + "env 'NAME=a & b' 'setsid' '/local/game/it'\\''s a server' '-port' '$PORT' "
+                + "</dev/null >/dev/null 2>&1 & echo \"S 7 $!\"; wait $!; echo \"E 7 $?\"; } &", request);
+    }
+
+    @Test
+    public void GIVEN_argumentWithLineBreak_WHEN_encodeLaunchRequest_THEN_returnsNull() {
+        // GIVEN
+        final LaunchTemplate launchTemplate = new LaunchTemplate(List.of("setsid", "/local/game/server"), null, null);
+
+        // WHEN
+        final String request = ForkServer.encodeLaunchRequest(1, launchTemplate, Map.of("NAME", "line1\nline2"));
+
+        // THEN
+        assertNull(request);
+    }
+
+    @Test
+    public void GIVEN_forkServerDisabled_WHEN_launch_THEN_fallsBackToProcessBuilder() throws IOException {
+        // GIVEN
+        final ForkServer forkServer = new ForkServer(false);
+        final LaunchTemplate launchTemplate = new LaunchTemplate(List.of("setsid", "/bin/true"), null, null);
+
+        // WHEN
+        final Optional<Process> process = forkServer.launch(launchTemplate, Collections.emptyMap());
+
+        // THEN
+        assertFalse(forkServer.isEnabled());
+        assertTrue(process.isEmpty());
+    }
+
+    @Test
+    public void GIVEN_forkServerEnabled_WHEN_launch_THEN_processEnvironmentAndExitStatusReported()
+            throws IOException, InterruptedException {
+        // GIVEN
+        final ForkServer forkServer = new ForkServer(true);
+        final LaunchTemplate launchTemplate = new LaunchTemplate(
+                List.of("setsid", "/bin/sh", "-c", "[ \"$GAME\" = \"it's\" ] && [ \"$PWD\" = \"$1\" ] && exit 3", "sh",
+                        workingDirectory.toFile().getCanonicalPath()),
+                null, workingDirectory.toFile().getCanonicalFile());
+
+        // WHEN
+        final Process process = forkServer.launch(launchTemplate, Map.of("GAME", "it's")).orElseThrow();
+
+        // THEN
+        assertTrue(process.pid() > 0);
+        assertTrue(process.waitFor(10, TimeUnit.SECONDS));
+        assertEquals(3, process.exitValue());
+        assertFalse(process.isAlive());
+        assertEquals(process, process.onExit().join());
+    }
+
+    @Test
+    public void GIVEN_missingWorkingDirectory_WHEN_launch_THEN_throwsIOException() {
+        // GIVEN
+        final ForkServer forkServer = new ForkServer(true);
+        final LaunchTemplate launchTemplate = new LaunchTemplate(List.of("setsid", "/bin/true"), null,
+                workingDirectory.resolve("missing").toFile());
+
+        // WHEN
+        assertThrows(IOException.class, () -> forkServer.launch(launchTemplate, Collections.emptyMap()));
+    }
+
+    @Test
+    public void GIVEN_malformedReports_WHEN_readReports_THEN_laterReportsStillHandled() throws InterruptedException {
+        // GIVEN
+        final ForkServer forkServer = new ForkServer(true);
+        final CompletableFuture<ForkServerProcess> launchedProcess = new CompletableFuture<>();
+        forkServer.pendingLaunches.put(1L, launchedProcess);
+        final BufferedReader reports = new BufferedReader(new StringReader(
+                "S 1\nS one 12345\nS 1 12345\nE 1 not-a-status\nE\nE 1 3\n"));
+
+        // WHEN
+        forkServer.readReports(reports);
+
+        // THEN
+        final ForkServerProcess process = launchedProcess.join();
+        assertEquals(12345, process.pid());
+        assertTrue(process.waitFor(10, TimeUnit.SECONDS));
+        assertEquals(3, process.exitValue());
+    }
+
+    @Test
+    public void GIVEN_reportsEndWithProcessRunning_WHEN_readReports_THEN_processExitedWithUnknownStatus()
+            throws InterruptedException {
+        // GIVEN
+        final ForkServer forkServer = new ForkServer(true);
+        final CompletableFuture<ForkServerProcess> launchedProcess = new CompletableFuture<>();
+        forkServer.pendingLaunches.put(1L, launchedProcess);
+
+        // WHEN
+        forkServer.readReports(new BufferedReader(new StringReader("S 1 12345\n")));
+
+        // THEN
+        final ForkServerProcess process = launchedProcess.join();
+        assertTrue(process.waitFor(10, TimeUnit.SECONDS));
+        assertEquals(ForkServerProcess.UNKNOWN_EXIT_CODE, process.exitValue());
+    }
+
+    @Test
+    public void GIVEN_readFailsWithProcessRunning_WHEN_readReports_THEN_processExitedOnceItsPidExits()
+            throws IOException, InterruptedException {
+        // GIVEN
+        final Process runningProcess = new ProcessBuilder("sleep", "30").start();
+        final ForkServer forkServer = new ForkServer(true);
+        final CompletableFuture<ForkServerProcess> launchedProcess = new CompletableFuture<>();
+        forkServer.pendingLaunches.put(1L, launchedProcess);
+        final Reader failingReader = new StringReader("S 1 " + runningProcess.pid() + "\n") {
+            private boolean isReportRead = false;
+
+            @Override
+            public int read(final char[] buffer, final int offset, final int length) throws IOException {
+                if (isReportRead) {
+                    throw new IOException("unit-test");
+                }
+                isReportRead = true;
+                return super.read(buffer, offset, length);
+            }
+        };
+
+        try {
+            // WHEN
+            forkServer.readReports(new BufferedReader(failingReader));
+
+            // THEN
+            final ForkServerProcess process = launchedProcess.join();
+            assertTrue(process.isAlive());
+            runningProcess.destroyForcibly();
+            assertTrue(process.waitFor(10, TimeUnit.SECONDS));
+            assertEquals(ForkServerProcess.UNKNOWN_EXIT_CODE, process.exitValue());
+        } finally {
+            runningProcess.destroyForcibly();
+        }
+    }
+}
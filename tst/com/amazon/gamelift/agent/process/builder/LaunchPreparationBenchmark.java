@@ -0,0 +1,119 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process.builder;
+
+import com.amazon.gamelift.agent.command.CommandTransform;
+import com.amazon.gamelift.agent.command.LinuxCommandTransform;
+import com.amazon.gamelift.agent.manager.ComputeAuthTokenManager;
+import com.amazon.gamelift.agent.manager.ProcessEnvironmentManager;
+import com.amazon.gamelift.agent.model.GameProcessConfiguration;
+import com.amazon.gamelift.agent.model.OperatingSystem;
+import com.amazon.gamelift.agent.model.gamelift.GetComputeAuthTokenResponse;
+import com.amazon.gamelift.agent.websocket.SdkWebsocketEndpointProvider;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the work done on the launching thread to prepare a Linux game process launch, up to but not including
+ * starting the process. The baseline benchmark reproduces the previous approach of splitting the command, checking the
+ * working directory and resolving the full environment twice (once for the process and once for logging) on every
+ * launch; the templated benchmark reuses the cached launch template and resolves the environment once.
+ *
+ * Run with:
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.openjdk.jmh.Main \
+ *     -Dexec.args=LaunchPreparationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LaunchPreparationBenchmark {
+
+    private static final OperatingSystem OPERATING_SYSTEM = OperatingSystem.DEFAULT_OS;
+    private static final CommandTransform LINUX_COMMAND_TRANSFORM = new LinuxCommandTransform();
+
+    private GameProcessConfiguration processConfiguration;
+    private ProcessEnvironmentManager processEnvironmentManager;
+    private final LaunchTemplateCache launchTemplateCache = new LaunchTemplateCache();
+
+    @Setup
+    public void setup() {
+        processConfiguration = GameProcessConfiguration.builder()
+                .launchPath("/local/game/bin/GameServer")
+                .parameters("-logFile /local/game/logs/server.log -maxPlayers 32 -region us-west-2")
+                .concurrentExecutions(1)
+                .build();
+
+        final GetComputeAuthTokenResponse authTokenResponse = GetComputeAuthTokenResponse.builder()
+                .fleetId("fleet-benchmark")
+                .computeName("compute-benchmark")
+                .authToken("auth-token-benchmark")
+                .expirationTimeEpochMillis(Instant.now().plus(Duration.ofDays(1)))
+                .build();
+        final ComputeAuthTokenManager computeAuthTokenManager = new ComputeAuthTokenManager(
+                CacheBuilder.newBuilder().build(CacheLoader.from(() -> authTokenResponse)));
+        final SdkWebsocketEndpointProvider sdkWebsocketEndpointProvider = new SdkWebsocketEndpointProvider() {
+            @Override
+            public String getSdkWebsocketEndpoint() {
+                return "wss://us-west-2.process-sdk-api.amazonaws.com";
+            }
+        };
+        processEnvironmentManager = new ProcessEnvironmentManager("fleet-benchmark", "compute-benchmark",
+                computeAuthTokenManager, sdkWebsocketEndpointProvider);
+    }
+
+    @Benchmark
+    public void perLaunchPreparation(final Blackhole blackhole) {
+        final String processUUID = UUID.randomUUID().toString();
+        final Map<String, String> environmentVariables =
+                processEnvironmentManager.getProcessEnvironmentVariables(processUUID);
+        blackhole.consume(processEnvironmentManager.getPrintableEnvironmentVariables(processUUID));
+
+        final ProcessBuilder processBuilder =
+                new ProcessBuilder(LINUX_COMMAND_TRANSFORM.getFullCommandFromConfig(processConfiguration));
+        final File directory = new File(OPERATING_SYSTEM.getLaunchPathPrefix());
+        if (directory.exists()) {
+            processBuilder.directory(directory);
+        }
+        processBuilder.environment().putAll(environmentVariables);
+        blackhole.consume(processBuilder);
+    }
+
+    @Benchmark
+    public void templatedPreparation(final Blackhole blackhole) {
+        final String processUUID = UUID.randomUUID().toString();
+        final Map<String, String> environmentVariables =
+                processEnvironmentManager.getProcessEnvironmentVariables(processUUID);
+        blackhole.consume(processEnvironmentManager.getPrintableEnvironmentVariables(environmentVariables));
+
+        final LaunchTemplate launchTemplate =
+                launchTemplateCache.getLaunchTemplate(processConfiguration, OPERATING_SYSTEM);
+        final ProcessBuilder processBuilder = new ProcessBuilder(launchTemplate.getCommand());
+        if (launchTemplate.getWorkingDirectory() != null) {
+            processBuilder.directory(launchTemplate.getWorkingDirectory());
+        }
+        processBuilder.environment().putAll(environmentVariables);
+        blackhole.consume(processBuilder);
+    }
+}
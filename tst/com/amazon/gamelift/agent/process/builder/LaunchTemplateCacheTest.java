@@ -0,0 +1,88 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process.builder;
+
+import com.amazon.gamelift.agent.model.GameProcessConfiguration;
+import com.amazon.gamelift.agent.model.OperatingSystem;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LaunchTemplateCacheTest {
+
+    private static final GameProcessConfiguration PROCESS_CONFIG = GameProcessConfiguration.builder()
+            .concurrentExecutions(1)
+            .launchPath("testCommand")
+            .parameters("--parameter1 --parameter2")
+            .build();
+
+    private final LaunchTemplateCache launchTemplateCache = new LaunchTemplateCache();
+
+    @Test
+    public void GIVEN_equalProcessConfigurations_WHEN_getLaunchTemplate_THEN_commandVectorShared() {
+        // GIVEN
+        final GameProcessConfiguration equalProcessConfig = GameProcessConfiguration.builder()
+                .concurrentExecutions(1)
+                .launchPath("testCommand")
+                .parameters("--parameter1 --parameter2")
+                .build();
+
+        // WHEN
+        final LaunchTemplate launchTemplate =
+                launchTemplateCache.getLaunchTemplate(PROCESS_CONFIG, OperatingSystem.DEFAULT_OS);
+
+        // THEN
+        assertSame(launchTemplate.getCommand(),
+                launchTemplateCache.getLaunchTemplate(equalProcessConfig, OperatingSystem.DEFAULT_OS).getCommand());
+        assertNotSame(launchTemplate.getCommand(),
+                launchTemplateCache.getLaunchTemplate(PROCESS_CONFIG, OperatingSystem.WINDOWS_2022).getCommand());
+        assertNotSame(launchTemplate.getCommand(),
+                new LaunchTemplateCache().getLaunchTemplate(PROCESS_CONFIG, OperatingSystem.DEFAULT_OS).getCommand());
+    }
+
+    @Test
+    public void GIVEN_linux_WHEN_getLaunchTemplate_THEN_workingDirectoryOnlyUsedIfItExists() {
+        // GIVEN
+        final File launchPathPrefix = new File(OperatingSystem.DEFAULT_OS.getLaunchPathPrefix());
+
+        // WHEN
+        final LaunchTemplate launchTemplate =
+                launchTemplateCache.getLaunchTemplate(PROCESS_CONFIG, OperatingSystem.DEFAULT_OS);
+
+        // THEN
+        assertEquals(launchPathPrefix.exists() ? launchPathPrefix : null, launchTemplate.getWorkingDirectory());
+        assertEquals(launchPathPrefix, LaunchTemplateCache.createLaunchTemplate(PROCESS_CONFIG,
+                OperatingSystem.DEFAULT_OS).getWorkingDirectory());
+    }
+
+    @Test
+    public void GIVEN_linux_WHEN_createLaunchTemplate_THEN_commandVectorResolved() {
+        // WHEN
+        final LaunchTemplate launchTemplate =
+                LaunchTemplateCache.createLaunchTemplate(PROCESS_CONFIG, OperatingSystem.DEFAULT_OS);
+
+        // THEN
+        assertEquals(List.of("setsid", "testCommand", "--parameter1", "--parameter2"), launchTemplate.getCommand());
+        assertNull(launchTemplate.getCommandLine());
+        assertThrows(UnsupportedOperationException.class, () -> launchTemplate.getCommand().add("--parameter3"));
+    }
+
+    @Test
+    public void GIVEN_windows_WHEN_createLaunchTemplate_THEN_commandLineResolved() {
+        // WHEN
+        final LaunchTemplate launchTemplate =
+                LaunchTemplateCache.createLaunchTemplate(PROCESS_CONFIG, OperatingSystem.WINDOWS_2022);
+
+        // THEN
+        assertEquals("\"testCommand\" --parameter1 --parameter2", launchTemplate.getCommandLine());
+        assertNull(launchTemplate.getWorkingDirectory());
+    }
+}
@@ -7,8 +7,10 @@ import com.amazon.gamelift.agent.model.GameProcessConfiguration;
 import com.amazon.gamelift.agent.model.OperatingSystem;
 import com.amazon.gamelift.agent.model.exception.BadExecutablePathException;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.Map;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,6 +18,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -33,7 +36,10 @@ public class LinuxProcessBuilderTest {
     @Mock private ProcessBuilder mockProcessBuilder;
     @Mock private Process mockProcess;
     @Mock private Map<String, String> mockEnvironmentVariableMap;
+    @Mock private ForkServer mockForkServer;
+    @Mock private ProcessOutputCapture mockProcessOutputCapture;
 
+    private final LaunchTemplateCache launchTemplateCache = new LaunchTemplateCache();
     private LinuxProcessBuilderWrapper linuxProcessBuilderWrapper;
     private LinuxProcessBuilderWrapper spyLinuxProcessBuilderWrapper;
 
@@ -41,7 +47,7 @@ public class LinuxProcessBuilderTest {
     public void setup() {
 
         linuxProcessBuilderWrapper = new LinuxProcessBuilderWrapper(PROCESS_CONFIG, OPERATING_SYSTEM,
-                mockProcessBuilder);
+                mockProcessBuilder, mockForkServer, mockProcessOutputCapture, launchTemplateCache);
         spyLinuxProcessBuilderWrapper = spy(linuxProcessBuilderWrapper);
     }
 
@@ -61,6 +67,25 @@ public class LinuxProcessBuilderTest {
         verify(mockProcessBuilder).redirectError(ProcessBuilder.Redirect.DISCARD);
     }
 
+    @Test
+    public void GIVEN_outputCaptureEnabled_WHEN_buildProcess_THEN_outputRedirectedToFileAndCaptured()
+            throws IOException, BadExecutablePathException {
+        // GIVEN
+        final File outputFile = new File("process-output.out");
+        when(spyLinuxProcessBuilderWrapper.verifyLaunchFileExists()).thenReturn(true);
+        when(mockProcessOutputCapture.createOutputFile()).thenReturn(Optional.of(outputFile));
+        when(mockProcessBuilder.start()).thenReturn(mockProcess);
+
+        // WHEN
+        Process process = spyLinuxProcessBuilderWrapper.buildProcess(mockEnvironmentVariableMap);
+
+        // THEN
+        assertEquals(mockProcess, process);
+        verify(mockProcessBuilder).redirectErrorStream(true);
+        verify(mockProcessBuilder).redirectOutput(ProcessBuilder.Redirect.appendTo(outputFile));
+        verify(mockProcessOutputCapture).capture(mockProcess, outputFile);
+    }
+
     @Test
     public void GIVEN_ioExceptionOnStart_WHEN_start_THEN_returnsProcessUuid() throws IOException {
         // GIVEN
@@ -78,4 +103,51 @@ public class LinuxProcessBuilderTest {
         assertThrows(BadExecutablePathException.class, () ->
                 linuxProcessBuilderWrapper.buildProcess(mockEnvironmentVariableMap));
     }
+
+    @Test
+    public void GIVEN_forkServerEnabled_WHEN_buildProcess_THEN_processLaunchedThroughForkServer()
+            throws IOException, BadExecutablePathException {
+        // GIVEN
+        when(spyLinuxProcessBuilderWrapper.verifyLaunchFileExists()).thenReturn(true);
+        when(mockForkServer.isEnabled()).thenReturn(true);
+        when(mockForkServer.launch(launchTemplateCache.getLaunchTemplate(PROCESS_CONFIG, OPERATING_SYSTEM),
+                mockEnvironmentVariableMap)).thenReturn(Optional.of(mockProcess));
+
+        // WHEN
+        Process process = spyLinuxProcessBuilderWrapper.buildProcess(mockEnvironmentVariableMap);
+
+        // THEN
+        assertEquals(mockProcess, process);
+        verify(mockProcessBuilder, never()).start();
+    }
+
+    @Test
+    public void GIVEN_forkServerCannotSendLaunch_WHEN_buildProcess_THEN_processLaunchedWithProcessBuilder()
+            throws IOException, BadExecutablePathException {
+        // GIVEN
+        when(spyLinuxProcessBuilderWrapper.verifyLaunchFileExists()).thenReturn(true);
+        when(mockForkServer.isEnabled()).thenReturn(true);
+        when(mockForkServer.launch(launchTemplateCache.getLaunchTemplate(PROCESS_CONFIG, OPERATING_SYSTEM),
+                mockEnvironmentVariableMap)).thenReturn(Optional.empty());
+        when(mockProcessBuilder.start()).thenReturn(mockProcess);
+
+        // WHEN
+        Process process = spyLinuxProcessBuilderWrapper.buildProcess(mockEnvironmentVariableMap);
+
+        // THEN
+        assertEquals(mockProcess, process);
+    }
+
+    @Test
+    public void GIVEN_forkServerFailsLaunch_WHEN_buildProcess_THEN_throwException() throws IOException {
+        // GIVEN
+        when(spyLinuxProcessBuilderWrapper.verifyLaunchFileExists()).thenReturn(true);
+        when(mockForkServer.isEnabled()).thenReturn(true);
+        when(mockForkServer.launch(launchTemplateCache.getLaunchTemplate(PROCESS_CONFIG, OPERATING_SYSTEM),
+                mockEnvironmentVariableMap)).thenThrow(new IOException("unit-test"));
+
+        // WHEN
+        assertThrows(RuntimeException.class, () ->
+                spyLinuxProcessBuilderWrapper.buildProcess(mockEnvironmentVariableMap));
+    }
 }
@@ -7,7 +7,9 @@ import com.amazon.gamelift.agent.model.GameProcessConfiguration;
 import com.amazon.gamelift.agent.model.OperatingSystem;
 import com.amazon.gamelift.agent.model.OperatingSystemFamily;
 
+import java.io.File;
 import java.util.Arrays;
+import java.util.concurrent.ScheduledExecutorService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -22,6 +24,8 @@ public class ProcessBuilderFactoryTest {
 
     @Mock
     private GameProcessConfiguration mockGameProcessConfiguration;
+    @Mock
+    private ScheduledExecutorService mockExecutorService;
 
     @Test
     public void GIVEN_os_WHEN_getProcessBuilder_THEN_returnsCorrectProcessBuilder() {
@@ -32,7 +36,9 @@ public class ProcessBuilderFactoryTest {
         for (final OperatingSystem operatingSystem : OperatingSystem.values()) {
             try {
                 ProcessBuilderWrapper processBuilderWrapper =
-                        ProcessBuilderFactory.getProcessBuilder(mockGameProcessConfiguration, operatingSystem);
+                        ProcessBuilderFactory.getProcessBuilder(mockGameProcessConfiguration, operatingSystem,
+                                new ForkServer(false), new ProcessOutputCapture(0, new File("logs"), mockExecutorService),
+                                new LaunchTemplateCache());
                 if (OperatingSystemFamily.WINDOWS.equals(operatingSystem.getOperatingSystemFamily())) {
                     // Current implementation of WindowsProcessBuilderWrapper & WindowsProcess requires dlls to exist
                     // on Compute. This condition will currently not be hit.
@@ -0,0 +1,227 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process.builder;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class ProcessOutputCaptureTest {
+
+    @Mock private Process mockProcess;
+    @Mock private ScheduledExecutorService mockExecutorService;
+    @TempDir private File agentLogDirectory;
+
+    @Test
+    public void GIVEN_noTailSize_WHEN_createOutputFile_THEN_outputNotCaptured() {
+        // GIVEN
+        final ProcessOutputCapture processOutputCapture =
+                new ProcessOutputCapture(0, agentLogDirectory, mockExecutorService);
+
+        // WHEN
+        final Optional<File> outputFile = processOutputCapture.createOutputFile();
+
+        // THEN
+        assertFalse(processOutputCapture.isEnabled());
+        assertEquals(Optional.empty(), outputFile);
+        assertEquals(Optional.empty(), processOutputCapture.release(mockProcess));
+        assertFalse(getOutputDirectory().exists());
+        verifyNoInteractions(mockProcess, mockExecutorService);
+    }
+
+    @Test
+    public void GIVEN_processWritesStdoutAndStderr_WHEN_release_THEN_combinedOutputReturnedAndFileDeleted()
+            throws IOException, InterruptedException {
+        // GIVEN
+        final ProcessOutputCapture processOutputCapture =
+                new ProcessOutputCapture(1, agentLogDirectory, mockExecutorService);
+        final File outputFile = processOutputCapture.createOutputFile().get();
+        final Process process = startShell("echo out; echo err >&2", outputFile);
+        processOutputCapture.capture(process, outputFile);
+        assertTrue(process.waitFor(10, TimeUnit.SECONDS));
+
+        // WHEN
+        final Optional<byte[]> outputTail = processOutputCapture.release(process);
+
+        // THEN
+        assertEquals("out\nerr\n", new String(outputTail.get(), StandardCharsets.US_ASCII));
+        assertEquals(0, getOutputDirectory().listFiles().length);
+        verify(mockExecutorService).scheduleWithFixedDelay(any(), eq(ProcessOutputCapture.SIZE_CHECK_INTERVAL_MILLIS),
+                eq(ProcessOutputCapture.SIZE_CHECK_INTERVAL_MILLIS), eq(TimeUnit.MILLISECONDS));
+        // Output is only returned once
+        assertEquals(Optional.empty(), processOutputCapture.release(process));
+    }
+
+    @Test
+    public void GIVEN_processWritesMoreThanTailSize_WHEN_release_THEN_processNotBlockedAndTailKept()
+            throws IOException, InterruptedException {
+        // GIVEN
+        final ProcessOutputCapture processOutputCapture =
+                new ProcessOutputCapture(1, agentLogDirectory, mockExecutorService);
+        final File outputFile = processOutputCapture.createOutputFile().get();
+        final Process process = startShell("head -c 1048576 /dev/zero | tr '\\0' a; printf END", outputFile);
+        processOutputCapture.capture(process, outputFile);
+        assertTrue(process.waitFor(10, TimeUnit.SECONDS));
+
+        // WHEN
+        final String outputTail = new String(processOutputCapture.release(process).get(), StandardCharsets.US_ASCII);
+
+        // THEN
+        assertEquals(1024, outputTail.length());
+        assertTrue(outputTail.endsWith("aaaEND"));
+    }
+
+    @Test
+    public void GIVEN_processWritesNothing_WHEN_release_THEN_emptyReturnedAndFileDeleted()
+            throws IOException, InterruptedException {
+        // GIVEN
+        final ProcessOutputCapture processOutputCapture =
+                new ProcessOutputCapture(1, agentLogDirectory, mockExecutorService);
+        final File outputFile = processOutputCapture.createOutputFile().get();
+        final Process process = startShell("true", outputFile);
+        processOutputCapture.capture(process, outputFile);
+        assertTrue(process.waitFor(10, TimeUnit.SECONDS));
+
+        // WHEN
+        final Optional<byte[]> outputTail = processOutputCapture.release(process);
+
+        // THEN
+        assertEquals(Optional.empty(), outputTail);
+        assertEquals(0, getOutputDirectory().listFiles().length);
+    }
+
+    @Test
+    public void GIVEN_outputFileOverSizeLimit_WHEN_enforceSizeLimit_THEN_fileTruncatedAndTailKept()
+            throws IOException, InterruptedException {
+        // GIVEN
+        final ProcessOutputCapture processOutputCapture =
+                new ProcessOutputCapture(1, agentLogDirectory, mockExecutorService);
+        final File outputFile = processOutputCapture.createOutputFile().get();
+        final Process process = startShell("head -c 8192 /dev/zero | tr '\\0' a", outputFile);
+        processOutputCapture.capture(process, outputFile);
+        assertTrue(process.waitFor(10, TimeUnit.SECONDS));
+        final File capturedFile = getOutputDirectory().listFiles()[0];
+
+        // WHEN
+        processOutputCapture.enforceSizeLimit();
+
+        // THEN
+        assertEquals(0, capturedFile.length());
+        Files.write(capturedFile.toPath(), "bbb".getBytes(StandardCharsets.US_ASCII), StandardOpenOption.APPEND);
+        final String outputTail = new String(processOutputCapture.release(process).get(), StandardCharsets.US_ASCII);
+        assertEquals(1024, outputTail.length());
+        assertTrue(outputTail.startsWith("aaa"));
+        assertTrue(outputTail.endsWith("aaabbb"));
+    }
+
+    @Test
+    public void GIVEN_outputFileUnderSizeLimit_WHEN_enforceSizeLimit_THEN_fileKept()
+            throws IOException, InterruptedException {
+        // GIVEN
+        final ProcessOutputCapture processOutputCapture =
+                new ProcessOutputCapture(1, agentLogDirectory, mockExecutorService);
+        final File outputFile = processOutputCapture.createOutputFile().get();
+        final Process process = startShell("head -c 4096 /dev/zero | tr '\\0' a", outputFile);
+        processOutputCapture.capture(process, outputFile);
+        assertTrue(process.waitFor(10, TimeUnit.SECONDS));
+        final File capturedFile = getOutputDirectory().listFiles()[0];
+
+        // WHEN
+        processOutputCapture.enforceSizeLimit();
+
+        // THEN
+        assertEquals(4096, capturedFile.length());
+    }
+
+    @Test
+    public void GIVEN_outputFileOfRunningProcess_WHEN_adopt_THEN_outputCapturedAgain() throws IOException {
+        // GIVEN
+        final Process process = new ProcessBuilder("sleep", "30").start();
+        try {
+            final File outputFile = getProcessOutputFile(process.toHandle());
+            Files.createDirectories(getOutputDirectory().toPath());
+            Files.write(outputFile.toPath(), "before restart\n".getBytes(StandardCharsets.US_ASCII));
+            final ProcessOutputCapture processOutputCapture =
+                    new ProcessOutputCapture(1, agentLogDirectory, mockExecutorService);
+
+            // WHEN
+            processOutputCapture.adopt(process);
+            processOutputCapture.createOutputFile();
+
+            // THEN
+            assertTrue(outputFile.exists());
+            final Optional<byte[]> outputTail = processOutputCapture.release(process);
+            assertEquals("before restart\n", new String(outputTail.get(), StandardCharsets.US_ASCII));
+            assertFalse(outputFile.exists());
+        } finally {
+            process.destroyForcibly();
+        }
+    }
+
+    @Test
+    public void GIVEN_outputFilesFromPreviousRun_WHEN_createOutputFile_THEN_onlyFilesOfExitedProcessesDeleted()
+            throws IOException {
+        // GIVEN
+        Files.createDirectories(getOutputDirectory().toPath());
+        final File staleOutputFile = new File(getOutputDirectory(), "process-stale.out");
+        final File reusedPidOutputFile = new File(getOutputDirectory(),
+                String.format("process-%d-1.out", ProcessHandle.current().pid()));
+        final File runningOutputFile = getProcessOutputFile(ProcessHandle.current());
+        final File unrelatedFile = new File(getOutputDirectory(), "unrelated.txt");
+        assertTrue(staleOutputFile.createNewFile());
+        assertTrue(reusedPidOutputFile.createNewFile());
+        assertTrue(runningOutputFile.createNewFile());
+        assertTrue(unrelatedFile.createNewFile());
+        final ProcessOutputCapture processOutputCapture =
+                new ProcessOutputCapture(1, agentLogDirectory, mockExecutorService);
+
+        // WHEN
+        final File firstOutputFile = processOutputCapture.createOutputFile().get();
+        final File secondOutputFile = processOutputCapture.createOutputFile().get();
+
+        // THEN
+        assertFalse(staleOutputFile.exists());
+        assertFalse(reusedPidOutputFile.exists());
+        assertTrue(runningOutputFile.exists());
+        assertTrue(unrelatedFile.exists());
+        assertTrue(firstOutputFile.exists());
+        assertTrue(secondOutputFile.exists());
+    }
+
+    private File getOutputDirectory() {
+        return new File(agentLogDirectory, ProcessOutputCapture.OUTPUT_DIRECTORY_NAME);
+    }
+
+    private File getProcessOutputFile(final ProcessHandle processHandle) {
+        return new File(getOutputDirectory(), String.format("process-%d-%d.out", processHandle.pid(),
+                processHandle.info().startInstant().get().toEpochMilli()));
+    }
+
+    private static Process startShell(final String script, final File outputFile) throws IOException {
+        return new ProcessBuilder("/bin/sh", "-c", script)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.appendTo(outputFile))
+                .start();
+    }
+}
@@ -22,6 +22,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @Slf4j
@@ -58,6 +59,18 @@ public class LinuxProcessDestroyerTest {
         verify(mockProcessBuilder).command(List.of("kill", "-9", "-" + processUUID));
     }
 
+    @Test
+    public void GIVEN_processWithInvalidPgid_WHEN_destroyProcess_THEN_throwsExceptionWithoutKilling() {
+        // GIVEN
+        when(mockInternalProcess.pid()).thenReturn(0L);
+
+        // WHEN
+        assertThrows(RuntimeException.class, () -> linuxProcessDestroyer.destroyProcess(mockInternalProcess));
+
+        // THEN
+        verifyNoInteractions(mockProcessBuilder);
+    }
+
     @Test
     public void GIVEN_processBuilderFailsStart_WHEN_destroyProcess_THEN_throwsException() throws IOException {
         // GIVEN
@@ -0,0 +1,217 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.process.destroyer;
+
+import com.amazon.gamelift.agent.linux.LibC;
+import com.amazon.gamelift.agent.model.OperatingSystem;
+import com.sun.jna.LastErrorException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class LinuxSignalProcessDestroyerTest {
+
+    private static final OperatingSystem OPERATING_SYSTEM = OperatingSystem.DEFAULT_OS;
+    private static final long TEST_PID = 12345L;
+    private static final Duration GRACE_PERIOD = Duration.ofSeconds(5);
+
+    @Mock private Process mockInternalProcess;
+    @Mock private LibC mockLibC;
+    @Mock private ProcessDestroyer mockFallbackProcessDestroyer;
+    @Mock private ScheduledExecutorService mockEscalationExecutorService;
+    @Mock private ScheduledFuture<?> mockEscalation;
+
+    @Test
+    public void GIVEN_noGracePeriod_WHEN_destroyProcess_THEN_killsProcessGroup() {
+        // GIVEN
+        final LinuxSignalProcessDestroyer destroyer = newDestroyer(mockLibC, Duration.ZERO);
+        when(mockInternalProcess.pid()).thenReturn(TEST_PID);
+        when(mockInternalProcess.onExit()).thenReturn(new CompletableFuture<>());
+
+        // WHEN
+        destroyer.destroyProcess(mockInternalProcess);
+
+        // THEN
+        verify(mockLibC).kill((int) -TEST_PID, LibC.SIGKILL);
+        verifyNoInteractions(mockEscalationExecutorService, mockFallbackProcessDestroyer);
+    }
+
+    @Test
+    public void GIVEN_gracePeriod_WHEN_destroyProcess_THEN_terminatesThenKillsAfterGracePeriod() {
+        // GIVEN
+        final LinuxSignalProcessDestroyer destroyer = newDestroyer(mockLibC, GRACE_PERIOD);
+        when(mockInternalProcess.pid()).thenReturn(TEST_PID);
+        when(mockInternalProcess.onExit()).thenReturn(new CompletableFuture<>());
+        when(mockInternalProcess.isAlive()).thenReturn(true);
+        final ArgumentCaptor<Runnable> escalationCaptor = givenEscalationScheduled();
+
+        // WHEN
+        destroyer.destroyProcess(mockInternalProcess);
+
+        // THEN
+        verify(mockLibC).kill((int) -TEST_PID, LibC.SIGTERM);
+        verify(mockLibC, never()).kill((int) -TEST_PID, LibC.SIGKILL);
+
+        // WHEN
+        escalationCaptor.getValue().run();
+
+        // THEN
+        final InOrder inOrder = inOrder(mockLibC);
+        inOrder.verify(mockLibC).kill((int) -TEST_PID, LibC.SIGTERM);
+        inOrder.verify(mockLibC).kill((int) -TEST_PID, LibC.SIGKILL);
+        verifyNoInteractions(mockFallbackProcessDestroyer);
+    }
+
+    @Test
+    public void GIVEN_processGroupAlreadyExited_WHEN_destroyProcess_THEN_noEscalationOrFallback() {
+        // GIVEN
+        final LinuxSignalProcessDestroyer destroyer = newDestroyer(mockLibC, GRACE_PERIOD);
+        when(mockInternalProcess.pid()).thenReturn(TEST_PID);
+        when(mockInternalProcess.onExit()).thenReturn(new CompletableFuture<>());
+        when(mockLibC.kill(anyInt(), anyInt())).thenThrow(new LastErrorException(LibC.ESRCH));
+
+        // WHEN
+        destroyer.destroyProcess(mockInternalProcess);
+
+        // THEN
+        verifyNoInteractions(mockEscalationExecutorService, mockFallbackProcessDestroyer);
+    }
+
+    @Test
+    public void GIVEN_processExitsWithinGracePeriod_WHEN_destroyProcess_THEN_escalationCancelled() {
+        // GIVEN
+        final LinuxSignalProcessDestroyer destroyer = newDestroyer(mockLibC, GRACE_PERIOD);
+        final CompletableFuture<Process> onExit = new CompletableFuture<>();
+        when(mockInternalProcess.pid()).thenReturn(TEST_PID);
+        when(mockInternalProcess.onExit()).thenReturn(onExit);
+        final ArgumentCaptor<Runnable> escalationCaptor = givenEscalationScheduled();
+        destroyer.destroyProcess(mockInternalProcess);
+
+        // WHEN
+        onExit.complete(mockInternalProcess);
+        escalationCaptor.getValue().run();
+
+        // THEN
+        verify(mockEscalation).cancel(false);
+        // The PGID may have been reused once the leader exited, so the group is never sent SIGKILL
+        verify(mockLibC, never()).kill((int) -TEST_PID, LibC.SIGKILL);
+        verifyNoInteractions(mockFallbackProcessDestroyer);
+    }
+
+    @Test
+    public void GIVEN_signalFails_WHEN_destroyProcess_THEN_usesFallback() {
+        // GIVEN
+        final int errnoPermissionDenied = 1;
+        final LinuxSignalProcessDestroyer destroyer = newDestroyer(mockLibC, Duration.ZERO);
+        when(mockInternalProcess.pid()).thenReturn(TEST_PID);
+        when(mockInternalProcess.onExit()).thenReturn(new CompletableFuture<>());
+        when(mockLibC.kill(anyInt(), anyInt())).thenThrow(new LastErrorException(errnoPermissionDenied));
+
+        // WHEN
+        destroyer.destroyProcess(mockInternalProcess);
+
+        // THEN
+        verify(mockFallbackProcessDestroyer).destroyProcess(mockInternalProcess);
+    }
+
+    @Test
+    public void GIVEN_libCUnavailable_WHEN_destroyProcess_THEN_usesFallback() {
+        // GIVEN
+        final LinuxSignalProcessDestroyer destroyer = newDestroyer(null, Duration.ZERO);
+        when(mockInternalProcess.pid()).thenReturn(TEST_PID);
+        when(mockInternalProcess.onExit()).thenReturn(new CompletableFuture<>());
+
+        // WHEN
+        destroyer.destroyProcess(mockInternalProcess);
+
+        // THEN
+        verify(mockFallbackProcessDestroyer).destroyProcess(mockInternalProcess);
+    }
+
+    @Test
+    public void GIVEN_processWithInvalidPgid_WHEN_destroyProcess_THEN_throwsExceptionWithoutKilling() {
+        // GIVEN
+        final LinuxSignalProcessDestroyer destroyer = newDestroyer(mockLibC, Duration.ZERO);
+        when(mockInternalProcess.pid()).thenReturn(1L);
+
+        // WHEN
+        assertThrows(RuntimeException.class, () -> destroyer.destroyProcess(mockInternalProcess));
+
+        // THEN
+        verifyNoInteractions(mockLibC, mockFallbackProcessDestroyer);
+    }
+
+    @Test
+    public void GIVEN_windowsOs_WHEN_construct_THEN_throwsException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new LinuxSignalProcessDestroyer(OperatingSystem.WINDOWS_2019, Duration.ZERO, null));
+    }
+
+    @Test
+    public void GIVEN_gracePeriodWithoutEscalationExecutor_WHEN_construct_THEN_throwsException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new LinuxSignalProcessDestroyer(OPERATING_SYSTEM, GRACE_PERIOD, null));
+    }
+
+    /**
+     * Destroys a real process group through kill(2): a process which ignores SIGTERM is killed once the grace period
+     * has passed.
+     */
+    @Test
+    public void GIVEN_processIgnoringSigterm_WHEN_destroyProcess_THEN_killedAfterGracePeriod() throws Exception {
+        // GIVEN - setsid assigns a separate PGID to the process, otherwise it would share the test JVM's group
+        final Process process = new ProcessBuilder("setsid", "sh", "-c", "trap '' TERM; sleep 30").start();
+        final ScheduledExecutorService escalationExecutorService = Executors.newSingleThreadScheduledExecutor();
+        final LinuxSignalProcessDestroyer destroyer =
+                new LinuxSignalProcessDestroyer(OPERATING_SYSTEM, Duration.ofMillis(500), escalationExecutorService);
+        // Give the shell time to install the trap
+        Thread.sleep(200);
+
+        try {
+            // WHEN
+            destroyer.destroyProcess(process);
+
+            // THEN
+            assertFalse(process.waitFor(200, TimeUnit.MILLISECONDS));
+            assertTrue(process.waitFor(5, TimeUnit.SECONDS));
+        } finally {
+            escalationExecutorService.shutdownNow();
+        }
+    }
+
+    private ArgumentCaptor<Runnable> givenEscalationScheduled() {
+        final ArgumentCaptor<Runnable> escalationCaptor = ArgumentCaptor.forClass(Runnable.class);
+        doReturn(mockEscalation).when(mockEscalationExecutorService)
+                .schedule(escalationCaptor.capture(), eq(GRACE_PERIOD.toMillis()), eq(TimeUnit.MILLISECONDS));
+        return escalationCaptor;
+    }
+
+    private LinuxSignalProcessDestroyer newDestroyer(final LibC libC, final Duration gracePeriod) {
+        return new LinuxSignalProcessDestroyer(OPERATING_SYSTEM, libC, gracePeriod,
+                () -> mockFallbackProcessDestroyer, mockEscalationExecutorService);
+    }
+}
@@ -28,13 +28,13 @@ public class ProcessDestroyerFactoryTest {
 
     @ParameterizedTest
     @ValueSource(strings = {"AMAZON_LINUX_2", "AMAZON_LINUX_2023", "UNKNOWN_LINUX"})
-    public void GIVEN_linuxOs_WHEN_getProcessDestroyer_THEN_returnsLinuxProcessDestroyer(String os) {
+    public void GIVEN_linuxOs_WHEN_getProcessDestroyer_THEN_returnsLinuxSignalProcessDestroyer(String os) {
         // GIVEN
         OperatingSystem operatingSystem = OperatingSystem.fromString(os);
         // WHEN
         ProcessDestroyer processDestroyer = ProcessDestroyerFactory.getProcessDestroyer(operatingSystem);
         // THEN
-        assertInstanceOf(LinuxProcessDestroyer.class, processDestroyer);
+        assertInstanceOf(LinuxSignalProcessDestroyer.class, processDestroyer);
     }
 
     @Test
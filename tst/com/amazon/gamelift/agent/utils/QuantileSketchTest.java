@@ -0,0 +1,80 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class QuantileSketchTest {
+
+    private static final double RELATIVE_ACCURACY = 0.01;
+    private static final double MAX_VALUE = 3_600_000;
+
+    @Test
+    public void GIVEN_emptySketch_WHEN_getQuantile_THEN_zero() {
+        // GIVEN
+        final QuantileSketch sketch = new QuantileSketch(RELATIVE_ACCURACY, MAX_VALUE);
+
+        // WHEN
+        final double quantile = sketch.getQuantile(0.999);
+
+        // THEN
+        assertEquals(0, quantile);
+        assertEquals(0, sketch.getCount());
+    }
+
+    @Test
+    public void GIVEN_uniformValues_WHEN_getQuantile_THEN_withinRelativeAccuracy() {
+        // GIVEN
+        final QuantileSketch sketch = new QuantileSketch(RELATIVE_ACCURACY, MAX_VALUE);
+        for (int value = 1; value <= 10_000; value++) {
+            sketch.add(value);
+        }
+
+        // WHEN / THEN
+        assertEquals(10_000, sketch.getCount());
+        assertEquals(5_000, sketch.getQuantile(0.5), 5_000 * RELATIVE_ACCURACY);
+        assertEquals(9_990, sketch.getQuantile(0.999), 9_990 * RELATIVE_ACCURACY);
+        assertEquals(10_000, sketch.getQuantile(1), 10_000 * RELATIVE_ACCURACY);
+    }
+
+    @Test
+    public void GIVEN_skewedValues_WHEN_getQuantile_THEN_tailEstimatedWithinRelativeAccuracy() {
+        // GIVEN
+        final QuantileSketch sketch = new QuantileSketch(RELATIVE_ACCURACY, MAX_VALUE);
+        final Random random = new Random(42);
+        for (int i = 0; i < 999; i++) {
+            sketch.add(2_000 + random.nextInt(1_000));
+        }
+        sketch.add(60_000);
+
+        // WHEN
+        final double maxQuantile = sketch.getQuantile(1);
+
+        // THEN
+        assertEquals(60_000, maxQuantile, 60_000 * RELATIVE_ACCURACY);
+    }
+
+    @Test
+    public void GIVEN_valueAboveMaxValue_WHEN_getQuantile_THEN_clampedToMaxValue() {
+        // GIVEN
+        final QuantileSketch sketch = new QuantileSketch(RELATIVE_ACCURACY, MAX_VALUE);
+
+        // WHEN
+        sketch.add(MAX_VALUE * 10);
+
+        // THEN
+        assertEquals(MAX_VALUE, sketch.getQuantile(0.5), MAX_VALUE * RELATIVE_ACCURACY);
+    }
+
+    @Test
+    public void GIVEN_invalidRelativeAccuracy_WHEN_construct_THEN_throwIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new QuantileSketch(0, MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> new QuantileSketch(1, MAX_VALUE));
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright Amazon.com Inc. or its affiliates. All Rights Reserved.
+ */
+package com.amazon.gamelift.agent.websocket;
+
+import com.amazon.gamelift.agent.model.websocket.SendHeartbeatRequest;
+import com.amazon.gamelift.agent.model.websocket.base.WebsocketRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.http.WebSocket;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of sending messages over an AgentWebSocket from many threads at once, as during a burst of
+ * process termination notices racing the heartbeat. The synchronized benchmark reproduces the previous send path,
+ * which serialized and sent every message while holding the AgentWebSocket monitor; the lock-free benchmark uses the
+ * outbound queue. The connection accepts every frame immediately, so only the cost of the send path is measured.
+ *
+ * Run with:
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.openjdk.jmh.Main \
+ *     -Dexec.args=AgentWebSocketSendBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class AgentWebSocketSendBenchmark {
+
+    private static final int PROCESS_COUNT = 50;
+
+    private SendHeartbeatRequest request;
+    private AgentWebSocket agentWebSocket;
+    private SynchronizedSender synchronizedSender;
+
+    @Setup
+    public void setup() {
+        final List<String> processList = new ArrayList<>();
+        for (int i = 0; i < PROCESS_COUNT; i++) {
+            processList.add(UUID.randomUUID().toString());
+        }
+        request = new SendHeartbeatRequest("Active", processList, System.currentTimeMillis());
+
+        final ObjectMapper objectMapper = new ObjectMapper();
+        final WebSocket webSocket = new ImmediateWebSocket();
+        agentWebSocket = new AgentWebSocket(webSocket,
+                new GameLiftAgentWebSocketListener(null, Map.of(), objectMapper), null, "benchmarkEndpoint",
+                objectMapper);
+        synchronizedSender = new SynchronizedSender(webSocket, objectMapper);
+    }
+
+    @Benchmark
+    public CompletableFuture<WebSocket> synchronizedSend() {
+        return synchronizedSender.sendRequestAsync(request);
+    }
+
+    @Benchmark
+    public CompletableFuture<WebSocket> lockFreeSend() {
+        return agentWebSocket.sendRequestAsync(request);
+    }
+
+    /**
+     * The previous send path of AgentWebSocket
+     */
+    private static final class SynchronizedSender {
+        private final WebSocket webSocketSender;
+        private final ObjectMapper objectMapper;
+        private final Queue<WebsocketRequest> requestQueue = new LinkedList<>();
+        private boolean messageInFlight;
+
+        SynchronizedSender(final WebSocket webSocketSender, final ObjectMapper objectMapper) {
+            this.webSocketSender = webSocketSender;
+            this.objectMapper = objectMapper;
+        }
+
+        synchronized CompletableFuture<WebSocket> sendRequestAsync(final WebsocketRequest message) {
+            if (!messageInFlight) {
+                if (!webSocketSender.isInputClosed()) {
+                    messageInFlight = true;
+                    return sendText(message);
+                }
+                return null;
+            }
+            requestQueue.add(message);
+            return null;
+        }
+
+        private synchronized CompletableFuture<WebSocket> sendText(final WebsocketRequest message) {
+            try {
+                final CompletableFuture<WebSocket> future =
+                        webSocketSender.sendText(objectMapper.writeValueAsString(message), true);
+                future.thenRun(this::handleSendTextCompletion);
+                return future;
+            } catch (final JsonProcessingException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        private synchronized void handleSendTextCompletion() {
+            if (!requestQueue.isEmpty()) {
+                sendText(requestQueue.poll());
+            } else {
+                messageInFlight = false;
+            }
+        }
+    }
+
+    /**
+     * A WebSocket which accepts every frame immediately
+     */
+    private static final class ImmediateWebSocket implements WebSocket {
+        private final CompletableFuture<WebSocket> sent = CompletableFuture.completedFuture(this);
+
+        @Override
+        public CompletableFuture<WebSocket> sendText(final CharSequence data, final boolean last) {
+            return sent;
+        }
+
+        @Override
+        public CompletableFuture<WebSocket> sendBinary(final ByteBuffer data, final boolean last) {
+            return sent;
+        }
+
+        @Override
+        public CompletableFuture<WebSocket> sendPing(final ByteBuffer message) {
+            return sent;
+        }
+
+        @Override
+        public CompletableFuture<WebSocket> sendPong(final ByteBuffer message) {
+            return sent;
+        }
+
+        @Override
+        public CompletableFuture<WebSocket> sendClose(final int statusCode, final String reason) {
+            return sent;
+        }
+
+        @Override
+        public void request(final long n) {
+        }
+
+        @Override
+        public String getSubprotocol() {
+            return "";
+        }
+
+        @Override
+        public boolean isOutputClosed() {
+            return false;
+        }
+
+        @Override
+        public boolean isInputClosed() {
+            return false;
+        }
+
+        @Override
+        public void abort() {
+        }
+    }
+}
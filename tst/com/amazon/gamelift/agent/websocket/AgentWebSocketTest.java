@@ -14,6 +14,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -22,6 +23,8 @@ import static org.mockito.Mockito.when;
 import java.net.http.WebSocket;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
@@ -50,6 +53,7 @@ import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.invocation.InvocationOnMock;
@@ -277,8 +281,9 @@ public class AgentWebSocketTest {
                 }
                 if (future != null) {
                     future.future.complete(mockWebSocketSender);
-                    doneSignal.countDown();
+                    // Counted before the latch is released, so the test thread never reads a stale count
                     counter.getAndIncrement();
+                    doneSignal.countDown();
                 }
             } while (Instant.now().isBefore(timeout) && counter.intValue() < messageCount);
         });
@@ -319,6 +324,106 @@ public class AgentWebSocketTest {
         assertTrue(dq.isEmpty());
     }
 
+    @Test
+    public void GIVEN_sendInProgress_WHEN_sendRequestAsync_THEN_queuedMessagesSentInOrderOnCompletion()
+            throws Exception {
+        // GIVEN
+        final CompletableFuture<WebSocket> firstSendFuture = new CompletableFuture<>();
+        when(objectMapperSpy.writeValueAsString(any())).thenReturn("first", "second", "third");
+        when(mockWebSocketSender.sendText(any(), eq(true)))
+                .thenReturn(firstSendFuture)
+                .thenReturn(CompletableFuture.completedFuture(mockWebSocketSender));
+        final CompletableFuture<WebSocket> firstMessageFuture = webSocketClient.sendRequestAsync(new WebsocketRequest());
+
+        // WHEN
+        final CompletableFuture<WebSocket> secondMessageFuture =
+                webSocketClient.sendRequestAsync(new WebsocketRequest());
+        final CompletableFuture<WebSocket> thirdMessageFuture = webSocketClient.sendRequestAsync(new WebsocketRequest());
+        verify(mockWebSocketSender, times(1)).sendText(any(), eq(true));
+        firstSendFuture.complete(mockWebSocketSender);
+
+        // THEN
+        final InOrder inOrder = inOrder(mockWebSocketSender);
+        inOrder.verify(mockWebSocketSender).sendText("first", true);
+        inOrder.verify(mockWebSocketSender).sendText("second", true);
+        inOrder.verify(mockWebSocketSender).sendText("third", true);
+        assertTrue(firstMessageFuture.isDone());
+        assertTrue(secondMessageFuture.isDone());
+        assertTrue(thirdMessageFuture.isDone());
+    }
+
+    @Test
+    public void GIVEN_sendFails_WHEN_sendRequestAsync_THEN_messageFailedAndQueuedMessagesStillSent() throws Exception {
+        // GIVEN
+        final CompletableFuture<WebSocket> firstSendFuture = new CompletableFuture<>();
+        when(objectMapperSpy.writeValueAsString(any())).thenReturn("first", "second");
+        when(mockWebSocketSender.sendText(any(), eq(true)))
+                .thenReturn(firstSendFuture)
+                .thenReturn(CompletableFuture.completedFuture(mockWebSocketSender));
+        final CompletableFuture<WebSocket> firstMessageFuture = webSocketClient.sendRequestAsync(new WebsocketRequest());
+        final CompletableFuture<WebSocket> secondMessageFuture =
+                webSocketClient.sendRequestAsync(new WebsocketRequest());
+
+        // WHEN
+        firstSendFuture.completeExceptionally(new RuntimeException("Test send failure"));
+
+        // THEN
+        assertTrue(firstMessageFuture.isCompletedExceptionally());
+        assertEquals(mockWebSocketSender, secondMessageFuture.get(1, TimeUnit.SECONDS));
+        verify(mockWebSocketSender).sendText("second", true);
+    }
+
+    @Test
+    public void GIVEN_concurrentSenders_WHEN_sendRequestAsync_THEN_allMessagesSentOneAtATime() throws Exception {
+        // GIVEN
+        final int senderCount = 8;
+        final int messagesPerSender = 500;
+        final ExecutorService executorService = Executors.newFixedThreadPool(senderCount);
+        final ExecutorService completionExecutor = Executors.newSingleThreadExecutor();
+        final AtomicInteger sendsInProgress = new AtomicInteger();
+        final AtomicInteger overlappingSends = new AtomicInteger();
+        final AtomicInteger sentMessages = new AtomicInteger();
+        when(objectMapperSpy.writeValueAsString(any())).thenReturn(TEST_SERIALIZED_REQUEST);
+        doAnswer(invocation -> {
+            if (sendsInProgress.incrementAndGet() > 1) {
+                overlappingSends.incrementAndGet();
+            }
+            sentMessages.incrementAndGet();
+            // Alternate between sends accepted immediately and sends completing on another thread
+            if (random.nextBoolean()) {
+                sendsInProgress.decrementAndGet();
+                return CompletableFuture.completedFuture(mockWebSocketSender);
+            }
+            return CompletableFuture.supplyAsync(() -> {
+                sendsInProgress.decrementAndGet();
+                return mockWebSocketSender;
+            }, completionExecutor);
+        }).when(mockWebSocketSender).sendText(any(), eq(true));
+
+        // WHEN
+        final List<CompletableFuture<WebSocket>> messageFutures = new ArrayList<>();
+        final List<CompletableFuture<Void>> senders = new ArrayList<>();
+        for (int i = 0; i < senderCount; i++) {
+            senders.add(CompletableFuture.runAsync(() -> {
+                for (int j = 0; j < messagesPerSender; j++) {
+                    final CompletableFuture<WebSocket> messageFuture =
+                            webSocketClient.sendRequestAsync(new WebsocketRequest());
+                    synchronized (messageFutures) {
+                        messageFutures.add(messageFuture);
+                    }
+                }
+            }, executorService));
+        }
+        CompletableFuture.allOf(senders.toArray(new CompletableFuture[0])).get(15, TimeUnit.SECONDS);
+        CompletableFuture.allOf(messageFutures.toArray(new CompletableFuture[0])).get(15, TimeUnit.SECONDS);
+        executorService.shutdown();
+        completionExecutor.shutdown();
+
+        // THEN
+        assertEquals(senderCount * messagesPerSender, sentMessages.get());
+        assertEquals(0, overlappingSends.get());
+    }
+
     @Test
     public void GIVEN_inputClosed_WHEN_sendRequestAsync_THEN_doesNotSendMessage() {
         // GIVEN
@@ -355,6 +355,7 @@ public class WebSocketConnectionManagerTest {
             // THEN
             verify(gameLift, never()).registerCompute(any());
             verify(gameLift, never()).getComputeAuthToken(any());
+            verify(webSocketConnectionProvider).markConnectionLost();
 
             verify(mockWebSocketBuilder).buildAsync(uriCaptor.capture(), any(GameLiftAgentWebSocketListener.class));
             final String newUri = uriCaptor.getValue().toString();
@@ -410,6 +411,25 @@ public class WebSocketConnectionManagerTest {
         }
     }
 
+    @Test
+    public void GIVEN_reconnectRetriesExhausted_WHEN_handleWebSocketDisconnect_THEN_connectionStaysLost() {
+        // GIVEN
+        when(stateManager.isComputeTerminated()).thenReturn(false);
+        when(webSocketConnectionProvider.getCurrentConnection()).thenReturn(mockAgentWebSocket);
+        when(mockAgentWebSocket.getWebSocketIdentifier()).thenReturn(WEBSOCKET_IDENTIFIER);
+        when(mockAgentWebSocket.getWebSocketEndpoint()).thenReturn(RECONNECT_WEB_SOCKET_ENDPOINT);
+        when(computeAuthTokenManager.getComputeAuthToken()).thenReturn(RECONNECT_WEB_SOCKET_AUTH_TOKEN);
+        when(mockWebSocketBuilder.buildAsync(any(URI.class), any(GameLiftAgentWebSocketListener.class)))
+                .thenThrow(new RuntimeException("Test Error"));
+
+        // WHEN
+        assertThrows(RuntimeException.class, () -> connectionManager.handleWebSocketDisconnect(WEBSOCKET_IDENTIFIER));
+
+        // THEN
+        verify(webSocketConnectionProvider).markConnectionLost();
+        verify(webSocketConnectionProvider, never()).updateConnection(any());
+    }
+
     @Test
     public void GIVEN_webSocketIdThatIsntTheActiveConnection_handleWebSocketDisconnect_THEN_doesNothing() throws Exception {
         // GIVEN
@@ -12,12 +12,16 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Duration;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -78,4 +82,52 @@ public class WebSocketConnectionProviderTest {
         verify(connectionCloserService).shutdownNow();
         verify(newConnection).closeConnection(Duration.ofMinutes(1));
     }
+
+    @Test
+    public void GIVEN_healthyConnection_WHEN_markConnectionLost_THEN_unhealthyAndListenersNotifiedOnce() {
+        // GIVEN
+        final Consumer<Boolean> listener = mock(Consumer.class);
+        webSocketConnectionProvider.updateConnection(mock(AgentWebSocket.class));
+        webSocketConnectionProvider.addConnectionStateChangeListener(listener);
+
+        // WHEN
+        webSocketConnectionProvider.markConnectionLost();
+        webSocketConnectionProvider.markConnectionLost();
+
+        // THEN
+        assertFalse(webSocketConnectionProvider.isConnectionHealthy());
+        verify(listener, times(1)).accept(false);
+        verify(listener, never()).accept(true);
+    }
+
+    @Test
+    public void GIVEN_lostConnection_WHEN_updateConnection_THEN_healthyAndListenersNotified() {
+        // GIVEN
+        final Consumer<Boolean> listener = mock(Consumer.class);
+        webSocketConnectionProvider.updateConnection(mock(AgentWebSocket.class));
+        webSocketConnectionProvider.markConnectionLost();
+        webSocketConnectionProvider.addConnectionStateChangeListener(listener);
+
+        // WHEN
+        webSocketConnectionProvider.updateConnection(mock(AgentWebSocket.class));
+
+        // THEN
+        assertTrue(webSocketConnectionProvider.isConnectionHealthy());
+        assertEquals(Duration.ZERO, webSocketConnectionProvider.getConnectionLostDuration());
+        verify(listener).accept(true);
+    }
+
+    @Test
+    public void GIVEN_healthyConnection_WHEN_updateConnection_THEN_listenersNotNotified() {
+        // GIVEN
+        final Consumer<Boolean> listener = mock(Consumer.class);
+        webSocketConnectionProvider.addConnectionStateChangeListener(listener);
+
+        // WHEN
+        webSocketConnectionProvider.updateConnection(mock(AgentWebSocket.class));
+
+        // THEN
+        assertTrue(webSocketConnectionProvider.isConnectionHealthy());
+        verify(listener, never()).accept(any());
+    }
 }